@@ -0,0 +1,76 @@
+package org.sfm.datastax;
+
+import com.datastax.driver.core.GettableByIndexData;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.exceptions.DriverException;
+import org.sfm.datastax.impl.ResultSetEnumarable;
+import org.sfm.map.MappingException;
+import org.sfm.map.columnar.ColumnarBatch;
+import org.sfm.map.columnar.ColumnarMapper;
+import org.sfm.utils.RowHandler;
+
+/**
+ * DatastaxColumnarMapper will map the rows of a {@link ResultSet} into the primitive arrays of a {@link ColumnarBatch}.
+ * <p>
+ * DatastaxColumnarMapper are instantiable via {@link DatastaxMapperFactory#newColumnarBuilder()}.
+ */
+public final class DatastaxColumnarMapper {
+
+    private final ColumnarMapper<GettableByIndexData> mapper;
+
+    public DatastaxColumnarMapper(ColumnarMapper<GettableByIndexData> mapper) {
+        this.mapper = mapper;
+    }
+
+    /**
+     * @param capacity the max number of rows per batch
+     * @return a new batch
+     */
+    public ColumnarBatch newBatch(int capacity) {
+        return mapper.newBatch(capacity);
+    }
+
+    /**
+     * clear the batch and fill it with the next rows of the resultSet.
+     * @param rs the resultSet
+     * @param batch the batch
+     * @return the number of rows in the batch, 0 if the resultSet is exhausted
+     * @throws DriverException if the driver fails
+     * @throws MappingException if an error occurs during the mapping
+     */
+    public int fill(ResultSet rs, ColumnarBatch batch) throws DriverException, MappingException {
+        return mapper.fill(new ResultSetEnumarable(rs), batch);
+    }
+
+    /**
+     * Loop over the resultSet, fill the batch and call back the handler each time the batch is full and for the last rows.
+     * The same batch is passed on each call.
+     * @param rs the resultSet
+     * @param batch the batch
+     * @param handler the handler
+     * @param <H> the handler type
+     * @return the handler
+     * @throws DriverException if the driver fails
+     * @throws MappingException if an error occurs during the mapping
+     */
+    public <H extends RowHandler<? super ColumnarBatch>> H forEachBatch(ResultSet rs, ColumnarBatch batch, H handler) throws DriverException, MappingException {
+        return mapper.forEachBatch(new ResultSetEnumarable(rs), batch, handler);
+    }
+
+    /**
+     * append the row to the batch.
+     * @param row the row
+     * @param batch the batch
+     * @throws MappingException if an error occurs during the mapping
+     */
+    public void mapRow(GettableByIndexData row, ColumnarBatch batch) throws MappingException {
+        mapper.mapRow(row, batch, null);
+    }
+
+    @Override
+    public String toString() {
+        return "DatastaxColumnarMapper{" +
+                "mapper=" + mapper +
+                '}';
+    }
+}
@@ -0,0 +1,52 @@
+package org.sfm.datastax;
+
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.GettableByIndexData;
+import org.sfm.map.GetterFactory;
+import org.sfm.map.RowHandlerErrorHandler;
+import org.sfm.map.column.FieldMapperColumnDefinition;
+import org.sfm.map.columnar.ColumnarMapperBuilder;
+import org.sfm.map.mapper.ColumnDefinitionProvider;
+
+/**
+ * Builder for {@link DatastaxColumnarMapper}.
+ * <p>
+ * The columns are added in the order of the batch columns, the row column index defaults to the order of the call.
+ */
+public final class DatastaxColumnarMapperBuilder {
+
+    private final ColumnarMapperBuilder<GettableByIndexData, DatastaxColumnKey> builder;
+    private final ColumnDefinitionProvider<FieldMapperColumnDefinition<DatastaxColumnKey>, DatastaxColumnKey> columnDefinitions;
+    private int calculatedIndex = 0;
+
+    public DatastaxColumnarMapperBuilder(GetterFactory<GettableByIndexData, DatastaxColumnKey> getterFactory,
+                                         ColumnDefinitionProvider<FieldMapperColumnDefinition<DatastaxColumnKey>, DatastaxColumnKey> columnDefinitions,
+                                         RowHandlerErrorHandler errorHandler) {
+        this.builder = new ColumnarMapperBuilder<GettableByIndexData, DatastaxColumnKey>(getterFactory, errorHandler);
+        this.columnDefinitions = columnDefinitions;
+    }
+
+    /**
+     * add a column read from the next column index of the row.
+     * @param column the column name
+     * @param type the batch column type
+     * @return the current builder
+     */
+    public DatastaxColumnarMapperBuilder addColumn(String column, Class<?> type) {
+        return addColumn(new DatastaxColumnKey(column, calculatedIndex), type);
+    }
+
+    public DatastaxColumnarMapperBuilder addColumn(String column, DataType dataType, Class<?> type) {
+        return addColumn(new DatastaxColumnKey(column, calculatedIndex, dataType), type);
+    }
+
+    public DatastaxColumnarMapperBuilder addColumn(DatastaxColumnKey key, Class<?> type) {
+        builder.addColumn(key, type, columnDefinitions.getColumnDefinition(key));
+        calculatedIndex = key.getIndex() + 1;
+        return this;
+    }
+
+    public DatastaxColumnarMapper mapper() {
+        return new DatastaxColumnarMapper(builder.mapper());
+    }
+}
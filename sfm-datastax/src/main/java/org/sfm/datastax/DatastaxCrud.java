@@ -6,14 +6,22 @@ import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.ResultSetFuture;
 import com.datastax.driver.core.Row;
 import com.datastax.driver.core.Session;
+import org.sfm.datastax.impl.DatastaxBatchWriter;
 
+import java.util.Iterator;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+//IFJAVA8_START
+import java.util.stream.Stream;
+//IFJAVA8_END
 
 public class DatastaxCrud<T, K> {
 
+    public static final int DEFAULT_BATCH_SIZE = 50;
+    public static final int DEFAULT_MAX_IN_FLIGHT = 64;
+
     /**
      * can keep ref to prepared statement accross time
      * https://datastax.github.io/java-driver/features/statements/prepared/
@@ -97,6 +105,53 @@ public class DatastaxCrud<T, K> {
         return new NoResultFuture(session.executeAsync(boundStatement));
     }
 
+    public void saveAll(Iterable<? extends T> values) {
+        saveAllAsync(values).getUninterruptibly();
+    }
+
+    public void saveAll(Iterable<? extends T> values, int batchSize, int maxInFlight) {
+        saveAllAsync(values, batchSize, maxInFlight).getUninterruptibly();
+    }
+
+    public UninterruptibleFuture<Void> saveAllAsync(Iterable<? extends T> values) {
+        return saveAllAsync(values, DEFAULT_BATCH_SIZE, DEFAULT_MAX_IN_FLIGHT);
+    }
+
+    /**
+     * Save the values grouped in unlogged batches per partition key, with at most maxInFlight requests executing at the same time.
+     * The call blocks while the maximum number of requests in flight is reached.
+     * @param values the values to save
+     * @param batchSize the maximum number of values in a batch
+     * @param maxInFlight the maximum number of requests in flight
+     * @return a future that completes when all the values are saved, or fails on the first error
+     */
+    public UninterruptibleFuture<Void> saveAllAsync(Iterable<? extends T> values, int batchSize, int maxInFlight) {
+        DatastaxBatchWriter writer = new DatastaxBatchWriter(session, batchSize, maxInFlight);
+        for(T value : values) {
+            if (!writer.add(saveQuery(value))) {
+                break;
+            }
+        }
+        return writer.end();
+    }
+
+    //IFJAVA8_START
+    public void saveAll(Stream<? extends T> values) {
+        saveAllAsync(values).getUninterruptibly();
+    }
+
+    public UninterruptibleFuture<Void> saveAllAsync(Stream<? extends T> values) {
+        return saveAllAsync(values, DEFAULT_BATCH_SIZE, DEFAULT_MAX_IN_FLIGHT);
+    }
+
+    public UninterruptibleFuture<Void> saveAllAsync(Stream<? extends T> values, int batchSize, int maxInFlight) {
+        // the iterator is only read from
+        @SuppressWarnings("unchecked")
+        Iterator<T> iterator = (Iterator<T>) values.iterator();
+        return saveAllAsync(() -> iterator, batchSize, maxInFlight);
+    }
+    //IFJAVA8_END
+
     public BoundStatement saveQuery(T value) {
         return insertSetter.mapTo(value, insertQuery.bind());
     }
@@ -0,0 +1,67 @@
+package org.sfm.datastax;
+
+import com.datastax.driver.core.GettableByIndexData;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.exceptions.DriverException;
+import org.sfm.map.MappingException;
+import org.sfm.map.RowHandlerErrorHandler;
+import org.sfm.map.lazy.LazyObjectFactory;
+import org.sfm.utils.RowHandler;
+
+/**
+ * DatastaxLazyMapper will map the rows of a {@link ResultSet} to proxies of an interface backed by the {@link Row}.
+ * <p>
+ * Each property is read from the row on first access and memoized.
+ * <p>
+ * DatastaxLazyMapper are instantiable via {@link DatastaxMapperFactory#newLazyBuilder(Class)}.
+ *
+ * @param <T> the interface type
+ */
+public final class DatastaxLazyMapper<T> {
+
+    private final LazyObjectFactory<GettableByIndexData, T> factory;
+    private final RowHandlerErrorHandler errorHandler;
+
+    public DatastaxLazyMapper(LazyObjectFactory<GettableByIndexData, T> factory, RowHandlerErrorHandler errorHandler) {
+        this.factory = factory;
+        this.errorHandler = errorHandler;
+    }
+
+    /**
+     * @param row the row
+     * @return a proxy backed by the row
+     */
+    public T map(Row row) {
+        return factory.newInstance(row);
+    }
+
+    /**
+     * Loop over the resultSet and call back the handler with a proxy for each row.
+     * @param rs the resultSet
+     * @param handler the handler
+     * @param <H> the handler type
+     * @return the handler
+     * @throws DriverException if the driver fails
+     * @throws MappingException if an error occurs during the mapping
+     */
+    public <H extends RowHandler<? super T>> H forEach(ResultSet rs, H handler) throws DriverException, MappingException {
+        Row row;
+        while((row = rs.one()) != null) {
+            T t = map(row);
+            try {
+                handler.handle(t);
+            } catch(Throwable e) {
+                errorHandler.handlerError(e, t);
+            }
+        }
+        return handler;
+    }
+
+    @Override
+    public String toString() {
+        return "DatastaxLazyMapper{" +
+                "factory=" + factory +
+                '}';
+    }
+}
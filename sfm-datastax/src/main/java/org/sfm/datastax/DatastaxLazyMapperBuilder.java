@@ -0,0 +1,91 @@
+package org.sfm.datastax;
+
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.GettableByIndexData;
+import org.sfm.map.GetterFactory;
+import org.sfm.map.MapperBuildingException;
+import org.sfm.map.MapperConfig;
+import org.sfm.map.column.FieldMapperColumnDefinition;
+import org.sfm.map.lazy.LazyObjectFactoryBuilder;
+import org.sfm.reflect.Getter;
+import org.sfm.reflect.meta.ClassMeta;
+import org.sfm.reflect.meta.PropertyMeta;
+import org.sfm.utils.ErrorDoc;
+
+/**
+ * Builder for {@link DatastaxLazyMapper}.
+ * <p>
+ * The target must be an interface, the columns are matched against its getter methods.
+ *
+ * @param <T> the interface type
+ */
+public final class DatastaxLazyMapperBuilder<T> {
+
+    private final LazyObjectFactoryBuilder<GettableByIndexData, T> builder;
+    private final MapperConfig<DatastaxColumnKey, FieldMapperColumnDefinition<DatastaxColumnKey>> mapperConfig;
+    private final GetterFactory<GettableByIndexData, DatastaxColumnKey> getterFactory;
+    private int calculatedIndex = 0;
+
+    public DatastaxLazyMapperBuilder(ClassMeta<T> classMeta,
+                                     MapperConfig<DatastaxColumnKey, FieldMapperColumnDefinition<DatastaxColumnKey>> mapperConfig,
+                                     GetterFactory<GettableByIndexData, DatastaxColumnKey> getterFactory) {
+        this.builder = new LazyObjectFactoryBuilder<GettableByIndexData, T>(classMeta,
+                mapperConfig.propertyNameMatcherFactory(),
+                mapperConfig.mapperBuilderErrorHandler());
+        this.mapperConfig = mapperConfig;
+        this.getterFactory = getterFactory;
+    }
+
+    /**
+     * add a mapping for the next column index of the row.
+     * @param column the column name
+     * @return the current builder
+     */
+    public DatastaxLazyMapperBuilder<T> addMapping(String column) {
+        return addMapping(new DatastaxColumnKey(column, calculatedIndex), FieldMapperColumnDefinition.<DatastaxColumnKey>identity());
+    }
+
+    public DatastaxLazyMapperBuilder<T> addMapping(String column, DataType dataType) {
+        return addMapping(new DatastaxColumnKey(column, calculatedIndex, dataType), FieldMapperColumnDefinition.<DatastaxColumnKey>identity());
+    }
+
+    @SuppressWarnings("unchecked")
+    public DatastaxLazyMapperBuilder<T> addMapping(DatastaxColumnKey key, FieldMapperColumnDefinition<DatastaxColumnKey> columnDefinition) {
+        calculatedIndex = key.getIndex() + 1;
+        FieldMapperColumnDefinition<DatastaxColumnKey> composedDefinition =
+                mapperConfig.columnDefinitions().getColumnDefinition(key).compose(columnDefinition);
+        if (composedDefinition.ignore()) {
+            return this;
+        }
+        PropertyMeta<T, Object> property = builder.findProperty(composedDefinition.rename(key));
+        if (property != null) {
+            Getter<? super GettableByIndexData, ?> getter = (Getter<? super GettableByIndexData, ?>) composedDefinition.getCustomGetter();
+            if (getter == null) {
+                getter = getterFactory.newGetter(property.getPropertyType(), key, composedDefinition);
+            }
+            if (getter == null) {
+                throw new MapperBuildingException("Could not find getter for " + key + " type " + property.getPropertyType()
+                        + " See " + ErrorDoc.toUrl("CSFM_GETTER_NOT_FOUND"));
+            }
+            builder.addProperty(property, getter);
+        }
+        return this;
+    }
+
+    /**
+     * add a mapping for each column of the metadata.
+     * @param metaData the metaData
+     * @return the current builder
+     */
+    public DatastaxLazyMapperBuilder<T> addMapping(ColumnDefinitions metaData) {
+        for(int i = 0; i < metaData.size(); i++) {
+            addMapping(DatastaxColumnKey.of(metaData, i), FieldMapperColumnDefinition.<DatastaxColumnKey>identity());
+        }
+        return this;
+    }
+
+    public DatastaxLazyMapper<T> mapper() {
+        return new DatastaxLazyMapper<T>(builder.newFactory(), mapperConfig.rowHandlerErrorHandler());
+    }
+}
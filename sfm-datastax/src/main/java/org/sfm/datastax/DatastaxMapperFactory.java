@@ -16,6 +16,7 @@ import org.sfm.map.mapper.ConstantTargetFieldMapperFactorImpl;
 import org.sfm.map.mapper.DynamicSetRowMapper;
 import org.sfm.map.mapper.FieldMapperColumnDefinitionProviderImpl;
 import org.sfm.map.mapper.MapperKey;
+import org.sfm.map.metrics.MetricsRegistry;
 import org.sfm.reflect.TypeReference;
 import org.sfm.reflect.meta.ClassMeta;
 import org.sfm.utils.UnaryFactory;
@@ -69,6 +70,22 @@ public class DatastaxMapperFactory extends AbstractMapperFactory<DatastaxColumnK
                 new DatastaxMappingContextFactoryBuilder());
     }
 
+    /**
+     * @return a builder of mapper of the rows into the primitive arrays of a columnar batch
+     */
+    public DatastaxColumnarMapperBuilder newColumnarBuilder() {
+        return new DatastaxColumnarMapperBuilder(getterFactory, columnDefinitions(), rowHandlerErrorHandler());
+    }
+
+    /**
+     * @param target the target interface
+     * @param <T> the target type
+     * @return a builder of mapper of the rows into proxies of the interface, the properties are read on first access
+     */
+    public <T> DatastaxLazyMapperBuilder<T> newLazyBuilder(Class<T> target) {
+        return new DatastaxLazyMapperBuilder<T>(this.<T>getClassMeta(target), mapperConfig(), getterFactory);
+    }
+
     public <T> SettableDataMapperBuilder<T> newBuilderFrom(TypeReference<T> type) {
         return newBuilderFrom(type.getType());
     }
@@ -110,7 +127,7 @@ public class DatastaxMapperFactory extends AbstractMapperFactory<DatastaxColumnK
     }
     public <T> DatastaxMapper<T> mapTo(Type type) {
         final ClassMeta<T> classMeta = getClassMeta(type);
-        return new DynamicDatastaxSetRowMapper<T>(new MapperFactory<T>(classMeta), new MapperKeyFromRowFactory(), new MapperKeyFromSet());
+        return new DynamicDatastaxSetRowMapper<T>(new MapperFactory<T>(classMeta), new MapperKeyFromRowFactory(), new MapperKeyFromSet(), mapperConfig().metricsRegistry());
     }
 
     public <T, K> DatastaxCrudDSL<T, K> crud(Class<T> targetType, Class<K> keyType) {
@@ -160,7 +177,8 @@ public class DatastaxMapperFactory extends AbstractMapperFactory<DatastaxColumnK
         public DynamicDatastaxSetRowMapper(
                 UnaryFactory<MapperKey<DatastaxColumnKey>, SetRowMapper<Row, ResultSet, T, DriverException>> mapperFactory,
                 UnaryFactoryWithException<Row, MapperKey<DatastaxColumnKey>, DriverException> mapperKeyFromRow,
-                UnaryFactoryWithException<ResultSet, MapperKey<DatastaxColumnKey>, DriverException> mapperKeyFromSet) {
-            super(mapperFactory, mapperKeyFromRow, mapperKeyFromSet, DatastaxMapperKeyComparator.INSTANCE);        }
+                UnaryFactoryWithException<ResultSet, MapperKey<DatastaxColumnKey>, DriverException> mapperKeyFromSet,
+                MetricsRegistry metricsRegistry) {
+            super(mapperFactory, mapperKeyFromRow, mapperKeyFromSet, DatastaxMapperKeyComparator.INSTANCE, metricsRegistry);        }
     }
 }
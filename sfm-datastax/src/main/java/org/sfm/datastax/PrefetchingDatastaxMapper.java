@@ -0,0 +1,238 @@
+package org.sfm.datastax;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.exceptions.DriverException;
+import org.sfm.map.MappingContext;
+import org.sfm.map.MappingException;
+import org.sfm.map.RowHandlerErrorHandler;
+import org.sfm.map.error.RethrowRowHandlerErrorHandler;
+import org.sfm.utils.ErrorHelper;
+import org.sfm.utils.RowHandler;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+//IFJAVA8_START
+import java.util.stream.Stream;
+//IFJAVA8_END
+
+/**
+ * Decorate a DatastaxMapper to fetch the next page of the ResultSet in the background
+ * when the number of rows left in the current page reaches the threshold.
+ * The current page is mapped while the next one is in flight.
+ * <p>
+ * If an executor is specified, forEach reads the pages on the calling thread and maps them and calls the handler on the executor.
+ * In that mode each row is mapped on its own, it does not support the join mappers.
+ * The exceptions thrown by the handler go to the specified RowHandlerErrorHandler, pass the one of the factory to get the same
+ * behavior as the synchronous forEach.
+ * <pre>
+ *     DatastaxMapper&lt;DbObject&gt; mapper = new PrefetchingDatastaxMapper&lt;DbObject&gt;(factory.mapTo(DbObject.class), 200);
+ *     DatastaxMapper&lt;DbObject&gt; asyncMapper =
+ *          new PrefetchingDatastaxMapper&lt;DbObject&gt;(factory.mapTo(DbObject.class), 200, executor, factory.rowHandlerErrorHandler());
+ * </pre>
+ * @param <T> the target type
+ */
+public final class PrefetchingDatastaxMapper<T> implements DatastaxMapper<T> {
+
+    private final DatastaxMapper<T> delegate;
+    private final int prefetchThreshold;
+    private final Executor executor;
+    private final RowHandlerErrorHandler errorHandler;
+
+    /**
+     * @param delegate the mapper
+     * @param prefetchThreshold the number of rows left in the page that triggers the fetch of the next page
+     */
+    public PrefetchingDatastaxMapper(DatastaxMapper<T> delegate, int prefetchThreshold) {
+        this(delegate, prefetchThreshold, null);
+    }
+
+    /**
+     * @param delegate the mapper
+     * @param prefetchThreshold the number of rows left in the page that triggers the fetch of the next page
+     * @param executor the executor to map the pages on in forEach, null to map on the calling thread
+     */
+    public PrefetchingDatastaxMapper(DatastaxMapper<T> delegate, int prefetchThreshold, Executor executor) {
+        this(delegate, prefetchThreshold, executor, new RethrowRowHandlerErrorHandler());
+    }
+
+    /**
+     * @param delegate the mapper
+     * @param prefetchThreshold the number of rows left in the page that triggers the fetch of the next page
+     * @param executor the executor to map the pages on in forEach, null to map on the calling thread
+     * @param errorHandler the error handler called with the exceptions thrown by the handler on the executor
+     */
+    public PrefetchingDatastaxMapper(DatastaxMapper<T> delegate, int prefetchThreshold, Executor executor, RowHandlerErrorHandler errorHandler) {
+        if (prefetchThreshold < 0) {
+            throw new IllegalArgumentException("prefetchThreshold needs to be positive was " + prefetchThreshold);
+        }
+        this.delegate = delegate;
+        this.prefetchThreshold = prefetchThreshold;
+        this.executor = executor;
+        this.errorHandler = errorHandler;
+    }
+
+    @Override
+    public <H extends RowHandler<? super T>> H forEach(final ResultSet source, final H handler) throws DriverException, MappingException {
+        if (executor != null) {
+            return forEachOnExecutor(source, handler);
+        }
+        delegate.forEach(source, new PrefetchingRowHandler(source, handler));
+        return handler;
+    }
+
+    @Override
+    public <H extends RowHandler<? super T>> H forEach(final ResultSet source, final T target, final H handler) throws DriverException, MappingException {
+        delegate.forEach(source, target, new PrefetchingRowHandler(source, handler));
+        return handler;
+    }
+
+    @Override
+    public Iterator<T> iterator(final ResultSet source) throws DriverException, MappingException {
+        final Iterator<T> iterator = delegate.iterator(source);
+        return new Iterator<T>() {
+            @Override
+            public boolean hasNext() {
+                prefetch(source);
+                return iterator.hasNext();
+            }
+
+            @Override
+            public T next() {
+                return iterator.next();
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+            }
+        };
+    }
+
+    //IFJAVA8_START
+    @Override
+    public Stream<T> stream(ResultSet source) throws DriverException, MappingException {
+        return delegate.stream(source).peek(t -> prefetch(source));
+    }
+    //IFJAVA8_END
+
+    @Override
+    public T map(Row source) throws MappingException {
+        return delegate.map(source);
+    }
+
+    @Override
+    public T map(Row source, MappingContext<? super Row> context) throws MappingException {
+        return delegate.map(source, context);
+    }
+
+    @Override
+    public void mapTo(Row source, T target, MappingContext<? super Row> context) throws Exception {
+        delegate.mapTo(source, target, context);
+    }
+
+    @Override
+    public MappingContext<? super Row> newMappingContext(Row rs) throws DriverException {
+        return delegate.newMappingContext(rs);
+    }
+
+    private void prefetch(ResultSet resultSet) {
+        if (resultSet.getAvailableWithoutFetching() <= prefetchThreshold && !resultSet.isFullyFetched()) {
+            // the driver returns the in flight future if a fetch is already running
+            resultSet.fetchMoreResults();
+        }
+    }
+
+    private <H extends RowHandler<? super T>> H forEachOnExecutor(ResultSet source, final H handler) {
+        final BlockingQueue<List<Row>> pages = new ArrayBlockingQueue<List<Row>>(2);
+        final List<Row> end = new ArrayList<Row>(0);
+
+        FutureTask<Void> task = new FutureTask<Void>(new Callable<Void>() {
+            @Override
+            public Void call() throws Exception {
+                List<Row> page;
+                while((page = pages.take()) != end) {
+                    for(Row row : page) {
+                        T t = delegate.map(row);
+                        try {
+                            handler.handle(t);
+                        } catch(Throwable e) {
+                            errorHandler.handlerError(e, t);
+                        }
+                    }
+                }
+                return null;
+            }
+        });
+        executor.execute(task);
+
+        try {
+            while(!source.isExhausted()) {
+                int available = source.getAvailableWithoutFetching();
+                List<Row> page = new ArrayList<Row>(available);
+                for(int i = 0; i < available; i++) {
+                    page.add(source.one());
+                    if (available - i - 1 == Math.min(prefetchThreshold, available - 1)) {
+                        prefetch(source);
+                    }
+                }
+                if (!offer(pages, page, task)) {
+                    break;
+                }
+            }
+            offer(pages, end, task);
+            task.get();
+        } catch (InterruptedException e) {
+            task.cancel(true);
+            Thread.currentThread().interrupt();
+            ErrorHelper.rethrow(e);
+        } catch (ExecutionException e) {
+            ErrorHelper.rethrow(e.getCause());
+        } catch (RuntimeException e) {
+            task.cancel(true);
+            throw e;
+        }
+        return handler;
+    }
+
+    private boolean offer(BlockingQueue<List<Row>> pages, List<Row> page, FutureTask<Void> task) throws InterruptedException {
+        while(!pages.offer(page, 10, TimeUnit.MILLISECONDS)) {
+            if (task.isDone()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "PrefetchingDatastaxMapper{" +
+                "delegate=" + delegate +
+                ", prefetchThreshold=" + prefetchThreshold +
+                '}';
+    }
+
+    private class PrefetchingRowHandler implements RowHandler<T> {
+        private final ResultSet resultSet;
+        private final RowHandler<? super T> handler;
+
+        private PrefetchingRowHandler(ResultSet resultSet, RowHandler<? super T> handler) {
+            this.resultSet = resultSet;
+            this.handler = handler;
+        }
+
+        @Override
+        public void handle(T t) throws Exception {
+            prefetch(resultSet);
+            handler.handle(t);
+        }
+    }
+}
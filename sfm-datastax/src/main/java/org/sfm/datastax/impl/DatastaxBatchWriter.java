@@ -0,0 +1,191 @@
+package org.sfm.datastax.impl;
+
+import com.datastax.driver.core.BatchStatement;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.Statement;
+import com.google.common.util.concurrent.AbstractFuture;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.Uninterruptibles;
+import org.sfm.datastax.UninterruptibleFuture;
+import org.sfm.utils.ErrorHelper;
+
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Group the statements per routing key into unlogged batches and execute them asynchronously,
+ * the number of requests in flight is limited by a semaphore.
+ * <p>
+ * The statements without routing key are executed on their own.
+ * The pending batches are all sent when they hold more than batchSize * maxInFlight statements.
+ * {@link #add(Statement)} blocks when the maximum number of requests in flight is reached.
+ * The future returned by {@link #end()} completes when all the requests are done, it fails with the first error.
+ * No new request is sent after an error.
+ * <p>
+ * Not thread safe, only one thread can add statements.
+ */
+public final class DatastaxBatchWriter {
+
+    private final Session session;
+    private final int batchSize;
+    private final int maxPendingStatements;
+    private final Semaphore inFlight;
+
+    private final Map<ByteBuffer, BatchStatement> pendingBatches = new LinkedHashMap<ByteBuffer, BatchStatement>();
+    private int pendingStatements;
+
+    private final AtomicInteger outstanding = new AtomicInteger(1);
+    private final AtomicReference<Throwable> error = new AtomicReference<Throwable>();
+    private final AtomicLong statements = new AtomicLong();
+    private final AtomicLong requests = new AtomicLong();
+    private final CompletionFuture future = new CompletionFuture();
+    private final FutureCallback<ResultSet> callback = new FutureCallback<ResultSet>() {
+        @Override
+        public void onSuccess(ResultSet result) {
+            inFlight.release();
+            done();
+        }
+
+        @Override
+        public void onFailure(Throwable t) {
+            inFlight.release();
+            error.compareAndSet(null, t);
+            done();
+        }
+    };
+
+    public DatastaxBatchWriter(Session session, int batchSize, int maxInFlight) {
+        if (batchSize < 1) throw new IllegalArgumentException("batchSize needs to be greater than 0 was " + batchSize);
+        if (maxInFlight < 1) throw new IllegalArgumentException("maxInFlight needs to be greater than 0 was " + maxInFlight);
+        this.session = session;
+        this.batchSize = batchSize;
+        this.maxPendingStatements = batchSize * maxInFlight;
+        this.inFlight = new Semaphore(maxInFlight);
+    }
+
+    /**
+     * @param statement the statement to add
+     * @return false if an error occurred and the statement was ignored
+     */
+    public boolean add(Statement statement) {
+        if (error.get() != null) {
+            return false;
+        }
+        ByteBuffer routingKey = statement.getRoutingKey();
+        if (routingKey == null || batchSize == 1) {
+            execute(statement, 1);
+            return true;
+        }
+
+        BatchStatement batch = pendingBatches.get(routingKey);
+        if (batch == null) {
+            batch = new BatchStatement(BatchStatement.Type.UNLOGGED);
+            pendingBatches.put(routingKey, batch);
+        }
+        batch.add(statement);
+        pendingStatements++;
+
+        if (batch.size() >= batchSize) {
+            pendingBatches.remove(routingKey);
+            pendingStatements -= batch.size();
+            send(batch);
+        } else if (pendingStatements >= maxPendingStatements) {
+            // too many partitions with few rows, bound the memory
+            flush();
+        }
+        return true;
+    }
+
+    /**
+     * send the pending batches and signal the end of the statements.
+     * @return the future that completes when all the requests are done
+     */
+    public UninterruptibleFuture<Void> end() {
+        flush();
+        done();
+        return future;
+    }
+
+    public long getStatements() {
+        return statements.get();
+    }
+
+    public long getRequests() {
+        return requests.get();
+    }
+
+    private void flush() {
+        for(BatchStatement batch : pendingBatches.values()) {
+            send(batch);
+        }
+        pendingBatches.clear();
+        pendingStatements = 0;
+    }
+
+    private void send(BatchStatement batch) {
+        if (batch.size() == 1) {
+            execute(batch.getStatements().iterator().next(), 1);
+        } else {
+            execute(batch, batch.size());
+        }
+    }
+
+    private void execute(Statement statement, int size) {
+        if (error.get() != null) {
+            return;
+        }
+        inFlight.acquireUninterruptibly();
+        outstanding.incrementAndGet();
+        ResultSetFuture resultSetFuture;
+        try {
+            resultSetFuture = session.executeAsync(statement);
+        } catch (RuntimeException e) {
+            callback.onFailure(e);
+            return;
+        }
+        statements.addAndGet(size);
+        requests.incrementAndGet();
+        Futures.addCallback(resultSetFuture, callback);
+    }
+
+    private void done() {
+        if (outstanding.decrementAndGet() == 0) {
+            Throwable t = error.get();
+            if (t != null) {
+                future.setException(t);
+            } else {
+                future.set(null);
+            }
+        }
+    }
+
+    private static class CompletionFuture extends AbstractFuture<Void> implements UninterruptibleFuture<Void> {
+        @Override
+        protected boolean set(Void value) {
+            return super.set(value);
+        }
+
+        @Override
+        protected boolean setException(Throwable throwable) {
+            return super.setException(throwable);
+        }
+
+        @Override
+        public Void getUninterruptibly() {
+            try {
+                return Uninterruptibles.getUninterruptibly(this);
+            } catch (ExecutionException e) {
+                return ErrorHelper.rethrow(e.getCause());
+            }
+        }
+    }
+}
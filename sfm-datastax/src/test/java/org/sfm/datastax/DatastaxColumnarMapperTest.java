@@ -0,0 +1,98 @@
+package org.sfm.datastax;
+
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+import org.junit.Test;
+import org.sfm.map.columnar.ColumnarBatch;
+import org.sfm.utils.ListCollectorHandler;
+import org.sfm.utils.RowHandler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class DatastaxColumnarMapperTest {
+
+    private final DatastaxColumnarMapper mapper = DatastaxMapperFactory.newInstance().newColumnarBuilder()
+            .addColumn("id", DataType.bigint(), long.class)
+            .addColumn("price", DataType.cdouble(), double.class)
+            .addColumn("name", DataType.text(), String.class)
+            .mapper();
+
+    @Test
+    public void testFill() throws Exception {
+        ResultSet rs = newResultSet();
+
+        ColumnarBatch batch = mapper.newBatch(2);
+
+        assertEquals(2, mapper.fill(rs, batch));
+        assertEquals(1l, batch.getLongs(0)[0]);
+        assertEquals(2l, batch.getLongs(0)[1]);
+        assertEquals(1.5, batch.getDoubles(1)[0], 0.0001);
+        assertEquals(2.5, batch.getDoubles(1)[1], 0.0001);
+        assertEquals("n1", batch.<String>getObjects(2)[0]);
+        assertEquals("n2", batch.<String>getObjects(2)[1]);
+
+        assertEquals(1, mapper.fill(rs, batch));
+        assertEquals(3l, batch.getLongs(0)[0]);
+        assertEquals("n3", batch.<String>getObjects(2)[0]);
+
+        assertEquals(0, mapper.fill(rs, batch));
+    }
+
+    @Test
+    public void testForEachBatch() throws Exception {
+        final List<long[]> ids = new ArrayList<long[]>();
+        mapper.forEachBatch(newResultSet(), mapper.newBatch(2), new RowHandler<ColumnarBatch>() {
+            @Override
+            public void handle(ColumnarBatch batch) throws Exception {
+                ids.add(Arrays.copyOf(batch.getLongs(0), batch.size()));
+            }
+        });
+
+        assertEquals(2, ids.size());
+        assertArrayEquals(new long[] {1, 2}, ids.get(0));
+        assertArrayEquals(new long[] {3}, ids.get(1));
+    }
+
+    @Test
+    public void testForEachBatchOnExactMultipleDoesNotCallEmptyBatch() throws Exception {
+        ListCollectorHandler<ColumnarBatch> handler = mapper.forEachBatch(newResultSet(), mapper.newBatch(3), new ListCollectorHandler<ColumnarBatch>());
+        assertEquals(1, handler.getList().size());
+    }
+
+    @Test
+    public void testMapRow() throws Exception {
+        ColumnarBatch batch = mapper.newBatch(2);
+        mapper.mapRow(newRow(4l, 4.5, "n4"), batch);
+
+        assertEquals(1, batch.size());
+        assertEquals(4l, batch.getLongs(0)[0]);
+        assertEquals(4.5, batch.getDoubles(1)[0], 0.0001);
+        assertEquals("n4", batch.<String>getObjects(2)[0]);
+    }
+
+    private ResultSet newResultSet() {
+        Row row1 = newRow(1l, 1.5, "n1");
+        Row row2 = newRow(2l, 2.5, "n2");
+        Row row3 = newRow(3l, 3.5, "n3");
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.isExhausted()).thenReturn(false, false, false, true);
+        when(rs.one()).thenReturn(row1, row2, row3);
+        return rs;
+    }
+
+    private Row newRow(long id, double price, String name) {
+        Row row = mock(Row.class);
+        when(row.getLong(0)).thenReturn(id);
+        when(row.getDouble(1)).thenReturn(price);
+        when(row.getString(2)).thenReturn(name);
+        return row;
+    }
+}
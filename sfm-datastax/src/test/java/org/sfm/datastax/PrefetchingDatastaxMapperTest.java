@@ -0,0 +1,214 @@
+package org.sfm.datastax;
+
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.sfm.beans.DbObject;
+import org.sfm.map.RowHandlerErrorHandler;
+import org.sfm.utils.ListCollectorHandler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class PrefetchingDatastaxMapperTest {
+
+    private final DatastaxMapper<DbObject> mapper =
+            DatastaxMapperFactory.newInstance().newBuilder(DbObject.class).addMapping("id", 0, DataType.bigint()).mapper();
+
+    @Test
+    public void testForEachPrefetchBeforeEndOfPage() {
+        PagedResultSet paged = new PagedResultSet(7, 3);
+
+        List<DbObject> list = new PrefetchingDatastaxMapper<DbObject>(mapper, 1)
+                .forEach(paged.resultSet, new ListCollectorHandler<DbObject>()).getList();
+
+        assertIds(list, 7);
+        assertEquals(2, paged.prefetches);
+        assertEquals(0, paged.blockingFetches);
+    }
+
+    @Test
+    public void testIteratorPrefetchBeforeEndOfPage() {
+        PagedResultSet paged = new PagedResultSet(5, 2);
+
+        Iterator<DbObject> iterator = new PrefetchingDatastaxMapper<DbObject>(mapper, 0).iterator(paged.resultSet);
+        long id = 0;
+        while(iterator.hasNext()) {
+            assertEquals(id++, iterator.next().getId());
+        }
+        assertEquals(5, id);
+        assertEquals(0, paged.blockingFetches);
+    }
+
+    @Test
+    public void testWithoutPrefetchBlocks() {
+        PagedResultSet paged = new PagedResultSet(7, 3);
+
+        assertIds(mapper.forEach(paged.resultSet, new ListCollectorHandler<DbObject>()).getList(), 7);
+        assertEquals(2, paged.blockingFetches);
+    }
+
+    @Test
+    public void testForEachOnExecutor() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            PagedResultSet paged = new PagedResultSet(10, 4);
+
+            List<DbObject> list = new PrefetchingDatastaxMapper<DbObject>(mapper, 2, executor)
+                    .forEach(paged.resultSet, new ListCollectorHandler<DbObject>()).getList();
+
+            assertIds(list, 10);
+            assertEquals(2, paged.prefetches);
+            assertEquals(Arrays.asList(2, 6), paged.prefetchedAt);
+            assertEquals(0, paged.blockingFetches);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testForEachOnExecutorPropagateHandlerError() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            PagedResultSet paged = new PagedResultSet(10, 2);
+            new PrefetchingDatastaxMapper<DbObject>(mapper, 1, executor)
+                    .forEach(paged.resultSet, new org.sfm.utils.RowHandler<DbObject>() {
+                        @Override
+                        public void handle(DbObject dbObject) throws Exception {
+                            throw new IllegalStateException("boom");
+                        }
+                    });
+            assertFalse(true);
+        } catch (IllegalStateException e) {
+            assertEquals("boom", e.getMessage());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testForEachOnExecutorUsesRowHandlerErrorHandler() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final List<Object> errors = new ArrayList<Object>();
+            DatastaxMapperFactory factory = DatastaxMapperFactory.newInstance()
+                    .rowHandlerErrorHandler(new RowHandlerErrorHandler() {
+                        @Override
+                        public void handlerError(Throwable error, Object target) {
+                            errors.add(target);
+                        }
+                    });
+            PagedResultSet paged = new PagedResultSet(5, 2);
+            new PrefetchingDatastaxMapper<DbObject>(factory.mapTo(DbObject.class), 1, executor, factory.rowHandlerErrorHandler())
+                    .forEach(paged.resultSet, new org.sfm.utils.RowHandler<DbObject>() {
+                        @Override
+                        public void handle(DbObject dbObject) throws Exception {
+                            throw new IllegalStateException("boom");
+                        }
+                    });
+            assertEquals(5, errors.size());
+            assertEquals(4, ((DbObject) errors.get(4)).getId());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private void assertIds(List<DbObject> list, int size) {
+        assertEquals(size, list.size());
+        for(int i = 0; i < size; i++) {
+            assertEquals(i, list.get(i).getId());
+        }
+    }
+
+    /**
+     * ResultSet stub, the driver fetches the next page synchronously when the page is exhausted.
+     */
+    private static class PagedResultSet {
+        final ResultSet resultSet = mock(ResultSet.class);
+        final ColumnDefinitions columnDefinitions = mock(ColumnDefinitions.class);
+        final List<Integer> prefetchedAt = new ArrayList<Integer>();
+        final int total;
+        final int pageSize;
+        int fetched;
+        int consumed;
+        int prefetches;
+        int blockingFetches;
+
+        PagedResultSet(int total, int pageSize) {
+            this.total = total;
+            this.pageSize = pageSize;
+            this.fetched = Math.min(total, pageSize);
+
+            when(columnDefinitions.size()).thenReturn(1);
+            when(columnDefinitions.getName(0)).thenReturn("id");
+            when(columnDefinitions.getType(0)).thenReturn(DataType.bigint());
+
+            when(resultSet.getAvailableWithoutFetching()).thenAnswer(new Answer<Integer>() {
+                @Override
+                public Integer answer(InvocationOnMock invocation) throws Throwable {
+                    return fetched - consumed;
+                }
+            });
+            when(resultSet.isFullyFetched()).thenAnswer(new Answer<Boolean>() {
+                @Override
+                public Boolean answer(InvocationOnMock invocation) throws Throwable {
+                    return fetched == PagedResultSet.this.total;
+                }
+            });
+            when(resultSet.fetchMoreResults()).thenAnswer(new Answer<Object>() {
+                @Override
+                public Object answer(InvocationOnMock invocation) throws Throwable {
+                    prefetches++;
+                    prefetchedAt.add(consumed);
+                    fetchPage();
+                    return null;
+                }
+            });
+            when(resultSet.isExhausted()).thenAnswer(new Answer<Boolean>() {
+                @Override
+                public Boolean answer(InvocationOnMock invocation) throws Throwable {
+                    if (consumed == fetched && fetched < PagedResultSet.this.total) {
+                        blockingFetches++;
+                        fetchPage();
+                    }
+                    return consumed == PagedResultSet.this.total;
+                }
+            });
+            when(resultSet.one()).thenAnswer(new Answer<Row>() {
+                @Override
+                public Row answer(InvocationOnMock invocation) throws Throwable {
+                    if (consumed == fetched) {
+                        if (fetched == PagedResultSet.this.total) {
+                            return null;
+                        }
+                        blockingFetches++;
+                        fetchPage();
+                    }
+                    Row row = mock(Row.class);
+                    when(row.getLong(0)).thenReturn((long) consumed);
+                    when(row.getColumnDefinitions()).thenReturn(columnDefinitions);
+                    consumed++;
+                    return row;
+                }
+            });
+        }
+
+        private void fetchPage() {
+            fetched = Math.min(total, fetched + pageSize);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package org.sfm.datastax.impl;
+
+import com.datastax.driver.core.BatchStatement;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.SimpleStatement;
+import com.datastax.driver.core.Statement;
+import com.google.common.util.concurrent.AbstractFuture;
+import com.google.common.util.concurrent.Uninterruptibles;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.sfm.datastax.UninterruptibleFuture;
+import org.sfm.utils.ErrorHelper;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class DatastaxBatchWriterTest {
+
+    private final List<Statement> executed = new CopyOnWriteArrayList<Statement>();
+    private final List<StubResultSetFuture> futures = new CopyOnWriteArrayList<StubResultSetFuture>();
+
+    private Session newSession(final boolean completeImmediately) {
+        Session session = mock(Session.class);
+        when(session.executeAsync(any(Statement.class))).thenAnswer(new Answer<ResultSetFuture>() {
+            @Override
+            public ResultSetFuture answer(InvocationOnMock invocation) throws Throwable {
+                executed.add((Statement) invocation.getArguments()[0]);
+                StubResultSetFuture future = new StubResultSetFuture();
+                futures.add(future);
+                if (completeImmediately) {
+                    future.complete();
+                }
+                return future;
+            }
+        });
+        return session;
+    }
+
+    @Test
+    public void testGroupPerRoutingKey() {
+        DatastaxBatchWriter writer = new DatastaxBatchWriter(newSession(true), 2, 4);
+
+        writer.add(statement(1));
+        writer.add(statement(2));
+        writer.add(statement(1));
+        writer.add(statement(2));
+        writer.add(statement(1));
+        writer.add(new SimpleStatement("no routing key"));
+
+        UninterruptibleFuture<Void> future = writer.end();
+        future.getUninterruptibly();
+
+        assertTrue(future.isDone());
+        assertEquals(6, writer.getStatements());
+        assertEquals(4, writer.getRequests());
+
+        assertEquals(2, ((BatchStatement) executed.get(0)).size());
+        assertEquals(2, ((BatchStatement) executed.get(1)).size());
+        assertTrue(executed.get(2) instanceof SimpleStatement);
+        assertEquals(key(1), executed.get(3).getRoutingKey());
+    }
+
+    @Test
+    public void testMaxInFlight() throws Exception {
+        final DatastaxBatchWriter writer = new DatastaxBatchWriter(newSession(false), 1, 2);
+
+        Thread producer = new Thread() {
+            @Override
+            public void run() {
+                for(int i = 0; i < 3; i++) {
+                    writer.add(statement(i));
+                }
+            }
+        };
+        producer.start();
+        producer.join(200);
+
+        assertTrue(producer.isAlive());
+        assertEquals(2, executed.size());
+
+        futures.get(0).complete();
+        producer.join(1000);
+        assertFalse(producer.isAlive());
+        assertEquals(3, executed.size());
+
+        UninterruptibleFuture<Void> future = writer.end();
+        assertFalse(future.isDone());
+        futures.get(1).complete();
+        futures.get(2).complete();
+        assertTrue(future.isDone());
+    }
+
+    @Test
+    public void testFailOnFirstError() {
+        DatastaxBatchWriter writer = new DatastaxBatchWriter(newSession(false), 1, 10);
+
+        assertTrue(writer.add(statement(1)));
+        futures.get(0).fail(new IllegalStateException("boom"));
+        assertFalse(writer.add(statement(2)));
+
+        try {
+            writer.end().getUninterruptibly();
+            fail();
+        } catch (IllegalStateException e) {
+            assertEquals("boom", e.getMessage());
+        }
+        assertEquals(1, executed.size());
+    }
+
+    private static Statement statement(int partition) {
+        return new SimpleStatement("insert " + partition).setRoutingKey(key(partition));
+    }
+
+    private static ByteBuffer key(int partition) {
+        return ByteBuffer.wrap(new byte[]{(byte) partition});
+    }
+
+    private static class StubResultSetFuture extends AbstractFuture<ResultSet> implements ResultSetFuture {
+
+        void complete() {
+            set(null);
+        }
+
+        void fail(Throwable t) {
+            setException(t);
+        }
+
+        @Override
+        public ResultSet getUninterruptibly() {
+            try {
+                return Uninterruptibles.getUninterruptibly(this);
+            } catch (ExecutionException e) {
+                return ErrorHelper.rethrow(e.getCause());
+            }
+        }
+
+        @Override
+        public ResultSet getUninterruptibly(long timeout, TimeUnit unit) throws TimeoutException {
+            try {
+                return Uninterruptibles.getUninterruptibly(this, timeout, unit);
+            } catch (ExecutionException e) {
+                return ErrorHelper.rethrow(e.getCause());
+            }
+        }
+    }
+}
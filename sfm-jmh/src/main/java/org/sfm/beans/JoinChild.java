@@ -0,0 +1,25 @@
+package org.sfm.beans;
+
+/**
+ * child side of the join benchmarks.
+ */
+public class JoinChild {
+    private long id;
+    private String value;
+
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public void setValue(String value) {
+        this.value = value;
+    }
+}
@@ -0,0 +1,36 @@
+package org.sfm.beans;
+
+import java.util.List;
+
+/**
+ * parent side of the join benchmarks.
+ */
+public class JoinParent {
+    private long id;
+    private String name;
+    private List<JoinChild> children;
+
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public List<JoinChild> getChildren() {
+        return children;
+    }
+
+    public void setChildren(List<JoinChild> children) {
+        this.children = children;
+    }
+}
@@ -0,0 +1,43 @@
+package org.sfm.beans;
+
+/**
+ * 4 columns, mixed types.
+ */
+public class NarrowObject {
+    private long id;
+    private String name;
+    private String email;
+    private int year;
+
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    public void setYear(int year) {
+        this.year = year;
+    }
+}
@@ -0,0 +1,132 @@
+package org.sfm.beans;
+
+import org.sfm.csv.CsvMapperFactory;
+import org.sfm.utils.ListCollectorHandler;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Shapes of row used to parameterize the mapping benchmarks, the first column is unique per row.
+ */
+public enum RowShape {
+    NARROW(NarrowObject.class, "id", "name", "email", "year") {
+        @Override
+        public Object[] values(int row) {
+            return new Object[] { (long) row, "name" + row, "name" + row + "@example.com", 1970 + row % 50 };
+        }
+    },
+    WIDE_PRIMITIVE(WidePrimitiveObject.class, Wide.HEADERS) {
+        @Override
+        public Object[] values(int row) {
+            return wideValues(row);
+        }
+    },
+    WIDE_BOXED(WideBoxedObject.class, Wide.HEADERS) {
+        @Override
+        public Object[] values(int row) {
+            return wideValues(row);
+        }
+    },
+    DATE_HEAVY(DateObject.class, "id", "date0", "date1", "date2", "date3", "date4", "date5") {
+        @Override
+        public Object[] values(int row) {
+            Object[] values = new Object[7];
+            values[0] = (long) row;
+            for(int i = 1; i < values.length; i++) {
+                values[i] = new Date(BASE_TIME + (row * 7 + i) * 86400000l);
+            }
+            return values;
+        }
+    };
+
+    public static final String DATE_FORMAT = "yyyy-MM-dd HH:mm:ss";
+
+    private static final long BASE_TIME = 1420070400000l;
+
+    private final Class<?> target;
+    private final String[] headers;
+
+    RowShape(Class<?> target, String... headers) {
+        this.target = target;
+        this.headers = headers;
+    }
+
+    public abstract Object[] values(int row);
+
+    public Class<?> target() {
+        return target;
+    }
+
+    public String[] headers() {
+        return headers;
+    }
+
+    public Object[][] rows(int nbRows) {
+        Object[][] rows = new Object[nbRows][];
+        for(int i = 0; i < nbRows; i++) {
+            rows[i] = values(i);
+        }
+        return rows;
+    }
+
+    /**
+     * @param nbRows the number of rows
+     * @param <T> the target type
+     * @return the objects of the rows, mapped from the csv
+     * @throws IOException never as the csv is in memory
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> objects(int nbRows) throws IOException {
+        return CsvMapperFactory.newInstance()
+                .defaultDateFormat(DATE_FORMAT)
+                .newMapper((Class<T>) target)
+                .forEach(new StringReader(csv(nbRows)), new ListCollectorHandler<T>())
+                .getList();
+    }
+
+    public String csv(int nbRows) {
+        SimpleDateFormat dateFormat = new SimpleDateFormat(DATE_FORMAT);
+        StringBuilder sb = new StringBuilder();
+        appendRow(sb, headers, dateFormat);
+        for(int i = 0; i < nbRows; i++) {
+            appendRow(sb, values(i), dateFormat);
+        }
+        return sb.toString();
+    }
+
+    private static void appendRow(StringBuilder sb, Object[] values, SimpleDateFormat dateFormat) {
+        for(int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            Object value = values[i];
+            sb.append(value instanceof Date ? dateFormat.format((Date) value) : String.valueOf(value));
+        }
+        sb.append('\n');
+    }
+
+    private static final class Wide {
+        private static final String[] HEADERS = {
+                "i0", "i1", "i2", "i3", "i4", "i5", "i6", "i7",
+                "l0", "l1", "l2", "l3",
+                "d0", "d1", "d2", "d3" };
+    }
+
+    private static Object[] wideValues(int row) {
+        Object[] values = new Object[16];
+        for(int i = 0; i < 8; i++) {
+            values[i] = row * 8 + i;
+        }
+        for(int i = 0; i < 4; i++) {
+            values[8 + i] = row * 1000000000l + i;
+        }
+        for(int i = 0; i < 4; i++) {
+            values[12 + i] = row + i / 4.0;
+        }
+        return values;
+    }
+}
@@ -0,0 +1,151 @@
+package org.sfm.beans;
+
+/**
+ * 16 boxed columns.
+ */
+public class WideBoxedObject {
+    private Integer i0;
+    private Integer i1;
+    private Integer i2;
+    private Integer i3;
+    private Integer i4;
+    private Integer i5;
+    private Integer i6;
+    private Integer i7;
+    private Long l0;
+    private Long l1;
+    private Long l2;
+    private Long l3;
+    private Double d0;
+    private Double d1;
+    private Double d2;
+    private Double d3;
+
+    public Integer getI0() {
+        return i0;
+    }
+
+    public void setI0(Integer i0) {
+        this.i0 = i0;
+    }
+
+    public Integer getI1() {
+        return i1;
+    }
+
+    public void setI1(Integer i1) {
+        this.i1 = i1;
+    }
+
+    public Integer getI2() {
+        return i2;
+    }
+
+    public void setI2(Integer i2) {
+        this.i2 = i2;
+    }
+
+    public Integer getI3() {
+        return i3;
+    }
+
+    public void setI3(Integer i3) {
+        this.i3 = i3;
+    }
+
+    public Integer getI4() {
+        return i4;
+    }
+
+    public void setI4(Integer i4) {
+        this.i4 = i4;
+    }
+
+    public Integer getI5() {
+        return i5;
+    }
+
+    public void setI5(Integer i5) {
+        this.i5 = i5;
+    }
+
+    public Integer getI6() {
+        return i6;
+    }
+
+    public void setI6(Integer i6) {
+        this.i6 = i6;
+    }
+
+    public Integer getI7() {
+        return i7;
+    }
+
+    public void setI7(Integer i7) {
+        this.i7 = i7;
+    }
+
+    public Long getL0() {
+        return l0;
+    }
+
+    public void setL0(Long l0) {
+        this.l0 = l0;
+    }
+
+    public Long getL1() {
+        return l1;
+    }
+
+    public void setL1(Long l1) {
+        this.l1 = l1;
+    }
+
+    public Long getL2() {
+        return l2;
+    }
+
+    public void setL2(Long l2) {
+        this.l2 = l2;
+    }
+
+    public Long getL3() {
+        return l3;
+    }
+
+    public void setL3(Long l3) {
+        this.l3 = l3;
+    }
+
+    public Double getD0() {
+        return d0;
+    }
+
+    public void setD0(Double d0) {
+        this.d0 = d0;
+    }
+
+    public Double getD1() {
+        return d1;
+    }
+
+    public void setD1(Double d1) {
+        this.d1 = d1;
+    }
+
+    public Double getD2() {
+        return d2;
+    }
+
+    public void setD2(Double d2) {
+        this.d2 = d2;
+    }
+
+    public Double getD3() {
+        return d3;
+    }
+
+    public void setD3(Double d3) {
+        this.d3 = d3;
+    }
+}
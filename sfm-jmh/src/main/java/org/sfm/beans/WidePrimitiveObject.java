@@ -0,0 +1,151 @@
+package org.sfm.beans;
+
+/**
+ * 16 primitive columns.
+ */
+public class WidePrimitiveObject {
+    private int i0;
+    private int i1;
+    private int i2;
+    private int i3;
+    private int i4;
+    private int i5;
+    private int i6;
+    private int i7;
+    private long l0;
+    private long l1;
+    private long l2;
+    private long l3;
+    private double d0;
+    private double d1;
+    private double d2;
+    private double d3;
+
+    public int getI0() {
+        return i0;
+    }
+
+    public void setI0(int i0) {
+        this.i0 = i0;
+    }
+
+    public int getI1() {
+        return i1;
+    }
+
+    public void setI1(int i1) {
+        this.i1 = i1;
+    }
+
+    public int getI2() {
+        return i2;
+    }
+
+    public void setI2(int i2) {
+        this.i2 = i2;
+    }
+
+    public int getI3() {
+        return i3;
+    }
+
+    public void setI3(int i3) {
+        this.i3 = i3;
+    }
+
+    public int getI4() {
+        return i4;
+    }
+
+    public void setI4(int i4) {
+        this.i4 = i4;
+    }
+
+    public int getI5() {
+        return i5;
+    }
+
+    public void setI5(int i5) {
+        this.i5 = i5;
+    }
+
+    public int getI6() {
+        return i6;
+    }
+
+    public void setI6(int i6) {
+        this.i6 = i6;
+    }
+
+    public int getI7() {
+        return i7;
+    }
+
+    public void setI7(int i7) {
+        this.i7 = i7;
+    }
+
+    public long getL0() {
+        return l0;
+    }
+
+    public void setL0(long l0) {
+        this.l0 = l0;
+    }
+
+    public long getL1() {
+        return l1;
+    }
+
+    public void setL1(long l1) {
+        this.l1 = l1;
+    }
+
+    public long getL2() {
+        return l2;
+    }
+
+    public void setL2(long l2) {
+        this.l2 = l2;
+    }
+
+    public long getL3() {
+        return l3;
+    }
+
+    public void setL3(long l3) {
+        this.l3 = l3;
+    }
+
+    public double getD0() {
+        return d0;
+    }
+
+    public void setD0(double d0) {
+        this.d0 = d0;
+    }
+
+    public double getD1() {
+        return d1;
+    }
+
+    public void setD1(double d1) {
+        this.d1 = d1;
+    }
+
+    public double getD2() {
+        return d2;
+    }
+
+    public void setD2(double d2) {
+        this.d2 = d2;
+    }
+
+    public double getD3() {
+        return d3;
+    }
+
+    public void setD3(double d3) {
+        this.d3 = d3;
+    }
+}
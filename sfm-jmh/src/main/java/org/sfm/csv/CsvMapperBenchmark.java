@@ -0,0 +1,63 @@
+package org.sfm.csv;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.sfm.beans.RowShape;
+import org.sfm.utils.BlackholeRowHandler;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End to end csv mapping, header resolution through the mapper cache, parsing and instantiation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CsvMapperBenchmark {
+
+    @Param({"NARROW", "WIDE_PRIMITIVE", "WIDE_BOXED", "DATE_HEAVY"})
+    public RowShape shape;
+
+    @Param({"true", "false"})
+    public boolean asm;
+
+    @Param({"1000"})
+    public int nbRows;
+
+    private String content;
+    private CsvMapper<Object> mapper;
+
+    @SuppressWarnings("unchecked")
+    @Setup
+    public void setUp() {
+        content = shape.csv(nbRows);
+        mapper = (CsvMapper<Object>) CsvMapperFactory
+                .newInstance()
+                .useAsm(asm)
+                .defaultDateFormat(RowShape.DATE_FORMAT)
+                .newMapper(shape.target());
+    }
+
+    @Benchmark
+    public void forEach(Blackhole blackhole) throws IOException {
+        mapper.forEach(new StringReader(content), new BlackholeRowHandler<Object>(blackhole));
+    }
+
+    @Benchmark
+    public void iterator(Blackhole blackhole) throws IOException {
+        Iterator<Object> iterator = mapper.iterator(new StringReader(content));
+        while(iterator.hasNext()) {
+            blackhole.consume(iterator.next());
+        }
+    }
+}
@@ -62,6 +62,9 @@ public class CsvParserBenchmark {
     public String csvPipe = "val|val2  sdssddsds|lllll llll|sdkokokokokads<>Sddsdsds| adsdsadsad |1| 3 |4";
     public String csvQuote = "\"val\",\"val2  sdssddsds\",\"lllll llll\",\"sdkokokokokads<>Sddsdsds\",\"adsdsadsad\",\"1\",\"3\",\"4\"";
     public String csvPipeQuote = "\"val\"|\"val2  sdssddsds\"|\"lllll llll\"|\"sdkokokokokads<>Sddsdsds\"|\"adsdsadsad\"|\"1\"|\"3\"|\"4\"";
+    public String csvMultiCharSeparator = "val~|~val2  sdssddsds~|~lllll llll~|~sdkokokokokads<>Sddsdsds~|~ adsdsadsad ~|~1~|~ 3 ~|~4";
+    public String csvRecordDelimiter = "val,val2  sdssddsds,lllll llll\u001Esdkokokokokads<>Sddsdsds, adsdsadsad \u001E1, 3 ,4";
+    public String csvComment = "# comment line\nval,val2  sdssddsds,lllll llll,sdkokokokokads<>Sddsdsds, adsdsadsad ,1, 3 ,4";
     public String csvQuote2 = "\"val \"\" \",\"val2  \"\"sdssddsds\",\"lllll llll\",\"sdkokokokokads<>Sddsdsds\",\"adsdsadsad\",\"1\",\"3\",\"4\"";
 
 
@@ -70,6 +73,10 @@ public class CsvParserBenchmark {
 
     public static final CsvParser.DSL tdsl = CsvParser.dsl().trimSpaces();
 
+    public static final CsvParser.DSL dslMultiCharSeparator = CsvParser.dsl().separator("~|~");
+    public static final CsvParser.DSL dslRecordDelimiter = CsvParser.dsl().recordDelimiter("\u001E");
+    public static final CsvParser.DSL dslComment = CsvParser.dsl().comment('#');
+
     @Benchmark
     public void parse(Blackhole blackhole) throws IOException {
         dsl.parse(csv, new MyCellConsumer(blackhole));
@@ -94,6 +101,21 @@ public class CsvParserBenchmark {
         dslPipe.parse(csvPipeQuote, new MyCellConsumer(blackhole));
     }
 
+    @Benchmark
+    public void parseMultiCharSeparator(Blackhole blackhole) throws IOException {
+        dslMultiCharSeparator.parse(csvMultiCharSeparator, new MyCellConsumer(blackhole));
+    }
+
+    @Benchmark
+    public void parseRecordDelimiter(Blackhole blackhole) throws IOException {
+        dslRecordDelimiter.parse(csvRecordDelimiter, new MyCellConsumer(blackhole));
+    }
+
+    @Benchmark
+    public void parseComment(Blackhole blackhole) throws IOException {
+        dslComment.parse(csvComment, new MyCellConsumer(blackhole));
+    }
+
     public void parseQuote2(Blackhole blackhole) throws IOException {
         dsl.parse(csvQuote2, new MyCellConsumer(blackhole));
     }
@@ -0,0 +1,55 @@
+package org.sfm.csv;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.sfm.beans.RowShape;
+import org.sfm.reflect.ReflectionService;
+import org.sfm.reflect.meta.ClassMeta;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CsvWriterBenchmark {
+
+    @Param({"NARROW", "WIDE_PRIMITIVE", "WIDE_BOXED", "DATE_HEAVY"})
+    public RowShape shape;
+
+    @Param({"true", "false"})
+    public boolean asm;
+
+    @Param({"1000"})
+    public int nbRows;
+
+    private List<Object> objects;
+    private CsvWriter.CsvWriterDSL<Object> dsl;
+    private StringBuilder sb;
+
+    @SuppressWarnings("unchecked")
+    @Setup
+    public void setUp() throws IOException {
+        objects = shape.objects(nbRows);
+        ClassMeta<Object> classMeta = ReflectionService.newInstance(!asm, asm).<Object>getClassMeta(shape.target());
+        dsl = CsvWriter.from((Class<Object>) shape.target()).classMeta(classMeta).columns(shape.headers());
+        sb = new StringBuilder(nbRows * 256);
+    }
+
+    @Benchmark
+    public StringBuilder write() throws IOException {
+        sb.setLength(0);
+        CsvWriter<Object> writer = dsl.to(sb);
+        for(Object o : objects) {
+            writer.append(o);
+        }
+        return sb;
+    }
+}
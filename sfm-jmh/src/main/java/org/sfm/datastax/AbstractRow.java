@@ -0,0 +1,273 @@
+package org.sfm.datastax;
+
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.Token;
+import com.datastax.driver.core.TupleValue;
+import com.datastax.driver.core.UDTValue;
+import com.google.common.reflect.TypeToken;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.nio.ByteBuffer;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Stand-in Row that fails on every call, benchmarks override what the mappers use.
+ */
+public abstract class AbstractRow implements Row {
+
+    @Override
+    public boolean getBool(String p0) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean getBool(int p0) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public ByteBuffer getBytesUnsafe(String p0) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public ByteBuffer getBytesUnsafe(int p0) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public ByteBuffer getBytes(String p0) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public ByteBuffer getBytes(int p0) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public ColumnDefinitions getColumnDefinitions() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Date getDate(String p0) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Date getDate(int p0) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public BigDecimal getDecimal(String p0) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public BigDecimal getDecimal(int p0) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public double getDouble(String p0) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public double getDouble(int p0) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public float getFloat(String p0) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public float getFloat(int p0) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public InetAddress getInet(String p0) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public InetAddress getInet(int p0) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int getInt(String p0) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int getInt(int p0) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <T> List<T> getList(String p0, TypeToken<T> p1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <T> List<T> getList(String p0, Class<T> p1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <T> List<T> getList(int p0, TypeToken<T> p1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <T> List<T> getList(int p0, Class<T> p1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public long getLong(String p0) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public long getLong(int p0) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <K, V> Map<K, V> getMap(String p0, TypeToken<K> p1, TypeToken<V> p2) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <K, V> Map<K, V> getMap(String p0, Class<K> p1, Class<V> p2) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <K, V> Map<K, V> getMap(int p0, TypeToken<K> p1, TypeToken<V> p2) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <K, V> Map<K, V> getMap(int p0, Class<K> p1, Class<V> p2) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Object getObject(String p0) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Object getObject(int p0) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Token getPartitionKeyToken() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <T> Set<T> getSet(String p0, TypeToken<T> p1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <T> Set<T> getSet(String p0, Class<T> p1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <T> Set<T> getSet(int p0, TypeToken<T> p1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <T> Set<T> getSet(int p0, Class<T> p1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public String getString(String p0) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public String getString(int p0) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Token getToken(String p0) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Token getToken(int p0) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public TupleValue getTupleValue(String p0) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public TupleValue getTupleValue(int p0) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public UDTValue getUDTValue(String p0) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public UDTValue getUDTValue(int p0) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public UUID getUUID(String p0) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public UUID getUUID(int p0) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public BigInteger getVarint(String p0) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public BigInteger getVarint(int p0) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean isNull(String p0) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean isNull(int p0) {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,48 @@
+package org.sfm.datastax;
+
+import java.util.Date;
+
+/**
+ * Row over an in memory array of values.
+ */
+public class ArrayRow extends AbstractRow {
+
+    private final Object[] values;
+
+    public ArrayRow(Object[] values) {
+        this.values = values;
+    }
+
+    @Override
+    public boolean isNull(int p0) {
+        return values[p0] == null;
+    }
+
+    @Override
+    public int getInt(int p0) {
+        Object value = values[p0];
+        return value != null ? ((Number) value).intValue() : 0;
+    }
+
+    @Override
+    public long getLong(int p0) {
+        Object value = values[p0];
+        return value != null ? ((Number) value).longValue() : 0;
+    }
+
+    @Override
+    public double getDouble(int p0) {
+        Object value = values[p0];
+        return value != null ? ((Number) value).doubleValue() : 0;
+    }
+
+    @Override
+    public String getString(int p0) {
+        return (String) values[p0];
+    }
+
+    @Override
+    public Date getDate(int p0) {
+        return (Date) values[p0];
+    }
+}
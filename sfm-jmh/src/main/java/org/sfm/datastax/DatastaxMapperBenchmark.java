@@ -0,0 +1,78 @@
+package org.sfm.datastax;
+
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.Row;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.sfm.beans.RowShape;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Datastax Row mapping over in memory rows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DatastaxMapperBenchmark {
+
+    @Param({"NARROW", "WIDE_PRIMITIVE", "WIDE_BOXED", "DATE_HEAVY"})
+    public RowShape shape;
+
+    @Param({"true", "false"})
+    public boolean asm;
+
+    @Param({"1000"})
+    public int nbRows;
+
+    private Row[] rows;
+    private DatastaxMapper<Object> mapper;
+
+    @SuppressWarnings("unchecked")
+    @Setup
+    public void setUp() {
+        Object[][] values = shape.rows(nbRows);
+        rows = new Row[nbRows];
+        for(int i = 0; i < nbRows; i++) {
+            rows[i] = new ArrayRow(values[i]);
+        }
+
+        DatastaxMapperBuilder<Object> builder = (DatastaxMapperBuilder<Object>) DatastaxMapperFactory
+                .newInstance()
+                .useAsm(asm)
+                .newBuilder(shape.target());
+        String[] headers = shape.headers();
+        for(int i = 0; i < headers.length; i++) {
+            builder.addMapping(headers[i], i, dataType(values[0][i]));
+        }
+        mapper = builder.mapper();
+    }
+
+    private static DataType dataType(Object value) {
+        if (value instanceof Long) {
+            return DataType.bigint();
+        } else if (value instanceof Integer) {
+            return DataType.cint();
+        } else if (value instanceof Double) {
+            return DataType.cdouble();
+        } else if (value instanceof Date) {
+            return DataType.timestamp();
+        }
+        return DataType.text();
+    }
+
+    @Benchmark
+    public void map(Blackhole blackhole) {
+        for(Row row : rows) {
+            blackhole.consume(mapper.map(row));
+        }
+    }
+}
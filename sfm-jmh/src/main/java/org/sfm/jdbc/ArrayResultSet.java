@@ -0,0 +1,108 @@
+package org.sfm.jdbc;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Date;
+
+/**
+ * Forward only ResultSet over in memory rows, rewind between benchmark invocations.
+ * <p>
+ * The {@link Date} values are stored as {@link Timestamp} so getTimestamp does not allocate.
+ */
+public class ArrayResultSet extends AbstractResultSet {
+
+    private final Object[][] rows;
+    private int rowIndex = -1;
+    private boolean wasNull;
+
+    public ArrayResultSet(Object[][] rows) {
+        this.rows = new Object[rows.length][];
+        for(int i = 0; i < rows.length; i++) {
+            Object[] row = rows[i].clone();
+            for(int j = 0; j < row.length; j++) {
+                if (row[j] instanceof Date) {
+                    row[j] = new Timestamp(((Date) row[j]).getTime());
+                }
+            }
+            this.rows[i] = row;
+        }
+    }
+
+    public ArrayResultSet rewind() {
+        rowIndex = -1;
+        return this;
+    }
+
+    private Object value(int columnIndex) {
+        Object value = rows[rowIndex][columnIndex - 1];
+        wasNull = value == null;
+        return value;
+    }
+
+    private Number number(int columnIndex) {
+        Object value = value(columnIndex);
+        return value != null ? (Number) value : 0;
+    }
+
+    @Override
+    public boolean next() throws SQLException {
+        return ++rowIndex < rows.length;
+    }
+
+    @Override
+    public boolean wasNull() throws SQLException {
+        return wasNull;
+    }
+
+    @Override
+    public Object getObject(int p0) throws SQLException {
+        return value(p0);
+    }
+
+    @Override
+    public String getString(int p0) throws SQLException {
+        Object value = value(p0);
+        return value != null ? value.toString() : null;
+    }
+
+    @Override
+    public int getInt(int p0) throws SQLException {
+        return number(p0).intValue();
+    }
+
+    @Override
+    public long getLong(int p0) throws SQLException {
+        return number(p0).longValue();
+    }
+
+    @Override
+    public double getDouble(int p0) throws SQLException {
+        return number(p0).doubleValue();
+    }
+
+    @Override
+    public float getFloat(int p0) throws SQLException {
+        return number(p0).floatValue();
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(int p0) throws SQLException {
+        Object value = value(p0);
+        return value != null ? new BigDecimal(value.toString()) : null;
+    }
+
+    @Override
+    public Timestamp getTimestamp(int p0) throws SQLException {
+        return (Timestamp) value(p0);
+    }
+
+    @Override
+    public void close() throws SQLException {
+    }
+
+    @Override
+    public boolean isClosed() throws SQLException {
+        return false;
+    }
+}
@@ -0,0 +1,88 @@
+package org.sfm.jdbc;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.sfm.beans.RowShape;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Batch insert through the DefaultCrud on an in memory hsqldb, each invocation is rolled back.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CrudBenchmark {
+
+    @Param({"NARROW", "WIDE_PRIMITIVE", "DATE_HEAVY"})
+    public RowShape shape;
+
+    @Param({"true", "false"})
+    public boolean asm;
+
+    @Param({"1", "100"})
+    public int batchSize;
+
+    private Connection connection;
+    private Crud<Object, Object> crud;
+    private List<Object> objects;
+
+    @SuppressWarnings("unchecked")
+    @Setup
+    public void setUp() throws Exception {
+        connection = DriverManager.getConnection("jdbc:hsqldb:mem:crudbenchmark", "SA", "");
+        String table = "BENCH_" + shape.name();
+        Object[] values = shape.values(0);
+        String[] headers = shape.headers();
+
+        StringBuilder ddl = new StringBuilder("CREATE TABLE ").append(table).append('(');
+        for(int i = 0; i < headers.length; i++) {
+            ddl.append(headers[i]).append(' ').append(SqlTypes.ddlType(values[i]));
+            if (i == 0) {
+                ddl.append(" PRIMARY KEY");
+            }
+            ddl.append(", ");
+        }
+        ddl.setLength(ddl.length() - 2);
+        ddl.append(')');
+
+        Statement statement = connection.createStatement();
+        try {
+            statement.execute("DROP TABLE " + table + " IF EXISTS");
+            statement.execute(ddl.toString());
+        } finally {
+            statement.close();
+        }
+        connection.setAutoCommit(false);
+
+        crud = (Crud<Object, Object>) JdbcMapperFactory
+                .newInstance()
+                .useAsm(asm)
+                .crud((Class<Object>) shape.target(), (Class<Object>) values[0].getClass())
+                .table(connection, table);
+        objects = shape.objects(batchSize);
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public void create() throws SQLException {
+        crud.create(connection, objects);
+        connection.rollback();
+    }
+}
@@ -0,0 +1,64 @@
+package org.sfm.jdbc;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.sfm.beans.JoinParent;
+import org.sfm.utils.BlackholeRowHandler;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Join mapping of a parent and its children, exercises the key capture and the break detection.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JdbcJoinBenchmark {
+
+    @Param({"true", "false"})
+    public boolean asm;
+
+    @Param({"1000"})
+    public int nbRows;
+
+    @Param({"1", "10"})
+    public int nbChildren;
+
+    private ArrayResultSet resultSet;
+    private JdbcMapper<JoinParent> mapper;
+
+    @Setup
+    public void setUp() {
+        Object[][] rows = new Object[nbRows][];
+        for(int i = 0; i < nbRows; i++) {
+            long parentId = i / nbChildren;
+            rows[i] = new Object[] { parentId, "parent" + parentId, (long) i, "child" + i };
+        }
+        resultSet = new ArrayResultSet(rows);
+
+        mapper = JdbcMapperFactory
+                .newInstance()
+                .useAsm(asm)
+                .addKeys("id", "children_id")
+                .newBuilder(JoinParent.class)
+                .addMapping("id", 1, Types.BIGINT)
+                .addMapping("name", 2, Types.VARCHAR)
+                .addMapping("children_id", 3, Types.BIGINT)
+                .addMapping("children_value", 4, Types.VARCHAR)
+                .mapper();
+    }
+
+    @Benchmark
+    public void forEach(Blackhole blackhole) throws SQLException {
+        mapper.forEach(resultSet.rewind(), new BlackholeRowHandler<JoinParent>(blackhole));
+    }
+}
@@ -0,0 +1,59 @@
+package org.sfm.jdbc;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.sfm.beans.RowShape;
+import org.sfm.utils.BlackholeRowHandler;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JdbcMapper over an in memory ResultSet, measures the getters and the instantiation without the driver cost.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JdbcMapperBenchmark {
+
+    @Param({"NARROW", "WIDE_PRIMITIVE", "WIDE_BOXED", "DATE_HEAVY"})
+    public RowShape shape;
+
+    @Param({"true", "false"})
+    public boolean asm;
+
+    @Param({"1000"})
+    public int nbRows;
+
+    private ArrayResultSet resultSet;
+    private JdbcMapper<Object> mapper;
+
+    @SuppressWarnings("unchecked")
+    @Setup
+    public void setUp() {
+        Object[][] rows = shape.rows(nbRows);
+        resultSet = new ArrayResultSet(rows);
+
+        JdbcMapperBuilder<Object> builder = (JdbcMapperBuilder<Object>) JdbcMapperFactory
+                .newInstance()
+                .useAsm(asm)
+                .newBuilder(shape.target());
+        String[] headers = shape.headers();
+        for(int i = 0; i < headers.length; i++) {
+            builder.addMapping(headers[i], i + 1, SqlTypes.sqlType(rows[0][i]));
+        }
+        mapper = builder.mapper();
+    }
+
+    @Benchmark
+    public void forEach(Blackhole blackhole) throws SQLException {
+        mapper.forEach(resultSet.rewind(), new BlackholeRowHandler<Object>(blackhole));
+    }
+}
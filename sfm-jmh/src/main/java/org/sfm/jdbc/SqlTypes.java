@@ -0,0 +1,33 @@
+package org.sfm.jdbc;
+
+import java.sql.Types;
+import java.util.Date;
+
+final class SqlTypes {
+
+    private SqlTypes() {
+    }
+
+    static int sqlType(Object value) {
+        if (value instanceof Long) {
+            return Types.BIGINT;
+        } else if (value instanceof Integer) {
+            return Types.INTEGER;
+        } else if (value instanceof Double) {
+            return Types.DOUBLE;
+        } else if (value instanceof Date) {
+            return Types.TIMESTAMP;
+        }
+        return Types.VARCHAR;
+    }
+
+    static String ddlType(Object value) {
+        switch (sqlType(value)) {
+            case Types.BIGINT: return "BIGINT";
+            case Types.INTEGER: return "INTEGER";
+            case Types.DOUBLE: return "DOUBLE";
+            case Types.TIMESTAMP: return "TIMESTAMP";
+            default: return "VARCHAR(64)";
+        }
+    }
+}
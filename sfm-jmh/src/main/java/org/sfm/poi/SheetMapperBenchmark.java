@@ -0,0 +1,79 @@
+package org.sfm.poi;
+
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.sfm.beans.RowShape;
+import org.sfm.utils.BlackholeRowHandler;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SheetMapper over an in memory HSSF sheet with a header row.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SheetMapperBenchmark {
+
+    @Param({"NARROW", "WIDE_PRIMITIVE", "WIDE_BOXED", "DATE_HEAVY"})
+    public RowShape shape;
+
+    @Param({"true", "false"})
+    public boolean asm;
+
+    @Param({"1000"})
+    public int nbRows;
+
+    private Sheet sheet;
+    private SheetMapper<Object> mapper;
+
+    @SuppressWarnings("unchecked")
+    @Setup
+    public void setUp() {
+        sheet = new HSSFWorkbook().createSheet();
+        String[] headers = shape.headers();
+        Row header = sheet.createRow(0);
+        for(int i = 0; i < headers.length; i++) {
+            header.createCell(i).setCellValue(headers[i]);
+        }
+        for(int r = 0; r < nbRows; r++) {
+            Object[] values = shape.values(r);
+            Row row = sheet.createRow(r + 1);
+            for(int i = 0; i < values.length; i++) {
+                setValue(row.createCell(i), values[i]);
+            }
+        }
+
+        mapper = (SheetMapper<Object>) SheetMapperFactory
+                .newInstance()
+                .useAsm(asm)
+                .newMapper(shape.target());
+    }
+
+    private static void setValue(Cell cell, Object value) {
+        if (value instanceof Number) {
+            cell.setCellValue(((Number) value).doubleValue());
+        } else if (value instanceof Date) {
+            cell.setCellValue((Date) value);
+        } else {
+            cell.setCellValue(String.valueOf(value));
+        }
+    }
+
+    @Benchmark
+    public void forEach(Blackhole blackhole) {
+        mapper.forEach(sheet, new BlackholeRowHandler<Object>(blackhole));
+    }
+}
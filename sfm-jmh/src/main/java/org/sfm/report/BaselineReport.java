@@ -0,0 +1,104 @@
+package org.sfm.report;
+
+import org.sfm.csv.CsvParser;
+import org.sfm.csv.CsvWriter;
+import org.sfm.utils.ListCollectorHandler;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compare the scores of a run against a baseline, a benchmark regresses when its score or its allocation
+ * is worse than the baseline by more than the threshold.
+ */
+public class BaselineReport {
+
+    private final double threshold;
+
+    /**
+     * @param threshold the tolerated relative degradation, 0.1 for 10%
+     */
+    public BaselineReport(double threshold) {
+        this.threshold = threshold;
+    }
+
+    public static List<BenchmarkScore> read(File file) throws IOException {
+        Reader reader = new FileReader(file);
+        try {
+            return CsvParser.mapTo(BenchmarkScore.class).forEach(reader, new ListCollectorHandler<BenchmarkScore>()).getList();
+        } finally {
+            reader.close();
+        }
+    }
+
+    public static void write(File file, Collection<BenchmarkScore> scores) throws IOException {
+        Writer writer = new FileWriter(file);
+        try {
+            CsvWriter<BenchmarkScore> csvWriter = CsvWriter.from(BenchmarkScore.class)
+                    .columns("benchmark", "mode", "score", "error", "unit", "allocation")
+                    .to(writer);
+            for(BenchmarkScore score : scores) {
+                csvWriter.append(score);
+            }
+        } finally {
+            writer.close();
+        }
+    }
+
+    /**
+     * print the comparison table.
+     * @param baseline the baseline scores
+     * @param current the current scores
+     * @param out the output
+     * @return the number of regressions
+     */
+    public int compare(Collection<BenchmarkScore> baseline, Collection<BenchmarkScore> current, PrintStream out) {
+        Map<String, BenchmarkScore> baselineByName = new HashMap<String, BenchmarkScore>();
+        for(BenchmarkScore score : baseline) {
+            baselineByName.put(score.getBenchmark(), score);
+        }
+
+        List<String> regressions = new ArrayList<String>();
+        out.println(String.format("%-90s %14s %14s %9s %12s %12s",
+                "Benchmark", "Baseline", "Current", "Delta", "B/op base", "B/op"));
+        for(BenchmarkScore score : current) {
+            BenchmarkScore base = baselineByName.get(score.getBenchmark());
+            if (base == null) {
+                out.println(String.format("%-90s %14s %14.3f %9s %12s %12.1f",
+                        score.getBenchmark(), "-", score.getScore(), "new", "-", score.getAllocation()));
+                continue;
+            }
+
+            double delta = (score.getScore() - base.getScore()) / base.getScore();
+            double degradation = score.isThroughput() ? -delta : delta;
+            boolean allocationRegression = !Double.isNaN(base.getAllocation())
+                    && score.getAllocation() > base.getAllocation() * (1 + threshold) + 16;
+            boolean regression = degradation > threshold || allocationRegression;
+            if (regression) {
+                regressions.add(score.getBenchmark());
+            }
+
+            out.println(String.format("%-90s %14.3f %14.3f %+8.1f%% %12.1f %12.1f%s",
+                    score.getBenchmark(), base.getScore(), score.getScore(), delta * 100,
+                    base.getAllocation(), score.getAllocation(),
+                    regression ? " REGRESSION" : ""));
+        }
+
+        out.println();
+        out.println(regressions.size() + " regression(s) with threshold " + (threshold * 100) + "%");
+        for(String regression : regressions) {
+            out.println("  " + regression);
+        }
+        return regressions.size();
+    }
+}
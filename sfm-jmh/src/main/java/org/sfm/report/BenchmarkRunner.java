@@ -0,0 +1,80 @@
+package org.sfm.report;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Run the benchmarks with the gc profiler, save the scores and compare them against a baseline.
+ * <p>
+ * <code>
+ *     java -cp target/benchmarks.jar org.sfm.report.BenchmarkRunner [jmh options] <br>
+ *     &nbsp;&nbsp;&nbsp;&nbsp;-Dsfm.baseline=baseline.csv -Dsfm.result=result.csv -Dsfm.threshold=0.1
+ * </code>
+ * <p>
+ * Without a baseline file the scores are only saved, copy the result to the baseline to accept a run.
+ * The process exits with 1 if a regression is detected.
+ */
+public class BenchmarkRunner {
+
+    public static final String ALLOCATION_NORM = "·gc.alloc.rate.norm";
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build();
+
+        Collection<RunResult> results = new Runner(options).run();
+        List<BenchmarkScore> scores = toScores(results);
+
+        File resultFile = new File(System.getProperty("sfm.result", "jmh-result.csv"));
+        BaselineReport.write(resultFile, scores);
+
+        String baseline = System.getProperty("sfm.baseline");
+        if (baseline != null && new File(baseline).exists()) {
+            double threshold = Double.parseDouble(System.getProperty("sfm.threshold", "0.1"));
+            int regressions = new BaselineReport(threshold).compare(BaselineReport.read(new File(baseline)), scores, System.out);
+            if (regressions > 0) {
+                System.exit(1);
+            }
+        }
+    }
+
+    public static List<BenchmarkScore> toScores(Collection<RunResult> results) {
+        List<BenchmarkScore> scores = new ArrayList<BenchmarkScore>();
+        for(RunResult result : results) {
+            Result<?> primary = result.getPrimaryResult();
+            Result<?> allocation = result.getSecondaryResults().get(ALLOCATION_NORM);
+            scores.add(new BenchmarkScore(
+                    name(result),
+                    result.getParams().getMode().shortLabel(),
+                    primary.getScore(),
+                    primary.getScoreError(),
+                    primary.getScoreUnit(),
+                    allocation != null ? allocation.getScore() : Double.NaN));
+        }
+        return scores;
+    }
+
+    private static String name(RunResult result) {
+        String benchmark = result.getParams().getBenchmark();
+        StringBuilder sb = new StringBuilder(benchmark.substring(benchmark.lastIndexOf('.', benchmark.lastIndexOf('.') - 1) + 1));
+        String separator = ":";
+        for(String key : new TreeSet<String>(result.getParams().getParamsKeys())) {
+            sb.append(separator).append(key).append('=').append(result.getParams().getParam(key));
+            separator = ",";
+        }
+        return sb.toString();
+    }
+}
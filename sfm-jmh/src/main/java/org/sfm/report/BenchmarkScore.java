@@ -0,0 +1,86 @@
+package org.sfm.report;
+
+/**
+ * Score of a benchmark for a set of params, persisted as a csv row in the baseline.
+ */
+public class BenchmarkScore {
+    private String benchmark;
+    private String mode;
+    private double score;
+    private double error;
+    private String unit;
+    private double allocation;
+
+    public BenchmarkScore() {
+    }
+
+    public BenchmarkScore(String benchmark, String mode, double score, double error, String unit, double allocation) {
+        this.benchmark = benchmark;
+        this.mode = mode;
+        this.score = score;
+        this.error = error;
+        this.unit = unit;
+        this.allocation = allocation;
+    }
+
+    /**
+     * @return the benchmark name followed by its params, ie CsvMapperBenchmark.forEach:asm=true,shape=NARROW
+     */
+    public String getBenchmark() {
+        return benchmark;
+    }
+
+    public void setBenchmark(String benchmark) {
+        this.benchmark = benchmark;
+    }
+
+    public String getMode() {
+        return mode;
+    }
+
+    public void setMode(String mode) {
+        this.mode = mode;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public void setScore(double score) {
+        this.score = score;
+    }
+
+    public double getError() {
+        return error;
+    }
+
+    public void setError(double error) {
+        this.error = error;
+    }
+
+    public String getUnit() {
+        return unit;
+    }
+
+    public void setUnit(String unit) {
+        this.unit = unit;
+    }
+
+    /**
+     * @return the bytes allocated per operation as reported by the gc profiler, NaN if not available
+     */
+    public double getAllocation() {
+        return allocation;
+    }
+
+    public void setAllocation(double allocation) {
+        this.allocation = allocation;
+    }
+
+    /**
+     * @return true if a higher score is better
+     */
+    public boolean isThroughput() {
+        return "thrpt".equals(mode);
+    }
+}
@@ -0,0 +1,16 @@
+package org.sfm.utils;
+
+import org.openjdk.jmh.infra.Blackhole;
+
+public final class BlackholeRowHandler<T> implements RowHandler<T> {
+    private final Blackhole blackhole;
+
+    public BlackholeRowHandler(Blackhole blackhole) {
+        this.blackhole = blackhole;
+    }
+
+    @Override
+    public void handle(T t) throws Exception {
+        blackhole.consume(t);
+    }
+}
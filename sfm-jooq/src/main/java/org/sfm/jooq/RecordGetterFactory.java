@@ -2,10 +2,17 @@ package org.sfm.jooq;
 
 import org.jooq.Record;
 import org.sfm.jooq.conv.JooqConverterFactory;
+import org.sfm.jooq.getter.BooleanRecordGetter;
+import org.sfm.jooq.getter.ByteRecordGetter;
+import org.sfm.jooq.getter.DoubleRecordGetter;
 import org.sfm.jooq.getter.EnumRecordNamedGetter;
 import org.sfm.jooq.getter.EnumRecordOrdinalGetter;
+import org.sfm.jooq.getter.FloatRecordGetter;
+import org.sfm.jooq.getter.IntRecordGetter;
+import org.sfm.jooq.getter.LongRecordGetter;
 import org.sfm.jooq.getter.RecordGetter;
 import org.sfm.jooq.getter.RecordGetterWithConverter;
+import org.sfm.jooq.getter.ShortRecordGetter;
 import org.sfm.map.GetterFactory;
 import org.sfm.map.mapper.ColumnDefinition;
 import org.sfm.reflect.Getter;
@@ -34,6 +41,13 @@ public class RecordGetterFactory<R extends Record> implements
 			}
 		}
 		
+		if (propertyClass.isPrimitive()) {
+			Getter<R, P> getter = newPrimitiveGetter(propertyClass, key);
+			if (getter != null) {
+				return getter;
+			}
+		}
+
 		if (TypeHelper.areCompatible(propertyClass, key.getField().getType())) {
 			return new RecordGetter<R, P>(key.getIndex());
 		} else {
@@ -41,6 +55,32 @@ public class RecordGetterFactory<R extends Record> implements
 		}
 	}
 	
+	@SuppressWarnings("unchecked")
+	private <P> Getter<R, P> newPrimitiveGetter(Class<?> propertyClass, JooqFieldKey key) {
+		Class<?> columnType = key.getField().getType();
+		int index = key.getIndex();
+		if (boolean.class.equals(propertyClass)) {
+			if (Boolean.class.equals(TypeHelper.wrap(columnType))) {
+				return (Getter<R, P>) new BooleanRecordGetter<R>(index);
+			}
+		} else if (TypeHelper.isNumber(columnType)) {
+			if (int.class.equals(propertyClass)) {
+				return (Getter<R, P>) new IntRecordGetter<R>(index);
+			} else if (long.class.equals(propertyClass)) {
+				return (Getter<R, P>) new LongRecordGetter<R>(index);
+			} else if (double.class.equals(propertyClass)) {
+				return (Getter<R, P>) new DoubleRecordGetter<R>(index);
+			} else if (float.class.equals(propertyClass)) {
+				return (Getter<R, P>) new FloatRecordGetter<R>(index);
+			} else if (short.class.equals(propertyClass)) {
+				return (Getter<R, P>) new ShortRecordGetter<R>(index);
+			} else if (byte.class.equals(propertyClass)) {
+				return (Getter<R, P>) new ByteRecordGetter<R>(index);
+			}
+		}
+		return null;
+	}
+
 	private <P, F> Getter<R, P> newRecordGetterWithConverter(Class<F> inType, Type outType, int index) {
 		Converter<F, P> converter = ConverterFactory.getConverter(inType, outType);
 		if (converter == null) {
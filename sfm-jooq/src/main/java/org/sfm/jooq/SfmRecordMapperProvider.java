@@ -9,6 +9,7 @@ import org.sfm.reflect.ReflectionService;
 
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * Integration point with jooq.<p>
@@ -16,7 +17,10 @@ import java.util.concurrent.ConcurrentMap;
  */
 public class SfmRecordMapperProvider implements RecordMapperProvider {
 
-	private final ConcurrentMap<TargetColumnsMapperKey, Mapper<Record, ?>> mapperCache = new ConcurrentHashMap<TargetColumnsMapperKey, Mapper<Record, ?>>();
+	private static final int FAST_CACHE_SIZE = 64;
+
+	private final ConcurrentMap<TargetColumnsMapperKey, JooqRecordMapperWrapper<?, ?>> mapperCache = new ConcurrentHashMap<TargetColumnsMapperKey, JooqRecordMapperWrapper<?, ?>>();
+	private final AtomicReferenceArray<FastCacheEntry> fastCache = new AtomicReferenceArray<FastCacheEntry>(FAST_CACHE_SIZE);
 	private final MapperConfig<JooqFieldKey, FieldMapperColumnDefinition<JooqFieldKey>> mapperConfig;
 	private final ReflectionService reflectionService;
 
@@ -30,20 +34,42 @@ public class SfmRecordMapperProvider implements RecordMapperProvider {
 		this.reflectionService = reflectionService;
 	}
 
+	@SuppressWarnings("unchecked")
 	@Override
 	public <R extends Record, E> RecordMapper<R, E> provide(RecordType<R> recordType, Class<? extends E> type) {
-		
+		// jooq calls provide for each query, the record type instance is often the same
+		int slot = fastCacheSlot(recordType, type);
+		FastCacheEntry entry = fastCache.get(slot);
+		if (entry != null && entry.recordType == recordType && entry.target == type) {
+			return (RecordMapper<R, E>) entry.wrapper;
+		}
+
+		JooqRecordMapperWrapper<R, E> wrapper = getWrapper(recordType, type);
+		fastCache.set(slot, new FastCacheEntry(recordType, type, wrapper));
+		return wrapper;
+	}
+
+	@SuppressWarnings("unchecked")
+	private <R extends Record, E> JooqRecordMapperWrapper<R, E> getWrapper(RecordType<R> recordType, Class<? extends E> type) {
 		TargetColumnsMapperKey key = getMapperKey(recordType, type);
-		
-		@SuppressWarnings("unchecked")
-		Mapper<Record, E> mapper = (Mapper<Record, E>) mapperCache.get(key);
-		
-		if (mapper == null) {
-			mapper = buildMapper(recordType, type);
-			mapperCache.putIfAbsent(key, mapper);
+
+		JooqRecordMapperWrapper<R, E> wrapper = (JooqRecordMapperWrapper<R, E>) mapperCache.get(key);
+
+		if (wrapper == null) {
+			wrapper = new JooqRecordMapperWrapper<R, E>(this.<R, E>buildMapper(recordType, type));
+			JooqRecordMapperWrapper<R, E> previous = (JooqRecordMapperWrapper<R, E>) mapperCache.putIfAbsent(key, wrapper);
+			if (previous != null) {
+				wrapper = previous;
+			}
 		}
-		
-		return new JooqRecordMapperWrapper<R, E>(mapper);
+
+		return wrapper;
+	}
+
+	private static int fastCacheSlot(RecordType<?> recordType, Class<?> type) {
+		int h = System.identityHashCode(recordType) * 31 + type.hashCode();
+		h ^= h >>> 16;
+		return h & (FAST_CACHE_SIZE - 1);
 	}
 
 	private <R extends Record, E> Mapper<Record, E> buildMapper(RecordType<R> recordType, Class<? extends E> type) {
@@ -71,4 +97,16 @@ public class SfmRecordMapperProvider implements RecordMapperProvider {
 		
 		return new TargetColumnsMapperKey(type, columns);
 	}
+
+	private static final class FastCacheEntry {
+		private final RecordType<?> recordType;
+		private final Class<?> target;
+		private final JooqRecordMapperWrapper<?, ?> wrapper;
+
+		private FastCacheEntry(RecordType<?> recordType, Class<?> target, JooqRecordMapperWrapper<?, ?> wrapper) {
+			this.recordType = recordType;
+			this.target = target;
+			this.wrapper = wrapper;
+		}
+	}
 }
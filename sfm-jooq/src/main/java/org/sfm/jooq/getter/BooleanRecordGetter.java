@@ -0,0 +1,34 @@
+package org.sfm.jooq.getter;
+
+import org.jooq.Record;
+import org.sfm.reflect.Getter;
+import org.sfm.reflect.primitive.BooleanGetter;
+
+public final class BooleanRecordGetter<R extends Record> implements Getter<R, Boolean>, BooleanGetter<R> {
+
+	private final int index;
+
+	public BooleanRecordGetter(int index) {
+		this.index = index;
+	}
+
+	@Override
+	public boolean getBoolean(R target) throws Exception {
+		Object value = target.getValue(index);
+		if (value != null) {
+			return (Boolean) value;
+		} else {
+			return false;
+		}
+	}
+
+	@Override
+	public Boolean get(R target) throws Exception {
+		Object value = target.getValue(index);
+		if (value != null) {
+			return (Boolean) value;
+		} else {
+			return null;
+		}
+	}
+}
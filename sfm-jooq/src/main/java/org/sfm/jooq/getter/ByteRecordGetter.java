@@ -0,0 +1,34 @@
+package org.sfm.jooq.getter;
+
+import org.jooq.Record;
+import org.sfm.reflect.Getter;
+import org.sfm.reflect.primitive.ByteGetter;
+
+public final class ByteRecordGetter<R extends Record> implements Getter<R, Byte>, ByteGetter<R> {
+
+	private final int index;
+
+	public ByteRecordGetter(int index) {
+		this.index = index;
+	}
+
+	@Override
+	public byte getByte(R target) throws Exception {
+		Object value = target.getValue(index);
+		if (value != null) {
+			return ((Number) value).byteValue();
+		} else {
+			return 0;
+		}
+	}
+
+	@Override
+	public Byte get(R target) throws Exception {
+		Object value = target.getValue(index);
+		if (value != null) {
+			return ((Number) value).byteValue();
+		} else {
+			return null;
+		}
+	}
+}
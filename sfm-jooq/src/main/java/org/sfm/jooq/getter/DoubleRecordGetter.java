@@ -0,0 +1,34 @@
+package org.sfm.jooq.getter;
+
+import org.jooq.Record;
+import org.sfm.reflect.Getter;
+import org.sfm.reflect.primitive.DoubleGetter;
+
+public final class DoubleRecordGetter<R extends Record> implements Getter<R, Double>, DoubleGetter<R> {
+
+	private final int index;
+
+	public DoubleRecordGetter(int index) {
+		this.index = index;
+	}
+
+	@Override
+	public double getDouble(R target) throws Exception {
+		Object value = target.getValue(index);
+		if (value != null) {
+			return ((Number) value).doubleValue();
+		} else {
+			return 0d;
+		}
+	}
+
+	@Override
+	public Double get(R target) throws Exception {
+		Object value = target.getValue(index);
+		if (value != null) {
+			return ((Number) value).doubleValue();
+		} else {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,34 @@
+package org.sfm.jooq.getter;
+
+import org.jooq.Record;
+import org.sfm.reflect.Getter;
+import org.sfm.reflect.primitive.FloatGetter;
+
+public final class FloatRecordGetter<R extends Record> implements Getter<R, Float>, FloatGetter<R> {
+
+	private final int index;
+
+	public FloatRecordGetter(int index) {
+		this.index = index;
+	}
+
+	@Override
+	public float getFloat(R target) throws Exception {
+		Object value = target.getValue(index);
+		if (value != null) {
+			return ((Number) value).floatValue();
+		} else {
+			return 0f;
+		}
+	}
+
+	@Override
+	public Float get(R target) throws Exception {
+		Object value = target.getValue(index);
+		if (value != null) {
+			return ((Number) value).floatValue();
+		} else {
+			return null;
+		}
+	}
+}
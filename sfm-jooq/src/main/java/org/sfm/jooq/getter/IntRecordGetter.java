@@ -0,0 +1,34 @@
+package org.sfm.jooq.getter;
+
+import org.jooq.Record;
+import org.sfm.reflect.Getter;
+import org.sfm.reflect.primitive.IntGetter;
+
+public final class IntRecordGetter<R extends Record> implements Getter<R, Integer>, IntGetter<R> {
+
+	private final int index;
+
+	public IntRecordGetter(int index) {
+		this.index = index;
+	}
+
+	@Override
+	public int getInt(R target) throws Exception {
+		Object value = target.getValue(index);
+		if (value != null) {
+			return ((Number) value).intValue();
+		} else {
+			return 0;
+		}
+	}
+
+	@Override
+	public Integer get(R target) throws Exception {
+		Object value = target.getValue(index);
+		if (value != null) {
+			return ((Number) value).intValue();
+		} else {
+			return null;
+		}
+	}
+}
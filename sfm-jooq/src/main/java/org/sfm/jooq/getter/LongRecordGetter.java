@@ -0,0 +1,34 @@
+package org.sfm.jooq.getter;
+
+import org.jooq.Record;
+import org.sfm.reflect.Getter;
+import org.sfm.reflect.primitive.LongGetter;
+
+public final class LongRecordGetter<R extends Record> implements Getter<R, Long>, LongGetter<R> {
+
+	private final int index;
+
+	public LongRecordGetter(int index) {
+		this.index = index;
+	}
+
+	@Override
+	public long getLong(R target) throws Exception {
+		Object value = target.getValue(index);
+		if (value != null) {
+			return ((Number) value).longValue();
+		} else {
+			return 0l;
+		}
+	}
+
+	@Override
+	public Long get(R target) throws Exception {
+		Object value = target.getValue(index);
+		if (value != null) {
+			return ((Number) value).longValue();
+		} else {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,34 @@
+package org.sfm.jooq.getter;
+
+import org.jooq.Record;
+import org.sfm.reflect.Getter;
+import org.sfm.reflect.primitive.ShortGetter;
+
+public final class ShortRecordGetter<R extends Record> implements Getter<R, Short>, ShortGetter<R> {
+
+	private final int index;
+
+	public ShortRecordGetter(int index) {
+		this.index = index;
+	}
+
+	@Override
+	public short getShort(R target) throws Exception {
+		Object value = target.getValue(index);
+		if (value != null) {
+			return ((Number) value).shortValue();
+		} else {
+			return 0;
+		}
+	}
+
+	@Override
+	public Short get(R target) throws Exception {
+		Object value = target.getValue(index);
+		if (value != null) {
+			return ((Number) value).shortValue();
+		} else {
+			return null;
+		}
+	}
+}
@@ -34,6 +34,36 @@ public class JooqMapperTest {
 		JooqRecordMapperWrapper provider2 =
 				(JooqRecordMapperWrapper) recordMapperProvider.<Record, DbObject>provide(rt, DbObject.class);
 		assertSame(provider1.getMapper(), provider2.getMapper());
+		assertSame(provider1, provider2);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testFastCacheOnRecordTypeIdentity() {
+		SfmRecordMapperProvider recordMapperProvider = new SfmRecordMapperProvider();
+		Field field1 = mock(Field.class);
+		when(field1.getName()).thenReturn("id");
+		when(field1.getType()).thenReturn(Long.class);
+
+		RecordType rt = mock(RecordType.class);
+		when(rt.size()).thenReturn(1);
+		when(rt.fields()).thenReturn(new Field[] {field1});
+		RecordType rt2 = mock(RecordType.class);
+		when(rt2.size()).thenReturn(1);
+		when(rt2.fields()).thenReturn(new Field[] {field1});
+
+		RecordMapper<Record, DbObject> mapper = recordMapperProvider.<Record, DbObject>provide(rt, DbObject.class);
+
+		// same columns on another record type instance share the mapper
+		assertSame(mapper, recordMapperProvider.<Record, DbObject>provide(rt2, DbObject.class));
+
+		// same instance does not look at the fields
+		when(rt.fields()).thenThrow(new IllegalStateException());
+		assertSame(mapper, recordMapperProvider.<Record, DbObject>provide(rt, DbObject.class));
+
+		Record record = mock(Record.class);
+		when(record.getValue(0)).thenReturn(3l);
+		assertEquals(3l, mapper.map(record).getId());
 	}
 
 	@Test
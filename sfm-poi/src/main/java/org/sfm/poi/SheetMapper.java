@@ -1,6 +1,7 @@
 package org.sfm.poi;
 
 import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
 import org.sfm.utils.RowHandler;
 
 import java.util.Iterator;
@@ -45,6 +46,30 @@ public interface SheetMapper<T> {
     <RH extends RowHandler<T>> RH forEach(int startRow, Sheet sheet, RH rowHandler);
 
 
+    /**
+     * map each row to the same target instance and call back the handler, no instance of T is allocated per row.
+     * Use a {@link org.sfm.utils.CopyRowHandler} to retain the rows.
+     * @param sheet the sheet to map from
+     * @param target the instance of T reused for each row
+     * @param rowHandler the handler to call back
+     * @param <RH> the type of the handler
+     * @return the handler
+     * @throws UnsupportedOperationException on a join mapper
+     */
+    <RH extends RowHandler<T>> RH forEach(Sheet sheet, T target, RH rowHandler);
+
+    /**
+     *
+     * @param startRow row index to start at
+     * @param sheet the sheet to map from
+     * @param target the instance of T reused for each row
+     * @param rowHandler the handler to call back
+     * @param <RH> the type of the handler
+     * @return the handler
+     * @see #forEach(Sheet, Object, RowHandler)
+     */
+    <RH extends RowHandler<T>> RH forEach(int startRow, Sheet sheet, T target, RH rowHandler);
+
     /**
      *
      * @param sheet the sheet to map from
@@ -63,4 +88,25 @@ public interface SheetMapper<T> {
     //IFJAVA8_START
     Stream<T> stream(int startRow, Sheet sheet);
     //IFJAVA8_END
+
+    /**
+     * map all the sheets of the workbook into one stream, sheets are mapped in order.
+     * The stream splits on sheets and then on rows, call parallel() to map the sheets concurrently.
+     * @param workbook the workbook to map from
+     * @return a stream on mapped instance of T
+     */
+    //IFJAVA8_START
+    Stream<T> stream(Workbook workbook);
+    //IFJAVA8_END
+
+    /**
+     *
+     * @param startRow row index to start at in each sheet
+     * @param workbook the workbook to map from
+     * @return a stream on mapped instance of T
+     * @see #stream(Workbook)
+     */
+    //IFJAVA8_START
+    Stream<T> stream(int startRow, Workbook workbook);
+    //IFJAVA8_END
 }
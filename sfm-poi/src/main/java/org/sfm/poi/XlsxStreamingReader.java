@@ -0,0 +1,171 @@
+package org.sfm.poi;
+
+
+import org.apache.poi.ss.usermodel.Row;
+import org.sfm.map.Mapper;
+import org.sfm.poi.impl.XlsxSharedStringsHandler;
+import org.sfm.poi.impl.XlsxSheetHandler;
+import org.sfm.poi.impl.XlsxWorkbookHandler;
+import org.sfm.utils.RowHandler;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParser;
+import javax.xml.parsers.SAXParserFactory;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Stream the rows of a xlsx file without loading the workbook in memory.
+ * <p>
+ * The sheet xml is read with SAX and each row is exposed as a read only {@link Row} that is reused from row to row,
+ * so mappers built by {@link SheetMapperBuilder} can be applied in constant memory. Only the shared strings table is kept.
+ * <p>
+ * Cells are read from their cached value, formulas are not evaluated and styles are not available.
+ * <pre>
+ * try (XlsxStreamingReader reader = new XlsxStreamingReader(file)) {
+ *     reader.forEach(0, 1, mapper, handler);
+ * }
+ * </pre>
+ */
+public final class XlsxStreamingReader implements Closeable {
+
+    private final ZipFile zipFile;
+    private final XlsxWorkbookHandler workbook;
+    private List<String> sharedStrings;
+
+    /**
+     * open the file and read the workbook part.
+     * @param file the xlsx file
+     * @throws IOException if the file cannot be read or is not a xlsx file
+     */
+    public XlsxStreamingReader(File file) throws IOException {
+        this.zipFile = new ZipFile(file);
+        try {
+            this.workbook = new XlsxWorkbookHandler();
+            parse("xl/workbook.xml", workbook, true);
+            parse("xl/_rels/workbook.xml.rels", workbook, false);
+        } catch (IOException e) {
+            zipFile.close();
+            throw e;
+        }
+    }
+
+    /**
+     *
+     * @return the names of the sheets in the workbook order
+     */
+    public List<String> getSheetNames() {
+        return Collections.unmodifiableList(workbook.getSheetNames());
+    }
+
+    /**
+     * call back the handler for each row of the sheet. The row instance is reused.
+     * @param sheetIndex the index of the sheet
+     * @param rowHandler the handler to call back
+     * @param <RH> the type of the handler
+     * @return the handler
+     * @throws IOException if the sheet cannot be read
+     */
+    public <RH extends RowHandler<? super Row>> RH forEachRow(int sheetIndex, RH rowHandler) throws IOException {
+        if (sheetIndex < 0 || sheetIndex >= workbook.getSheetNames().size()) {
+            throw new IllegalArgumentException("Sheet index " + sheetIndex + " out of range");
+        }
+        parse(workbook.getSheetEntryName(sheetIndex),
+                new XlsxSheetHandler(getSharedStrings(), workbook.isDate1904(), rowHandler), true);
+        return rowHandler;
+    }
+
+    /**
+     * map each row of the sheet and call back the handler.
+     * @param sheetIndex the index of the sheet
+     * @param mapper the mapper, a join mapper will map each row separately
+     * @param rowHandler the handler to call back
+     * @param <T> the mapped type
+     * @param <RH> the type of the handler
+     * @return the handler
+     * @throws IOException if the sheet cannot be read
+     */
+    public <T, RH extends RowHandler<T>> RH forEach(int sheetIndex, Mapper<Row, T> mapper, RH rowHandler) throws IOException {
+        return forEach(sheetIndex, 0, mapper, rowHandler);
+    }
+
+    /**
+     * map each row of the sheet from startRow and call back the handler.
+     * @param sheetIndex the index of the sheet
+     * @param startRow row index to start at
+     * @param mapper the mapper, a join mapper will map each row separately
+     * @param rowHandler the handler to call back
+     * @param <T> the mapped type
+     * @param <RH> the type of the handler
+     * @return the handler
+     * @throws IOException if the sheet cannot be read
+     */
+    public <T, RH extends RowHandler<T>> RH forEach(int sheetIndex, final int startRow, final Mapper<Row, T> mapper, final RH rowHandler) throws IOException {
+        forEachRow(sheetIndex, new RowHandler<Row>() {
+            @Override
+            public void handle(Row row) throws Exception {
+                if (row.getRowNum() >= startRow) {
+                    rowHandler.handle(mapper.map(row));
+                }
+            }
+        });
+        return rowHandler;
+    }
+
+    @Override
+    public void close() throws IOException {
+        zipFile.close();
+    }
+
+    private List<String> getSharedStrings() throws IOException {
+        if (sharedStrings == null) {
+            XlsxSharedStringsHandler handler = new XlsxSharedStringsHandler();
+            parse("xl/sharedStrings.xml", handler, false);
+            sharedStrings = handler.getStrings();
+        }
+        return sharedStrings;
+    }
+
+    private void parse(String entryName, DefaultHandler handler, boolean required) throws IOException {
+        ZipEntry entry = zipFile.getEntry(entryName);
+        if (entry == null) {
+            if (required) {
+                throw new IOException("Missing part " + entryName + " in " + zipFile.getName());
+            }
+            return;
+        }
+        InputStream is = zipFile.getInputStream(entry);
+        try {
+            newParser().parse(is, handler);
+        } catch (SAXException e) {
+            throw new IOException("Invalid part " + entryName + " " + e.getMessage(), e);
+        } finally {
+            is.close();
+        }
+    }
+
+    private static SAXParser newParser() throws IOException {
+        SAXParserFactory factory = SAXParserFactory.newInstance();
+        factory.setNamespaceAware(true);
+        try {
+            factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+        } catch (Exception e) {
+            // parser does not support the feature
+        }
+        try {
+            return factory.newSAXParser();
+        } catch (ParserConfigurationException e) {
+            throw new IOException(e.getMessage(), e);
+        } catch (SAXException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+}
@@ -4,6 +4,7 @@ package org.sfm.poi.impl;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
 import org.sfm.csv.CsvColumnKey;
 import org.sfm.map.*;
 import org.sfm.map.column.FieldMapperColumnDefinition;
@@ -20,6 +21,7 @@ import java.util.Iterator;
 import java.util.List;
 //IFJAVA8_START
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 //IFJAVA8_END
 
 
@@ -64,6 +66,16 @@ public class DynamicSheetMapper<T> implements SheetMapper<T> {
         return getPoiMapper(startRow, sheet).forEach(startRow + 1, sheet, rowHandler);
     }
 
+    @Override
+    public <RH extends RowHandler<T>> RH forEach(Sheet sheet, T target, RH rowHandler) {
+        return forEach(startRow, sheet, target, rowHandler);
+    }
+
+    @Override
+    public <RH extends RowHandler<T>> RH forEach(int startRow, Sheet sheet, T target, RH rowHandler) {
+        return getPoiMapper(startRow, sheet).forEach(startRow + 1, sheet, target, rowHandler);
+    }
+
     //IFJAVA8_START
     @Override
     public Stream<T> stream(Sheet sheet) {
@@ -74,6 +86,18 @@ public class DynamicSheetMapper<T> implements SheetMapper<T> {
     public Stream<T> stream(int startRow, Sheet sheet) {
         return getPoiMapper(startRow, sheet).stream(startRow + 1, sheet);
     }
+
+    @Override
+    public Stream<T> stream(Workbook workbook) {
+        return stream(startRow, workbook);
+    }
+
+    @Override
+    public Stream<T> stream(final int startRow, Workbook workbook) {
+        return StreamSupport.stream(
+                new WorkbookSpliterator<T>(workbook, sheet -> stream(startRow, sheet).spliterator()),
+                false);
+    }
     //IFJAVA8_END
 
     private SheetMapper<T> getPoiMapper(int startRow, Sheet sheet) {
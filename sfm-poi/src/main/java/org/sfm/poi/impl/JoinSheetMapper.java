@@ -3,6 +3,7 @@ package org.sfm.poi.impl;
 
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
 import org.sfm.map.*;
 import org.sfm.map.context.MappingContextFactory;
 import org.sfm.map.mapper.JoinMapperEnumarable;
@@ -69,6 +70,16 @@ public class JoinSheetMapper<T> implements RowMapper<T> {
         return rowHandler;
     }
 
+    @Override
+    public <RH extends RowHandler<T>> RH forEach(Sheet sheet, T target, RH rowHandler) {
+        return forEach(startRow, sheet, target, rowHandler);
+    }
+
+    @Override
+    public <RH extends RowHandler<T>> RH forEach(int startRow, Sheet sheet, T target, RH rowHandler) {
+        throw new UnsupportedOperationException("Flyweight iteration is not supported on a join mapper " + this);
+    }
+
     //IFJAVA8_START
     @Override
     public Stream<T> stream(Sheet sheet) {
@@ -79,6 +90,19 @@ public class JoinSheetMapper<T> implements RowMapper<T> {
     public Stream<T> stream(int startRow, Sheet sheet) {
         return StreamSupport.stream(new EnumarableSpliterator<T>(enumerable(startRow, sheet, newMappingContext())), false);
     }
+
+    @Override
+    public Stream<T> stream(Workbook workbook) {
+        return stream(startRow, workbook);
+    }
+
+    @Override
+    public Stream<T> stream(final int startRow, Workbook workbook) {
+        return StreamSupport.stream(
+                new WorkbookSpliterator<T>(workbook,
+                        sheet -> new EnumarableSpliterator<T>(enumerable(startRow, sheet, newMappingContext()))),
+                false);
+    }
     //IFJAVA8_END
 
 
@@ -27,6 +27,9 @@ public class PoiStringGetter implements Getter<Row, String> {
             switch(cell.getCellType()) {
                 case Cell.CELL_TYPE_BOOLEAN:
                 case Cell.CELL_TYPE_NUMERIC:
+                    if (cell instanceof XlsxCell) {
+                        return ((XlsxCell) cell).getFormattedValue();
+                    }
                     return formatCell(cell);
                 default:
                 return cell.getStringCellValue();
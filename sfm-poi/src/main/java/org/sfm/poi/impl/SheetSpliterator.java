@@ -8,17 +8,40 @@ import org.sfm.map.MappingContext;
 import java.util.Spliterator;
 import java.util.function.Consumer;
 
+/**
+ * Spliterator on a range of rows of a sheet.
+ * Rows are accessed by index so the range is split in halves, each split gets its own {@link MappingContext}.
+ */
 public class SheetSpliterator<T> implements Spliterator<T> {
 
+    /**
+     * ranges smaller than this are not split.
+     */
+    public static final int MIN_SPLIT_SIZE = 32;
+
     private final StaticSheetMapper<T> mapper;
     private final Sheet sheet;
     private final MappingContext<? super Row> mappingContext;
+    private final int lastRow;
 
     private int rowNum;
 
     public SheetSpliterator(StaticSheetMapper<T> mapper, int startRow, Sheet sheet, MappingContext<? super Row> mappingContext) {
+        this(mapper, startRow, sheet.getLastRowNum(), sheet, mappingContext);
+    }
+
+    /**
+     *
+     * @param mapper the mapper
+     * @param startRow the first row index
+     * @param lastRow the last row index, inclusive
+     * @param sheet the sheet
+     * @param mappingContext the mapping context
+     */
+    public SheetSpliterator(StaticSheetMapper<T> mapper, int startRow, int lastRow, Sheet sheet, MappingContext<? super Row> mappingContext) {
         this.mapper = mapper;
         this.rowNum = startRow;
+        this.lastRow = lastRow;
         this.sheet = sheet;
         this.mappingContext = mappingContext;
     }
@@ -28,16 +51,17 @@ public class SheetSpliterator<T> implements Spliterator<T> {
         Sheet lSheet = this.sheet;
         StaticSheetMapper<T> lMapper = this.mapper;
         MappingContext<? super Row> lMappingContext = this.mappingContext;
-        for(int i = rowNum; i <= lSheet.getLastRowNum(); i++) {
+        int lLastRow = this.lastRow;
+        for(int i = rowNum; i <= lLastRow; i++) {
             action.accept(lMapper.map(lSheet.getRow(i), lMappingContext));
         }
+        rowNum = lLastRow + 1;
     }
 
     @Override
     public boolean tryAdvance(Consumer<? super T> action) {
-        Sheet lSheet = this.sheet;
-        if (rowNum <= lSheet.getLastRowNum()) {
-            action.accept(mapper.map(lSheet.getRow(rowNum), mappingContext));
+        if (rowNum <= lastRow) {
+            action.accept(mapper.map(sheet.getRow(rowNum), mappingContext));
             rowNum++;
             return true;
         }
@@ -46,16 +70,23 @@ public class SheetSpliterator<T> implements Spliterator<T> {
 
     @Override
     public Spliterator<T> trySplit() {
-        return null;
+        int remaining = lastRow - rowNum + 1;
+        if (remaining < MIN_SPLIT_SIZE) {
+            return null;
+        }
+        int mid = rowNum + remaining / 2;
+        SheetSpliterator<T> prefix = new SheetSpliterator<T>(mapper, rowNum, mid - 1, sheet, mapper.newMappingContext());
+        rowNum = mid;
+        return prefix;
     }
 
     @Override
     public long estimateSize() {
-        return sheet.getLastRowNum();
+        return Math.max(0, lastRow - rowNum + 1);
     }
 
     @Override
     public int characteristics() {
-        return Spliterator.ORDERED | Spliterator.NONNULL;
+        return Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.SIZED | Spliterator.SUBSIZED;
     }
 }
@@ -3,9 +3,11 @@ package org.sfm.poi.impl;
 
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
 import org.sfm.map.*;
 import org.sfm.map.context.MappingContextFactory;
 import org.sfm.poi.RowMapper;
+import org.sfm.utils.ErrorHelper;
 import org.sfm.utils.RowHandler;
 
 import java.util.Iterator;
@@ -59,6 +61,30 @@ public class StaticSheetMapper<T> implements RowMapper<T> {
         return rowHandler;
     }
 
+    @Override
+    public <RH extends RowHandler<T>> RH forEach(Sheet sheet, T target, RH rowHandler) {
+        return forEach(startRow, sheet, target, rowHandler);
+    }
+
+    @Override
+    public <RH extends RowHandler<T>> RH forEach(int startRow, Sheet sheet, T target, RH rowHandler) {
+        MappingContext<? super Row> mappingContext = newMappingContext();
+        Mapper<Row, T> lMapper = this.mapper;
+        for(int rowNum = startRow; rowNum <= sheet.getLastRowNum(); rowNum++) {
+            try {
+                lMapper.mapTo(sheet.getRow(rowNum), target, mappingContext);
+            } catch(Exception e) {
+                ErrorHelper.rethrow(e);
+            }
+            try {
+                rowHandler.handle(target);
+            } catch(Exception e) {
+                rowHandlerErrorHandler.handlerError(e, target);
+            }
+        }
+        return rowHandler;
+    }
+
     //IFJAVA8_START
     @Override
     public Stream<T> stream(Sheet sheet) {
@@ -69,6 +95,18 @@ public class StaticSheetMapper<T> implements RowMapper<T> {
     public Stream<T> stream(int startRow, Sheet sheet) {
         return StreamSupport.stream(new SheetSpliterator<T>(this, startRow, sheet, newMappingContext()), false);
     }
+
+    @Override
+    public Stream<T> stream(Workbook workbook) {
+        return stream(startRow, workbook);
+    }
+
+    @Override
+    public Stream<T> stream(final int startRow, Workbook workbook) {
+        return StreamSupport.stream(
+                new WorkbookSpliterator<T>(workbook, sheet -> new SheetSpliterator<T>(this, startRow, sheet, newMappingContext())),
+                false);
+    }
     //IFJAVA8_END
 
 
@@ -87,7 +125,7 @@ public class StaticSheetMapper<T> implements RowMapper<T> {
         mapper.mapTo(source, target, context);
     }
 
-    private MappingContext<? super Row> newMappingContext() {
+    MappingContext<? super Row> newMappingContext() {
         return mappingContextFactory.newContext();
     }
 }
@@ -0,0 +1,104 @@
+package org.sfm.poi.impl;
+
+
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Spliterator on a range of sheets of a workbook.
+ * Splits on sheet boundaries first, then delegates the split to the spliterator of the last sheet.
+ */
+public class WorkbookSpliterator<T> implements Spliterator<T> {
+
+    private final Workbook workbook;
+    private final Function<Sheet, Spliterator<T>> sheetSpliteratorFactory;
+    private final int endSheet;
+
+    private int sheetIndex;
+    private Spliterator<T> current;
+
+    public WorkbookSpliterator(Workbook workbook, Function<Sheet, Spliterator<T>> sheetSpliteratorFactory) {
+        this(workbook, sheetSpliteratorFactory, 0, workbook.getNumberOfSheets(), null);
+    }
+
+    private WorkbookSpliterator(Workbook workbook, Function<Sheet, Spliterator<T>> sheetSpliteratorFactory,
+                                int sheetIndex, int endSheet, Spliterator<T> current) {
+        this.workbook = workbook;
+        this.sheetSpliteratorFactory = sheetSpliteratorFactory;
+        this.sheetIndex = sheetIndex;
+        this.endSheet = endSheet;
+        this.current = current;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        do {
+            if (current != null) {
+                if (current.tryAdvance(action)) {
+                    return true;
+                }
+                current = null;
+            }
+        } while (nextSheet());
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        do {
+            if (current != null) {
+                current.forEachRemaining(action);
+                current = null;
+            }
+        } while (nextSheet());
+    }
+
+    private boolean nextSheet() {
+        if (sheetIndex < endSheet) {
+            current = sheetSpliteratorFactory.apply(workbook.getSheetAt(sheetIndex++));
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        if (current != null) {
+            if (sheetIndex < endSheet) {
+                Spliterator<T> prefix = new WorkbookSpliterator<T>(workbook, sheetSpliteratorFactory, sheetIndex, sheetIndex, current);
+                current = null;
+                return prefix;
+            }
+            return current.trySplit();
+        }
+        int remaining = endSheet - sheetIndex;
+        if (remaining >= 2) {
+            int mid = sheetIndex + remaining / 2;
+            Spliterator<T> prefix = new WorkbookSpliterator<T>(workbook, sheetSpliteratorFactory, sheetIndex, mid, null);
+            sheetIndex = mid;
+            return prefix;
+        } else if (remaining == 1) {
+            nextSheet();
+            return current.trySplit();
+        }
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        long size = current != null ? current.estimateSize() : 0;
+        for(int i = sheetIndex; i < endSheet; i++) {
+            size += workbook.getSheetAt(i).getLastRowNum() + 1;
+        }
+        return size < 0 ? Long.MAX_VALUE : size;
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.NONNULL;
+    }
+}
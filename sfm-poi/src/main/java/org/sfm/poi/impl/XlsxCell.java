@@ -0,0 +1,271 @@
+package org.sfm.poi.impl;
+
+
+import org.apache.poi.hssf.usermodel.HSSFRichTextString;
+import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.ss.util.CellRangeAddress;
+
+import java.util.Calendar;
+import java.util.Date;
+
+/**
+ * read only cell populated from the xlsx sheet events, instances are reused from row to row.
+ */
+public final class XlsxCell implements Cell {
+
+    private final XlsxRow row;
+    private final int columnIndex;
+
+    private boolean defined;
+    private int cellType = CELL_TYPE_BLANK;
+    private String stringValue;
+    private double numericValue;
+    private boolean booleanValue;
+
+    XlsxCell(XlsxRow row, int columnIndex) {
+        this.row = row;
+        this.columnIndex = columnIndex;
+    }
+
+    void reset() {
+        defined = false;
+        cellType = CELL_TYPE_BLANK;
+        stringValue = null;
+    }
+
+    void setBlank() {
+        defined = true;
+        cellType = CELL_TYPE_BLANK;
+        stringValue = null;
+    }
+
+    void setString(String value) {
+        defined = true;
+        cellType = CELL_TYPE_STRING;
+        stringValue = value;
+    }
+
+    void setNumeric(String value) {
+        defined = true;
+        cellType = CELL_TYPE_NUMERIC;
+        stringValue = value;
+        numericValue = Double.parseDouble(value);
+    }
+
+    void setBoolean(String value) {
+        defined = true;
+        cellType = CELL_TYPE_BOOLEAN;
+        booleanValue = "1".equals(value) || "true".equalsIgnoreCase(value);
+        stringValue = booleanValue ? "TRUE" : "FALSE";
+    }
+
+    void setError(String value) {
+        defined = true;
+        cellType = CELL_TYPE_ERROR;
+        stringValue = value;
+    }
+
+    boolean isDefined() {
+        return defined;
+    }
+
+    /**
+     * @return the value as stored in the sheet, used in place of a DataFormatter as no style is available.
+     */
+    public String getFormattedValue() {
+        return stringValue;
+    }
+
+    @Override
+    public int getColumnIndex() {
+        return columnIndex;
+    }
+
+    @Override
+    public int getRowIndex() {
+        return row.getRowNum();
+    }
+
+    @Override
+    public Sheet getSheet() {
+        return null;
+    }
+
+    @Override
+    public Row getRow() {
+        return row;
+    }
+
+    @Override
+    public int getCellType() {
+        return cellType;
+    }
+
+    @Override
+    public int getCachedFormulaResultType() {
+        throw new IllegalStateException("Only formula cells have cached results");
+    }
+
+    @Override
+    public String getCellFormula() {
+        throw new IllegalStateException("Formulas are not available in streaming mode");
+    }
+
+    @Override
+    public double getNumericCellValue() {
+        switch (cellType) {
+            case CELL_TYPE_BLANK: return 0.0;
+            case CELL_TYPE_NUMERIC: return numericValue;
+            default: throw typeMismatch("numeric");
+        }
+    }
+
+    @Override
+    public Date getDateCellValue() {
+        if (cellType == CELL_TYPE_BLANK) {
+            return null;
+        }
+        return DateUtil.getJavaDate(getNumericCellValue(), row.isDate1904());
+    }
+
+    @Override
+    public RichTextString getRichStringCellValue() {
+        return new HSSFRichTextString(getStringCellValue());
+    }
+
+    @Override
+    public String getStringCellValue() {
+        switch (cellType) {
+            case CELL_TYPE_BLANK: return "";
+            case CELL_TYPE_STRING: return stringValue;
+            default: throw typeMismatch("text");
+        }
+    }
+
+    @Override
+    public boolean getBooleanCellValue() {
+        switch (cellType) {
+            case CELL_TYPE_BLANK: return false;
+            case CELL_TYPE_BOOLEAN: return booleanValue;
+            default: throw typeMismatch("boolean");
+        }
+    }
+
+    @Override
+    public byte getErrorCellValue() {
+        throw typeMismatch("error");
+    }
+
+    @Override
+    public CellStyle getCellStyle() {
+        return null;
+    }
+
+    @Override
+    public Comment getCellComment() {
+        return null;
+    }
+
+    @Override
+    public Hyperlink getHyperlink() {
+        return null;
+    }
+
+    @Override
+    public CellRangeAddress getArrayFormulaRange() {
+        throw new IllegalStateException("Cell is not part of an array formula");
+    }
+
+    @Override
+    public boolean isPartOfArrayFormulaGroup() {
+        return false;
+    }
+
+    private IllegalStateException typeMismatch(String expected) {
+        return new IllegalStateException("Cannot get a " + expected + " value from cell " + columnIndex + " of type " + cellType);
+    }
+
+    @Override
+    public void setCellType(int cellType) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setCellValue(double value) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setCellValue(Date value) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setCellValue(Calendar value) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setCellValue(RichTextString value) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setCellValue(String value) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setCellFormula(String formula) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setCellValue(boolean value) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setCellErrorValue(byte value) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setCellStyle(CellStyle style) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setAsActiveCell() {
+        throw readOnly();
+    }
+
+    @Override
+    public void setCellComment(Comment comment) {
+        throw readOnly();
+    }
+
+    @Override
+    public void removeCellComment() {
+        throw readOnly();
+    }
+
+    @Override
+    public void setHyperlink(Hyperlink link) {
+        throw readOnly();
+    }
+
+    @Override
+    public void removeHyperlink() {
+        throw readOnly();
+    }
+
+    static UnsupportedOperationException readOnly() {
+        return new UnsupportedOperationException("Streaming xlsx rows are read only");
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(stringValue);
+    }
+}
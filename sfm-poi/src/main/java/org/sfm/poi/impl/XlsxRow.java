@@ -0,0 +1,225 @@
+package org.sfm.poi.impl;
+
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * read only row populated from the xlsx sheet events.
+ * The same instance and its cells are reused for every row of the sheet, copy what needs to be retained.
+ */
+public final class XlsxRow implements Row {
+
+    private final boolean date1904;
+
+    private XlsxCell[] cells = new XlsxCell[16];
+    private int rowNum = -1;
+    private int lastCellNum = 0;
+
+    public XlsxRow(boolean date1904) {
+        this.date1904 = date1904;
+    }
+
+    void reset(int rowNum) {
+        for(int i = 0; i < lastCellNum; i++) {
+            XlsxCell cell = cells[i];
+            if (cell != null) {
+                cell.reset();
+            }
+        }
+        this.rowNum = rowNum;
+        this.lastCellNum = 0;
+    }
+
+    XlsxCell cellAt(int index) {
+        if (index >= cells.length) {
+            cells = Arrays.copyOf(cells, Math.max(index + 1, cells.length * 2));
+        }
+        XlsxCell cell = cells[index];
+        if (cell == null) {
+            cell = new XlsxCell(this, index);
+            cells[index] = cell;
+        }
+        if (index >= lastCellNum) {
+            lastCellNum = index + 1;
+        }
+        return cell;
+    }
+
+    boolean isDate1904() {
+        return date1904;
+    }
+
+    @Override
+    public int getRowNum() {
+        return rowNum;
+    }
+
+    @Override
+    public Cell getCell(int index) {
+        if (index < 0 || index >= lastCellNum) {
+            return null;
+        }
+        XlsxCell cell = cells[index];
+        if (cell == null || !cell.isDefined()) {
+            return null;
+        }
+        return cell;
+    }
+
+    @Override
+    public Cell getCell(int index, MissingCellPolicy policy) {
+        Cell cell = getCell(index);
+        if (policy == RETURN_BLANK_AS_NULL && cell != null && cell.getCellType() == Cell.CELL_TYPE_BLANK) {
+            return null;
+        }
+        if (policy == CREATE_NULL_AS_BLANK && cell == null) {
+            throw XlsxCell.readOnly();
+        }
+        return cell;
+    }
+
+    @Override
+    public short getFirstCellNum() {
+        for(int i = 0; i < lastCellNum; i++) {
+            if (getCell(i) != null) {
+                return (short) i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public short getLastCellNum() {
+        return lastCellNum == 0 ? -1 : (short) lastCellNum;
+    }
+
+    @Override
+    public int getPhysicalNumberOfCells() {
+        int n = 0;
+        for(int i = 0; i < lastCellNum; i++) {
+            if (getCell(i) != null) {
+                n++;
+            }
+        }
+        return n;
+    }
+
+    @Override
+    public boolean getZeroHeight() {
+        return false;
+    }
+
+    @Override
+    public short getHeight() {
+        return -1;
+    }
+
+    @Override
+    public float getHeightInPoints() {
+        return -1;
+    }
+
+    @Override
+    public boolean isFormatted() {
+        return false;
+    }
+
+    @Override
+    public CellStyle getRowStyle() {
+        return null;
+    }
+
+    @Override
+    public Sheet getSheet() {
+        return null;
+    }
+
+    @Override
+    public int getOutlineLevel() {
+        return 0;
+    }
+
+    @Override
+    public Iterator<Cell> cellIterator() {
+        return new Iterator<Cell>() {
+            int index = nextDefined(0);
+
+            @Override
+            public boolean hasNext() {
+                return index < lastCellNum;
+            }
+
+            @Override
+            public Cell next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                Cell cell = cells[index];
+                index = nextDefined(index + 1);
+                return cell;
+            }
+
+            private int nextDefined(int i) {
+                while (i < lastCellNum && getCell(i) == null) {
+                    i++;
+                }
+                return i;
+            }
+
+            @Override
+            public void remove() {
+                throw XlsxCell.readOnly();
+            }
+        };
+    }
+
+    @Override
+    public Iterator<Cell> iterator() {
+        return cellIterator();
+    }
+
+    @Override
+    public Cell createCell(int column) {
+        throw XlsxCell.readOnly();
+    }
+
+    @Override
+    public Cell createCell(int column, int type) {
+        throw XlsxCell.readOnly();
+    }
+
+    @Override
+    public void removeCell(Cell cell) {
+        throw XlsxCell.readOnly();
+    }
+
+    @Override
+    public void setRowNum(int rowNum) {
+        throw XlsxCell.readOnly();
+    }
+
+    @Override
+    public void setHeight(short height) {
+        throw XlsxCell.readOnly();
+    }
+
+    @Override
+    public void setZeroHeight(boolean zHeight) {
+        throw XlsxCell.readOnly();
+    }
+
+    @Override
+    public void setHeightInPoints(float height) {
+        throw XlsxCell.readOnly();
+    }
+
+    @Override
+    public void setRowStyle(CellStyle style) {
+        throw XlsxCell.readOnly();
+    }
+}
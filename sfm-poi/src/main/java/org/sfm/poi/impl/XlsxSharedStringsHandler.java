@@ -0,0 +1,53 @@
+package org.sfm.poi.impl;
+
+
+import org.xml.sax.Attributes;
+import org.xml.sax.helpers.DefaultHandler;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * collect the shared strings table, rich text runs are concatenated and phonetic runs ignored.
+ */
+public final class XlsxSharedStringsHandler extends DefaultHandler {
+
+    private final List<String> strings = new ArrayList<String>();
+    private final StringBuilder value = new StringBuilder();
+
+    private boolean inText;
+    private boolean inPhonetic;
+
+    @Override
+    public void startElement(String uri, String localName, String qName, Attributes attributes) {
+        if ("si".equals(localName)) {
+            value.setLength(0);
+        } else if ("rPh".equals(localName)) {
+            inPhonetic = true;
+        } else if ("t".equals(localName) && !inPhonetic) {
+            inText = true;
+        }
+    }
+
+    @Override
+    public void endElement(String uri, String localName, String qName) {
+        if ("si".equals(localName)) {
+            strings.add(value.toString());
+        } else if ("rPh".equals(localName)) {
+            inPhonetic = false;
+        } else if ("t".equals(localName)) {
+            inText = false;
+        }
+    }
+
+    @Override
+    public void characters(char[] ch, int start, int length) {
+        if (inText) {
+            value.append(ch, start, length);
+        }
+    }
+
+    public List<String> getStrings() {
+        return strings;
+    }
+}
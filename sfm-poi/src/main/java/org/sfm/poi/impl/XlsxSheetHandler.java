@@ -0,0 +1,119 @@
+package org.sfm.poi.impl;
+
+
+import org.apache.poi.ss.usermodel.Row;
+import org.sfm.utils.ErrorHelper;
+import org.sfm.utils.RowHandler;
+import org.xml.sax.Attributes;
+import org.xml.sax.helpers.DefaultHandler;
+
+import java.util.List;
+
+/**
+ * turn the sheet xml events into cells of a reused {@link XlsxRow} and call back the handler at the end of each row.
+ */
+public final class XlsxSheetHandler extends DefaultHandler {
+
+    private final List<String> sharedStrings;
+    private final XlsxRow row;
+    private final RowHandler<? super Row> rowHandler;
+
+    private final StringBuilder value = new StringBuilder();
+
+    private int nextRowNum = 0;
+    private int nextColumn = 0;
+    private XlsxCell cell;
+    private String cellType;
+    private boolean inValue;
+    private boolean inPhonetic;
+
+    public XlsxSheetHandler(List<String> sharedStrings, boolean date1904, RowHandler<? super Row> rowHandler) {
+        this.sharedStrings = sharedStrings;
+        this.row = new XlsxRow(date1904);
+        this.rowHandler = rowHandler;
+    }
+
+    @Override
+    public void startElement(String uri, String localName, String qName, Attributes attributes) {
+        if ("c".equals(localName)) {
+            String ref = attributes.getValue("r");
+            int column = ref != null ? columnIndex(ref) : nextColumn;
+            nextColumn = column + 1;
+            cell = row.cellAt(column);
+            cellType = attributes.getValue("t");
+            value.setLength(0);
+        } else if ("v".equals(localName)) {
+            inValue = true;
+        } else if ("t".equals(localName)) {
+            inValue = !inPhonetic;
+        } else if ("rPh".equals(localName)) {
+            inPhonetic = true;
+        } else if ("row".equals(localName)) {
+            String ref = attributes.getValue("r");
+            int rowNum = ref != null ? Integer.parseInt(ref) - 1 : nextRowNum;
+            nextRowNum = rowNum + 1;
+            nextColumn = 0;
+            row.reset(rowNum);
+        }
+    }
+
+    @Override
+    public void endElement(String uri, String localName, String qName) {
+        if ("v".equals(localName) || "t".equals(localName)) {
+            inValue = false;
+        } else if ("rPh".equals(localName)) {
+            inPhonetic = false;
+        } else if ("c".equals(localName)) {
+            setCellValue();
+            cell = null;
+        } else if ("row".equals(localName)) {
+            try {
+                rowHandler.handle(row);
+            } catch (Exception e) {
+                ErrorHelper.rethrow(e);
+            }
+        }
+    }
+
+    @Override
+    public void characters(char[] ch, int start, int length) {
+        if (inValue) {
+            value.append(ch, start, length);
+        }
+    }
+
+    private void setCellValue() {
+        if ("inlineStr".equals(cellType) || "str".equals(cellType)) {
+            cell.setString(value.toString());
+        } else if (value.length() == 0) {
+            cell.setBlank();
+        } else if ("s".equals(cellType)) {
+            cell.setString(sharedStrings.get(Integer.parseInt(value.toString())));
+        } else if ("b".equals(cellType)) {
+            cell.setBoolean(value.toString());
+        } else if ("e".equals(cellType)) {
+            cell.setError(value.toString());
+        } else {
+            cell.setNumeric(value.toString());
+        }
+    }
+
+    /**
+     * @param ref a cell reference like AB12
+     * @return the zero based column index
+     */
+    public static int columnIndex(String ref) {
+        int column = 0;
+        for(int i = 0; i < ref.length(); i++) {
+            char c = ref.charAt(i);
+            if (c >= 'A' && c <= 'Z') {
+                column = column * 26 + (c - 'A' + 1);
+            } else if (c >= 'a' && c <= 'z') {
+                column = column * 26 + (c - 'a' + 1);
+            } else {
+                break;
+            }
+        }
+        return column - 1;
+    }
+}
@@ -0,0 +1,59 @@
+package org.sfm.poi.impl;
+
+
+import org.xml.sax.Attributes;
+import org.xml.sax.helpers.DefaultHandler;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * collect the sheets declared in xl/workbook.xml and resolve their part through xl/_rels/workbook.xml.rels.
+ */
+public final class XlsxWorkbookHandler extends DefaultHandler {
+
+    private static final String RELATIONSHIPS_NS = "http://schemas.openxmlformats.org/officeDocument/2006/relationships";
+
+    private final List<String> sheetNames = new ArrayList<String>();
+    private final List<String> sheetRelIds = new ArrayList<String>();
+    private final Map<String, String> relTargets = new HashMap<String, String>();
+    private boolean date1904;
+
+    @Override
+    public void startElement(String uri, String localName, String qName, Attributes attributes) {
+        if ("sheet".equals(localName)) {
+            sheetNames.add(attributes.getValue("name"));
+            sheetRelIds.add(attributes.getValue(RELATIONSHIPS_NS, "id"));
+        } else if ("workbookPr".equals(localName)) {
+            String value = attributes.getValue("date1904");
+            date1904 = "1".equals(value) || "true".equalsIgnoreCase(value);
+        } else if ("Relationship".equals(localName)) {
+            relTargets.put(attributes.getValue("Id"), attributes.getValue("Target"));
+        }
+    }
+
+    public List<String> getSheetNames() {
+        return sheetNames;
+    }
+
+    public boolean isDate1904() {
+        return date1904;
+    }
+
+    /**
+     * @param sheetIndex the sheet index
+     * @return the zip entry name of the sheet part
+     */
+    public String getSheetEntryName(int sheetIndex) {
+        String target = relTargets.get(sheetRelIds.get(sheetIndex));
+        if (target == null) {
+            return "xl/worksheets/sheet" + (sheetIndex + 1) + ".xml";
+        } else if (target.startsWith("/")) {
+            return target.substring(1);
+        } else {
+            return "xl/" + target;
+        }
+    }
+}
@@ -103,6 +103,25 @@ public class DynamicSheetMapperTest {
         assertDbObject(0, list.get(0));
         assertDbObject(1, list.get(1));
     }
+
+    @Test
+    public void streamOnWorkbookWithDynamicMapperReadsHeaderOfEachSheet() {
+        Workbook wb = dynamicSheet.getWorkbook();
+        Sheet second = wb.createSheet();
+        Row header = second.createRow(0);
+        header.createCell(0).setCellValue("name");
+        header.createCell(1).setCellValue("id");
+        Row row = second.createRow(1);
+        row.createCell(0).setCellValue("other");
+        row.createCell(1).setCellValue(7);
+
+        List<DbObject> list = dynamicSheetMapper.stream(wb).parallel().collect(Collectors.toList());
+        assertEquals(4, list.size());
+        assertDbObject(0, list.get(0));
+        assertDbObject(2, list.get(2));
+        assertEquals(7, list.get(3).getId());
+        assertEquals("other", list.get(3).getName());
+    }
     //IFJAVA8_END
 
     protected void testIteratorHasExpectedValue(Iterator<DbObject> iterator) {
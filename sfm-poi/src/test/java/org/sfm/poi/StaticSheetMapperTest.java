@@ -14,9 +14,11 @@ import java.util.Iterator;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
 //IFJAVA8_START
+import java.util.Spliterator;
 import java.util.stream.Collectors;
 //IFJAVA8_END
 
@@ -77,6 +79,24 @@ public class StaticSheetMapperTest {
     }
 
 
+    @Test
+    public void forEachOnSheetWithFlyweight() {
+        final DbObject target = new DbObject();
+        int row = staticSheetMapper.forEach(staticSheet, target, new RowHandler<DbObject>() {
+            int row = 0;
+
+            @Override
+            public void handle(DbObject dbObject) throws Exception {
+                assertTrue(target == dbObject);
+                assertDbObject(row, dbObject);
+                row++;
+            }
+        }).row;
+
+        assertEquals(3, row);
+    }
+
+
     //IFJAVA8_START
     @Test
     public void streamOnSheetFrom0WithStreamWithStaticMapper() {
@@ -97,8 +117,55 @@ public class StaticSheetMapperTest {
         assertDbObject(1, list.get(1));
     }
 
+    @Test
+    public void parallelStreamOnSheetSplitsRows() {
+        Sheet sheet = new HSSFWorkbook().createSheet();
+        createRows(sheet, 1000);
+
+        Spliterator<DbObject> spliterator = staticSheetMapper.stream(sheet).spliterator();
+        assertEquals(1000, spliterator.estimateSize());
+        Spliterator<DbObject> prefix = spliterator.trySplit();
+        assertNotNull(prefix);
+        assertEquals(500, prefix.estimateSize());
+        assertEquals(500, spliterator.estimateSize());
+
+        List<DbObject> list = staticSheetMapper.stream(sheet).parallel().collect(Collectors.toList());
+        assertEquals(1000, list.size());
+        for(int i = 0; i < list.size(); i++) {
+            assertDbObject(i, list.get(i));
+        }
+    }
+
+    @Test
+    public void parallelStreamOnWorkbookMapsAllSheetsInOrder() {
+        Workbook wb = new HSSFWorkbook();
+        for(int i = 0; i < 5; i++) {
+            createRows(wb.createSheet(), 100);
+        }
+
+        List<DbObject> list = staticSheetMapper.stream(wb).parallel().collect(Collectors.toList());
+        assertEquals(500, list.size());
+        for(int i = 0; i < list.size(); i++) {
+            assertDbObject(i % 100, list.get(i));
+        }
+
+        assertEquals(495, staticSheetMapper.stream(1, wb).count());
+    }
+
     //IFJAVA8_END
 
+    private void createRows(Sheet sheet, int nbRows) {
+        for(int i = 0; i < nbRows; i++) {
+            Row row = sheet.createRow(i);
+            row.createCell(0).setCellValue(i);
+            row.createCell(1).setCellValue("name" + i);
+            row.createCell(2).setCellValue("email" + i);
+            row.createCell(3).setCellValue(new Date(i * 10000));
+            row.createCell(4).setCellValue(DbObject.Type.values()[i % 4].ordinal());
+            row.createCell(5).setCellValue(DbObject.Type.values()[i % 4].name());
+        }
+    }
+
     protected void testIteratorHasExpectedValue(Iterator<DbObject> iterator) {
         assertTrue(iterator.hasNext());
         assertDbObject(0, iterator.next());
@@ -0,0 +1,161 @@
+package org.sfm.poi;
+
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.usermodel.Row;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sfm.beans.DbObject;
+import org.sfm.poi.impl.XlsxSheetHandler;
+import org.sfm.utils.ListCollectorHandler;
+import org.sfm.utils.RowHandler;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.Assert.*;
+
+public class XlsxStreamingReaderTest {
+
+    File file;
+
+    @Before
+    public void setUp() throws IOException {
+        file = File.createTempFile("sfm", ".xlsx");
+
+        StringBuilder sheet = new StringBuilder("<worksheet xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\"><sheetData>");
+        sheet.append("<row r=\"1\"><c r=\"A1\" t=\"inlineStr\"><is><t>id</t></is></c></row>");
+        for(int i = 0; i < 3; i++) {
+            int r = i + 2;
+            sheet.append("<row r=\"").append(r).append("\">")
+                .append("<c r=\"A").append(r).append("\"><v>").append(i).append("</v></c>")
+                .append("<c r=\"B").append(r).append("\" t=\"s\"><v>").append(i).append("</v></c>")
+                .append("<c r=\"C").append(r).append("\" t=\"inlineStr\"><is><t>email").append(i).append("</t></is></c>")
+                .append("<c r=\"D").append(r).append("\" s=\"1\"><v>").append(DateUtil.getExcelDate(new Date(i * 10000))).append("</v></c>")
+                .append("<c r=\"E").append(r).append("\"><v>").append(i).append("</v></c>")
+                .append("<c r=\"F").append(r).append("\" t=\"s\"><v>").append(3 + i).append("</v></c>")
+                .append("</row>");
+        }
+        sheet.append("<row r=\"6\"><c r=\"B6\" t=\"b\"><v>1</v></c><c r=\"D6\"/></row>");
+        sheet.append("</sheetData></worksheet>");
+
+        ZipOutputStream zos = new ZipOutputStream(new FileOutputStream(file));
+        try {
+            entry(zos, "xl/workbook.xml",
+                    "<workbook xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\" " +
+                            "xmlns:r=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships\">" +
+                            "<sheets><sheet name=\"first\" sheetId=\"1\" r:id=\"rId2\"/><sheet name=\"second\" sheetId=\"2\" r:id=\"rId1\"/></sheets>" +
+                            "</workbook>");
+            entry(zos, "xl/_rels/workbook.xml.rels",
+                    "<Relationships xmlns=\"http://schemas.openxmlformats.org/package/2006/relationships\">" +
+                            "<Relationship Id=\"rId1\" Target=\"worksheets/sheet1.xml\"/>" +
+                            "<Relationship Id=\"rId2\" Target=\"/xl/worksheets/sheet2.xml\"/>" +
+                            "</Relationships>");
+            entry(zos, "xl/sharedStrings.xml",
+                    "<sst xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\">" +
+                            "<si><t>name0</t></si><si><r><t>na</t></r><r><t>me1</t></r></si><si><t>name2</t><rPh><t>x</t></rPh></si>" +
+                            "<si><t>type1</t></si><si><t>type2</t></si><si><t>type3</t></si>" +
+                            "</sst>");
+            entry(zos, "xl/worksheets/sheet2.xml", sheet.toString());
+            entry(zos, "xl/worksheets/sheet1.xml",
+                    "<worksheet xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\"><sheetData/></worksheet>");
+        } finally {
+            zos.close();
+        }
+    }
+
+    private void entry(ZipOutputStream zos, String name, String content) throws IOException {
+        zos.putNextEntry(new ZipEntry(name));
+        zos.write(content.getBytes("UTF-8"));
+        zos.closeEntry();
+    }
+
+    @After
+    public void tearDown() {
+        file.delete();
+    }
+
+    @Test
+    public void testMapRowsWithStaticMapper() throws IOException {
+        RowMapper<DbObject> mapper = SheetMapperFactory
+                .newInstance()
+                .newBuilder(DbObject.class)
+                .addMapping("id")
+                .addMapping("name")
+                .addMapping("email")
+                .addMapping("creation_time")
+                .addMapping("type_ordinal")
+                .addMapping("type_name")
+                .mapper();
+
+        XlsxStreamingReader reader = new XlsxStreamingReader(file);
+        try {
+            assertEquals(Arrays.asList("first", "second"), reader.getSheetNames());
+
+            List<DbObject> list = reader.forEach(0, 1, mapper, new ListCollectorHandler<DbObject>()).getList();
+            assertEquals(4, list.size());
+            for(int i = 0; i < 3; i++) {
+                DbObject o = list.get(i);
+                assertEquals(i, o.getId());
+                assertEquals("name" + i, o.getName());
+                assertEquals("email" + i, o.getEmail());
+                assertEquals(i * 10000, o.getCreationTime().getTime());
+                assertEquals(DbObject.Type.values()[i], o.getTypeOrdinal());
+                assertEquals(DbObject.Type.values()[i], o.getTypeName());
+            }
+            DbObject last = list.get(3);
+            assertEquals("TRUE", last.getName());
+            assertNull(last.getEmail());
+            assertNull(last.getCreationTime());
+
+            assertEquals(0, reader.forEach(1, mapper, new ListCollectorHandler<DbObject>()).getList().size());
+        } finally {
+            reader.close();
+        }
+    }
+
+    @Test
+    public void testRowIsReusedAndSparse() throws IOException {
+        XlsxStreamingReader reader = new XlsxStreamingReader(file);
+        try {
+            final int[] rowNums = new int[5];
+            final Row[] rows = new Row[5];
+            reader.forEachRow(0, new RowHandler<Row>() {
+                int i = 0;
+                @Override
+                public void handle(Row row) throws Exception {
+                    rowNums[i] = row.getRowNum();
+                    rows[i] = row;
+                    if (row.getRowNum() == 5) {
+                        assertNull(row.getCell(0));
+                        assertTrue(row.getCell(1).getBooleanCellValue());
+                        assertEquals("", row.getCell(3).getStringCellValue());
+                        assertNull(row.getCell(4));
+                        assertEquals(2, row.getPhysicalNumberOfCells());
+                    } else if (row.getRowNum() == 0) {
+                        assertEquals(1, row.getLastCellNum());
+                    }
+                    i++;
+                }
+            });
+            assertArrayEquals(new int[] {0, 1, 2, 3, 5}, rowNums);
+            assertSame(rows[0], rows[4]);
+        } finally {
+            reader.close();
+        }
+    }
+
+    @Test
+    public void testColumnIndex() {
+        assertEquals(0, XlsxSheetHandler.columnIndex("A1"));
+        assertEquals(25, XlsxSheetHandler.columnIndex("Z3"));
+        assertEquals(26, XlsxSheetHandler.columnIndex("AA10"));
+        assertEquals(27, XlsxSheetHandler.columnIndex("AB"));
+    }
+}
@@ -0,0 +1,113 @@
+package org.sfm.querydsl;
+
+import com.mysema.query.Tuple;
+import com.mysema.query.types.Expression;
+import org.sfm.map.Mapper;
+import org.sfm.reflect.ReflectionService;
+
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Build and cache the {@link Tuple} mappers by target type and projected expressions.
+ * <p>
+ * The mappers are thread safe, a projection built from the factory reuses the mapper of any previous projection
+ * on the same type and expressions. The cache is held by the factory and is not bounded, the factory is meant for a fixed set
+ * of projections and not for expressions built per query with embedded constants.
+ * <pre>
+ * QueryDslMapperFactory factory = QueryDslMapperFactory.newInstance();
+ * query.list(factory.newMappingProjection(DbObject.class, o.id, o.name));
+ * </pre>
+ */
+public final class QueryDslMapperFactory {
+
+	private final ConcurrentMap<TargetExpressionsMapperKey, Mapper<Tuple, ?>> mapperCache = new ConcurrentHashMap<TargetExpressionsMapperKey, Mapper<Tuple, ?>>();
+	private final ReflectionService reflectionService;
+
+	private QueryDslMapperFactory(ReflectionService reflectionService) {
+		this.reflectionService = reflectionService;
+	}
+
+	public static QueryDslMapperFactory newInstance() {
+		return new QueryDslMapperFactory(ReflectionService.newInstance());
+	}
+
+	public static QueryDslMapperFactory newInstance(ReflectionService reflectionService) {
+		return new QueryDslMapperFactory(reflectionService);
+	}
+
+	/**
+	 * @param target the target type
+	 * @param expressions the expressions in the tuple order
+	 * @param <T> the target type
+	 * @return the cached mapper for the target and the expressions
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> Mapper<Tuple, T> getMapper(Type target, Expression<?>... expressions) {
+		TargetExpressionsMapperKey key = new TargetExpressionsMapperKey(target, expressions);
+
+		Mapper<Tuple, T> mapper = (Mapper<Tuple, T>) mapperCache.get(key);
+
+		if (mapper == null) {
+			mapper = buildMapper(target, expressions);
+			Mapper<Tuple, T> previous = (Mapper<Tuple, T>) mapperCache.putIfAbsent(key, mapper);
+			if (previous != null) {
+				mapper = previous;
+			}
+		}
+
+		return mapper;
+	}
+
+	public <T> QueryDslMappingProjection<T> newMappingProjection(Class<T> type, Expression<?>... expressions) {
+		return new QueryDslMappingProjection<T>(this, type, expressions);
+	}
+
+	private <T> Mapper<Tuple, T> buildMapper(Type target, Expression<?>[] expressions) {
+		QueryDslMapperBuilder<T> builder = new QueryDslMapperBuilder<T>(target, reflectionService);
+		for(int i = 0; i < expressions.length; i++) {
+			builder.addMapping(expressions[i], i);
+		}
+		return builder.mapper();
+	}
+
+	private static final class TargetExpressionsMapperKey {
+		private final Type target;
+		private final Expression<?>[] expressions;
+		private final Class<?>[] types;
+
+		private TargetExpressionsMapperKey(Type target, Expression<?>[] expressions) {
+			this.target = target;
+			this.expressions = expressions.clone();
+			this.types = new Class<?>[expressions.length];
+			for(int i = 0; i < expressions.length; i++) {
+				types[i] = expressions[i].getType();
+			}
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			TargetExpressionsMapperKey that = (TargetExpressionsMapperKey) obj;
+			return target.equals(that.target)
+					&& Arrays.equals(types, that.types)
+					&& Arrays.equals(expressions, that.expressions);
+		}
+
+		@Override
+		public int hashCode() {
+			int result = Arrays.hashCode(expressions);
+			result = 31 * result + target.hashCode();
+			return result;
+		}
+
+		@Override
+		public String toString() {
+			return "TargetExpressionsMapperKey{" +
+					"target=" + target +
+					", expressions=" + Arrays.toString(expressions) +
+					'}';
+		}
+	}
+}
@@ -11,6 +11,7 @@ public class QueryDslMappingProjection<T> extends MappingProjection<T> {
 	 */
 	private static final long serialVersionUID = -9015755919878465141L;
 	private final Mapper<Tuple, T> mapper;
+
 	public QueryDslMappingProjection(Class<T> type, Expression<?>... args) {
 		super(type, args);
 		QueryDslMapperBuilder<T> builder =new QueryDslMapperBuilder<T>(type);
@@ -20,6 +21,17 @@ public class QueryDslMappingProjection<T> extends MappingProjection<T> {
 		mapper = builder.mapper();
 	}
 
+	/**
+	 * the mapper is shared with the other projections of the factory on the same type and expressions.
+	 * @param mapperFactory the factory caching the mappers
+	 * @param type the target type
+	 * @param args the expressions
+	 */
+	public QueryDslMappingProjection(QueryDslMapperFactory mapperFactory, Class<T> type, Expression<?>... args) {
+		super(type, args);
+		mapper = mapperFactory.getMapper(type, args);
+	}
+
 
 	@Override
 	protected T map(Tuple row) {
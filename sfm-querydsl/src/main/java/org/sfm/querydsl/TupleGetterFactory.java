@@ -3,9 +3,7 @@ package org.sfm.querydsl;
 import com.mysema.query.Tuple;
 import org.sfm.map.GetterFactory;
 import org.sfm.map.mapper.ColumnDefinition;
-import org.sfm.querydsl.getter.EnumTupleNamedIndexedGetter;
-import org.sfm.querydsl.getter.EnumTupleOrdinalIndexedGetter;
-import org.sfm.querydsl.getter.TupleIndexedGetter;
+import org.sfm.querydsl.getter.*;
 import org.sfm.reflect.Getter;
 import org.sfm.reflect.TypeHelper;
 
@@ -18,6 +16,13 @@ public final class TupleGetterFactory implements GetterFactory<Tuple, TupleEleme
 	public <P> Getter<Tuple, P> newGetter(Type genericType, TupleElementKey key, ColumnDefinition<?, ?> columnDefinition) {
 		
 		Class<Object> propertyClass = TypeHelper.toClass(genericType);
+		if (propertyClass.isPrimitive()) {
+			Getter<Tuple, P> getter = newPrimitiveGetter(propertyClass, key);
+			if (getter != null) {
+				return getter;
+			}
+		}
+
 		if (Enum.class.isAssignableFrom(propertyClass)) {
 			Class<?> columnType = key.getExpression().getType();
 			
@@ -33,4 +38,29 @@ public final class TupleGetterFactory implements GetterFactory<Tuple, TupleEleme
 		
 		return new TupleIndexedGetter<P>( key);
 	}
+
+	@SuppressWarnings("unchecked")
+	private <P> Getter<Tuple, P> newPrimitiveGetter(Class<?> propertyClass, TupleElementKey key) {
+		Class<?> columnType = key.getExpression().getType();
+		if (boolean.class.equals(propertyClass)) {
+			if (Boolean.class.equals(TypeHelper.wrap(columnType))) {
+				return (Getter<Tuple, P>) new BooleanTupleIndexedGetter(key);
+			}
+		} else if (TypeHelper.isNumber(columnType)) {
+			if (int.class.equals(propertyClass)) {
+				return (Getter<Tuple, P>) new IntTupleIndexedGetter(key);
+			} else if (long.class.equals(propertyClass)) {
+				return (Getter<Tuple, P>) new LongTupleIndexedGetter(key);
+			} else if (double.class.equals(propertyClass)) {
+				return (Getter<Tuple, P>) new DoubleTupleIndexedGetter(key);
+			} else if (float.class.equals(propertyClass)) {
+				return (Getter<Tuple, P>) new FloatTupleIndexedGetter(key);
+			} else if (short.class.equals(propertyClass)) {
+				return (Getter<Tuple, P>) new ShortTupleIndexedGetter(key);
+			} else if (byte.class.equals(propertyClass)) {
+				return (Getter<Tuple, P>) new ByteTupleIndexedGetter(key);
+			}
+		}
+		return null;
+	}
 }
@@ -0,0 +1,37 @@
+package org.sfm.querydsl.getter;
+
+import com.mysema.query.Tuple;
+import org.sfm.querydsl.TupleElementKey;
+import org.sfm.reflect.Getter;
+import org.sfm.reflect.primitive.BooleanGetter;
+
+public final class BooleanTupleIndexedGetter implements Getter<Tuple, Boolean>, BooleanGetter<Tuple> {
+
+	private final Class<?> type;
+	private final int index;
+
+	public BooleanTupleIndexedGetter(TupleElementKey key) {
+		this.type = key.getExpression().getType();
+		this.index = key.getIndex();
+	}
+
+	@Override
+	public boolean getBoolean(Tuple target) throws Exception {
+		Object value = target.get(index, type);
+		if (value != null) {
+			return (Boolean) value;
+		} else {
+			return false;
+		}
+	}
+
+	@Override
+	public Boolean get(Tuple target) throws Exception {
+		Object value = target.get(index, type);
+		if (value != null) {
+			return (Boolean) value;
+		} else {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,37 @@
+package org.sfm.querydsl.getter;
+
+import com.mysema.query.Tuple;
+import org.sfm.querydsl.TupleElementKey;
+import org.sfm.reflect.Getter;
+import org.sfm.reflect.primitive.ByteGetter;
+
+public final class ByteTupleIndexedGetter implements Getter<Tuple, Byte>, ByteGetter<Tuple> {
+
+	private final Class<?> type;
+	private final int index;
+
+	public ByteTupleIndexedGetter(TupleElementKey key) {
+		this.type = key.getExpression().getType();
+		this.index = key.getIndex();
+	}
+
+	@Override
+	public byte getByte(Tuple target) throws Exception {
+		Object value = target.get(index, type);
+		if (value != null) {
+			return ((Number) value).byteValue();
+		} else {
+			return (byte) 0;
+		}
+	}
+
+	@Override
+	public Byte get(Tuple target) throws Exception {
+		Object value = target.get(index, type);
+		if (value != null) {
+			return ((Number) value).byteValue();
+		} else {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,37 @@
+package org.sfm.querydsl.getter;
+
+import com.mysema.query.Tuple;
+import org.sfm.querydsl.TupleElementKey;
+import org.sfm.reflect.Getter;
+import org.sfm.reflect.primitive.DoubleGetter;
+
+public final class DoubleTupleIndexedGetter implements Getter<Tuple, Double>, DoubleGetter<Tuple> {
+
+	private final Class<?> type;
+	private final int index;
+
+	public DoubleTupleIndexedGetter(TupleElementKey key) {
+		this.type = key.getExpression().getType();
+		this.index = key.getIndex();
+	}
+
+	@Override
+	public double getDouble(Tuple target) throws Exception {
+		Object value = target.get(index, type);
+		if (value != null) {
+			return ((Number) value).doubleValue();
+		} else {
+			return 0d;
+		}
+	}
+
+	@Override
+	public Double get(Tuple target) throws Exception {
+		Object value = target.get(index, type);
+		if (value != null) {
+			return ((Number) value).doubleValue();
+		} else {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,37 @@
+package org.sfm.querydsl.getter;
+
+import com.mysema.query.Tuple;
+import org.sfm.querydsl.TupleElementKey;
+import org.sfm.reflect.Getter;
+import org.sfm.reflect.primitive.FloatGetter;
+
+public final class FloatTupleIndexedGetter implements Getter<Tuple, Float>, FloatGetter<Tuple> {
+
+	private final Class<?> type;
+	private final int index;
+
+	public FloatTupleIndexedGetter(TupleElementKey key) {
+		this.type = key.getExpression().getType();
+		this.index = key.getIndex();
+	}
+
+	@Override
+	public float getFloat(Tuple target) throws Exception {
+		Object value = target.get(index, type);
+		if (value != null) {
+			return ((Number) value).floatValue();
+		} else {
+			return 0f;
+		}
+	}
+
+	@Override
+	public Float get(Tuple target) throws Exception {
+		Object value = target.get(index, type);
+		if (value != null) {
+			return ((Number) value).floatValue();
+		} else {
+			return null;
+		}
+	}
+}
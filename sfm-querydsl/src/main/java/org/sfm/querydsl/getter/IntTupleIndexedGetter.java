@@ -0,0 +1,37 @@
+package org.sfm.querydsl.getter;
+
+import com.mysema.query.Tuple;
+import org.sfm.querydsl.TupleElementKey;
+import org.sfm.reflect.Getter;
+import org.sfm.reflect.primitive.IntGetter;
+
+public final class IntTupleIndexedGetter implements Getter<Tuple, Integer>, IntGetter<Tuple> {
+
+	private final Class<?> type;
+	private final int index;
+
+	public IntTupleIndexedGetter(TupleElementKey key) {
+		this.type = key.getExpression().getType();
+		this.index = key.getIndex();
+	}
+
+	@Override
+	public int getInt(Tuple target) throws Exception {
+		Object value = target.get(index, type);
+		if (value != null) {
+			return ((Number) value).intValue();
+		} else {
+			return 0;
+		}
+	}
+
+	@Override
+	public Integer get(Tuple target) throws Exception {
+		Object value = target.get(index, type);
+		if (value != null) {
+			return ((Number) value).intValue();
+		} else {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,37 @@
+package org.sfm.querydsl.getter;
+
+import com.mysema.query.Tuple;
+import org.sfm.querydsl.TupleElementKey;
+import org.sfm.reflect.Getter;
+import org.sfm.reflect.primitive.LongGetter;
+
+public final class LongTupleIndexedGetter implements Getter<Tuple, Long>, LongGetter<Tuple> {
+
+	private final Class<?> type;
+	private final int index;
+
+	public LongTupleIndexedGetter(TupleElementKey key) {
+		this.type = key.getExpression().getType();
+		this.index = key.getIndex();
+	}
+
+	@Override
+	public long getLong(Tuple target) throws Exception {
+		Object value = target.get(index, type);
+		if (value != null) {
+			return ((Number) value).longValue();
+		} else {
+			return 0l;
+		}
+	}
+
+	@Override
+	public Long get(Tuple target) throws Exception {
+		Object value = target.get(index, type);
+		if (value != null) {
+			return ((Number) value).longValue();
+		} else {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,37 @@
+package org.sfm.querydsl.getter;
+
+import com.mysema.query.Tuple;
+import org.sfm.querydsl.TupleElementKey;
+import org.sfm.reflect.Getter;
+import org.sfm.reflect.primitive.ShortGetter;
+
+public final class ShortTupleIndexedGetter implements Getter<Tuple, Short>, ShortGetter<Tuple> {
+
+	private final Class<?> type;
+	private final int index;
+
+	public ShortTupleIndexedGetter(TupleElementKey key) {
+		this.type = key.getExpression().getType();
+		this.index = key.getIndex();
+	}
+
+	@Override
+	public short getShort(Tuple target) throws Exception {
+		Object value = target.get(index, type);
+		if (value != null) {
+			return ((Number) value).shortValue();
+		} else {
+			return (short) 0;
+		}
+	}
+
+	@Override
+	public Short get(Tuple target) throws Exception {
+		Object value = target.get(index, type);
+		if (value != null) {
+			return ((Number) value).shortValue();
+		} else {
+			return null;
+		}
+	}
+}
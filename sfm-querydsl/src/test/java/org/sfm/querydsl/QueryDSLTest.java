@@ -1,15 +1,19 @@
 package org.sfm.querydsl;
 
+import com.mysema.query.Tuple;
 import com.mysema.query.sql.HSQLDBTemplates;
 import com.mysema.query.sql.SQLQuery;
 import org.junit.Test;
 import org.sfm.beans.DbObject;
+import org.sfm.map.Mapper;
+import org.sfm.reflect.Getter;
+import org.sfm.reflect.primitive.LongGetter;
 import org.sfm.test.jdbc.DbHelper;
 
 import java.sql.Connection;
 import java.util.List;
 
-import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.*;
 
 public class QueryDSLTest {
 	QTestDbObject qTestDbObject = new QTestDbObject("o");
@@ -33,4 +37,40 @@ public class QueryDSLTest {
 		}
 	}
 
+	@Test
+	public void testMappingProjectionFromFactory()
+			throws Exception {
+		QueryDslMapperFactory factory = QueryDslMapperFactory.newInstance();
+
+		Connection conn = DbHelper.objectDb();
+
+		SQLQuery sqlquery = new SQLQuery(conn, new HSQLDBTemplates());
+		try {
+			List<DbObject> list = sqlquery.from(qTestDbObject).where(qTestDbObject.id.eq(1l)).list(factory.newMappingProjection(DbObject.class, qTestDbObject.id,
+					qTestDbObject.name, qTestDbObject.email, qTestDbObject.creationTime, qTestDbObject.typeName, qTestDbObject.typeOrdinal));
+
+			assertEquals(1, list.size());
+			DbHelper.assertDbObjectMapping(list.get(0));
+		} finally {
+			conn.close();
+		}
+	}
+
+	@Test
+	public void testMapperIsCachedByTypeAndExpressions() {
+		QueryDslMapperFactory factory = QueryDslMapperFactory.newInstance();
+
+		Mapper<Tuple, DbObject> mapper = factory.getMapper(DbObject.class, qTestDbObject.id, qTestDbObject.name);
+
+		assertSame(mapper, factory.getMapper(DbObject.class, new QTestDbObject("o").id, qTestDbObject.name));
+		assertNotSame(mapper, factory.getMapper(DbObject.class, qTestDbObject.name, qTestDbObject.id));
+		assertNotSame(mapper, factory.getMapper(DbObject.class, qTestDbObject.id));
+	}
+
+	@Test
+	public void testPrimitiveGetter() throws Exception {
+		Getter<Tuple, Long> getter = new TupleGetterFactory().newGetter(long.class, new TupleElementKey(qTestDbObject.id, 0), null);
+		assertTrue(getter instanceof LongGetter);
+	}
+
 }
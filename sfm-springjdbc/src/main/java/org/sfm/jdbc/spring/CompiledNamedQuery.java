@@ -0,0 +1,86 @@
+package org.sfm.jdbc.spring;
+
+import org.sfm.map.Mapper;
+import org.sfm.utils.ErrorHelper;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Named query which parameters are resolved once to {@link PreparedStatement} setters.
+ * <p>
+ * Values are bound by index, there is no name lookup per row as with a {@link org.springframework.jdbc.core.namedparam.SqlParameterSource}.
+ * Use it with a {@link JdbcOperations} in place of a NamedParameterJdbcTemplate.
+ * <pre>
+ * CompiledNamedQuery&lt;DbObject&gt; insert =
+ *      JdbcTemplateMapperFactory.newInstance().newCompiledNamedQuery(DbObject.class, "INSERT INTO TEST_DB_OBJECT(id, name) VALUES(:id, :name)");
+ * insert.batchUpdate(jdbcTemplate, objects);
+ * </pre>
+ * @param <T> the type of the parameters object
+ */
+public final class CompiledNamedQuery<T> {
+
+    private final String sql;
+    private final Mapper<T, PreparedStatement> mapper;
+
+    public CompiledNamedQuery(String sql, Mapper<T, PreparedStatement> mapper) {
+        this.sql = sql;
+        this.mapper = mapper;
+    }
+
+    /**
+     * @return the sql with the named parameters replaced by ?
+     */
+    public String getSql() {
+        return sql;
+    }
+
+    /**
+     * bind the value properties to the PreparedStatement.
+     * @param value the value
+     * @param ps the PreparedStatement
+     * @throws SQLException if an error occurs
+     */
+    public void bindTo(T value, PreparedStatement ps) throws SQLException {
+        try {
+            mapper.mapTo(value, ps, null);
+        } catch (Exception e) {
+            ErrorHelper.rethrow(e);
+        }
+    }
+
+    public PreparedStatementSetter newPreparedStatementSetter(final T value) {
+        return new PreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps) throws SQLException {
+                bindTo(value, ps);
+            }
+        };
+    }
+
+    public BatchPreparedStatementSetter newBatchPreparedStatementSetter(final List<? extends T> values) {
+        return new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                bindTo(values.get(i), ps);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return values.size();
+            }
+        };
+    }
+
+    public int update(JdbcOperations jdbcOperations, T value) {
+        return jdbcOperations.update(sql, newPreparedStatementSetter(value));
+    }
+
+    public int[] batchUpdate(JdbcOperations jdbcOperations, List<? extends T> values) {
+        return jdbcOperations.batchUpdate(sql, newBatchPreparedStatementSetter(values));
+    }
+}
@@ -1,24 +1,48 @@
 package org.sfm.jdbc.spring;
 
 import org.sfm.jdbc.Crud;
+import org.sfm.jdbc.impl.ChunkedCrudOperation;
 import org.sfm.utils.RowHandler;
 import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallbackWithoutResult;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+//IFJAVA8_START
+import java.util.stream.Stream;
+//IFJAVA8_END
 
 public class JdbcTemplateCrud<T, K> {
 
     private final JdbcTemplate jdbcTemplate;
     private final Crud<T, K> crud;
+    private final TransactionTemplate chunkTransactionTemplate;
 
     public JdbcTemplateCrud(JdbcTemplate jdbcTemplate, Crud<T, K> crud) {
+        this(jdbcTemplate, crud, null);
+    }
+
+    private JdbcTemplateCrud(JdbcTemplate jdbcTemplate, Crud<T, K> crud, TransactionTemplate chunkTransactionTemplate) {
         this.jdbcTemplate = jdbcTemplate;
         this.crud = crud;
+        this.chunkTransactionTemplate = chunkTransactionTemplate;
+    }
+
+    /**
+     * run each chunk of the chunked operations in its own transaction.
+     * @param transactionManager the transaction manager
+     * @return a new JdbcTemplateCrud committing after each chunk
+     */
+    public JdbcTemplateCrud<T, K> withChunkTransactions(PlatformTransactionManager transactionManager) {
+        return new JdbcTemplateCrud<T, K>(jdbcTemplate, crud, new TransactionTemplate(transactionManager));
     }
 
     /**
@@ -259,4 +283,85 @@ public class JdbcTemplateCrud<T, K> {
             }
         });
     }
+
+    /**
+     * insert the values chunkSize at a time, only one chunk is held in memory.
+     * Each chunk runs in its own transaction if configured with {@link #withChunkTransactions(PlatformTransactionManager)}.
+     * @param values the values
+     * @param chunkSize the number of values per batch
+     * @param progressHandler called back with the number of values processed after each chunk, can be null
+     * @return the number of values processed
+     */
+    public long create(Iterator<? extends T> values, int chunkSize, RowHandler<? super Long> progressHandler) {
+        return executeChunked(ChunkedCrudOperation.CREATE, values, chunkSize, progressHandler);
+    }
+
+    /**
+     * update the values chunkSize at a time.
+     * @param values the values
+     * @param chunkSize the number of values per batch
+     * @param progressHandler called back with the number of values processed after each chunk, can be null
+     * @return the number of values processed
+     * @see #create(Iterator, int, RowHandler)
+     */
+    public long update(Iterator<? extends T> values, int chunkSize, RowHandler<? super Long> progressHandler) {
+        return executeChunked(ChunkedCrudOperation.UPDATE, values, chunkSize, progressHandler);
+    }
+
+    /**
+     * UPSERT only supported on Mysql.
+     * upsert the values chunkSize at a time.
+     * @param values the values
+     * @param chunkSize the number of values per batch
+     * @param progressHandler called back with the number of values processed after each chunk, can be null
+     * @return the number of values processed
+     * @throws UnsupportedOperationException
+     * @see #create(Iterator, int, RowHandler)
+     */
+    public long createOrUpdate(Iterator<? extends T> values, int chunkSize, RowHandler<? super Long> progressHandler) {
+        return executeChunked(ChunkedCrudOperation.CREATE_OR_UPDATE, values, chunkSize, progressHandler);
+    }
+
+    //IFJAVA8_START
+    public long create(Stream<? extends T> values, int chunkSize, RowHandler<? super Long> progressHandler) {
+        return create(values.iterator(), chunkSize, progressHandler);
+    }
+
+    public long update(Stream<? extends T> values, int chunkSize, RowHandler<? super Long> progressHandler) {
+        return update(values.iterator(), chunkSize, progressHandler);
+    }
+
+    public long createOrUpdate(Stream<? extends T> values, int chunkSize, RowHandler<? super Long> progressHandler) {
+        return createOrUpdate(values.iterator(), chunkSize, progressHandler);
+    }
+    //IFJAVA8_END
+
+    private long executeChunked(final ChunkedCrudOperation operation, final Iterator<? extends T> values, final int chunkSize, final RowHandler<? super Long> progressHandler) {
+        if (chunkTransactionTemplate == null) {
+            return jdbcTemplate.execute(new ConnectionCallback<Long>() {
+                @Override
+                public Long doInConnection(Connection connection) throws SQLException, DataAccessException {
+                    return operation.execute(crud, connection, values, chunkSize, false, progressHandler);
+                }
+            });
+        }
+
+        return ChunkedCrudOperation.forEachChunk(values, chunkSize, new RowHandler<List<T>>() {
+            @Override
+            public void handle(final List<T> chunk) throws Exception {
+                chunkTransactionTemplate.execute(new TransactionCallbackWithoutResult() {
+                    @Override
+                    protected void doInTransactionWithoutResult(TransactionStatus status) {
+                        jdbcTemplate.execute(new ConnectionCallback<Object>() {
+                            @Override
+                            public Object doInConnection(Connection connection) throws SQLException, DataAccessException {
+                                operation.apply(crud, connection, chunk);
+                                return null;
+                            }
+                        });
+                    }
+                });
+            }
+        }, progressHandler);
+    }
 }
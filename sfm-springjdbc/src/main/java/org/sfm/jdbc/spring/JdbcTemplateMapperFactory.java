@@ -3,9 +3,14 @@ package org.sfm.jdbc.spring;
 import org.sfm.jdbc.JdbcColumnKey;
 import org.sfm.jdbc.JdbcMapper;
 import org.sfm.jdbc.JdbcMapperFactory;
+import org.sfm.jdbc.PreparedStatementMapperBuilder;
+import org.sfm.jdbc.QueryPreparer;
+import org.sfm.jdbc.impl.PreparedStatementSetterFactory;
+import org.sfm.jdbc.named.NamedSqlQuery;
 import org.sfm.map.MapperBuildingException;
 import org.sfm.map.column.FieldMapperColumnDefinition;
 import org.sfm.map.mapper.AbstractMapperFactory;
+import org.sfm.map.mapper.ConstantTargetFieldMapperFactorImpl;
 import org.sfm.map.mapper.FieldMapperColumnDefinitionProviderImpl;
 import org.sfm.reflect.TypeReference;
 import org.springframework.jdbc.core.PreparedStatementCallback;
@@ -115,6 +120,33 @@ public final class JdbcTemplateMapperFactory extends AbstractMapperFactory<JdbcC
 		return newSqlParameterSourceFactory(target.getType(), parsedSql);
 	}
 
+	/**
+	 * compile the named query against the target type, the parameters are resolved once to PreparedStatement setters.
+	 * @param target the type of the parameters object
+	 * @param namedSql the query with named parameters
+	 * @param <T> the type of the parameters object
+	 * @return the compiled query
+	 * @throws UnsupportedOperationException if a parameter is an array or a List
+	 */
+	public <T> CompiledNamedQuery<T> newCompiledNamedQuery(Class<T> target, String namedSql) {
+		return newCompiledNamedQuery((Type)target, namedSql);
+	}
+
+	public <T> CompiledNamedQuery<T> newCompiledNamedQuery(TypeReference<T> target, String namedSql) {
+		return newCompiledNamedQuery(target.getType(), namedSql);
+	}
+
+	public <T> CompiledNamedQuery<T> newCompiledNamedQuery(Type target, String namedSql) {
+		NamedSqlQuery query = NamedSqlQuery.parse(namedSql);
+		QueryPreparer<T> queryPreparer =
+				new PreparedStatementMapperBuilder<T>(
+						this.<T>getClassMeta(target),
+						mapperConfig(),
+						ConstantTargetFieldMapperFactorImpl.instance(new PreparedStatementSetterFactory()))
+				.to(query);
+		return new CompiledNamedQuery<T>(query.toSqlQuery(), queryPreparer.mapper());
+	}
+
 	public <T, K> JdbcTemplateCrudDSL<T, K> crud(Type target, Type keyTarget) {
 		return new JdbcTemplateCrudDSL<T, K>(this, target, keyTarget);
 	}
@@ -0,0 +1,63 @@
+package org.sfm.jdbc.spring;
+
+import org.junit.Test;
+import org.sfm.beans.DbObject;
+import org.sfm.jdbc.SqlTypeColumnProperty;
+import org.sfm.test.jdbc.DbHelper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class CompiledNamedQueryTest {
+
+    @Test
+    public void testBindByIndex() throws SQLException {
+        CompiledNamedQuery<DbObject> query =
+                JdbcTemplateMapperFactory.newInstance()
+                        .newCompiledNamedQuery(DbObject.class, "UPDATE TEST_DB_OBJECT SET name = :name WHERE id = :id");
+
+        assertEquals("UPDATE TEST_DB_OBJECT SET name = ? WHERE id = ?", query.getSql());
+
+        DbObject dbObject = new DbObject();
+        dbObject.setId(12345);
+        dbObject.setName("name");
+
+        PreparedStatement ps = mock(PreparedStatement.class);
+        query.newBatchPreparedStatementSetter(Arrays.asList(dbObject)).setValues(ps, 0);
+
+        verify(ps).setString(1, "name");
+        verify(ps).setLong(2, 12345l);
+    }
+
+    @Test
+    public void testBatchUpdate() throws SQLException {
+        JdbcTemplate template = new JdbcTemplate(new SingleConnectionDataSource(DbHelper.getDbConnection(DbHelper.TargetDB.HSQLDB), true));
+
+        JdbcTemplateMapperFactory mapperFactory = JdbcTemplateMapperFactory.newInstance()
+                .addColumnProperty("type_ordinal", SqlTypeColumnProperty.of(Types.NUMERIC));
+        CompiledNamedQuery<DbObject> insert =
+                mapperFactory.newCompiledNamedQuery(DbObject.class,
+                        "INSERT INTO TEST_DB_OBJECT(id, name, email, creation_time, type_ordinal, type_name) " +
+                                "VALUES(:id, :name, :email, :creation_time, :type_ordinal, :type_name)");
+
+        List<DbObject> objects = Arrays.asList(DbObject.newInstance(), DbObject.newInstance(), DbObject.newInstance());
+
+        int[] updates = insert.batchUpdate(template, objects);
+        assertEquals(3, updates.length);
+
+        JdbcTemplateCrud<DbObject, Long> crud = mapperFactory.<DbObject, Long>crud(DbObject.class, Long.class).to(template, "TEST_DB_OBJECT");
+        for(DbObject object : objects) {
+            assertEquals(object, crud.read(object.getId()));
+            crud.delete(object.getId());
+        }
+    }
+}
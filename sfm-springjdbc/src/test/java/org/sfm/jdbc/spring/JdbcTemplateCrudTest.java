@@ -7,10 +7,12 @@ import org.sfm.test.jdbc.DbHelper;
 import org.sfm.utils.ListCollectorHandler;
 import org.sfm.utils.RowHandler;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
 import org.springframework.jdbc.datasource.SingleConnectionDataSource;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -134,4 +136,39 @@ public class JdbcTemplateCrudTest {
 
 	}
 
+	@Test
+	public void testChunkedCreateInChunkTransactions() throws SQLException {
+		JdbcTemplateCrud<DbObject, Long> objectCrud =
+				JdbcTemplateMapperFactory.newInstance()
+						.<DbObject, Long>crud(DbObject.class, Long.class).to(template, "TEST_DB_OBJECT")
+						.withChunkTransactions(new DataSourceTransactionManager(template.getDataSource()));
+
+		List<DbObject> objects = new ArrayList<DbObject>();
+		List<Long> keys = new ArrayList<Long>();
+		for(int i = 0; i < 5; i++) {
+			DbObject object = DbObject.newInstance();
+			objects.add(object);
+			keys.add(object.getId());
+		}
+
+		final List<Long> progress = new ArrayList<Long>();
+		long count = objectCrud.create(objects.iterator(), 2, new RowHandler<Long>() {
+			@Override
+			public void handle(Long aLong) throws Exception {
+				progress.add(aLong);
+			}
+		});
+
+		assertEquals(5, count);
+		assertEquals(Arrays.asList(2l, 4l, 5l), progress);
+		assertEquals(5, objectCrud.read(keys, new ListCollectorHandler<DbObject>()).getList().size());
+
+		for(DbObject object : objects) {
+			object.setName("chunked");
+		}
+		assertEquals(5, objectCrud.update(objects.iterator(), 3, null));
+		assertEquals("chunked", objectCrud.read(keys.get(4)).getName());
+
+		objectCrud.delete(keys);
+	}
 }
@@ -5,21 +5,83 @@ import org.sfm.jdbc.JdbcMapper;
 import org.sql2o.ResultSetHandler;
 import org.sql2o.ResultSetHandlerFactory;
 
+import java.lang.ref.WeakReference;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 
 public class SfmResultSetHandlerFactory<T> implements ResultSetHandlerFactory<T> {
     private final DynamicJdbcMapper<T> mapper;
+    private final boolean streaming;
+
+    private volatile MetaDataHandler<T> lastHandler;
 
     public SfmResultSetHandlerFactory(DynamicJdbcMapper<T> mapper) {
+        this(mapper, false);
+    }
+
+    /**
+     * @param mapper the mapper
+     * @param streaming if true the handlers reuse the mapping context from row to row, one handler is created per execution
+     */
+    public SfmResultSetHandlerFactory(DynamicJdbcMapper<T> mapper, boolean streaming) {
         this.mapper = mapper;
+        this.streaming = streaming;
     }
 
     @Override
     public ResultSetHandler<T> newResultSetHandler(ResultSetMetaData resultSetMetaData) throws SQLException {
-        JdbcMapper<T> staticMapper = mapper.getMapper(resultSetMetaData);
-        return new SfmResultSetHandler<T>(staticMapper);
+        MetaDataHandler<T> handler = lastHandler;
+        if (handler == null || !handler.matches(resultSetMetaData)) {
+            handler = new MetaDataHandler<T>(resultSetMetaData, mapper.getMapper(resultSetMetaData));
+            lastHandler = handler;
+        }
+
+        if (streaming) {
+            return new SfmStreamingResultSetHandler<T>(handler.mapper);
+        }
+        return handler.handler;
     }
 
+    /**
+     * handler built for the last metadata shape, the same Query is executed with the same columns.
+     */
+    private static final class MetaDataHandler<T> {
+        private final WeakReference<ResultSetMetaData> metaData;
+        private final String[] labels;
+        private final int[] types;
+        private final JdbcMapper<T> mapper;
+        private final SfmResultSetHandler<T> handler;
 
+        private MetaDataHandler(ResultSetMetaData metaData, JdbcMapper<T> mapper) throws SQLException {
+            this.metaData = new WeakReference<ResultSetMetaData>(metaData);
+            this.labels = new String[metaData.getColumnCount()];
+            this.types = new int[labels.length];
+            for(int i = 0; i < labels.length; i++) {
+                labels[i] = metaData.getColumnLabel(i + 1);
+                types[i] = metaData.getColumnType(i + 1);
+            }
+            this.mapper = mapper;
+            this.handler = new SfmResultSetHandler<T>(mapper);
+        }
+
+        private boolean matches(ResultSetMetaData metaData) throws SQLException {
+            if (this.metaData.get() == metaData) {
+                return true;
+            }
+            if (metaData.getColumnCount() != labels.length) {
+                return false;
+            }
+            for(int i = 0; i < labels.length; i++) {
+                if (!equals(labels[i], metaData.getColumnLabel(i + 1))
+                        || types[i] != metaData.getColumnType(i + 1)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static boolean equals(String label, String other) {
+            return label == null ? other == null : label.equals(other);
+        }
+    }
 }
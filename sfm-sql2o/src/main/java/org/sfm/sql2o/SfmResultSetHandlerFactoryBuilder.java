@@ -6,21 +6,61 @@ import org.sfm.map.mapper.DefaultPropertyNameMatcherFactory;
 import org.sql2o.DefaultResultSetHandlerFactoryBuilder;
 import org.sql2o.ResultSetHandlerFactory;
 
+import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
+/**
+ * sql2o calls newFactory on each query execution, the factories are cached by type and mapping settings
+ * so the mappers are built once per builder.
+ */
 public class SfmResultSetHandlerFactoryBuilder extends DefaultResultSetHandlerFactoryBuilder {
 
+    private final ConcurrentMap<FactoryKey, SfmResultSetHandlerFactory<?>> factoryCache = new ConcurrentHashMap<FactoryKey, SfmResultSetHandlerFactory<?>>();
+
+    private boolean streaming;
+
     public SfmResultSetHandlerFactoryBuilder() {
         super();
     }
 
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    /**
+     * in streaming mode the mapping context is created once per execution and reused for all its rows,
+     * useful with executeAndFetchLazy. Each row is mapped to its own object, the rows are not aggregated
+     * so it is not suitable for the join mappers.
+     * @param streaming the streaming mode
+     */
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
+    @SuppressWarnings("unchecked")
     @Override
     public <E> ResultSetHandlerFactory<E> newFactory(Class<E> aClass) {
 
         boolean exactMatch = !isAutoDeriveColumnNames();
+        Map<String, String> columnMappings = getColumnMappings();
+
+        FactoryKey key = new FactoryKey(aClass, exactMatch, isCaseSensitive(), streaming, columnMappings);
+
+        SfmResultSetHandlerFactory<E> factory = (SfmResultSetHandlerFactory<E>) factoryCache.get(key);
+        if (factory == null) {
+            factory = newSfmFactory(aClass, exactMatch, columnMappings);
+            SfmResultSetHandlerFactory<E> previous = (SfmResultSetHandlerFactory<E>) factoryCache.putIfAbsent(key, factory);
+            if (previous != null) {
+                factory = previous;
+            }
+        }
+        return factory;
+    }
 
+    private <E> SfmResultSetHandlerFactory<E> newSfmFactory(Class<E> aClass, boolean exactMatch, Map<String, String> columnMappings) {
         DefaultPropertyNameMatcherFactory propertyNameMatcherFactory = DefaultPropertyNameMatcherFactory.DEFAULT.exactMatch(exactMatch).caseSensitive(isCaseSensitive());
-        Map<String, String> columnMappings = getColumnMappings();
 
         JdbcMapperFactory jdbcMapperFactory = JdbcMapperFactory
                 .newInstance()
@@ -30,6 +70,42 @@ public class SfmResultSetHandlerFactoryBuilder extends DefaultResultSetHandlerFa
         }
 
         DynamicJdbcMapper<E> dynamicJdbcMapper = (DynamicJdbcMapper<E>)jdbcMapperFactory.newMapper(aClass);
-        return new SfmResultSetHandlerFactory<E>(dynamicJdbcMapper);
+        return new SfmResultSetHandlerFactory<E>(dynamicJdbcMapper, streaming);
+    }
+
+    private static final class FactoryKey {
+        private final Class<?> target;
+        private final boolean exactMatch;
+        private final boolean caseSensitive;
+        private final boolean streaming;
+        private final Map<String, String> columnMappings;
+
+        private FactoryKey(Class<?> target, boolean exactMatch, boolean caseSensitive, boolean streaming, Map<String, String> columnMappings) {
+            this.target = target;
+            this.exactMatch = exactMatch;
+            this.caseSensitive = caseSensitive;
+            this.streaming = streaming;
+            this.columnMappings = columnMappings != null ? new HashMap<String, String>(columnMappings) : null;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            FactoryKey that = (FactoryKey) o;
+            return target == that.target
+                    && exactMatch == that.exactMatch
+                    && caseSensitive == that.caseSensitive
+                    && streaming == that.streaming
+                    && (columnMappings == null ? that.columnMappings == null : columnMappings.equals(that.columnMappings));
+        }
+
+        @Override
+        public int hashCode() {
+            int result = target.hashCode();
+            result = 31 * result + (exactMatch ? 1 : 0);
+            result = 31 * result + (caseSensitive ? 1 : 0);
+            result = 31 * result + (streaming ? 1 : 0);
+            result = 31 * result + (columnMappings != null ? columnMappings.hashCode() : 0);
+            return result;
+        }
     }
 }
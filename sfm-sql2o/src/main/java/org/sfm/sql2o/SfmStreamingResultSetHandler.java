@@ -0,0 +1,32 @@
+package org.sfm.sql2o;
+
+import org.sfm.jdbc.JdbcMapper;
+import org.sfm.map.MappingContext;
+import org.sql2o.ResultSetHandler;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * ResultSetHandler that reuses the same MappingContext for all the rows of a query execution,
+ * one instance is created per execution.
+ */
+public final class SfmStreamingResultSetHandler<T> implements ResultSetHandler<T> {
+    private final JdbcMapper<T> mapper;
+    private MappingContext<? super ResultSet> mappingContext;
+
+    public SfmStreamingResultSetHandler(JdbcMapper<T> mapper) {
+        this.mapper = mapper;
+    }
+
+    @Override
+    public T handle(ResultSet resultSet) throws SQLException {
+        if (mappingContext == null) {
+            mappingContext = mapper.newMappingContext(resultSet);
+        } else {
+            // each row is mapped to its own object
+            mappingContext.markAsBroken();
+        }
+        return mapper.map(resultSet, mappingContext);
+    }
+}
@@ -5,14 +5,22 @@ import org.sfm.beans.DbObject;
 import org.sfm.test.jdbc.DbHelper;
 import org.springframework.jdbc.datasource.SingleConnectionDataSource;
 import org.sql2o.Query;
+import org.sql2o.ResultSetHandler;
+import org.sql2o.ResultSetHandlerFactory;
+import org.sql2o.ResultSetIterable;
 import org.sql2o.Sql2o;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.text.ParseException;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 
 public class Sql2oIntegrationTest {
 
@@ -37,4 +45,63 @@ public class Sql2oIntegrationTest {
             connection.close();
         }
     }
+
+    @Test
+    public void testFactoryAndHandlerAreReused() throws SQLException {
+        Connection connection = DbHelper.objectDb();
+        try {
+            SfmResultSetHandlerFactoryBuilder builder = new SfmResultSetHandlerFactoryBuilder();
+            builder.setAutoDeriveColumnNames(true);
+
+            ResultSetHandlerFactory<DbObject> factory = builder.newFactory(DbObject.class);
+            assertSame(factory, builder.newFactory(DbObject.class));
+
+            builder.setCaseSensitive(!builder.isCaseSensitive());
+            assertNotSame(factory, builder.newFactory(DbObject.class));
+
+            PreparedStatement ps = connection.prepareStatement(DbHelper.TEST_DB_OBJECT_QUERY);
+            try {
+                ResultSetMetaData metaData = ps.executeQuery().getMetaData();
+                ResultSetHandler<DbObject> handler = factory.newResultSetHandler(metaData);
+                assertSame(handler, factory.newResultSetHandler(metaData));
+                assertSame(handler, factory.newResultSetHandler(ps.executeQuery().getMetaData()));
+            } finally {
+                ps.close();
+            }
+        } finally {
+            connection.close();
+        }
+    }
+
+    @Test
+    public void testSql2OStreamingLazy() throws SQLException, ParseException {
+        Connection connection = DbHelper.objectDb();
+        try {
+            SingleConnectionDataSource scds = new SingleConnectionDataSource(connection, true);
+            Sql2o sql2o = new Sql2o(scds);
+
+            SfmResultSetHandlerFactoryBuilder builder = new SfmResultSetHandlerFactoryBuilder();
+            builder.setStreaming(true);
+
+            Query query = sql2o.open().createQuery(DbHelper.TEST_DB_OBJECT_QUERY);
+            query.setAutoDeriveColumnNames(true);
+            query.setResultSetHandlerFactoryBuilder(builder);
+
+            for(int i = 0; i < 2; i++) {
+                ResultSetIterable<DbObject> iterable = query.executeAndFetchLazy(DbObject.class);
+                try {
+                    List<DbObject> dbObjects = new ArrayList<DbObject>();
+                    for (DbObject o : iterable) {
+                        dbObjects.add(o);
+                    }
+                    assertEquals(1, dbObjects.size());
+                    DbHelper.assertDbObjectMapping(dbObjects.get(0));
+                } finally {
+                    iterable.close();
+                }
+            }
+        } finally {
+            connection.close();
+        }
+    }
 }
@@ -28,6 +28,14 @@ public class CloseableCsvReader implements Closeable, Iterable<String[]> {
         return delegate.parseRow(cellConsumer);
     }
 
+    public CsvPosition position() {
+        return delegate.position();
+    }
+
+    public void resume(CsvPosition position) throws IOException {
+        delegate.resume(position);
+    }
+
     public void skipRows(int n) throws IOException {
         delegate.skipRows(n);
     }
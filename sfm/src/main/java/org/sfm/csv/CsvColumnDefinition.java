@@ -120,6 +120,10 @@ public class CsvColumnDefinition extends ColumnDefinition<CsvColumnKey, CsvColum
         return identity().addTimeZone(timeZone);
     }
 
+    public static CsvColumnDefinition internStringDefinition() {
+        return identity().addInternString();
+    }
+
     public static CsvColumnDefinition ignoreDefinition() {
         return identity().addIgnore();
     }
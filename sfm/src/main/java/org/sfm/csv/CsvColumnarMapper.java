@@ -0,0 +1,101 @@
+package org.sfm.csv;
+
+import org.sfm.csv.impl.ColumnarBatchCellConsumer;
+import org.sfm.csv.mapper.CellSetter;
+import org.sfm.map.MappingException;
+import org.sfm.map.RowHandlerErrorHandler;
+import org.sfm.map.columnar.ColumnarBatch;
+import org.sfm.utils.RowHandler;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * CsvColumnarMapper will map the rows of a csv into the primitive arrays of a {@link ColumnarBatch}.
+ * <p>
+ * Numbers are parsed from the char buffer of the parser straight into the arrays, there is no String nor boxed value
+ * allocated for primitive columns.
+ * <p>
+ * CsvColumnarMapper are instantiable via {@link org.sfm.csv.CsvMapperFactory#newColumnarBuilder()}.
+ * <p>
+ * <code>
+ *     ColumnarBatch batch = mapper.newBatch(1024);<br>
+ *     mapper.forEachBatch(reader, batch, new RowHandler&lt;ColumnarBatch&gt;() {<br>
+ *     &nbsp;&nbsp;&nbsp;&nbsp;public void handle(ColumnarBatch batch) {<br>
+ *     &nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;double[] prices = batch.getDoubles(1);<br>
+ *     &nbsp;&nbsp;&nbsp;&nbsp;}<br>
+ *     });
+ * </code>
+ */
+public final class CsvColumnarMapper {
+
+    private final CellSetter<ColumnarBatch>[] setters;
+    private final Class<?>[] columnTypes;
+    private final ParsingContextFactory parsingContextFactory;
+    private final RowHandlerErrorHandler errorHandler;
+
+    public CsvColumnarMapper(CellSetter<ColumnarBatch>[] setters, Class<?>[] columnTypes,
+                             ParsingContextFactory parsingContextFactory, RowHandlerErrorHandler errorHandler) {
+        this.setters = setters;
+        this.columnTypes = columnTypes;
+        this.parsingContextFactory = parsingContextFactory;
+        this.errorHandler = errorHandler;
+    }
+
+    /**
+     * @param capacity the max number of rows per batch
+     * @return a new batch
+     */
+    public ColumnarBatch newBatch(int capacity) {
+        return new ColumnarBatch(capacity, columnTypes);
+    }
+
+    /**
+     * clear the batch and fill it with the next rows of the csvReader.
+     * @param csvReader the csvReader
+     * @param batch the batch
+     * @return the number of rows in the batch, 0 if the csvReader is exhausted
+     * @throws IOException if an io error occurs
+     * @throws MappingException if an error occurs during the mapping
+     */
+    public int fill(CsvReader csvReader, ColumnarBatch batch) throws IOException, MappingException {
+        batch.clear();
+        ColumnarBatchCellConsumer cellConsumer = newCellConsumer(batch, null);
+        while(!batch.isFull() && csvReader.parseRow(cellConsumer)) {
+        }
+        return batch.size();
+    }
+
+    /**
+     * Parse the csv and call back the handler each time the batch is full and for the last rows.
+     * The same batch is passed on each call.
+     * @param reader the reader
+     * @param batch the batch
+     * @param handler the handler
+     * @param <H> the handler type
+     * @return the handler
+     * @throws IOException if an io error occurs
+     * @throws MappingException if an error occurs during the mapping
+     */
+    public <H extends RowHandler<? super ColumnarBatch>> H forEachBatch(Reader reader, ColumnarBatch batch, H handler) throws IOException, MappingException {
+        return forEachBatch(CsvParser.reader(reader), batch, handler);
+    }
+
+    public <H extends RowHandler<? super ColumnarBatch>> H forEachBatch(CsvReader csvReader, ColumnarBatch batch, H handler) throws IOException, MappingException {
+        batch.clear();
+        csvReader.parseAll(newCellConsumer(batch, handler));
+        return handler;
+    }
+
+    private ColumnarBatchCellConsumer newCellConsumer(ColumnarBatch batch, RowHandler<? super ColumnarBatch> handler) {
+        return new ColumnarBatchCellConsumer(setters, batch, parsingContextFactory.newContext(), handler, errorHandler);
+    }
+
+    @Override
+    public String toString() {
+        return "CsvColumnarMapper{" +
+                "setters=" + Arrays.toString(setters) +
+                '}';
+    }
+}
@@ -0,0 +1,148 @@
+package org.sfm.csv;
+
+import org.sfm.csv.impl.CellSetterFactory;
+import org.sfm.csv.impl.CellValueReaderFactoryImpl;
+import org.sfm.csv.impl.CsvColumnDefinitionProviderImpl;
+import org.sfm.csv.impl.cellreader.CellSetterImpl;
+import org.sfm.csv.mapper.CellSetter;
+import org.sfm.map.MapperBuildingException;
+import org.sfm.map.RowHandlerErrorHandler;
+import org.sfm.map.column.DefaultDateFormatProperty;
+import org.sfm.map.columnar.ColumnarBatch;
+import org.sfm.map.columnar.ColumnarMapperBuilder;
+import org.sfm.map.error.RethrowMapperBuilderErrorHandler;
+import org.sfm.map.error.RethrowRowHandlerErrorHandler;
+import org.sfm.map.mapper.ColumnDefinitionProvider;
+import org.sfm.reflect.Setter;
+import org.sfm.utils.ErrorDoc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builder for {@link CsvColumnarMapper}.
+ * <p>
+ * The columns are added in the order of the batch columns, the csv column index defaults to the order of the call.
+ * <p>
+ * <code>
+ *     CsvColumnarMapper mapper = CsvMapperFactory.newInstance().newColumnarBuilder()<br>
+ *     &nbsp;&nbsp;&nbsp;&nbsp;.addColumn("id", long.class)<br>
+ *     &nbsp;&nbsp;&nbsp;&nbsp;.addColumn("price", double.class)<br>
+ *     &nbsp;&nbsp;&nbsp;&nbsp;.mapper();
+ * </code>
+ */
+public final class CsvColumnarMapperBuilder {
+
+    private final CellValueReaderFactory cellValueReaderFactory;
+    private final ColumnDefinitionProvider<CsvColumnDefinition, CsvColumnKey> columnDefinitions;
+    private final String defaultDateFormat;
+    private final RowHandlerErrorHandler errorHandler;
+    private final CellSetterFactory cellSetterFactory;
+
+    private final List<CsvColumnKey> keys = new ArrayList<CsvColumnKey>();
+    private final List<Class<?>> columnTypes = new ArrayList<Class<?>>();
+    private final List<CsvColumnDefinition> definitions = new ArrayList<CsvColumnDefinition>();
+
+    private int calculatedIndex = 0;
+
+    public CsvColumnarMapperBuilder() {
+        this(new CellValueReaderFactoryImpl(),
+                new CsvColumnDefinitionProviderImpl(),
+                "yyyy-MM-dd HH:mm:ss",
+                new RethrowRowHandlerErrorHandler());
+    }
+
+    public CsvColumnarMapperBuilder(CellValueReaderFactory cellValueReaderFactory,
+                                    ColumnDefinitionProvider<CsvColumnDefinition, CsvColumnKey> columnDefinitions,
+                                    String defaultDateFormat,
+                                    RowHandlerErrorHandler errorHandler) {
+        this.cellValueReaderFactory = cellValueReaderFactory;
+        this.columnDefinitions = columnDefinitions;
+        this.defaultDateFormat = defaultDateFormat;
+        this.errorHandler = errorHandler;
+        this.cellSetterFactory = new CellSetterFactory(cellValueReaderFactory, new RethrowMapperBuilderErrorHandler());
+    }
+
+    /**
+     * add a column read from the next csv column.
+     * @param column the column name
+     * @param type the batch column type
+     * @return the current builder
+     */
+    public CsvColumnarMapperBuilder addColumn(String column, Class<?> type) {
+        return addColumn(column, calculatedIndex, type);
+    }
+
+    public CsvColumnarMapperBuilder addColumn(String column, int index, Class<?> type) {
+        return addColumn(new CsvColumnKey(column, index), type, CsvColumnDefinition.identity());
+    }
+
+    public CsvColumnarMapperBuilder addColumn(String column, Class<?> type, CsvColumnDefinition columnDefinition) {
+        return addColumn(new CsvColumnKey(column, calculatedIndex), type, columnDefinition);
+    }
+
+    public CsvColumnarMapperBuilder addColumn(CsvColumnKey key, Class<?> type, CsvColumnDefinition columnDefinition) {
+        for(CsvColumnKey k : keys) {
+            if (k.getIndex() == key.getIndex()) {
+                throw new MapperBuildingException("Column index " + key.getIndex() + " already mapped by " + k);
+            }
+        }
+        keys.add(key);
+        columnTypes.add(type);
+        definitions.add(CsvColumnDefinition.compose(getColumnDefinition(key), columnDefinition));
+        calculatedIndex = key.getIndex() + 1;
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    public CsvColumnarMapper mapper() {
+        int nbCells = 0;
+        for(CsvColumnKey key : keys) {
+            nbCells = Math.max(nbCells, key.getIndex() + 1);
+        }
+
+        ParsingContextFactoryBuilder parsingContextFactoryBuilder = new ParsingContextFactoryBuilder(nbCells);
+        CellSetter<ColumnarBatch>[] setters = new CellSetter[nbCells];
+
+        for(int i = 0; i < keys.size(); i++) {
+            CsvColumnKey key = keys.get(i);
+            setters[key.getIndex()] =
+                    newCellSetter(key, columnTypes.get(i), i, definitions.get(i), parsingContextFactoryBuilder);
+        }
+
+        return new CsvColumnarMapper(setters,
+                columnTypes.toArray(new Class<?>[0]),
+                parsingContextFactoryBuilder.newFactory(),
+                errorHandler);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <P> CellSetter<ColumnarBatch> newCellSetter(CsvColumnKey key, Class<?> type, int column, CsvColumnDefinition columnDefinition, ParsingContextFactoryBuilder parsingContextFactoryBuilder) {
+        CellValueReader<P> reader = null;
+        if (columnDefinition.hasCustomSource()) {
+            reader = (CellValueReader<P>) columnDefinition.getCustomReader();
+        }
+        if (reader == null && columnDefinition.hasCustomReaderFactory()) {
+            reader = columnDefinition.getCustomCellValueReaderFactory().getReader(type, key.getIndex(), columnDefinition, parsingContextFactoryBuilder);
+        }
+        if (reader == null) {
+            reader = cellValueReaderFactory.getReader(type, key.getIndex(), columnDefinition, parsingContextFactoryBuilder);
+        }
+        if (reader == null) {
+            throw new MapperBuildingException("Could not find reader for " + key + " type " + type
+                    + " See " + ErrorDoc.toUrl("CSFM_GETTER_NOT_FOUND"));
+        }
+
+        Setter<ColumnarBatch, P> setter = (Setter<ColumnarBatch, P>) ColumnarMapperBuilder.newColumnSetter(type, column);
+        if (type.isPrimitive()) {
+            return cellSetterFactory.getPrimitiveCellSetter(type, reader, setter);
+        } else {
+            return new CellSetterImpl<ColumnarBatch, P>(reader, setter);
+        }
+    }
+
+    private CsvColumnDefinition getColumnDefinition(CsvColumnKey key) {
+        CsvColumnDefinition columnDefinition = columnDefinitions.getColumnDefinition(key);
+        return CsvColumnDefinition.compose(CsvColumnDefinition.of(new DefaultDateFormatProperty(defaultDateFormat)), columnDefinition);
+    }
+}
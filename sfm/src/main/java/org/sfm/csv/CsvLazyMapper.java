@@ -0,0 +1,64 @@
+package org.sfm.csv;
+
+import org.sfm.csv.impl.CsvRowSnapshot;
+import org.sfm.csv.impl.LazyCellConsumer;
+import org.sfm.map.MappingException;
+import org.sfm.map.RowHandlerErrorHandler;
+import org.sfm.map.lazy.LazyObjectFactory;
+import org.sfm.utils.RowHandler;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * CsvLazyMapper will map the rows of a csv to proxies of an interface.
+ * <p>
+ * The chars of the mapped cells are copied from the parser buffer, each property is parsed on first access
+ * and memoized. It is useful when most of the rows are filtered out after looking at one or two properties.
+ * <p>
+ * The proxies of a same forEach call share a {@link ParsingContext}, they should be accessed from a single thread.
+ * <p>
+ * CsvLazyMapper are instantiable via {@link org.sfm.csv.CsvMapperFactory#newLazyBuilder(Class)}.
+ *
+ * @param <T> the interface type
+ */
+public final class CsvLazyMapper<T> {
+
+    private final LazyObjectFactory<CsvRowSnapshot, T> factory;
+    private final boolean[] mappedCells;
+    private final ParsingContextFactory parsingContextFactory;
+    private final RowHandlerErrorHandler errorHandler;
+
+    public CsvLazyMapper(LazyObjectFactory<CsvRowSnapshot, T> factory, boolean[] mappedCells,
+                         ParsingContextFactory parsingContextFactory, RowHandlerErrorHandler errorHandler) {
+        this.factory = factory;
+        this.mappedCells = mappedCells;
+        this.parsingContextFactory = parsingContextFactory;
+        this.errorHandler = errorHandler;
+    }
+
+    /**
+     * Parse the csv and call back the handler with a proxy for each row.
+     * @param reader the reader
+     * @param handler the handler
+     * @param <H> the handler type
+     * @return the handler
+     * @throws IOException if an io error occurs
+     * @throws MappingException if an error occurs during the mapping
+     */
+    public <H extends RowHandler<? super T>> H forEach(Reader reader, H handler) throws IOException, MappingException {
+        return forEach(CsvParser.reader(reader), handler);
+    }
+
+    public <H extends RowHandler<? super T>> H forEach(CsvReader csvReader, H handler) throws IOException, MappingException {
+        csvReader.parseAll(new LazyCellConsumer<T>(factory, mappedCells, parsingContextFactory.newContext(), handler, errorHandler));
+        return handler;
+    }
+
+    @Override
+    public String toString() {
+        return "CsvLazyMapper{" +
+                "factory=" + factory +
+                '}';
+    }
+}
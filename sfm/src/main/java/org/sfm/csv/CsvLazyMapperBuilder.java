@@ -0,0 +1,143 @@
+package org.sfm.csv;
+
+import org.sfm.csv.impl.CellValueReaderFactoryImpl;
+import org.sfm.csv.impl.CsvColumnDefinitionProviderImpl;
+import org.sfm.csv.impl.CsvRowSnapshot;
+import org.sfm.csv.impl.CsvRowSnapshotGetter;
+import org.sfm.map.MapperBuildingException;
+import org.sfm.map.MapperConfig;
+import org.sfm.map.column.DefaultDateFormatProperty;
+import org.sfm.map.lazy.LazyObjectFactoryBuilder;
+import org.sfm.reflect.meta.ClassMeta;
+import org.sfm.reflect.meta.PropertyMeta;
+import org.sfm.utils.ErrorDoc;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builder for {@link CsvLazyMapper}.
+ * <p>
+ * The target must be an interface, the columns are matched against its getter methods,
+ * the csv column index defaults to the order of the call.
+ *
+ * @param <T> the interface type
+ */
+public final class CsvLazyMapperBuilder<T> {
+
+    private final LazyObjectFactoryBuilder<CsvRowSnapshot, T> builder;
+    private final MapperConfig<CsvColumnKey, CsvColumnDefinition> mapperConfig;
+    private final CellValueReaderFactory cellValueReaderFactory;
+    private final String defaultDateFormat;
+
+    private final List<CsvColumnKey> keys = new ArrayList<CsvColumnKey>();
+    private final List<CsvColumnDefinition> definitions = new ArrayList<CsvColumnDefinition>();
+
+    private int calculatedIndex = 0;
+
+    public CsvLazyMapperBuilder(ClassMeta<T> classMeta) {
+        this(classMeta, MapperConfig.<CsvColumnKey, CsvColumnDefinition>config(new CsvColumnDefinitionProviderImpl()),
+                new CellValueReaderFactoryImpl(), "yyyy-MM-dd HH:mm:ss");
+    }
+
+    public CsvLazyMapperBuilder(ClassMeta<T> classMeta,
+                                MapperConfig<CsvColumnKey, CsvColumnDefinition> mapperConfig,
+                                CellValueReaderFactory cellValueReaderFactory,
+                                String defaultDateFormat) {
+        this.builder = new LazyObjectFactoryBuilder<CsvRowSnapshot, T>(classMeta,
+                mapperConfig.propertyNameMatcherFactory(),
+                mapperConfig.mapperBuilderErrorHandler());
+        this.mapperConfig = mapperConfig;
+        this.cellValueReaderFactory = cellValueReaderFactory;
+        this.defaultDateFormat = defaultDateFormat;
+    }
+
+    /**
+     * add a mapping for the next csv column.
+     * @param column the column name
+     * @return the current builder
+     */
+    public CsvLazyMapperBuilder<T> addMapping(String column) {
+        return addMapping(column, calculatedIndex);
+    }
+
+    public CsvLazyMapperBuilder<T> addMapping(String column, int index) {
+        return addMapping(new CsvColumnKey(column, index), CsvColumnDefinition.identity());
+    }
+
+    public CsvLazyMapperBuilder<T> addMapping(String column, CsvColumnDefinition columnDefinition) {
+        return addMapping(new CsvColumnKey(column, calculatedIndex), columnDefinition);
+    }
+
+    public CsvLazyMapperBuilder<T> addMapping(CsvColumnKey key, CsvColumnDefinition columnDefinition) {
+        keys.add(key);
+        definitions.add(CsvColumnDefinition.compose(getColumnDefinition(key), columnDefinition));
+        calculatedIndex = key.getIndex() + 1;
+        return this;
+    }
+
+    /**
+     * add a mapping for each header, in column order.
+     * @param headers the headers
+     * @return the current builder
+     */
+    public CsvLazyMapperBuilder<T> addMappings(String... headers) {
+        for(String header : headers) {
+            addMapping(header);
+        }
+        return this;
+    }
+
+    public CsvLazyMapper<T> mapper() {
+        int nbCells = 0;
+        for(CsvColumnKey key : keys) {
+            nbCells = Math.max(nbCells, key.getIndex() + 1);
+        }
+
+        ParsingContextFactoryBuilder parsingContextFactoryBuilder = new ParsingContextFactoryBuilder(nbCells);
+        boolean[] mappedCells = new boolean[nbCells];
+
+        for(int i = 0; i < keys.size(); i++) {
+            CsvColumnKey key = keys.get(i);
+            CsvColumnDefinition columnDefinition = definitions.get(i);
+            if (columnDefinition.ignore()) {
+                continue;
+            }
+            PropertyMeta<T, Object> property = builder.findProperty(columnDefinition.rename(key));
+            if (property != null) {
+                CellValueReader<?> reader = getReader(key, property.getPropertyType(), columnDefinition, parsingContextFactoryBuilder);
+                builder.addProperty(property, new CsvRowSnapshotGetter<Object>(key.getIndex(), reader));
+                mappedCells[key.getIndex()] = true;
+            }
+        }
+
+        return new CsvLazyMapper<T>(builder.newFactory(),
+                mappedCells,
+                parsingContextFactoryBuilder.newFactory(),
+                mapperConfig.rowHandlerErrorHandler());
+    }
+
+    private CellValueReader<?> getReader(CsvColumnKey key, Type type, CsvColumnDefinition columnDefinition, ParsingContextFactoryBuilder parsingContextFactoryBuilder) {
+        CellValueReader<?> reader = null;
+        if (columnDefinition.hasCustomSource()) {
+            reader = columnDefinition.getCustomReader();
+        }
+        if (reader == null && columnDefinition.hasCustomReaderFactory()) {
+            reader = columnDefinition.getCustomCellValueReaderFactory().getReader(type, key.getIndex(), columnDefinition, parsingContextFactoryBuilder);
+        }
+        if (reader == null) {
+            reader = cellValueReaderFactory.getReader(type, key.getIndex(), columnDefinition, parsingContextFactoryBuilder);
+        }
+        if (reader == null) {
+            throw new MapperBuildingException("Could not find reader for " + key + " type " + type
+                    + " See " + ErrorDoc.toUrl("CSFM_GETTER_NOT_FOUND"));
+        }
+        return reader;
+    }
+
+    private CsvColumnDefinition getColumnDefinition(CsvColumnKey key) {
+        CsvColumnDefinition columnDefinition = mapperConfig.columnDefinitions().getColumnDefinition(key);
+        return CsvColumnDefinition.compose(CsvColumnDefinition.of(new DefaultDateFormatProperty(defaultDateFormat)), columnDefinition);
+    }
+}
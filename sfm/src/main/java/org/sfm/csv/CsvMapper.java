@@ -1,5 +1,6 @@
 package org.sfm.csv;
 
+import org.sfm.csv.parser.CellConsumer;
 import org.sfm.map.MappingException;
 import org.sfm.utils.RowHandler;
 
@@ -83,6 +84,39 @@ public interface CsvMapper<T> {
 	<H extends RowHandler<? super T>> H forEach(CsvReader reader, H handle) throws IOException, MappingException;
 
 
+	/**
+	 * Will map each row of the content of reader to the same target instance and will pass it to the handle via the {@link RowHandler}.handler(T t) call back.
+	 * <p>
+	 * No instance of T is allocated per row, use a {@link org.sfm.utils.CopyRowHandler} to retain the rows.
+	 * The cells missing from a row keep the value of the previous row.
+	 * The mapper must not be a join mapper and each property needs to be settable on the target.
+	 *
+	 * @param reader the reader
+	 * @param target the instance of T reused for each row
+	 * @param handle the callback instance
+	 * @param <H> the row handler type
+	 * @return the callback instance
+	 * @throws IOException if an io error occurs
+	 * @throws MappingException if an mapping error occurs
+	 */
+	<H extends RowHandler<? super T>> H forEach(Reader reader, T target, H handle) throws IOException, MappingException;
+
+
+	/**
+	 * Will map each row of the content of reader to the same target instance and will pass it to the handle via the {@link RowHandler}.handler(T t) call back.
+	 *
+	 * @param reader the reader
+	 * @param target the instance of T reused for each row
+	 * @param handle the callback instance
+	 * @param <H> the row handler type
+	 * @return the callback instance
+	 * @throws IOException if an io error occurs
+	 * @throws MappingException if an mapping error occurs
+	 * @see #forEach(Reader, Object, RowHandler)
+	 */
+	<H extends RowHandler<? super T>> H forEach(CsvReader reader, T target, H handle) throws IOException, MappingException;
+
+
 	/**
 	 * Will map each row of the content of reader, starting at rowStart, to an object of type T and will pass that object to the handle via the {@link RowHandler}.handler(T t) call back.
 	 * 
@@ -155,6 +189,15 @@ public interface CsvMapper<T> {
 	 */
 	Iterator<T> iterator(Reader reader, int skip) throws IOException;
 
+	/**
+	 * Will return a cell consumer that maps the rows it is fed to objects of type T and pass them to the handle.
+	 * The consumer can be driven by a {@link CsvPushParser}, a mapper that needs the headers reads them from the first row.
+	 *
+	 * @param handle the callback instance
+	 * @return the cell consumer
+	 */
+	CellConsumer newCellConsumer(RowHandler<? super T> handle);
+
 	/**
 	 * Will return a Stream of T
 	 * 
@@ -12,6 +12,9 @@ import org.sfm.map.column.DateFormatProperty;
 import org.sfm.map.column.DefaultDateFormatProperty;
 import org.sfm.map.column.DefaultValueProperty;
 import org.sfm.map.mapper.*;
+import org.sfm.map.metrics.FieldCostProfiler;
+import org.sfm.map.metrics.MetricNames;
+import org.sfm.map.metrics.MetricsRegistry;
 import org.sfm.reflect.*;
 import org.sfm.reflect.meta.*;
 import org.sfm.tuples.Tuple3;
@@ -133,6 +136,17 @@ public class CsvMapperBuilder<T> {
 	}
 
 	public final CsvMapper<T> mapper() {
+		final MetricsRegistry metricsRegistry = mapperConfig.metricsRegistry();
+		if (metricsRegistry == null) {
+			return buildMapper();
+		}
+		long start = System.nanoTime();
+		CsvMapper<T> mapper = buildMapper();
+		metricsRegistry.recorder(MetricNames.MAPPER_BUILD_NANOS).record(System.nanoTime() - start);
+		return mapper;
+	}
+
+	private CsvMapper<T> buildMapper() {
 
 		mapperConfig
 				.columnDefinitions()
@@ -168,7 +182,7 @@ public class CsvMapperBuilder<T> {
 
         return new CsvMapperImpl<T>(csvMapperCellHandlerFactory,
                 delayedCellSetterFactories,
-                setters, getJoinKeys(), mapperConfig.rowHandlerErrorHandler());
+                setters, getJoinKeys(), mapperConfig.rowHandlerErrorHandler(), mapperConfig.metricsRegistry());
 	}
 
     private CsvMapperCellHandlerFactory<T> newCsvMapperCellHandlerFactory(ParsingContextFactoryBuilder parsingContextFactoryBuilder,
@@ -197,6 +211,24 @@ public class CsvMapperBuilder<T> {
         }
     }
 
+    private <P> DelayedCellSetterFactory<T, P> profile(CsvColumnKey key, PropertyMeta<T, ?> prop, DelayedCellSetterFactory<T, P> delayedCellSetterFactory) {
+        final FieldCostProfiler profiler = mapperConfig.fieldCostProfiler();
+        // the primitive delayed getters of the constructor need the primitive delayed setter
+        if (profiler != null && delayedCellSetterFactory != null
+                && !(prop.isConstructorProperty() && TypeHelper.isPrimitive(prop.getPropertyType()))) {
+            return new ProfiledDelayedCellSetterFactory<T, P>(delayedCellSetterFactory, profiler.cost(key.getName()));
+        }
+        return delayedCellSetterFactory;
+    }
+
+    private CellSetter<T> profile(CsvColumnKey key, CellSetter<T> cellSetter) {
+        final FieldCostProfiler profiler = mapperConfig.fieldCostProfiler();
+        if (profiler != null && cellSetter != null) {
+            return new ProfiledCellSetter<T>(cellSetter, profiler.cost(key.getName()));
+        }
+        return cellSetter;
+    }
+
     private boolean isEligibleForAsmHandler() {
         return reflectionService.hasAsmFactory()
                 &&  this.propertyMappingsBuilder.size() < mapperConfig.asmMapperNbFieldsLimit();
@@ -274,7 +306,7 @@ public class CsvMapperBuilder<T> {
 						if (prop.isSubProperty()) {
 							addSubProperty(delegateMapperBuilders, prop, key, propMapping.getColumnDefinition());
 						}else {
-							delayedSetters[propMapping.getColumnKey().getIndex()] =  cellSetterFactory.getDelayedCellSetter(prop, key.getIndex(), propMapping.getColumnDefinition(), parsingContextFactoryBuilder);
+							delayedSetters[propMapping.getColumnKey().getIndex()] =  profile(key, prop, cellSetterFactory.getDelayedCellSetter(prop, key.getIndex(), propMapping.getColumnDefinition(), parsingContextFactoryBuilder));
 						}
 					}
 				}
@@ -422,7 +454,7 @@ public class CsvMapperBuilder<T> {
 
                     setters[propMapping.getColumnKey().getIndex()- delayedSetterEnd] = delegateMarkerSetter;
 				} else {
-					setters[propMapping.getColumnKey().getIndex()- delayedSetterEnd] = cellSetterFactory.getCellSetter(prop, propMapping.getColumnKey().getIndex(), propMapping.getColumnDefinition(), parsingContextFactoryBuilder);
+					setters[propMapping.getColumnKey().getIndex()- delayedSetterEnd] = profile(propMapping.getColumnKey(), cellSetterFactory.getCellSetter(prop, propMapping.getColumnKey().getIndex(), propMapping.getColumnDefinition(), parsingContextFactoryBuilder));
 				}
 			}
 
@@ -95,6 +95,25 @@ public final class CsvMapperFactory extends AbstractMapperFactory<CsvColumnKey,
 				mapperConfig());
 	}
 
+	/**
+	 * Will create a instance of CsvColumnarMapperBuilder that maps the rows into the primitive arrays of a columnar batch.
+	 * @return the builder
+	 */
+	public CsvColumnarMapperBuilder newColumnarBuilder() {
+		return new CsvColumnarMapperBuilder(cellValueReaderFactory, columnDefinitions(), defaultDateFormat, rowHandlerErrorHandler());
+	}
+
+	/**
+	 * Will create a instance of CsvLazyMapperBuilder that maps the rows to proxies of the target interface,
+	 * the properties are parsed on first access.
+	 * @param target the target interface
+	 * @param <T> the target type
+	 * @return the builder
+	 */
+	public <T> CsvLazyMapperBuilder<T> newLazyBuilder(final Class<T> target) {
+		return new CsvLazyMapperBuilder<T>(getClassMeta(target), mapperConfig(), cellValueReaderFactory, defaultDateFormat);
+	}
+
 	/**
 	 * Will create a instance of ResultSetMapperBuilder 
 	 * @param target the target class of the jdbcMapper
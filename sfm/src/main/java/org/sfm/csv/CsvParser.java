@@ -1,24 +1,40 @@
 package org.sfm.csv;
 
 import org.sfm.csv.impl.CsvColumnDefinitionProviderImpl;
+import org.sfm.csv.impl.CellValueReaderFactoryImpl;
 import org.sfm.csv.impl.DynamicCsvMapper;
+import org.sfm.csv.impl.MeteredCellConsumer;
 import org.sfm.csv.parser.*;
+import org.sfm.map.MapperConfig;
 import org.sfm.map.impl.CaseInsensitiveFieldKeyNamePredicate;
+import org.sfm.map.mapper.ColumnDefinitionProvider;
+import org.sfm.map.metrics.MeteredReader;
+import org.sfm.map.metrics.MetricNames;
+import org.sfm.map.metrics.MetricsRegistry;
 import org.sfm.reflect.ReflectionService;
 import org.sfm.reflect.TypeReference;
 import org.sfm.reflect.meta.ClassMeta;
 import org.sfm.tuples.*;
 import org.sfm.utils.CloseableIterator;
 import org.sfm.utils.IOFunction;
+import org.sfm.utils.ParallelGzipInputStream;
+import org.sfm.utils.BufferSwappingParallelReader;
+import org.sfm.utils.ParallelReader;
 import org.sfm.utils.Predicate;
 import org.sfm.utils.RowHandler;
 
+import java.io.BufferedInputStream;
 import java.io.File;
-import java.io.FileReader;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.Reader;
 import java.lang.reflect.Type;
+import java.nio.charset.Charset;
 import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.zip.GZIPInputStream;
 //IFJAVA8_START
 import java.util.stream.Stream;
 //IFJAVA8_END
@@ -94,6 +110,23 @@ public final class CsvParser {
 		return dsl().separator(c);
 	}
 
+	/**
+	 *
+	 * @param separator the separator, one or more chars
+	 * @return the DSL object
+	 */
+	public static DSL separator(String separator) {
+		return dsl().separator(separator);
+	}
+
+	public static DSL recordDelimiter(String recordDelimiter) {
+		return dsl().recordDelimiter(recordDelimiter);
+	}
+
+	public static DSL comment(char c) {
+		return dsl().comment(c);
+	}
+
 	public static DSL bufferSize(int size) {
 		return dsl().bufferSize(size);
 	}
@@ -110,6 +143,14 @@ public final class CsvParser {
 		return dsl().skip(skip);
 	}
 
+	public static DSL trackPosition() {
+		return dsl().trackPosition();
+	}
+
+	public static DSL resumeFrom(CsvPosition position) {
+		return dsl().resumeFrom(position);
+	}
+
 	public static DSL dsl() {
 		return new DSL();
 	}
@@ -118,6 +159,10 @@ public final class CsvParser {
 		return dsl().limit(limit);
 	}
 
+	public static DSL parallelDecompression(Executor executor) {
+		return dsl().parallelDecompression(executor);
+	}
+
 	public static <T> MapToDSL<T> mapTo(Type type) {
 		return dsl().mapTo(type);
 	}
@@ -212,6 +257,14 @@ public final class CsvParser {
 		return dsl().parse(file, cellConsumer);
 	}
 
+	public static <CC extends CellConsumer> CsvPushParser<CC> pushParser(CC cellConsumer) throws IOException {
+		return dsl().pushParser(cellConsumer);
+	}
+
+	public static <CC extends CellConsumer> CsvPushParser<CC> pushParser(CC cellConsumer, Charset charset) throws IOException {
+		return dsl().pushParser(cellConsumer, charset);
+	}
+
 	//IFJAVA8_START
 	public static Stream<String[]> stream(Reader r) throws IOException {
 		return dsl().stream(r);
@@ -241,6 +294,16 @@ public final class CsvParser {
         private final int limit;
 		private final int maxBufferSize;
         private final boolean trimSpaces;
+		private final MetricsRegistry metricsRegistry;
+		private final Executor decompressionExecutor;
+		private final String separatorString;
+		private final String recordDelimiter;
+		private final Character commentChar;
+		private final char[] separatorChars;
+		private final char[] recordDelimiterChars;
+		private final boolean trackPosition;
+		private final CsvPosition resumePosition;
+		private final int rowsBeforeResume;
 
 		private DSL() {
 			separatorChar = ',';
@@ -250,9 +313,25 @@ public final class CsvParser {
 			limit = -1;
 			maxBufferSize = DEFAULT_MAX_BUFFER_SIZE_8M;
             trimSpaces = false;
+			metricsRegistry = null;
+			decompressionExecutor = null;
+			separatorString = null;
+			recordDelimiter = null;
+			commentChar = null;
+			separatorChars = null;
+			recordDelimiterChars = null;
+			trackPosition = false;
+			resumePosition = null;
+			rowsBeforeResume = 0;
 		}
 
 		public DSL(char separatorChar, char quoteChar, int bufferSize, int skip, int limit, int maxBufferSize, boolean trimSpaces) {
+			this(separatorChar, quoteChar, bufferSize, skip, limit, maxBufferSize, trimSpaces, null, null, null, null, null, false, null, 0);
+		}
+
+		private DSL(char separatorChar, char quoteChar, int bufferSize, int skip, int limit, int maxBufferSize, boolean trimSpaces, MetricsRegistry metricsRegistry, Executor decompressionExecutor,
+					String separatorString, String recordDelimiter, Character commentChar,
+					boolean trackPosition, CsvPosition resumePosition, int rowsBeforeResume) {
 			this.separatorChar = separatorChar;
 			this.quoteChar = quoteChar;
 			this.bufferSize = bufferSize;
@@ -260,6 +339,16 @@ public final class CsvParser {
 			this.limit = limit;
 			this.maxBufferSize = maxBufferSize;
             this.trimSpaces = trimSpaces;
+			this.metricsRegistry = metricsRegistry;
+			this.decompressionExecutor = decompressionExecutor;
+			this.separatorString = separatorString;
+			this.recordDelimiter = recordDelimiter;
+			this.commentChar = commentChar;
+			this.separatorChars = separatorString != null ? separatorString.toCharArray() : new char[] { separatorChar };
+			this.recordDelimiterChars = recordDelimiter != null ? recordDelimiter.toCharArray() : null;
+			this.trackPosition = trackPosition;
+			this.resumePosition = resumePosition;
+			this.rowsBeforeResume = rowsBeforeResume;
         }
 
 		/**
@@ -268,16 +357,53 @@ public final class CsvParser {
          * @return this
          */
         public DSL separator(char c) {
-			return new DSL(c, quoteChar, bufferSize, skip, limit, maxBufferSize, trimSpaces);
+			return new DSL(c, quoteChar, bufferSize, skip, limit, maxBufferSize, trimSpaces, metricsRegistry, decompressionExecutor, null, recordDelimiter, commentChar, trackPosition, resumePosition, rowsBeforeResume);
         }
 
+		/**
+		 * set a separator of one or more chars, as "||" or "~|~".
+		 * @param separator the new separator
+		 * @return this
+		 */
+		public DSL separator(String separator) {
+			if (separator == null || separator.length() == 0) {
+				throw new IllegalArgumentException("Separator cannot be empty");
+			}
+			if (separator.length() == 1) {
+				return separator(separator.charAt(0));
+			}
+			return new DSL(separator.charAt(0), quoteChar, bufferSize, skip, limit, maxBufferSize, trimSpaces, metricsRegistry, decompressionExecutor, separator, recordDelimiter, commentChar, trackPosition, resumePosition, rowsBeforeResume);
+		}
+
+		/**
+		 * set the chars ending a record, as "\u001E". \r and \n are then read as data.
+		 * the default value is null, a record ends on \r, \n or \r\n.
+		 * @param recordDelimiter the record delimiter
+		 * @return this
+		 */
+		public DSL recordDelimiter(String recordDelimiter) {
+			if (recordDelimiter != null && recordDelimiter.length() == 0) {
+				throw new IllegalArgumentException("Record delimiter cannot be empty");
+			}
+			return new DSL(separatorChar, quoteChar, bufferSize, skip, limit, maxBufferSize, trimSpaces, metricsRegistry, decompressionExecutor, separatorString, recordDelimiter, commentChar, trackPosition, resumePosition, rowsBeforeResume);
+		}
+
+		/**
+		 * skip the lines starting with the comment char. the lines skipped do not count in skip or limit.
+		 * @param c the comment char
+		 * @return this
+		 */
+		public DSL comment(char c) {
+			return new DSL(separatorChar, quoteChar, bufferSize, skip, limit, maxBufferSize, trimSpaces, metricsRegistry, decompressionExecutor, separatorString, recordDelimiter, c, trackPosition, resumePosition, rowsBeforeResume);
+		}
+
         /**
          * set the quote character. the default value is '"'.
          * @param c the quote character
          * @return this
          */
         public DSL quote(char c) {
-			return new DSL(separatorChar, c, bufferSize, skip, limit, maxBufferSize, trimSpaces);
+			return new DSL(separatorChar, c, bufferSize, skip, limit, maxBufferSize, trimSpaces, metricsRegistry, decompressionExecutor, separatorString, recordDelimiter, commentChar, trackPosition, resumePosition, rowsBeforeResume);
         }
 
         /**
@@ -286,7 +412,7 @@ public final class CsvParser {
          * @return this
          */
         public DSL bufferSize(int size) {
-			return new DSL(separatorChar, quoteChar, size, skip, limit, maxBufferSize, trimSpaces);
+			return new DSL(separatorChar, quoteChar, size, skip, limit, maxBufferSize, trimSpaces, metricsRegistry, decompressionExecutor, separatorString, recordDelimiter, commentChar, trackPosition, resumePosition, rowsBeforeResume);
         }
 
         /**
@@ -295,7 +421,7 @@ public final class CsvParser {
          * @return this
          */
         public DSL skip(int skip) {
-			return new DSL(separatorChar, quoteChar, bufferSize, skip, limit, maxBufferSize, trimSpaces);
+			return new DSL(separatorChar, quoteChar, bufferSize, skip, limit, maxBufferSize, trimSpaces, metricsRegistry, decompressionExecutor, separatorString, recordDelimiter, commentChar, trackPosition, resumePosition, rowsBeforeResume);
         }
 
         /**
@@ -304,7 +430,7 @@ public final class CsvParser {
          * @return this
          */
         public DSL limit(int limit) {
-			return new DSL(separatorChar, quoteChar, bufferSize, skip, limit, maxBufferSize, trimSpaces);
+			return new DSL(separatorChar, quoteChar, bufferSize, skip, limit, maxBufferSize, trimSpaces, metricsRegistry, decompressionExecutor, separatorString, recordDelimiter, commentChar, trackPosition, resumePosition, rowsBeforeResume);
         }
 
 		/**
@@ -313,13 +439,58 @@ public final class CsvParser {
 		 * @return this
 		 */
 		public DSL maxBufferSize(int maxBufferSize) {
-			return new DSL(separatorChar, quoteChar, bufferSize, skip, limit, maxBufferSize, trimSpaces);
+			return new DSL(separatorChar, quoteChar, bufferSize, skip, limit, maxBufferSize, trimSpaces, metricsRegistry, decompressionExecutor, separatorString, recordDelimiter, commentChar, trackPosition, resumePosition, rowsBeforeResume);
 		}
 
         public DSL trimSpaces() {
-            return new DSL(separatorChar, quoteChar, bufferSize, skip, limit, maxBufferSize, true);
+            return new DSL(separatorChar, quoteChar, bufferSize, skip, limit, maxBufferSize, true, metricsRegistry, decompressionExecutor, separatorString, recordDelimiter, commentChar, trackPosition, resumePosition, rowsBeforeResume);
         }
 
+		/**
+		 * set the registry to report the chars read, the rows parsed and the mapping metrics to. the default value is null, no metrics.
+		 * @param metricsRegistry the registry
+		 * @return this
+		 */
+		public DSL metricsRegistry(MetricsRegistry metricsRegistry) {
+			return new DSL(separatorChar, quoteChar, bufferSize, skip, limit, maxBufferSize, trimSpaces, metricsRegistry, decompressionExecutor, separatorString, recordDelimiter, commentChar, trackPosition, resumePosition, rowsBeforeResume);
+		}
+
+		/**
+		 * decompress gzip files on the executor instead of the parsing thread.
+		 * The blocks of a bgzip file are inflated in parallel. The executor needs to run the reading task and the inflating tasks concurrently.
+		 * @param executor the executor
+		 * @return this
+		 */
+		public DSL parallelDecompression(Executor executor) {
+			return new DSL(separatorChar, quoteChar, bufferSize, skip, limit, maxBufferSize, trimSpaces, metricsRegistry, executor, separatorString, recordDelimiter, commentChar, trackPosition, resumePosition, rowsBeforeResume);
+		}
+
+		/**
+		 * count the rows so that the position of the {@link CsvReader} can be checkpointed, see {@link CsvReader#position()}.
+		 * @return this
+		 */
+		public DSL trackPosition() {
+			return new DSL(separatorChar, quoteChar, bufferSize, skip, limit, maxBufferSize, trimSpaces, metricsRegistry, decompressionExecutor, separatorString, recordDelimiter, commentChar, true, resumePosition, rowsBeforeResume);
+		}
+
+		/**
+		 * restart the parsing at a position checkpointed on the same source, the content before is read but not parsed.
+		 * The skip is applied before resuming, with mapTo the header row is read before resuming to restore the mapping,
+		 * the limit is counted from the position. Implies {@link #trackPosition()}.
+		 * @param position the position returned by {@link CsvReader#position()}
+		 * @return this
+		 */
+		public DSL resumeFrom(CsvPosition position) {
+			return new DSL(separatorChar, quoteChar, bufferSize, skip, limit, maxBufferSize, trimSpaces, metricsRegistry, decompressionExecutor, separatorString, recordDelimiter, commentChar, true, position, rowsBeforeResume);
+		}
+
+		private DSL rowsBeforeResume(int rowsBeforeResume) {
+			if (rowsBeforeResume == this.rowsBeforeResume) {
+				return this;
+			}
+			return new DSL(separatorChar, quoteChar, bufferSize, skip, limit, maxBufferSize, trimSpaces, metricsRegistry, decompressionExecutor, separatorString, recordDelimiter, commentChar, trackPosition, resumePosition, rowsBeforeResume);
+		}
+
         /**
          * Parse the content from the reader as a csv and call back the cellConsumer with the cell values.
          * @param reader the reader
@@ -343,17 +514,22 @@ public final class CsvParser {
 		private <CC extends CellConsumer> CC parse(CharBuffer charBuffer, CC cellConsumer) throws IOException {
 			CsvReader csvreader = reader(charBuffer);
 
+			CellConsumer consumer = cellConsumer;
+			if (metricsRegistry != null) {
+				consumer = new MeteredCellConsumer(cellConsumer, metricsRegistry.counter(MetricNames.CSV_ROWS));
+			}
+
 			if (limit == -1) {
-                return csvreader.parseAll(cellConsumer);
+                csvreader.parseAll(consumer);
             } else {
-                return csvreader.parseRows(cellConsumer, limit);
-
+                csvreader.parseRows(consumer, limit);
             }
+			return cellConsumer;
 		}
 
 
 		public <CC extends CellConsumer> CC parse(File file, CC cellConsumer) throws IOException {
-			Reader reader = new FileReader(file);
+			Reader reader = newReader(file);
 			try {
 				return parse(reader, cellConsumer);
 			} finally {
@@ -384,25 +560,71 @@ public final class CsvParser {
 		}
 
 		private CsvReader reader(CharBuffer charBuffer) throws IOException {
-			CsvReader csvReader = new CsvReader(charConsumer(charBuffer));
+			CsvReader csvReader = new CsvReader(charConsumer(charBuffer), trackPosition);
 			csvReader.skipRows(skip);
+			if (resumePosition != null) {
+				csvReader.resumeAfterRows(rowsBeforeResume, resumePosition);
+			}
 			return csvReader;
 		}
 
 		private CharBuffer charBuffer(Reader reader) throws IOException {
+			if (reader instanceof BufferSwappingParallelReader && metricsRegistry == null) {
+				return new ChunkSwappingCharBuffer((BufferSwappingParallelReader) reader, maxBufferSize);
+			}
+			if (metricsRegistry != null) {
+				reader = new MeteredReader(reader, metricsRegistry.counter(MetricNames.CSV_CHARS));
+			}
 			return new ReaderCharBuffer(bufferSize, maxBufferSize, reader);
 		}
 
 		private CharBuffer charBuffer(CharSequence content) throws IOException {
+			countChars(content);
 			return new CharSequenceCharBuffer(content);
 		}
 
 		private CharBuffer charBuffer(String content) throws IOException {
+			countChars(content);
 			return new CharSequenceCharBuffer(content);
 		}
 
+		private void countChars(CharSequence content) {
+			if (metricsRegistry != null) {
+				metricsRegistry.counter(MetricNames.CSV_CHARS).add(content.length());
+			}
+		}
+
+		/**
+		 * Create a parser fed with the content as it arrives, the bytes are decoded with the default charset.
+		 * @param cellConsumer the callback object for each cell value
+		 * @param <CC> the type of the cell consumer
+		 * @return the push parser
+		 * @throws IOException if an io error occurs
+		 * @see #pushParser(CellConsumer, Charset)
+		 */
+		public <CC extends CellConsumer> CsvPushParser<CC> pushParser(CC cellConsumer) throws IOException {
+			return pushParser(cellConsumer, Charset.defaultCharset());
+		}
+
+		/**
+		 * Create a parser fed with the content as it arrives. The skip is applied, the limit and the position tracking are not.
+		 * @param cellConsumer the callback object for each cell value
+		 * @param charset the charset to decode the bytes fed to the parser
+		 * @param <CC> the type of the cell consumer
+		 * @return the push parser
+		 * @throws IOException if an io error occurs
+		 */
+		public <CC extends CellConsumer> CsvPushParser<CC> pushParser(CC cellConsumer, Charset charset) throws IOException {
+			PushCharBuffer charBuffer = new PushCharBuffer(bufferSize, maxBufferSize);
+			CellConsumer consumer = cellConsumer;
+			if (metricsRegistry != null) {
+				consumer = new MeteredCellConsumer(cellConsumer, metricsRegistry.counter(MetricNames.CSV_ROWS));
+			}
+			return new CsvPushParser<CC>(charBuffer, charConsumer(charBuffer), cellConsumer, consumer, skip, charset);
+		}
+
 		public CloseableCsvReader reader(File file) throws IOException {
-			return onReader(file, CREATE_CLOSEABLE_CSV_READER);
+			return onReader(newReader(file), CREATE_CLOSEABLE_CSV_READER);
 		}
 
         public Iterator<String[]> iterator(Reader reader) throws IOException {
@@ -418,7 +640,7 @@ public final class CsvParser {
 		}
 
 		public CloseableIterator<String[]> iterator(File file) throws IOException {
-			return onReader(file, CREATE_CLOSEABLE_ITERATOR);
+			return onReader(newReader(file), CREATE_CLOSEABLE_ITERATOR);
 		}
 
 		public <T> MapToDSL<T> mapTo(Type target) {
@@ -479,7 +701,7 @@ public final class CsvParser {
 		}
 
 		public Stream<String[]> stream(File file) throws IOException {
-			return onReader(file, CREATE_CLOSEABLE_STREAM);
+			return onReader(newReader(file), CREATE_CLOSEABLE_STREAM);
 		}
 
 		private final IOFunction<Reader, Stream<String[]>> CREATE_CLOSEABLE_STREAM =
@@ -489,6 +711,8 @@ public final class CsvParser {
         private CsvCharConsumer charConsumer(CharBuffer charBuffer) throws IOException {
             if (isStandardConsumer()) {
                 return new StandardCsvCharConsumer(charBuffer);
+            } else if (separatorString != null || recordDelimiter != null || commentChar != null) {
+				return new MultiCharCsvCharConsumer(charBuffer, separatorChars, quoteChar, recordDelimiterChars, commentChar != null ? commentChar : -1, trimSpaces);
             } else if (!trimSpaces) {
                     return new ConfigurableCsvCharConsumer(charBuffer, separatorChar, quoteChar);
 			} else {
@@ -497,8 +721,38 @@ public final class CsvParser {
 
         }
 
+		/**
+		 * open the file, gzip content is detected from the magic number and decompressed.
+		 */
+		private Reader newReader(File file) throws IOException {
+			InputStream is = new FileInputStream(file);
+			try {
+				BufferedInputStream bis = new BufferedInputStream(is);
+				byte[] header = new byte[2];
+				bis.mark(header.length);
+				int l = bis.read(header, 0, header.length);
+				bis.reset();
+
+				if (!ParallelGzipInputStream.isGzip(header, l)) {
+					return new InputStreamReader(bis);
+				} else if (decompressionExecutor == null) {
+					return new InputStreamReader(new GZIPInputStream(bis));
+				} else {
+					return new ParallelReader(new InputStreamReader(new ParallelGzipInputStream(bis, decompressionExecutor)), decompressionExecutor);
+				}
+			} catch (IOException e) {
+				is.close();
+				throw e;
+			}
+		}
+
+		public Executor decompressionExecutor() {
+			return decompressionExecutor;
+		}
+
 		private boolean isStandardConsumer() {
-			return separatorChar == ',' && quoteChar == '"' && !trimSpaces;
+			return separatorChar == ',' && quoteChar == '"' && !trimSpaces
+					&& separatorString == null && recordDelimiter == null && commentChar == null;
 		}
 
 		public int maxBufferSize() {
@@ -525,6 +779,37 @@ public final class CsvParser {
 			return quoteChar;
 		}
 
+		/**
+		 * @return the separator, including when it has more than one char
+		 */
+		public String separatorString() {
+			return separatorString != null ? separatorString : String.valueOf(separatorChar);
+		}
+
+		public String recordDelimiter() {
+			return recordDelimiter;
+		}
+
+		public Character comment() {
+			return commentChar;
+		}
+
+		public MetricsRegistry metricsRegistry() {
+			return metricsRegistry;
+		}
+
+		public boolean isTrackingPosition() {
+			return trackPosition;
+		}
+
+		public CsvPosition resumePosition() {
+			return resumePosition;
+		}
+
+		private MapperConfig<CsvColumnKey, CsvColumnDefinition> mapperConfig(ColumnDefinitionProvider<CsvColumnDefinition, CsvColumnKey> columnDefinitionProvider) {
+			return MapperConfig.<CsvColumnKey, CsvColumnDefinition>config(columnDefinitionProvider).metricsRegistry(metricsRegistry);
+		}
+
     }
 
     /**
@@ -541,7 +826,8 @@ public final class CsvParser {
 			this(dsl, ReflectionService.newInstance().<T>getClassMeta(mapToClass), mapToClass, new CsvColumnDefinitionProviderImpl());
 		}
 		private MapToDSL(DSL dsl, ClassMeta<T> classMeta, Type mapToClass, CsvColumnDefinitionProviderImpl columnDefinitionProvider) {
-			super(dsl, new DynamicCsvMapper<T>(mapToClass, classMeta, columnDefinitionProvider));
+			// the header row is needed to build the mapper
+			super(dsl.rowsBeforeResume(1), new DynamicCsvMapper<T>(mapToClass, classMeta, dsl.mapperConfig(columnDefinitionProvider)));
 			this.mapToClass = mapToClass;
 			this.classMeta = classMeta;
 			this.columnDefinitionProvider = columnDefinitionProvider;
@@ -628,15 +914,15 @@ public final class CsvParser {
 
 
 		private StaticMapToDSL(DSL dsl, ClassMeta<T> classMeta, Type mapToClass, List<Tuple2<String, CsvColumnDefinition>> columns, CsvColumnDefinitionProviderImpl columnDefinitionProvider) {
-			super(dsl, newStaticMapper(mapToClass, classMeta, columns, columnDefinitionProvider));
+			super(dsl.rowsBeforeResume(0), newStaticMapper(mapToClass, classMeta, columns, dsl.mapperConfig(columnDefinitionProvider)));
 			this.classMeta = classMeta;
 			this.mapToClass = mapToClass;
 			this.columns = columns;
 			this.columnDefinitionProvider = columnDefinitionProvider;
 		}
 
-		private static <T> CsvMapper<T> newStaticMapper(Type mapToClass, ClassMeta<T> classMeta, List<Tuple2<String, CsvColumnDefinition>> columns, CsvColumnDefinitionProviderImpl columnDefinitionProvider) {
-			CsvMapperBuilder<T> builder = new CsvMapperBuilder<T>(mapToClass, classMeta, columnDefinitionProvider);
+		private static <T> CsvMapper<T> newStaticMapper(Type mapToClass, ClassMeta<T> classMeta, List<Tuple2<String, CsvColumnDefinition>> columns, MapperConfig<CsvColumnKey, CsvColumnDefinition> mapperConfig) {
+			CsvMapperBuilder<T> builder = new CsvMapperBuilder<T>(mapToClass, classMeta, 0, new CellValueReaderFactoryImpl(), mapperConfig);
 			for(Tuple2<String, CsvColumnDefinition> col: columns) {
 				builder.addMapping(col.first(), col.second());
 			}
@@ -693,7 +979,7 @@ public final class CsvParser {
 		}
 
 		public final CloseableIterator<T> iterator(File file) throws IOException {
-			return onReader(file, new IOFunction<Reader, CloseableIterator<T>>() {
+			return onReader(dsl.newReader(file), new IOFunction<Reader, CloseableIterator<T>>() {
 				@Override
 				public CloseableIterator<T> apply(Reader reader) throws IOException {
 					return new CloseableIterator<T>(iterator(reader), reader);
@@ -702,7 +988,7 @@ public final class CsvParser {
 		}
 
 		public final <H extends RowHandler<T>> H forEach(File file, H rowHandler) throws IOException {
-			Reader reader = new FileReader(file);
+			Reader reader = dsl.newReader(file);
 			try {
 				return forEach(reader, rowHandler);
 			} finally {
@@ -731,6 +1017,23 @@ public final class CsvParser {
 			return rowHandler;
 		}
 
+		/**
+		 * Create a parser fed with the content as it arrives that maps the rows and pass them to the row handler.
+		 * A mapper built from the headers reads them from the first row.
+		 * @param rowHandler the row handler
+		 * @param <H> the row handler type
+		 * @return the push parser
+		 * @throws IOException if an io error occurs
+		 * @see DSL#pushParser(CellConsumer, Charset)
+		 */
+		public final <H extends RowHandler<T>> CsvPushParser<CellConsumer> pushParser(H rowHandler) throws IOException {
+			return dsl.pushParser(mapper.newCellConsumer(rowHandler));
+		}
+
+		public final <H extends RowHandler<T>> CsvPushParser<CellConsumer> pushParser(H rowHandler, Charset charset) throws IOException {
+			return dsl.pushParser(mapper.newCellConsumer(rowHandler), charset);
+		}
+
 		//IFJAVA8_START
 		public final Stream<T> stream(Reader reader) throws IOException {
 			return mapper.stream(dsl.reader(reader));
@@ -745,7 +1048,7 @@ public final class CsvParser {
 		}
 
 		public final Stream<T> stream(File file) throws IOException {
-			return onReader(file, new IOFunction<Reader, Stream<T>>() {
+			return onReader(dsl.newReader(file), new IOFunction<Reader, Stream<T>>() {
 				@Override
 				public Stream<T> apply(Reader reader) throws IOException {
 					return stream(reader).onClose(() -> {
@@ -777,8 +1080,7 @@ public final class CsvParser {
 			};
 
 
-	private static <R> R onReader(File file, IOFunction<Reader, R> IOFunction) throws IOException {
-		Reader reader = new FileReader(file);
+	private static <R> R onReader(Reader reader, IOFunction<Reader, R> IOFunction) throws IOException {
 		try {
 			return IOFunction.apply(reader);
 		} catch(IOException ioe) {
@@ -0,0 +1,56 @@
+package org.sfm.csv;
+
+/**
+ * Position of the start of a row in the csv source, to checkpoint a parsing and resume it later.
+ * <p>
+ * The offset is in chars of the decoded source, the row is the number of rows read before it including the skipped and header rows.
+ * @see CsvReader#position()
+ * @see CsvParser.DSL#resumeFrom(CsvPosition)
+ */
+public final class CsvPosition {
+
+    public static final CsvPosition START = new CsvPosition(0, 0);
+
+    private final long row;
+    private final long charOffset;
+
+    public CsvPosition(long row, long charOffset) {
+        if (row < 0) throw new IllegalArgumentException("row must be positive");
+        if (charOffset < 0) throw new IllegalArgumentException("charOffset must be positive");
+        this.row = row;
+        this.charOffset = charOffset;
+    }
+
+    public long getRow() {
+        return row;
+    }
+
+    public long getCharOffset() {
+        return charOffset;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        CsvPosition that = (CsvPosition) o;
+
+        return row == that.row && charOffset == that.charOffset;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = (int) (row ^ (row >>> 32));
+        result = 31 * result + (int) (charOffset ^ (charOffset >>> 32));
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "CsvPosition{" +
+                "row=" + row +
+                ", charOffset=" + charOffset +
+                '}';
+    }
+}
@@ -0,0 +1,202 @@
+package org.sfm.csv;
+
+import org.sfm.csv.parser.CellConsumer;
+import org.sfm.csv.parser.CsvCharConsumer;
+import org.sfm.csv.parser.PushCharBuffer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * Incremental csv parser that is fed the content by the caller as it arrives, for example from a non blocking channel.
+ * <p>
+ * The cells and rows are pushed to the cell consumer as soon as they are complete, a cell or a quoted value split across chunks is
+ * kept in the buffer until the next chunk. The memory used is bounded by the buffer size, that grows only to hold a row larger than it.
+ * <br>
+ * <code>
+ *     CsvPushParser&lt;MyConsumer&gt; parser = CsvParser.pushParser(new MyConsumer(), UTF_8);<br>
+ *     parser.feed(byteBuffer);<br>
+ *     ...<br>
+ *     parser.endOfInput();<br>
+ * </code>
+ * <br>
+ * A CsvPushParser is not thread safe, and cannot be reused once {@link #endOfInput()} is called.
+ *
+ * @param <CC> the cell consumer type
+ * @see CsvParser.DSL#pushParser(CellConsumer)
+ * @see CsvParser.MapWithDSL#pushParser(org.sfm.utils.RowHandler)
+ */
+public final class CsvPushParser<CC extends CellConsumer> {
+
+	private static final int MAX_INCOMPLETE_CHAR_BYTES = 16;
+
+	private final PushCharBuffer charBuffer;
+	private final CsvCharConsumer charConsumer;
+	private final CC cellConsumer;
+	private final CellConsumer consumer;
+	private final Charset charset;
+
+	private CharsetDecoder decoder;
+	private ByteBuffer incompleteChar;
+	private char[] decodedChars;
+	private boolean ended;
+
+	CsvPushParser(PushCharBuffer charBuffer, CsvCharConsumer charConsumer, CC cellConsumer, CellConsumer consumer, int skip, Charset charset) {
+		this.charBuffer = charBuffer;
+		this.charConsumer = charConsumer;
+		this.cellConsumer = cellConsumer;
+		this.consumer = skip > 0 ? new SkippingCellConsumer(consumer, skip) : consumer;
+		this.charset = charset;
+	}
+
+	/**
+	 * parse the specified chars, the array can be reused by the caller after the call.
+	 * @param chars the chars
+	 * @param offset the offset of the content in the array
+	 * @param length the length of the content
+	 * @return the current parser
+	 * @throws IOException if the content does not fit in the max buffer size
+	 */
+	public CsvPushParser<CC> feed(char[] chars, int offset, int length) throws IOException {
+		checkNotEnded();
+		charBuffer.push(chars, offset, length);
+		while(charBuffer.hasPending()) {
+			charConsumer.refillBuffer();
+			charConsumer.consumeAllBuffer(consumer);
+		}
+		return this;
+	}
+
+	public CsvPushParser<CC> feed(char[] chars) throws IOException {
+		return feed(chars, 0, chars.length);
+	}
+
+	public CsvPushParser<CC> feed(CharSequence content) throws IOException {
+		if (content instanceof String) {
+			return feed(((String) content).toCharArray());
+		}
+		char[] chars = new char[content.length()];
+		for(int i = 0; i < chars.length; i++) {
+			chars[i] = content.charAt(i);
+		}
+		return feed(chars);
+	}
+
+	/**
+	 * decode and parse the remaining bytes of the buffer, the buffer position is moved to its limit.
+	 * The bytes of a char split across buffers are kept until the next call. Malformed input is replaced.
+	 * @param bytes the bytes
+	 * @return the current parser
+	 * @throws IOException if the content does not fit in the max buffer size
+	 */
+	public CsvPushParser<CC> feed(ByteBuffer bytes) throws IOException {
+		checkNotEnded();
+		if (decoder == null) {
+			decoder = charset.newDecoder()
+					.onMalformedInput(CodingErrorAction.REPLACE)
+					.onUnmappableCharacter(CodingErrorAction.REPLACE);
+			incompleteChar = ByteBuffer.allocate(MAX_INCOMPLETE_CHAR_BYTES);
+			decodedChars = new char[Math.max(charBuffer.getCharBuffer().length, 16)];
+		}
+
+		// complete the char left from the previous buffer one byte at a time
+		while(incompleteChar.position() > 0 && bytes.hasRemaining()) {
+			incompleteChar.put(bytes.get());
+			incompleteChar.flip();
+			decode(incompleteChar, false);
+			incompleteChar.compact();
+		}
+
+		decode(bytes, false);
+
+		if (bytes.remaining() > incompleteChar.remaining()) {
+			throw new IOException("Cannot decode the end of the buffer with " + charset);
+		}
+		incompleteChar.put(bytes);
+		return this;
+	}
+
+	private void decode(ByteBuffer bytes, boolean endOfInput) throws IOException {
+		java.nio.CharBuffer out = java.nio.CharBuffer.wrap(decodedChars);
+		CoderResult result;
+		do {
+			result = decoder.decode(bytes, out, endOfInput);
+			flushDecodedChars(out);
+			if (result.isError()) {
+				result.throwException();
+			}
+		} while(result.isOverflow());
+	}
+
+	private void flushDecodedChars(java.nio.CharBuffer out) throws IOException {
+		if (out.position() > 0) {
+			feed(decodedChars, 0, out.position());
+			out.clear();
+		}
+	}
+
+	/**
+	 * parse the content left in the buffer as the last row and notify the cell consumer of the end.
+	 * @return the cell consumer
+	 * @throws IOException if an io error occurs
+	 */
+	public CC endOfInput() throws IOException {
+		checkNotEnded();
+		if (decoder != null) {
+			incompleteChar.flip();
+			decode(incompleteChar, true);
+			incompleteChar.clear();
+			java.nio.CharBuffer out = java.nio.CharBuffer.wrap(decodedChars);
+			decoder.flush(out);
+			flushDecodedChars(out);
+		}
+		ended = true;
+
+		while(charConsumer.refillBuffer()) {
+			charConsumer.consumeAllBuffer(consumer);
+		}
+		charConsumer.finish(consumer);
+		return cellConsumer;
+	}
+
+	private void checkNotEnded() {
+		if (ended) {
+			throw new IllegalStateException("endOfInput already called");
+		}
+	}
+
+	private static final class SkippingCellConsumer implements CellConsumer {
+		private final CellConsumer delegate;
+		private int rowsToSkip;
+
+		private SkippingCellConsumer(CellConsumer delegate, int rowsToSkip) {
+			this.delegate = delegate;
+			this.rowsToSkip = rowsToSkip;
+		}
+
+		@Override
+		public void newCell(char[] chars, int offset, int length) {
+			if (rowsToSkip == 0) {
+				delegate.newCell(chars, offset, length);
+			}
+		}
+
+		@Override
+		public void endOfRow() {
+			if (rowsToSkip == 0) {
+				delegate.endOfRow();
+			} else {
+				rowsToSkip--;
+			}
+		}
+
+		@Override
+		public void end() {
+			delegate.end();
+		}
+	}
+}
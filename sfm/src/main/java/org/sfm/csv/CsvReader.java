@@ -36,9 +36,69 @@ public final class CsvReader implements Iterable<String[]> {
 	};
 
 	private final CsvCharConsumer consumer;
+	private final RowCountingCellConsumer rowCounter;
+
+	private CsvPosition pendingResume;
+	private int rowsBeforeResume;
 
 	public CsvReader(CsvCharConsumer charConsumer) {
+		this(charConsumer, false);
+	}
+
+	/**
+	 *
+	 * @param charConsumer the char consumer
+	 * @param trackPosition count the rows so that {@link #position()} can be called
+	 */
+	public CsvReader(CsvCharConsumer charConsumer, boolean trackPosition) {
 		this.consumer = charConsumer;
+		this.rowCounter = trackPosition ? new RowCountingCellConsumer() : null;
+	}
+
+	/**
+	 * The position of the start of the next row, to checkpoint the parsing.
+	 * It can be called between rows or from the callback at the end of a row.
+	 * @return the current position
+	 * @throws IllegalStateException if the position is not tracked
+	 * @see org.sfm.csv.CsvParser.DSL#trackPosition()
+	 */
+	public CsvPosition position() {
+		if (rowCounter == null) {
+			throw new IllegalStateException("Position not tracked, see CsvParser.DSL.trackPosition()");
+		}
+		return new CsvPosition(rowCounter.row, consumer.rowPosition());
+	}
+
+	/**
+	 * restart the parsing at the specified position, the content before it is read but not parsed.
+	 * @param position the position, as returned by {@link #position()} on the same source
+	 * @throws IOException if an io error occurs
+	 */
+	public void resume(CsvPosition position) throws IOException {
+		resumeAfterRows(0, position);
+	}
+
+	/**
+	 * parse the specified number of rows, like the headers, then restart the parsing at the specified position.
+	 * @param rows the number of rows to parse before resuming
+	 * @param position the position, as returned by {@link #position()} on the same source
+	 * @throws IOException if an io error occurs
+	 */
+	public void resumeAfterRows(int rows, CsvPosition position) throws IOException {
+		if (rows == 0) {
+			resumeAt(position);
+		} else {
+			pendingResume = position;
+			rowsBeforeResume = rows;
+		}
+	}
+
+	private void resumeAt(CsvPosition position) throws IOException {
+		pendingResume = null;
+		consumer.resumeAt(position.getCharOffset());
+		if (rowCounter != null) {
+			rowCounter.row = position.getRow();
+		}
 	}
 
 	/**
@@ -50,14 +110,28 @@ public final class CsvReader implements Iterable<String[]> {
 	 */
 	public <CC extends CellConsumer> CC parseAll(CC cellConsumer)
 			throws IOException {
+		while (pendingResume != null) {
+			if (!parseRow(cellConsumer)) {
+				return cellConsumer;
+			}
+		}
+		CellConsumer consumer = countRows(cellConsumer);
 		do {
-			consumer.consumeAllBuffer(cellConsumer);
-		} while (consumer.refillBuffer());
-		consumer.finish(cellConsumer);
+			this.consumer.consumeAllBuffer(consumer);
+		} while (this.consumer.refillBuffer());
+		this.consumer.finish(consumer);
 
 		return cellConsumer;
 	}
 
+	private CellConsumer countRows(CellConsumer cellConsumer) {
+		if (rowCounter == null) {
+			return cellConsumer;
+		}
+		rowCounter.delegate = cellConsumer;
+		return rowCounter;
+	}
+
 	/**
 	 * parse cvs
 	 * @param cellConsumer the cell consumer
@@ -66,7 +140,14 @@ public final class CsvReader implements Iterable<String[]> {
 	 */
 	public boolean parseRow(CellConsumer cellConsumer)
 			throws IOException {
-
+		if (pendingResume != null) {
+			if (rowsBeforeResume == 0) {
+				resumeAt(pendingResume);
+			} else {
+				rowsBeforeResume--;
+			}
+		}
+		cellConsumer = countRows(cellConsumer);
 		do {
 			if (consumer.consumeToNextRow(cellConsumer)) {
 				return true;
@@ -99,6 +180,51 @@ public final class CsvReader implements Iterable<String[]> {
 		return handler;
 	}
 
+	/**
+	 * read the rows without allocating a String per cell.
+	 * @param handler the handler, called back with the same {@link CsvRow} instance for each row
+	 * @param <RH> the handler type
+	 * @return the handler
+	 * @throws IOException if an io error occurs
+	 */
+	public <RH extends RowHandler<? super CsvRow>> RH readRows(RH handler) throws IOException {
+		parseAll(new CsvRowConsumer<RH>(handler));
+		return handler;
+	}
+
+	public <RH extends RowHandler<? super CsvRow>> RH readRows(RH handler, int limit) throws IOException {
+		parseRows(new CsvRowConsumer<RH>(handler), limit);
+		return handler;
+	}
+
+	private static final class RowCountingCellConsumer implements CellConsumer {
+		private CellConsumer delegate;
+		private long row;
+		private boolean inRow;
+
+		@Override
+		public void newCell(char[] chars, int offset, int length) {
+			inRow = true;
+			delegate.newCell(chars, offset, length);
+		}
+
+		@Override
+		public void endOfRow() {
+			row++;
+			inRow = false;
+			delegate.endOfRow();
+		}
+
+		@Override
+		public void end() {
+			if (inRow) {
+				row++;
+				inRow = false;
+			}
+			delegate.end();
+		}
+	}
+
 	@Override
 	public Iterator<String[]> iterator() {
 		return new CsvStringArrayIterator(this);
@@ -0,0 +1,178 @@
+package org.sfm.csv;
+
+import org.sfm.csv.impl.cellreader.BooleanCellValueReaderImpl;
+import org.sfm.csv.impl.cellreader.DoubleCellValueReaderImpl;
+import org.sfm.csv.impl.cellreader.FloatCellValueReaderImpl;
+import org.sfm.csv.impl.cellreader.IntegerCellValueReaderImpl;
+import org.sfm.csv.impl.cellreader.LongCellValueReaderImpl;
+import org.sfm.csv.impl.cellreader.StringCellValueReader;
+
+import java.util.Arrays;
+
+/**
+ * Flyweight view of the current csv row.
+ * <p>
+ * The instance and its char sequences are reused from row to row, they are only valid during the callback.
+ * The cells are kept in a single char array so reading a row does not allocate, use {@link #getString(int)} to retain a value.
+ * <pre>
+ * csvReader.readRows(new RowHandler&lt;CsvRow&gt;() {
+ *     public void handle(CsvRow row) {
+ *         if (row.getInt(2) &gt; 10) {
+ *             out.add(row.getString(0));
+ *         }
+ *     }
+ * });
+ * </pre>
+ */
+public final class CsvRow {
+
+    private char[] chars = new char[256];
+    private int charsLength;
+
+    private int[] offsets = new int[8];
+    private int[] lengths = new int[8];
+    private int nbCells;
+
+    private CellCharSequence[] charSequences = new CellCharSequence[8];
+
+    void addCell(char[] source, int offset, int length) {
+        if (nbCells >= offsets.length) {
+            offsets = Arrays.copyOf(offsets, offsets.length * 2);
+            lengths = Arrays.copyOf(lengths, lengths.length * 2);
+        }
+        if (charsLength + length > chars.length) {
+            chars = Arrays.copyOf(chars, Math.max(chars.length * 2, charsLength + length));
+        }
+        System.arraycopy(source, offset, chars, charsLength, length);
+        offsets[nbCells] = charsLength;
+        lengths[nbCells] = length;
+        charsLength += length;
+        nbCells++;
+    }
+
+    void reset() {
+        charsLength = 0;
+        nbCells = 0;
+    }
+
+    /**
+     * @return the number of cells in the row
+     */
+    public int getNbCells() {
+        return nbCells;
+    }
+
+    /**
+     * @return the array holding the chars of all the cells
+     */
+    public char[] getChars() {
+        return chars;
+    }
+
+    public int getOffset(int cellIndex) {
+        checkIndex(cellIndex);
+        return offsets[cellIndex];
+    }
+
+    public int getLength(int cellIndex) {
+        checkIndex(cellIndex);
+        return lengths[cellIndex];
+    }
+
+    public boolean isEmpty(int cellIndex) {
+        return getLength(cellIndex) == 0;
+    }
+
+    /**
+     * @param cellIndex the cell index
+     * @return a view of the cell content, reused from row to row
+     */
+    public CharSequence getCharSequence(int cellIndex) {
+        checkIndex(cellIndex);
+        if (cellIndex >= charSequences.length) {
+            charSequences = Arrays.copyOf(charSequences, Math.max(cellIndex + 1, charSequences.length * 2));
+        }
+        CellCharSequence charSequence = charSequences[cellIndex];
+        if (charSequence == null) {
+            charSequence = new CellCharSequence(cellIndex);
+            charSequences[cellIndex] = charSequence;
+        }
+        return charSequence;
+    }
+
+    public String getString(int cellIndex) {
+        return StringCellValueReader.readString(chars, getOffset(cellIndex), lengths[cellIndex]);
+    }
+
+    public int getInt(int cellIndex) {
+        return IntegerCellValueReaderImpl.parseInt(chars, getOffset(cellIndex), lengths[cellIndex]);
+    }
+
+    public long getLong(int cellIndex) {
+        return LongCellValueReaderImpl.parseLong(chars, getOffset(cellIndex), lengths[cellIndex]);
+    }
+
+    public double getDouble(int cellIndex) {
+        return DoubleCellValueReaderImpl.parseDouble(chars, getOffset(cellIndex), lengths[cellIndex]);
+    }
+
+    public float getFloat(int cellIndex) {
+        return FloatCellValueReaderImpl.parseFloat(chars, getOffset(cellIndex), lengths[cellIndex]);
+    }
+
+    public boolean getBoolean(int cellIndex) {
+        return BooleanCellValueReaderImpl.parseBoolean(chars, getOffset(cellIndex), lengths[cellIndex]);
+    }
+
+    private void checkIndex(int cellIndex) {
+        if (cellIndex < 0 || cellIndex >= nbCells) {
+            throw new IndexOutOfBoundsException("Cell " + cellIndex + " not in row of " + nbCells + " cells");
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("CsvRow{");
+        for(int i = 0; i < nbCells; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(chars, offsets[i], lengths[i]);
+        }
+        return sb.append('}').toString();
+    }
+
+    private final class CellCharSequence implements CharSequence {
+        private final int cellIndex;
+
+        private CellCharSequence(int cellIndex) {
+            this.cellIndex = cellIndex;
+        }
+
+        @Override
+        public int length() {
+            return getLength(cellIndex);
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (index < 0 || index >= length()) {
+                throw new IndexOutOfBoundsException(String.valueOf(index));
+            }
+            return chars[offsets[cellIndex] + index];
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            if (start < 0 || end > length() || start > end) {
+                throw new IndexOutOfBoundsException(start + ", " + end);
+            }
+            return new String(chars, offsets[cellIndex] + start, end - start);
+        }
+
+        @Override
+        public String toString() {
+            return getString(cellIndex);
+        }
+    }
+}
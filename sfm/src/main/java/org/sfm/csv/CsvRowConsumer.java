@@ -0,0 +1,48 @@
+package org.sfm.csv;
+
+import org.sfm.csv.parser.CellConsumer;
+import org.sfm.utils.ErrorHelper;
+import org.sfm.utils.RowHandler;
+
+/**
+ * Call back the handler with the same {@link CsvRow} instance for each row.
+ */
+public final class CsvRowConsumer<RH extends RowHandler<? super CsvRow>> implements CellConsumer {
+	private final RH handler;
+	private final CsvRow row = new CsvRow();
+
+	public CsvRowConsumer(RH handler) {
+		this.handler = handler;
+	}
+
+	@Override
+	public void newCell(char[] chars, int offset, int length) {
+		row.addCell(chars, offset, length);
+	}
+
+	@Override
+	public void endOfRow() {
+		try {
+			handler.handle(row);
+		} catch (Exception e) {
+			ErrorHelper.rethrow(e);
+		} finally {
+			row.reset();
+		}
+	}
+
+	public RH handler() {
+		return handler;
+	}
+
+	@Override
+	public void end() {
+		if (row.getNbCells() != 0) {
+			endOfRow();
+		}
+	}
+
+	public static <RH extends RowHandler<? super CsvRow>> CsvRowConsumer<RH> newInstance(RH handler) {
+		return new CsvRowConsumer<RH>(handler);
+	}
+}
@@ -0,0 +1,94 @@
+package org.sfm.csv;
+
+/**
+ * A column of a fixed-width record, the chars between offset and offset + length of the record.
+ * <p>
+ * By default the values are left aligned and padded with spaces, the trailing pad chars are removed on read and added on write.
+ * A right aligned column is padded on the left.
+ */
+public final class FixedWidthColumn {
+
+    /**
+     * pad char value for a column that is not trimmed on read, it is padded with spaces on write.
+     */
+    public static final int NO_PADDING = -1;
+
+    private final String name;
+    private final int offset;
+    private final int length;
+    private final int padChar;
+    private final boolean rightAligned;
+
+    public FixedWidthColumn(String name, int offset, int length) {
+        this(name, offset, length, ' ', false);
+    }
+
+    /**
+     *
+     * @param name the column name, used as the mapping header
+     * @param offset the index of the first char of the column in the record
+     * @param length the width of the column
+     * @param padChar the pad char, {@link #NO_PADDING} to keep the value as is
+     * @param rightAligned true if the value is padded on the left
+     */
+    public FixedWidthColumn(String name, int offset, int length, int padChar, boolean rightAligned) {
+        if (offset < 0) throw new IllegalArgumentException("offset must be positive");
+        if (length <= 0) throw new IllegalArgumentException("length must be strictly positive");
+        this.name = name;
+        this.offset = offset;
+        this.length = length;
+        this.padChar = padChar;
+        this.rightAligned = rightAligned;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    public int getLength() {
+        return length;
+    }
+
+    public int getEnd() {
+        return offset + length;
+    }
+
+    public int getPadChar() {
+        return padChar;
+    }
+
+    public boolean isRightAligned() {
+        return rightAligned;
+    }
+
+    public FixedWidthColumn padChar(char padChar) {
+        return new FixedWidthColumn(name, offset, length, padChar, rightAligned);
+    }
+
+    public FixedWidthColumn noPadding() {
+        return new FixedWidthColumn(name, offset, length, NO_PADDING, rightAligned);
+    }
+
+    public FixedWidthColumn rightAligned() {
+        return new FixedWidthColumn(name, offset, length, padChar, true);
+    }
+
+    public FixedWidthColumn leftAligned() {
+        return new FixedWidthColumn(name, offset, length, padChar, false);
+    }
+
+    @Override
+    public String toString() {
+        return "FixedWidthColumn{" +
+                "name='" + name + '\'' +
+                ", offset=" + offset +
+                ", length=" + length +
+                ", padChar=" + padChar +
+                ", rightAligned=" + rightAligned +
+                '}';
+    }
+}
@@ -0,0 +1,337 @@
+package org.sfm.csv;
+
+import org.sfm.csv.parser.CellConsumer;
+import org.sfm.csv.parser.CharBuffer;
+import org.sfm.csv.parser.CharSequenceCharBuffer;
+import org.sfm.csv.parser.FixedWidthCharConsumer;
+import org.sfm.csv.parser.ReaderCharBuffer;
+import org.sfm.reflect.TypeReference;
+import org.sfm.utils.RowHandler;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Iterator;
+//IFJAVA8_START
+import java.util.stream.Stream;
+//IFJAVA8_END
+
+/**
+ * FixedWidthParser provides a fluent DSL to parse or map fixed-width records.<p>
+ * The records are sliced in cells from the column layout and fed to the same {@link CellConsumer} and {@link CsvMapper} as the csv content.
+ * <br>
+ * <code>
+ *     FixedWidthParser
+ *     <br>&nbsp;&nbsp;&nbsp;&nbsp;.column("id", 0, 5)
+ *     <br>&nbsp;&nbsp;&nbsp;&nbsp;.column("name", 5, 20)
+ *     <br>&nbsp;&nbsp;&nbsp;&nbsp;.column(new FixedWidthColumn("amount", 25, 10).padChar('0').rightAligned())
+ *     <br>&nbsp;&nbsp;&nbsp;&nbsp;.mapTo(MyClass.class)
+ *     <br>&nbsp;&nbsp;&nbsp;&nbsp;.forEach(reader, handler);
+ * </code>
+ * <p>
+ * The records end on \r, \n or \r\n unless a record length is set with {@link DSL#recordLength(int)}.
+ * Each call to the DSL return an immutable representation of the current setup.
+ * @see FixedWidthWriter
+ */
+public final class FixedWidthParser {
+
+	public static DSL dsl() {
+		return new DSL();
+	}
+
+	public static DSL column(String name, int offset, int length) {
+		return dsl().column(name, offset, length);
+	}
+
+	public static DSL column(FixedWidthColumn column) {
+		return dsl().column(column);
+	}
+
+	public static DSL widths(int... widths) {
+		return dsl().widths(widths);
+	}
+
+	/**
+	 * DSL for fixed-width parsing.
+	 * @see org.sfm.csv.FixedWidthParser
+	 */
+	public static final class DSL {
+
+		private final FixedWidthColumn[] columns;
+		private final int recordLength;
+		private final int bufferSize;
+		private final int maxBufferSize;
+		private final int skip;
+		private final int limit;
+
+		private DSL() {
+			this(new FixedWidthColumn[0], -1, CsvParser.DSL.DEFAULT_BUFFER_SIZE_4K, CsvParser.DSL.DEFAULT_MAX_BUFFER_SIZE_8M, 0, -1);
+		}
+
+		private DSL(FixedWidthColumn[] columns, int recordLength, int bufferSize, int maxBufferSize, int skip, int limit) {
+			this.columns = columns;
+			this.recordLength = recordLength;
+			this.bufferSize = bufferSize;
+			this.maxBufferSize = maxBufferSize;
+			this.skip = skip;
+			this.limit = limit;
+		}
+
+		/**
+		 * add a column, left aligned and padded with spaces.
+		 * @param name the column name
+		 * @param offset the index of the first char of the column in the record
+		 * @param length the width of the column
+		 * @return the new DSL
+		 */
+		public DSL column(String name, int offset, int length) {
+			return column(new FixedWidthColumn(name, offset, length));
+		}
+
+		public DSL column(FixedWidthColumn column) {
+			FixedWidthColumn[] newColumns = Arrays.copyOf(columns, columns.length + 1);
+			newColumns[columns.length] = column;
+			return new DSL(newColumns, recordLength, bufferSize, maxBufferSize, skip, limit);
+		}
+
+		/**
+		 * add contiguous columns of the specified widths after the last column, named by their index.
+		 * @param widths the widths of the columns
+		 * @return the new DSL
+		 */
+		public DSL widths(int... widths) {
+			DSL dsl = this;
+			for(int width : widths) {
+				FixedWidthColumn[] current = dsl.columns;
+				int offset = current.length == 0 ? 0 : current[current.length - 1].getEnd();
+				dsl = dsl.column(String.valueOf(current.length), offset, width);
+			}
+			return dsl;
+		}
+
+		/**
+		 * set the length of the records, the records are then not delimited by end of lines.
+		 * @param recordLength the length of a record
+		 * @return the new DSL
+		 */
+		public DSL recordLength(int recordLength) {
+			if (recordLength <= 0) throw new IllegalArgumentException("recordLength must be strictly positive");
+			return new DSL(columns, recordLength, bufferSize, maxBufferSize, skip, limit);
+		}
+
+		public DSL bufferSize(int bufferSize) {
+			return new DSL(columns, recordLength, bufferSize, maxBufferSize, skip, limit);
+		}
+
+		public DSL maxBufferSize(int maxBufferSize) {
+			return new DSL(columns, recordLength, bufferSize, maxBufferSize, skip, limit);
+		}
+
+		public DSL skip(int skip) {
+			return new DSL(columns, recordLength, bufferSize, maxBufferSize, skip, limit);
+		}
+
+		public DSL limit(int limit) {
+			return new DSL(columns, recordLength, bufferSize, maxBufferSize, skip, limit);
+		}
+
+		public <CC extends CellConsumer> CC parse(Reader reader, CC cellConsumer) throws IOException {
+			return parse(charBuffer(reader), cellConsumer);
+		}
+
+		public <CC extends CellConsumer> CC parse(CharSequence content, CC cellConsumer) throws IOException {
+			return parse(new CharSequenceCharBuffer(content), cellConsumer);
+		}
+
+		public <CC extends CellConsumer> CC parse(String content, CC cellConsumer) throws IOException {
+			return parse(new CharSequenceCharBuffer(content), cellConsumer);
+		}
+
+		private <CC extends CellConsumer> CC parse(CharBuffer charBuffer, CC cellConsumer) throws IOException {
+			CsvReader csvReader = reader(charBuffer);
+			if (limit == -1) {
+				csvReader.parseAll(cellConsumer);
+			} else {
+				csvReader.parseRows(cellConsumer, limit);
+			}
+			return cellConsumer;
+		}
+
+		public CsvReader reader(Reader reader) throws IOException {
+			return reader(charBuffer(reader));
+		}
+
+		public CsvReader reader(CharSequence content) throws IOException {
+			return reader(new CharSequenceCharBuffer(content));
+		}
+
+		public CsvReader reader(String content) throws IOException {
+			return reader(new CharSequenceCharBuffer(content));
+		}
+
+		private CsvReader reader(CharBuffer charBuffer) throws IOException {
+			CsvReader csvReader = new CsvReader(charConsumer(charBuffer));
+			csvReader.skipRows(skip);
+			return csvReader;
+		}
+
+		private CharBuffer charBuffer(Reader reader) {
+			return new ReaderCharBuffer(bufferSize, maxBufferSize, reader);
+		}
+
+		private FixedWidthCharConsumer charConsumer(CharBuffer charBuffer) {
+			if (columns.length == 0) {
+				throw new IllegalStateException("No column defined");
+			}
+			int[] offsets = new int[columns.length];
+			int[] lengths = new int[columns.length];
+			int[] padChars = new int[columns.length];
+			boolean[] rightAligned = new boolean[columns.length];
+			for(int i = 0; i < columns.length; i++) {
+				FixedWidthColumn column = columns[i];
+				offsets[i] = column.getOffset();
+				lengths[i] = column.getLength();
+				padChars[i] = column.getPadChar();
+				rightAligned[i] = column.isRightAligned();
+			}
+			return new FixedWidthCharConsumer(charBuffer, offsets, lengths, padChars, rightAligned, recordLength);
+		}
+
+		public Iterator<String[]> iterator(Reader reader) throws IOException {
+			return reader(reader).iterator();
+		}
+
+		public Iterator<String[]> iterator(CharSequence content) throws IOException {
+			return reader(content).iterator();
+		}
+
+		public Iterator<String[]> iterator(String content) throws IOException {
+			return reader(content).iterator();
+		}
+
+		//IFJAVA8_START
+		public Stream<String[]> stream(Reader reader) throws IOException {
+			return reader(reader).stream();
+		}
+
+		public Stream<String[]> stream(String content) throws IOException {
+			return reader(content).stream();
+		}
+		//IFJAVA8_END
+
+		/**
+		 * map the records to the specified type, the column names are used as headers.
+		 * @param target the target type
+		 * @param <T> the target type
+		 * @return the mapping DSL
+		 */
+		public <T> MapWithDSL<T> mapTo(Class<T> target) {
+			return mapTo((Type) target);
+		}
+
+		public <T> MapWithDSL<T> mapTo(TypeReference<T> target) {
+			return mapTo(target.getType());
+		}
+
+		public <T> MapWithDSL<T> mapTo(Type target) {
+			CsvMapperBuilder<T> builder = CsvMapperFactory.newInstance().newBuilder(target);
+			for(FixedWidthColumn column : columns) {
+				builder.addMapping(column.getName());
+			}
+			return mapWith(builder.mapper());
+		}
+
+		/**
+		 * map the records with the specified mapper, the cells are in the order of the columns.
+		 * @param mapper the mapper
+		 * @param <T> the target type
+		 * @return the mapping DSL
+		 */
+		public <T> MapWithDSL<T> mapWith(CsvMapper<T> mapper) {
+			return new MapWithDSL<T>(this, mapper);
+		}
+
+		public FixedWidthColumn[] columns() {
+			return columns.clone();
+		}
+
+		public int recordLength() {
+			return recordLength;
+		}
+
+		public int bufferSize() {
+			return bufferSize;
+		}
+
+		public int maxBufferSize() {
+			return maxBufferSize;
+		}
+
+		public int skip() {
+			return skip;
+		}
+
+		public int limit() {
+			return limit;
+		}
+	}
+
+	/**
+	 * DSL for fixed-width mapping.
+	 * @see org.sfm.csv.FixedWidthParser
+	 * @see org.sfm.csv.CsvMapper
+	 */
+	public static final class MapWithDSL<T> {
+		private final DSL dsl;
+		private final CsvMapper<T> mapper;
+
+		private MapWithDSL(DSL dsl, CsvMapper<T> mapper) {
+			this.dsl = dsl;
+			this.mapper = mapper;
+		}
+
+		public Iterator<T> iterator(Reader reader) throws IOException {
+			return mapper.iterator(dsl.reader(reader));
+		}
+
+		public Iterator<T> iterator(CharSequence content) throws IOException {
+			return mapper.iterator(dsl.reader(content));
+		}
+
+		public Iterator<T> iterator(String content) throws IOException {
+			return mapper.iterator(dsl.reader(content));
+		}
+
+		public <H extends RowHandler<? super T>> H forEach(Reader reader, H rowHandler) throws IOException {
+			return forEach(rowHandler, dsl.reader(reader));
+		}
+
+		public <H extends RowHandler<? super T>> H forEach(CharSequence content, H rowHandler) throws IOException {
+			return forEach(rowHandler, dsl.reader(content));
+		}
+
+		public <H extends RowHandler<? super T>> H forEach(String content, H rowHandler) throws IOException {
+			return forEach(rowHandler, dsl.reader(content));
+		}
+
+		private <H extends RowHandler<? super T>> H forEach(H rowHandler, CsvReader csvReader) throws IOException {
+			if (dsl.limit == -1) {
+				mapper.forEach(csvReader, rowHandler);
+			} else {
+				mapper.forEach(csvReader, rowHandler, dsl.limit);
+			}
+			return rowHandler;
+		}
+
+		//IFJAVA8_START
+		public Stream<T> stream(Reader reader) throws IOException {
+			return mapper.stream(dsl.reader(reader));
+		}
+
+		public Stream<T> stream(String content) throws IOException {
+			return mapper.stream(dsl.reader(content));
+		}
+		//IFJAVA8_END
+	}
+}
@@ -0,0 +1,160 @@
+package org.sfm.csv;
+
+import org.sfm.csv.impl.writer.FixedWidthCellWriter;
+import org.sfm.csv.mapper.FieldMapperToAppendableFactory;
+import org.sfm.map.Mapper;
+import org.sfm.map.MapperConfig;
+import org.sfm.map.MappingContext;
+import org.sfm.map.column.ColumnProperty;
+import org.sfm.map.column.FieldMapperColumnDefinition;
+import org.sfm.map.mapper.ContextualMapper;
+import org.sfm.reflect.ReflectionService;
+import org.sfm.reflect.TypeReference;
+import org.sfm.reflect.meta.ClassMeta;
+import org.sfm.utils.ErrorHelper;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+
+/**
+ * A FixedWidthWriter allows the caller to write object of type T to an appendable as fixed-width records. See {@link org.sfm.csv.FixedWidthWriter#from(Class)} to create one.
+ * <p>
+ * Each value is padded to the width of its column, a value that does not fit fails the write.
+ * <br>
+ * <code>
+ *     FixedWidthWriter writer = FixedWidthWriter.from(MyObject.class).column("id", 5).column("name", 20).to(myWriter);<br>
+ *     writer.append(obj1).append(obj2);<br>
+ * </code>
+ * <br>
+ * The columns of a {@link org.sfm.csv.FixedWidthParser.DSL} can be reused with {@link FixedWidthWriterDSL#columns(FixedWidthColumn...)}.
+ * Because the DSL create a mapper it is better to cache the {@link org.sfm.csv.FixedWidthWriter.FixedWidthWriterDSL}.
+ *
+ * @param <T> the type of object to write
+ * @see FixedWidthParser
+ */
+public final class FixedWidthWriter<T> {
+
+    private final Mapper<T, Appendable> mapper;
+    private final FixedWidthCellWriter.Row row;
+    private final MappingContext<T> mappingContext;
+
+    private FixedWidthWriter(Mapper<T, Appendable> mapper, FixedWidthCellWriter.Row row, MappingContext<T> mappingContext) {
+        this.mapper = mapper;
+        this.row = row;
+        this.mappingContext = mappingContext;
+    }
+
+    /**
+     * write the specified value to the underlying appendable.
+     * @param value the value to write
+     * @return the current writer
+     * @throws IOException If an I/O error occurs
+     */
+    public FixedWidthWriter<T> append(T value) throws IOException {
+        try {
+            mapper.mapTo(value, row, mappingContext);
+        } catch(Exception e) {
+            ErrorHelper.rethrow(e);
+        }
+        return this;
+    }
+
+    public static <T> FixedWidthWriterDSL<T> from(Class<T> type) {
+        return from((Type)type);
+    }
+
+    public static <T> FixedWidthWriterDSL<T> from(TypeReference<T> typeReference) {
+        return from(typeReference.getType());
+    }
+
+    public static <T> FixedWidthWriterDSL<T> from(Type type) {
+        ClassMeta<T> classMeta = ReflectionService.newInstance().getClassMeta(type);
+        return new FixedWidthWriterDSL<T>(classMeta, new FixedWidthColumn[0], newColumnDefinitions(0), "\r\n");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static FieldMapperColumnDefinition<CsvColumnKey>[] newColumnDefinitions(int length) {
+        return new FieldMapperColumnDefinition[length];
+    }
+
+    /**
+     * the fixed-width writer DSL
+     * @param <T> the type of object to write
+     */
+    public static final class FixedWidthWriterDSL<T> {
+
+        private final ClassMeta<T> classMeta;
+        private final FixedWidthColumn[] columns;
+        private final FieldMapperColumnDefinition<CsvColumnKey>[] columnDefinitions;
+        private final String endOfLine;
+        private final FixedWidthCellWriter cellWriter;
+        private final ContextualMapper<T, Appendable> mapper;
+
+        private FixedWidthWriterDSL(ClassMeta<T> classMeta, FixedWidthColumn[] columns, FieldMapperColumnDefinition<CsvColumnKey>[] columnDefinitions, String endOfLine) {
+            this.classMeta = classMeta;
+            this.columns = columns;
+            this.columnDefinitions = columnDefinitions;
+            this.endOfLine = endOfLine;
+            this.cellWriter = new FixedWidthCellWriter(columns, endOfLine);
+            this.mapper = columns.length == 0 ? null : newMapper(classMeta, columns, columnDefinitions, cellWriter);
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> ContextualMapper<T, Appendable> newMapper(ClassMeta<T> classMeta, FixedWidthColumn[] columns, FieldMapperColumnDefinition<CsvColumnKey>[] columnDefinitions, FixedWidthCellWriter cellWriter) {
+            CsvWriterBuilder<T> builder = new CsvWriterBuilder<T>(classMeta, MapperConfig.<CsvColumnKey>fieldMapperConfig(), new FieldMapperToAppendableFactory(cellWriter), cellWriter);
+            for(int i = 0; i < columns.length; i++) {
+                builder.addColumn(columns[i].getName(), columnDefinitions[i]);
+            }
+            return (ContextualMapper<T, Appendable>) builder.mapper();
+        }
+
+        /**
+         * Create a writer on the specified appendable for the type T
+         * @param appendable the appendable to write to
+         * @return a FixedWidthWriter on the specified appendable
+         */
+        public FixedWidthWriter<T> to(Appendable appendable) {
+            if (mapper == null) {
+                throw new IllegalStateException("No column defined");
+            }
+            return new FixedWidthWriter<T>(mapper, cellWriter.newRow(appendable), mapper.newMappingContext());
+        }
+
+        /**
+         * add a left aligned column padded with spaces after the last column.
+         * @param name the column name
+         * @param length the width of the column
+         * @param properties the column properties
+         * @return the new DSL
+         */
+        public FixedWidthWriterDSL<T> column(String name, int length, ColumnProperty... properties) {
+            int offset = columns.length == 0 ? 0 : columns[columns.length - 1].getEnd();
+            return column(new FixedWidthColumn(name, offset, length), properties);
+        }
+
+        public FixedWidthWriterDSL<T> column(FixedWidthColumn column, ColumnProperty... properties) {
+            FixedWidthColumn[] newColumns = Arrays.copyOf(columns, columns.length + 1);
+            newColumns[columns.length] = column;
+            FieldMapperColumnDefinition<CsvColumnKey>[] newColumnDefinitions = Arrays.copyOf(columnDefinitions, columnDefinitions.length + 1);
+            newColumnDefinitions[columnDefinitions.length] = FieldMapperColumnDefinition.<CsvColumnKey>identity().add(properties);
+            return new FixedWidthWriterDSL<T>(classMeta, newColumns, newColumnDefinitions, endOfLine);
+        }
+
+        public FixedWidthWriterDSL<T> columns(FixedWidthColumn... columns) {
+            FixedWidthWriterDSL<T> dsl = this;
+            for(FixedWidthColumn column : columns) {
+                dsl = dsl.column(column);
+            }
+            return dsl;
+        }
+
+        /**
+         * @param endOfLine the record delimiter, the empty string for records of fixed length with no delimiter
+         * @return the new DSL
+         */
+        public FixedWidthWriterDSL<T> endOfLine(String endOfLine) {
+            return new FixedWidthWriterDSL<T>(classMeta, columns, columnDefinitions, endOfLine);
+        }
+    }
+}
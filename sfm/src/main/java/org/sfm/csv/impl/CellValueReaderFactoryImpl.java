@@ -6,6 +6,7 @@ import org.sfm.csv.CsvColumnDefinition;
 import org.sfm.csv.impl.cellreader.*;
 import org.sfm.csv.impl.cellreader.joda.JodaTimeCellValueReaderHelper;
 import org.sfm.csv.ParsingContextFactoryBuilder;
+import org.sfm.map.column.InternStringProperty;
 import org.sfm.map.impl.JodaTimeClasses;
 import org.sfm.reflect.TypeHelper;
 
@@ -153,6 +154,8 @@ public final class CellValueReaderFactoryImpl implements CellValueReaderFactory
 								}
 							});
 		//IFJAVA8_END
+		} else if (String.class.equals(propertyClass) && columnDefinition.has(InternStringProperty.class)) {
+			reader = (CellValueReader<P>) new InternStringCellValueReader(columnDefinition.lookFor(InternStringProperty.class).getCapacity());
 		}  else if (Enum.class.isAssignableFrom(propertyClass)) {
 			reader = new EnumCellValueReader(propertyClass);
 		} else if (JodaTimeClasses.isJoda(propertyClass)){
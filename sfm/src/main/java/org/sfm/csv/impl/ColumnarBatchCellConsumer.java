@@ -0,0 +1,91 @@
+package org.sfm.csv.impl;
+
+import org.sfm.csv.ParsingContext;
+import org.sfm.csv.mapper.CellSetter;
+import org.sfm.csv.parser.CellConsumer;
+import org.sfm.map.RowHandlerErrorHandler;
+import org.sfm.map.columnar.ColumnarBatch;
+import org.sfm.utils.ErrorHelper;
+import org.sfm.utils.RowHandler;
+
+public final class ColumnarBatchCellConsumer implements CellConsumer {
+
+    private static final char[] EMPTY = new char[0];
+
+    private final CellSetter<ColumnarBatch>[] setters;
+    private final ColumnarBatch batch;
+    private final ParsingContext parsingContext;
+    private final RowHandler<? super ColumnarBatch> handler;
+    private final RowHandlerErrorHandler errorHandler;
+
+    private int cellIndex = 0;
+
+    public ColumnarBatchCellConsumer(CellSetter<ColumnarBatch>[] setters,
+                                     ColumnarBatch batch,
+                                     ParsingContext parsingContext,
+                                     RowHandler<? super ColumnarBatch> handler,
+                                     RowHandlerErrorHandler errorHandler) {
+        this.setters = setters;
+        this.batch = batch;
+        this.parsingContext = parsingContext;
+        this.handler = handler;
+        this.errorHandler = errorHandler;
+    }
+
+    @Override
+    public void newCell(char[] chars, int offset, int length) {
+        if (cellIndex < setters.length) {
+            setCell(setters[cellIndex], chars, offset, length);
+        }
+        cellIndex++;
+    }
+
+    @Override
+    public void endOfRow() {
+        // the arrays are reused across batches, cells missing from the row are set as empty
+        for(int i = cellIndex; i < setters.length; i++) {
+            setCell(setters[i], EMPTY, 0, 0);
+        }
+        cellIndex = 0;
+        batch.endOfRow();
+        if (handler != null && batch.isFull()) {
+            flush();
+        }
+    }
+
+    @Override
+    public void end() {
+        if (cellIndex > 0) {
+            endOfRow();
+        }
+        if (handler != null && !batch.isEmpty()) {
+            flush();
+        }
+    }
+
+    private void setCell(CellSetter<ColumnarBatch> setter, char[] chars, int offset, int length) {
+        if (setter != null) {
+            try {
+                setter.set(batch, chars, offset, length, parsingContext);
+            } catch (Exception e) {
+                ErrorHelper.rethrow(e);
+            }
+        }
+    }
+
+    private void flush() {
+        try {
+            handler.handle(batch);
+        } catch (Throwable e) {
+            errorHandler.handlerError(e, batch);
+        }
+        batch.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "ColumnarBatchCellConsumer{" +
+                "batch=" + batch +
+                '}';
+    }
+}
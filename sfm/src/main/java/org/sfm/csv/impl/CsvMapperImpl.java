@@ -8,6 +8,10 @@ import org.sfm.csv.mapper.*;
 import org.sfm.csv.parser.CellConsumer;
 import org.sfm.map.MappingException;
 import org.sfm.map.RowHandlerErrorHandler;
+import org.sfm.map.metrics.Counter;
+import org.sfm.map.metrics.MeteredRowHandler;
+import org.sfm.map.metrics.MetricNames;
+import org.sfm.map.metrics.MetricsRegistry;
 import org.sfm.utils.ErrorHelper;
 import org.sfm.utils.RowHandler;
 
@@ -36,11 +40,22 @@ public final class CsvMapperImpl<T> implements CsvMapper<T> {
     private final boolean hasSetterSubProperties;
     private final boolean hasSubProperties;
 
+    private final Counter rows;
+
 	public CsvMapperImpl(CsvMapperCellHandlerFactory<T> csvMapperCellHandlerFactory,
                          DelayedCellSetterFactory<T, ?>[] delayedCellSetterFactories,
                          CellSetter<T>[] setters,
                          CsvColumnKey[] joinKeys,
                          RowHandlerErrorHandler rowHandlerErrorHandlers) {
+		this(csvMapperCellHandlerFactory, delayedCellSetterFactories, setters, joinKeys, rowHandlerErrorHandlers, null);
+	}
+
+	public CsvMapperImpl(CsvMapperCellHandlerFactory<T> csvMapperCellHandlerFactory,
+                         DelayedCellSetterFactory<T, ?>[] delayedCellSetterFactories,
+                         CellSetter<T>[] setters,
+                         CsvColumnKey[] joinKeys,
+                         RowHandlerErrorHandler rowHandlerErrorHandlers,
+                         MetricsRegistry metricsRegistry) {
 		super();
 		this.csvMapperCellHandlerFactory = csvMapperCellHandlerFactory;
 		this.delayedCellSetterFactories = delayedCellSetterFactories;
@@ -49,6 +64,7 @@ public final class CsvMapperImpl<T> implements CsvMapper<T> {
 		this.rowHandlerErrorHandlers = rowHandlerErrorHandlers;
         this.hasSetterSubProperties = hasSetterSubProperties(setters);
         this.hasSubProperties = hasSetterSubProperties || hasDelayedMarker(delayedCellSetterFactories);
+        this.rows = metricsRegistry != null ? metricsRegistry.counter(MetricNames.ROWS) : null;
 	}
 
     private boolean hasDelayedMarker(DelayedCellSetterFactory<T, ?>[] delayedCellSetterFactories) {
@@ -80,6 +96,17 @@ public final class CsvMapperImpl<T> implements CsvMapper<T> {
 		return handle;
 	}
 
+	@Override
+	public final <H extends RowHandler<? super T>> H forEach(final Reader reader, final T target, final H handler) throws IOException, MappingException {
+		return forEach(CsvParser.reader(reader), target, handler);
+	}
+
+	@Override
+	public <H extends RowHandler<? super T>> H forEach(CsvReader reader, T target, H handle) throws IOException, MappingException {
+		reader.parseAll(newFlyweightCellConsumer(handle, target));
+		return handle;
+	}
+
 	@Override
 	public final <H extends RowHandler<? super T>> H forEach(final Reader reader, final H handler, final int skip) throws IOException, MappingException {
 		return forEach(CsvParser.skip(skip).reader(reader), handler);
@@ -190,11 +217,32 @@ public final class CsvMapperImpl<T> implements CsvMapper<T> {
 
 	//IFJAVA8_END
 
-    protected CsvMapperCellConsumer newCellConsumer(final RowHandler<? super T> handler) {
+    @Override
+    public CsvMapperCellConsumer<T> newCellConsumer(final RowHandler<? super T> handler) {
         return newCellConsumer(handler, null);
     }
 
+    protected CsvMapperCellConsumer<T> newFlyweightCellConsumer(final RowHandler<? super T> handler, T target) {
+        if (joinKeys.length > 0) {
+            throw new UnsupportedOperationException("Flyweight iteration is not supported on a join mapper " + this);
+        }
+        for (DelayedCellSetterFactory<T, ?> delayedCellSetterFactory : delayedCellSetterFactories) {
+            if (delayedCellSetterFactory != null && !delayedCellSetterFactory.hasSetter()) {
+                throw new UnsupportedOperationException("Flyweight iteration needs all the properties to be settable, "
+                        + delayedCellSetterFactory + " can only be injected through the constructor");
+            }
+        }
+        return newCellConsumer(handler, null, target);
+    }
+
 	protected CsvMapperCellConsumer<T> newCellConsumer(final RowHandler<? super T> handler, BreakDetector parentBreakDetector) {
+        return newCellConsumer(handler, parentBreakDetector, null);
+    }
+
+	private CsvMapperCellConsumer<T> newCellConsumer(RowHandler<? super T> handler, BreakDetector parentBreakDetector, T flyweight) {
+        if (rows != null && handler != null && parentBreakDetector == null) {
+            handler = new MeteredRowHandler<T>(handler, rows);
+        }
         CsvMapperCellConsumer<?>[] cellHandlers = null;
 
         if (hasSubProperties) {
@@ -206,6 +254,7 @@ public final class CsvMapperImpl<T> implements CsvMapper<T> {
         CellSetter<T>[] outSetters = getCellSetters(cellHandlers, breakDetector);
 
         CsvMapperCellHandler<T> mapperSetters = csvMapperCellHandlerFactory.newInstance(outDelayedCellSetters, outSetters);
+        mapperSetters.setFlyweight(flyweight);
 
         return new CsvMapperCellConsumer<T>(mapperSetters,
                 rowHandlerErrorHandlers,
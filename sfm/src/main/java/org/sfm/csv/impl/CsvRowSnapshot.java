@@ -0,0 +1,59 @@
+package org.sfm.csv.impl;
+
+import org.sfm.csv.ParsingContext;
+
+/**
+ * Copy of the char ranges of the mapped cells of a csv row.
+ */
+public final class CsvRowSnapshot {
+
+    private final char[] chars;
+    private final int[] offsets;
+    private final int[] lengths;
+    private final ParsingContext parsingContext;
+
+    public CsvRowSnapshot(char[] chars, int[] offsets, int[] lengths, ParsingContext parsingContext) {
+        this.chars = chars;
+        this.offsets = offsets;
+        this.lengths = lengths;
+        this.parsingContext = parsingContext;
+    }
+
+    /**
+     * @param cellIndex the cell index
+     * @return true if the cell was present in the row and mapped
+     */
+    public boolean hasCell(int cellIndex) {
+        return cellIndex < lengths.length && lengths[cellIndex] >= 0;
+    }
+
+    public char[] getChars() {
+        return chars;
+    }
+
+    public int getOffset(int cellIndex) {
+        return offsets[cellIndex];
+    }
+
+    public int getLength(int cellIndex) {
+        return lengths[cellIndex];
+    }
+
+    public ParsingContext getParsingContext() {
+        return parsingContext;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("CsvRowSnapshot{");
+        for(int i = 0; i < lengths.length; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            if (lengths[i] >= 0) {
+                sb.append(chars, offsets[i], lengths[i]);
+            }
+        }
+        return sb.append('}').toString();
+    }
+}
@@ -0,0 +1,31 @@
+package org.sfm.csv.impl;
+
+import org.sfm.csv.CellValueReader;
+import org.sfm.reflect.Getter;
+
+public final class CsvRowSnapshotGetter<P> implements Getter<CsvRowSnapshot, P> {
+
+    private final int cellIndex;
+    private final CellValueReader<? extends P> reader;
+
+    public CsvRowSnapshotGetter(int cellIndex, CellValueReader<? extends P> reader) {
+        this.cellIndex = cellIndex;
+        this.reader = reader;
+    }
+
+    @Override
+    public P get(CsvRowSnapshot target) throws Exception {
+        if (!target.hasCell(cellIndex)) {
+            return null;
+        }
+        return reader.read(target.getChars(), target.getOffset(cellIndex), target.getLength(cellIndex), target.getParsingContext());
+    }
+
+    @Override
+    public String toString() {
+        return "CsvRowSnapshotGetter{" +
+                "cellIndex=" + cellIndex +
+                ", reader=" + reader +
+                '}';
+    }
+}
@@ -5,6 +5,8 @@ import org.sfm.csv.parser.CellConsumer;
 import org.sfm.map.*;
 import org.sfm.map.mapper.ColumnDefinitionProvider;
 import org.sfm.map.mapper.MapperCache;
+import org.sfm.map.metrics.MetricNames;
+import org.sfm.map.metrics.MetricsRegistry;
 import org.sfm.map.mapper.MapperKey;
 import org.sfm.map.mapper.MapperKeyComparator;
 import org.sfm.reflect.meta.ClassMeta;
@@ -51,7 +53,11 @@ public final class DynamicCsvMapper<T> implements CsvMapper<T> {
 	}
 
 	public DynamicCsvMapper(Type target, ClassMeta<T> classMeta, ColumnDefinitionProvider<CsvColumnDefinition, CsvColumnKey> columnDefinitionProvider) {
-		this(target, classMeta,  "yyyy-MM-dd HH:mm:ss", new CellValueReaderFactoryImpl(), MapperConfig.<CsvColumnKey, CsvColumnDefinition>config(columnDefinitionProvider));
+		this(target, classMeta, MapperConfig.<CsvColumnKey, CsvColumnDefinition>config(columnDefinitionProvider));
+	}
+
+	public DynamicCsvMapper(Type target, ClassMeta<T> classMeta, MapperConfig<CsvColumnKey, CsvColumnDefinition> mapperConfig) {
+		this(target, classMeta,  "yyyy-MM-dd HH:mm:ss", new CellValueReaderFactoryImpl(), mapperConfig);
 	}
 
 	@Override
@@ -66,6 +72,18 @@ public final class DynamicCsvMapper<T> implements CsvMapper<T> {
 		return handle;
 	}
 
+	@Override
+	public <H extends RowHandler<? super T>> H forEach(Reader reader, T target, H handle) throws IOException, MappingException {
+		return forEach(CsvParser.reader(reader), target, handle);
+	}
+
+	@Override
+	public <H extends RowHandler<? super T>> H forEach(CsvReader csvReader, T target, H handle) throws IOException {
+		CellConsumer mapperCellConsumer = getDelegateMapper(csvReader).newFlyweightCellConsumer(handle, target);
+		csvReader.parseAll(mapperCellConsumer);
+		return handle;
+	}
+
 	@Override
 	public <H extends RowHandler<? super T>> H forEach(Reader reader, H handle, int skip) throws IOException, MappingException {
 		return forEach(CsvParser.skip(skip).reader(reader), handle);
@@ -101,6 +119,11 @@ public final class DynamicCsvMapper<T> implements CsvMapper<T> {
 	}
 
 
+	@Override
+	public CellConsumer newCellConsumer(RowHandler<? super T> handle) {
+		return new HeaderCellConsumer(handle);
+	}
+
 	private CsvMapperImpl<T> getDelegateMapper(CsvReader reader) throws IOException {
 		ColumnsMapperKeyBuilderCellConsumer keyBuilderCellConsumer = new ColumnsMapperKeyBuilderCellConsumer();
 		reader.parseRow(keyBuilderCellConsumer);
@@ -108,6 +131,45 @@ public final class DynamicCsvMapper<T> implements CsvMapper<T> {
 	}
 
 
+	/**
+	 * read the headers from the first row then delegate to the consumer of the mapper for those headers.
+	 */
+	private final class HeaderCellConsumer implements CellConsumer {
+		private final RowHandler<? super T> handle;
+		private ColumnsMapperKeyBuilderCellConsumer keyBuilderCellConsumer = new ColumnsMapperKeyBuilderCellConsumer();
+		private CellConsumer delegate;
+
+		private HeaderCellConsumer(RowHandler<? super T> handle) {
+			this.handle = handle;
+		}
+
+		@Override
+		public void newCell(char[] chars, int offset, int length) {
+			if (delegate != null) {
+				delegate.newCell(chars, offset, length);
+			} else {
+				keyBuilderCellConsumer.newCell(chars, offset, length);
+			}
+		}
+
+		@Override
+		public void endOfRow() {
+			if (delegate != null) {
+				delegate.endOfRow();
+			} else {
+				delegate = getCsvMapper(keyBuilderCellConsumer.getKey()).newCellConsumer(handle);
+				keyBuilderCellConsumer = null;
+			}
+		}
+
+		@Override
+		public void end() {
+			if (delegate != null) {
+				delegate.end();
+			}
+		}
+	}
+
 	//IFJAVA8_START
 	@Override
 	public Stream<T> stream(Reader reader) throws IOException {
@@ -133,10 +195,20 @@ public final class DynamicCsvMapper<T> implements CsvMapper<T> {
 		if (csvMapperImpl == null) {
 			csvMapperImpl = buildMapper(key);
 			mapperCache.add(key, csvMapperImpl);
+			countCache(MetricNames.MAPPER_CACHE_MISSES);
+		} else {
+			countCache(MetricNames.MAPPER_CACHE_HITS);
 		}
 		return csvMapperImpl;
 	}
 
+	private void countCache(String name) {
+		MetricsRegistry metricsRegistry = mapperConfig.metricsRegistry();
+		if (metricsRegistry != null) {
+			metricsRegistry.counter(name).add(1);
+		}
+	}
+
 	private CsvMapperImpl<T> buildMapper(MapperKey<CsvColumnKey> key) {
 		CsvMapperBuilder<T> builder = new CsvMapperBuilder<T>(target, classMeta, 0,  cellValueReaderFactory, mapperConfig);
 		builder.setDefaultDateFormat(defaultDateFormat);
@@ -0,0 +1,93 @@
+package org.sfm.csv.impl;
+
+import org.sfm.csv.ParsingContext;
+import org.sfm.csv.parser.CellConsumer;
+import org.sfm.map.RowHandlerErrorHandler;
+import org.sfm.map.lazy.LazyObjectFactory;
+import org.sfm.utils.RowHandler;
+
+import java.util.Arrays;
+
+/**
+ * Copy the mapped cells of each row in a {@link CsvRowSnapshot} and call back the handler with a lazy proxy on it.
+ */
+public final class LazyCellConsumer<T> implements CellConsumer {
+
+    private final LazyObjectFactory<CsvRowSnapshot, T> factory;
+    private final boolean[] mappedCells;
+    private final ParsingContext parsingContext;
+    private final RowHandler<? super T> handler;
+    private final RowHandlerErrorHandler errorHandler;
+
+    private char[] chars = new char[64];
+    private int charsLength = 0;
+    private final int[] offsets;
+    private final int[] lengths;
+    private int cellIndex = 0;
+
+    public LazyCellConsumer(LazyObjectFactory<CsvRowSnapshot, T> factory,
+                            boolean[] mappedCells,
+                            ParsingContext parsingContext,
+                            RowHandler<? super T> handler,
+                            RowHandlerErrorHandler errorHandler) {
+        this.factory = factory;
+        this.mappedCells = mappedCells;
+        this.parsingContext = parsingContext;
+        this.handler = handler;
+        this.errorHandler = errorHandler;
+        this.offsets = new int[mappedCells.length];
+        this.lengths = new int[mappedCells.length];
+        Arrays.fill(lengths, -1);
+    }
+
+    @Override
+    public void newCell(char[] chars, int offset, int length) {
+        if (cellIndex < mappedCells.length && mappedCells[cellIndex]) {
+            ensureCapacity(charsLength + length);
+            System.arraycopy(chars, offset, this.chars, charsLength, length);
+            offsets[cellIndex] = charsLength;
+            lengths[cellIndex] = length;
+            charsLength += length;
+        }
+        cellIndex++;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > chars.length) {
+            chars = Arrays.copyOf(chars, Math.max(capacity, chars.length * 2));
+        }
+    }
+
+    @Override
+    public void endOfRow() {
+        CsvRowSnapshot snapshot = new CsvRowSnapshot(
+                Arrays.copyOf(chars, charsLength),
+                offsets.clone(),
+                lengths.clone(),
+                parsingContext);
+        charsLength = 0;
+        cellIndex = 0;
+        Arrays.fill(lengths, -1);
+
+        T t = factory.newInstance(snapshot);
+        try {
+            handler.handle(t);
+        } catch (Throwable e) {
+            errorHandler.handlerError(e, t);
+        }
+    }
+
+    @Override
+    public void end() {
+        if (cellIndex > 0) {
+            endOfRow();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "LazyCellConsumer{" +
+                "factory=" + factory +
+                '}';
+    }
+}
@@ -0,0 +1,40 @@
+package org.sfm.csv.impl;
+
+import org.sfm.csv.parser.CellConsumer;
+import org.sfm.map.metrics.Counter;
+
+/**
+ * Count the rows parsed before calling the delegate.
+ */
+public final class MeteredCellConsumer implements CellConsumer {
+    private final CellConsumer delegate;
+    private final Counter rows;
+    private boolean inRow;
+
+    public MeteredCellConsumer(CellConsumer delegate, Counter rows) {
+        this.delegate = delegate;
+        this.rows = rows;
+    }
+
+    @Override
+    public void newCell(char[] chars, int offset, int length) {
+        inRow = true;
+        delegate.newCell(chars, offset, length);
+    }
+
+    @Override
+    public void endOfRow() {
+        inRow = false;
+        rows.add(1);
+        delegate.endOfRow();
+    }
+
+    @Override
+    public void end() {
+        if (inRow) {
+            inRow = false;
+            rows.add(1);
+        }
+        delegate.end();
+    }
+}
@@ -0,0 +1,34 @@
+package org.sfm.csv.impl;
+
+import org.sfm.csv.ParsingContext;
+import org.sfm.csv.mapper.CellSetter;
+import org.sfm.map.metrics.FieldCost;
+
+public final class ProfiledCellSetter<T> implements CellSetter<T> {
+
+    private final CellSetter<T> delegate;
+    private final FieldCost cost;
+
+    public ProfiledCellSetter(CellSetter<T> delegate, FieldCost cost) {
+        this.delegate = delegate;
+        this.cost = cost;
+    }
+
+    @Override
+    public void set(T target, char[] chars, int offset, int length, ParsingContext parsingContext) throws Exception {
+        if (cost.sample()) {
+            long start = System.nanoTime();
+            delegate.set(target, chars, offset, length, parsingContext);
+            cost.record(System.nanoTime() - start);
+        } else {
+            delegate.set(target, chars, offset, length, parsingContext);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ProfiledCellSetter{" +
+                "delegate=" + delegate +
+                '}';
+    }
+}
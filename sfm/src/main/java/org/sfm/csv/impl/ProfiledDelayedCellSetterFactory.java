@@ -0,0 +1,80 @@
+package org.sfm.csv.impl;
+
+import org.sfm.csv.ParsingContext;
+import org.sfm.csv.mapper.BreakDetector;
+import org.sfm.csv.mapper.CsvMapperCellConsumer;
+import org.sfm.csv.mapper.DelayedCellSetter;
+import org.sfm.csv.mapper.DelayedCellSetterFactory;
+import org.sfm.map.metrics.FieldCost;
+
+/**
+ * Times the conversion of the cell value, the assignment of the value to the target is not timed.
+ */
+public final class ProfiledDelayedCellSetterFactory<T, P> implements DelayedCellSetterFactory<T, P> {
+
+    private final DelayedCellSetterFactory<T, P> delegate;
+    private final FieldCost cost;
+
+    public ProfiledDelayedCellSetterFactory(DelayedCellSetterFactory<T, P> delegate, FieldCost cost) {
+        this.delegate = delegate;
+        this.cost = cost;
+    }
+
+    @Override
+    public DelayedCellSetter<T, P> newCellSetter(BreakDetector breakDetector, CsvMapperCellConsumer<?>[] cellHandlers) {
+        return new ProfiledDelayedCellSetter<T, P>(delegate.newCellSetter(breakDetector, cellHandlers), cost);
+    }
+
+    @Override
+    public boolean hasSetter() {
+        return delegate.hasSetter();
+    }
+
+    @Override
+    public String toString() {
+        return "ProfiledDelayedCellSetterFactory{" +
+                "delegate=" + delegate +
+                '}';
+    }
+
+    private static final class ProfiledDelayedCellSetter<T, P> implements DelayedCellSetter<T, P> {
+        private final DelayedCellSetter<T, P> delegate;
+        private final FieldCost cost;
+
+        private ProfiledDelayedCellSetter(DelayedCellSetter<T, P> delegate, FieldCost cost) {
+            this.delegate = delegate;
+            this.cost = cost;
+        }
+
+        @Override
+        public void set(char[] chars, int offset, int length, ParsingContext parsingContext) throws Exception {
+            if (cost.sample()) {
+                long start = System.nanoTime();
+                delegate.set(chars, offset, length, parsingContext);
+                cost.record(System.nanoTime() - start);
+            } else {
+                delegate.set(chars, offset, length, parsingContext);
+            }
+        }
+
+        @Override
+        public P consumeValue() {
+            return delegate.consumeValue();
+        }
+
+        @Override
+        public P peekValue() {
+            return delegate.peekValue();
+        }
+
+        @Override
+        public void set(T t) throws Exception {
+            delegate.set(t);
+        }
+
+        @Override
+        public boolean isSettable() {
+            return delegate.isSettable();
+        }
+    }
+}
@@ -12,12 +12,14 @@ public class EnumCellValueReader<E extends Enum<E>> implements CellValueReader<E
 	private final StringCellValueReader stringCellValueReader = new StringCellValueReader();
 	private final Class<E> enumClass;
 	private final E[] values;
+	private final EnumNameLookup<E> nameLookup;
 	
 	
 	public EnumCellValueReader(Class<E> enumClass) {
 		super();
 		this.enumClass = enumClass;
 		this.values = EnumHelper.getValues(enumClass);
+		this.nameLookup = new EnumNameLookup<E>(values);
 	}
 
 	@Override
@@ -26,9 +28,12 @@ public class EnumCellValueReader<E extends Enum<E>> implements CellValueReader<E
 		int n = parsePositiveNumber(chars, offset, length);
 		if (n >= 0 && n < values.length) {
 			return values[n];
-		} else {
-			return Enum.valueOf(enumClass, stringCellValueReader.read(chars, offset, length, parsingContext));
 		}
+		E value = nameLookup.lookup(chars, offset, length);
+		if (value != null) {
+			return value;
+		}
+		return Enum.valueOf(enumClass, stringCellValueReader.read(chars, offset, length, parsingContext));
 	}
 	
 	private int parsePositiveNumber(char[] chars, int offset, int length) {
@@ -0,0 +1,94 @@
+package org.sfm.csv.impl.cellreader;
+
+/**
+ * Hash table of the enum values by name, the lookup is done over the chars without allocating a String.
+ * <p>
+ * The table size is picked to be collision free when possible, otherwise it falls back to linear probing.
+ * @param <E> the enum type
+ */
+public final class EnumNameLookup<E extends Enum<E>> {
+
+    private final E[] table;
+    private final int mask;
+    private final boolean perfect;
+
+    @SuppressWarnings("unchecked")
+    public EnumNameLookup(E[] values) {
+        final int maxSize = Math.max(64, Integer.highestOneBit(Math.max(1, values.length)) << 4);
+
+        int size = Integer.highestOneBit(Math.max(1, values.length)) << 1;
+        E[] table = (E[]) new Enum[size];
+        boolean perfect = fill(table, values, false);
+        while(!perfect && size < maxSize) {
+            size <<= 1;
+            table = (E[]) new Enum[size];
+            perfect = fill(table, values, false);
+        }
+        if (!perfect) {
+            fill(table, values, true);
+        }
+
+        this.table = table;
+        this.mask = table.length - 1;
+        this.perfect = perfect;
+    }
+
+    private static <E extends Enum<E>> boolean fill(E[] table, E[] values, boolean probe) {
+        final int mask = table.length - 1;
+        for(E value : values) {
+            int i = hash(value.name()) & mask;
+            while (table[i] != null) {
+                if (!probe) return false;
+                i = (i + 1) & mask;
+            }
+            table[i] = value;
+        }
+        return true;
+    }
+
+    /**
+     * @return the enum value with the name or null if none match
+     */
+    public E lookup(char[] chars, int offset, int length) {
+        int h = 0;
+        for(int i = offset; i < offset + length; i++) {
+            h = 31 * h + chars[i];
+        }
+        int i = spread(h) & mask;
+        E value;
+        while((value = table[i]) != null) {
+            if (matches(value.name(), chars, offset, length)) {
+                return value;
+            }
+            if (perfect) {
+                return null;
+            }
+            i = (i + 1) & mask;
+        }
+        return null;
+    }
+
+    private static boolean matches(String name, char[] chars, int offset, int length) {
+        if (name.length() != length) {
+            return false;
+        }
+        for(int i = 0; i < length; i++) {
+            if (name.charAt(i) != chars[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int hash(String name) {
+        return spread(name.hashCode());
+    }
+
+    private static int spread(int h) {
+        return h ^ (h >>> 16);
+    }
+
+    public boolean isPerfect() {
+        return perfect;
+    }
+}
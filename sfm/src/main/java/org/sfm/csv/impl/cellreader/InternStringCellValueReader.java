@@ -0,0 +1,25 @@
+package org.sfm.csv.impl.cellreader;
+
+import org.sfm.csv.CellValueReader;
+import org.sfm.csv.ParsingContext;
+import org.sfm.utils.StringCache;
+
+
+public final class InternStringCellValueReader implements CellValueReader<String> {
+
+	private final StringCache stringCache;
+
+	public InternStringCellValueReader(int capacity) {
+		this.stringCache = new StringCache(capacity);
+	}
+
+	@Override
+	public String read(char[] chars, int offset, int length, ParsingContext parsingContext) {
+		return stringCache.intern(chars, offset, length);
+	}
+
+    @Override
+    public String toString() {
+        return "InternStringCellValueReader{capacity=" + stringCache.capacity() + "}";
+    }
+}
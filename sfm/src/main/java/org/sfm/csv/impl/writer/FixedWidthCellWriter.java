@@ -0,0 +1,120 @@
+package org.sfm.csv.impl.writer;
+
+
+import org.sfm.csv.CellWriter;
+import org.sfm.csv.FixedWidthColumn;
+
+import java.io.IOException;
+
+/**
+ * Write each cell padded to the width of its column.
+ * The position in the record is kept by the {@link Row} the mapper writes to, the cell writer itself is stateless.
+ * The gaps between columns are filled with spaces, a column with no pad char is padded with spaces.
+ */
+public final class FixedWidthCellWriter implements CellWriter {
+
+    private final FixedWidthColumn[] columns;
+    private final String endOfLine;
+
+    public FixedWidthCellWriter(FixedWidthColumn[] columns, String endOfLine) {
+        for(int i = 1; i < columns.length; i++) {
+            if (columns[i].getOffset() < columns[i - 1].getEnd()) {
+                throw new IllegalArgumentException("Column " + columns[i] + " overlaps the previous column");
+            }
+        }
+        this.columns = columns;
+        this.endOfLine = endOfLine;
+    }
+
+    @Override
+    public void writeValue(CharSequence sequence, Appendable appendable) throws IOException {
+        Row row = (Row) appendable;
+        FixedWidthColumn column = columns[row.column];
+        int length = column.getLength();
+        int padLength = length - sequence.length();
+        if (padLength < 0) {
+            throw new IllegalArgumentException("Value '" + sequence + "' does not fit in " + column);
+        }
+        Appendable target = row.target;
+        pad(target, ' ', column.getOffset() - row.position);
+        char padChar = column.getPadChar() == FixedWidthColumn.NO_PADDING ? ' ' : (char) column.getPadChar();
+        if (column.isRightAligned()) {
+            pad(target, padChar, padLength);
+            target.append(sequence);
+        } else {
+            target.append(sequence);
+            pad(target, padChar, padLength);
+        }
+        row.position = column.getEnd();
+        row.cellWritten = true;
+    }
+
+    private void pad(Appendable target, char padChar, int length) throws IOException {
+        for(int i = 0; i < length; i++) {
+            target.append(padChar);
+        }
+    }
+
+    @Override
+    public void nextCell(Appendable appendable) throws IOException {
+        Row row = (Row) appendable;
+        endOfCell(row);
+        row.column++;
+    }
+
+    @Override
+    public void endOfRow(Appendable appendable) throws IOException {
+        Row row = (Row) appendable;
+        endOfCell(row);
+        row.target.append(endOfLine);
+        row.column = 0;
+        row.position = 0;
+    }
+
+    private void endOfCell(Row row) throws IOException {
+        if (!row.cellWritten) {
+            writeValue("", row);
+        }
+        row.cellWritten = false;
+    }
+
+    /**
+     * @param target the appendable to write the records to
+     * @return a new row on the target, a row must not be shared between writers
+     */
+    public Row newRow(Appendable target) {
+        return new Row(target);
+    }
+
+    /**
+     * Appendable the mapper writes a record to, keep track of the current column.
+     */
+    public static final class Row implements Appendable {
+        private final Appendable target;
+        private int column;
+        private int position;
+        private boolean cellWritten;
+
+        private Row(Appendable target) {
+            this.target = target;
+        }
+
+        @Override
+        public Appendable append(CharSequence csq) throws IOException {
+            target.append(csq);
+            return this;
+        }
+
+        @Override
+        public Appendable append(CharSequence csq, int start, int end) throws IOException {
+            target.append(csq, start, end);
+            return this;
+        }
+
+        @Override
+        public Appendable append(char c) throws IOException {
+            target.append(c);
+            return this;
+        }
+    }
+}
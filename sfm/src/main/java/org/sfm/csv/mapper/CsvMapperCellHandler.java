@@ -18,6 +18,8 @@ public abstract class CsvMapperCellHandler<T> {
 
     protected T currentInstance;
 
+    private T flyweight;
+
     public CsvMapperCellHandler(Instantiator<CsvMapperCellHandler<T>, T> instantiator,
                                 CsvColumnKey[] columns, int delayedCellSettersLength, int cellSettersLength,
                                 ParsingContext parsingContext, FieldMapperErrorHandler<CsvColumnKey> fieldErrorHandler) {
@@ -40,7 +42,18 @@ public abstract class CsvMapperCellHandler<T> {
     public abstract Object peekDelayedCellSetterValue(CsvColumnKey key);
 
 
+    /**
+     * @param flyweight the instance to reuse for each row instead of instantiating a new one, null to instantiate
+     */
+    public final void setFlyweight(T flyweight) {
+        this.flyweight = flyweight;
+    }
+
     public final void createInstance() {
+        if (flyweight != null) {
+            currentInstance = flyweight;
+            return;
+        }
         try {
             currentInstance = instantiator.newInstance(this);
         } catch (Exception e) {
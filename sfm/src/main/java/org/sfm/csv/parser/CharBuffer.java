@@ -8,6 +8,7 @@ public abstract class CharBuffer {
 	protected char[] buffer;
 	protected int bufferSize;
 	protected int mark;
+	protected long position;
 
 	public CharBuffer(char[] buffer, final int bufferSize) {
 		this.buffer = buffer;
@@ -16,7 +17,7 @@ public abstract class CharBuffer {
 	
 
 	public abstract boolean fillBuffer() throws IOException;
-	public abstract int shiftBufferToMark() throws BufferOverflowException;
+	public abstract int shiftBufferToMark() throws IOException;
 
 	public final void mark(int index) {
 		this.mark = index;
@@ -25,6 +26,38 @@ public abstract class CharBuffer {
 		return mark;
 	}
 
+	/**
+	 * @return the position in the source of the char at the mark, the mark can be past the end of the content after the last cell
+	 */
+	public final long getMarkPosition() {
+		return position + Math.min(mark, bufferSize);
+	}
+
+	/**
+	 * discard the content up to the specified position in the source and set the mark on it.
+	 * The content is read but not parsed.
+	 * @param target the position in the source, cannot be before the mark
+	 * @return the char preceding the position, -1 if the position is the start or beyond the end of the source
+	 * @throws IOException if an io error occurs
+	 */
+	public final int skipTo(long target) throws IOException {
+		if (target < getMarkPosition()) {
+			throw new IllegalArgumentException("Cannot skip backward from " + getMarkPosition() + " to " + target);
+		}
+		while(target - position > bufferSize) {
+			// keep the last char to be able to return it
+			mark = Math.max(mark, bufferSize - 1);
+			shiftBufferToMark();
+			if (!fillBuffer()) {
+				mark = bufferSize;
+				return -1;
+			}
+		}
+		int index = (int) (target - position);
+		mark = index;
+		return index > 0 ? buffer[index - 1] : -1;
+	}
+
 	public final char[] getCharBuffer() {
 		return buffer;
 	}
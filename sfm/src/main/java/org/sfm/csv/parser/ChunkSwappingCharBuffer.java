@@ -0,0 +1,99 @@
+package org.sfm.csv.parser;
+
+import org.sfm.utils.BufferSwappingParallelReader;
+
+import java.io.IOException;
+
+/**
+ * Buffer that parses the chunks of a {@link BufferSwappingParallelReader} in place.
+ * On refill the unconsumed chars are copied in the headroom of the next chunk and the previous chunk is given back,
+ * only the row in progress is copied instead of the whole data.
+ * A row in progress that does not fit in the headroom is appended to a private array until it is consumed.
+ */
+public final class ChunkSwappingCharBuffer extends CharBuffer {
+
+	private final BufferSwappingParallelReader reader;
+	private final int maxBufferSize;
+	private final int headroom;
+
+	private boolean bufferIsChunk;
+	private char[] spare;
+	private int pendingLength = -1;
+
+	public ChunkSwappingCharBuffer(BufferSwappingParallelReader reader, int maxBufferSize) {
+		super(new char[0], 0);
+		this.reader = reader;
+		this.maxBufferSize = maxBufferSize;
+		this.headroom = reader.getHeadroom();
+	}
+
+	/**
+	 * add the chunk taken by the previous {@link #shiftBufferToMark()} call.
+	 * @return false if the end of the reader was reached
+	 */
+	public boolean fillBuffer() {
+		if (pendingLength == -1) {
+			return false;
+		}
+		bufferSize += pendingLength;
+		pendingLength = -1;
+		return true;
+	}
+
+	public int shiftBufferToMark() throws IOException {
+		int lMark = this.mark;
+		int usedLength = Math.max(bufferSize - lMark, 0);
+
+		char[] chunk = reader.takeChunk();
+		if (chunk == null) {
+			System.arraycopy(buffer, lMark, buffer, 0, usedLength);
+			bufferSize = usedLength;
+			mark = 0;
+			position += lMark;
+			return lMark;
+		}
+		int length = reader.getChunkLength();
+
+		if (usedLength <= headroom) {
+			int newMark = headroom - usedLength;
+			System.arraycopy(buffer, lMark, chunk, newMark, usedLength);
+			release();
+			buffer = chunk;
+			bufferIsChunk = true;
+			bufferSize = headroom;
+			mark = newMark;
+			pendingLength = length;
+			position += lMark - newMark;
+			return lMark - newMark;
+		}
+
+		int requiredLength = usedLength + length;
+		if (requiredLength > maxBufferSize) {
+			reader.returnChunk(chunk);
+			throw new BufferOverflowException("The content in the csv cell exceed the maxSizeBuffer " + maxBufferSize + ", see CsvParser.DSL.maxSizeBuffer(int) to change the default value");
+		}
+		char[] work = bufferIsChunk ? spare : buffer;
+		if (work == null || work.length < requiredLength) {
+			work = new char[Math.min(maxBufferSize, Math.max(requiredLength, (work == null ? 0 : work.length) << 1))];
+		}
+		System.arraycopy(buffer, lMark, work, 0, usedLength);
+		System.arraycopy(chunk, headroom, work, usedLength, length);
+		reader.returnChunk(chunk);
+		release();
+		buffer = work;
+		bufferIsChunk = false;
+		bufferSize = usedLength;
+		mark = 0;
+		pendingLength = length;
+		position += lMark;
+		return lMark;
+	}
+
+	private void release() {
+		if (bufferIsChunk) {
+			reader.returnChunk(buffer);
+		} else if (buffer.length > 0) {
+			spare = buffer;
+		}
+	}
+}
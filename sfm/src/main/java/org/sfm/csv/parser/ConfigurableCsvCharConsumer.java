@@ -160,4 +160,16 @@ public final class ConfigurableCsvCharConsumer extends CsvCharConsumer {
 		_currentIndex -= csvBuffer.shiftBufferToMark();
 		return csvBuffer.fillBuffer();
 	}
+
+	@Override
+	public long rowPosition() {
+		return csvBuffer.getMarkPosition();
+	}
+
+	@Override
+	public void resumeAt(long position) throws IOException {
+		int previousChar = csvBuffer.skipTo(position);
+		_currentIndex = csvBuffer.mark;
+		_currentState = previousChar == '\r' ? LAST_CHAR_WAS_CR : NONE;
+	}
 }
@@ -12,4 +12,16 @@ public abstract class CsvCharConsumer {
 
     public abstract boolean refillBuffer() throws IOException;
 
+    /**
+     * @return the position in the source of the start of the next row, when called at the end of a row
+     */
+    public abstract long rowPosition();
+
+    /**
+     * skip the source up to the specified position and restart the parsing there as at the start of a row.
+     * @param position a position returned by {@link #rowPosition()}
+     * @throws IOException if an io error occurs
+     */
+    public abstract void resumeAt(long position) throws IOException;
+
 }
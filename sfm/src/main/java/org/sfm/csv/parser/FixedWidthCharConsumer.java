@@ -0,0 +1,156 @@
+package org.sfm.csv.parser;
+
+
+import java.io.IOException;
+
+/**
+ * Consume the charBuffer as fixed-width records, each record is sliced in cells from the column offsets and lengths.
+ * <p>
+ * The records end on \r, \n or \r\n, or if a record length is specified the records are read every record length chars without delimiter.
+ * A record shorter than a column gives a truncated or empty cell.
+ * The pad chars are removed on the right of the value, or on the left if the column is right aligned. A pad char of -1 keeps the value as is.
+ * If the cell contains only pad chars, other than space, the last one is kept so that a zero padded 0 is not read as an empty cell.
+ */
+public final class FixedWidthCharConsumer extends CsvCharConsumer {
+
+	private final CharBuffer csvBuffer;
+	private final int[] offsets;
+	private final int[] lengths;
+	private final int[] padChars;
+	private final boolean[] rightAligned;
+	private final int recordLength;
+
+	private int _currentIndex;
+	private boolean lastCharWasCR;
+
+	/**
+	 *
+	 * @param csvBuffer the buffer
+	 * @param offsets the index of the first char of each column in the record
+	 * @param lengths the length of each column
+	 * @param padChars the pad char of each column, -1 for no trimming
+	 * @param rightAligned true for the columns padded on the left
+	 * @param recordLength the length of the records, -1 if the records are delimited by end of lines
+	 */
+	public FixedWidthCharConsumer(CharBuffer csvBuffer, int[] offsets, int[] lengths, int[] padChars, boolean[] rightAligned, int recordLength) {
+		if (offsets.length != lengths.length || offsets.length != padChars.length || offsets.length != rightAligned.length) {
+			throw new IllegalArgumentException("Inconsistent column definitions");
+		}
+		if (recordLength == 0 || recordLength < -1) throw new IllegalArgumentException("Invalid record length " + recordLength);
+		this.csvBuffer = csvBuffer;
+		this.offsets = offsets;
+		this.lengths = lengths;
+		this.padChars = padChars;
+		this.rightAligned = rightAligned;
+		this.recordLength = recordLength;
+	}
+
+	@Override
+	public void consumeAllBuffer(CellConsumer cellConsumer) {
+		consume(cellConsumer, false);
+	}
+
+	@Override
+	public boolean consumeToNextRow(CellConsumer cellConsumer) {
+		return consume(cellConsumer, true);
+	}
+
+	private boolean consume(CellConsumer cellConsumer, boolean stopAtEndOfRow) {
+		final int bufferLength = csvBuffer.bufferSize;
+		if (recordLength != -1) {
+			final int recordLength = this.recordLength;
+			int mark = csvBuffer.mark;
+			while(mark + recordLength <= bufferLength) {
+				newCells(mark, mark + recordLength, cellConsumer);
+				mark += recordLength;
+				csvBuffer.mark = mark;
+				cellConsumer.endOfRow();
+				if (stopAtEndOfRow) {
+					_currentIndex = mark;
+					return true;
+				}
+			}
+			_currentIndex = bufferLength;
+			return false;
+		}
+
+		final char[] chars = csvBuffer.buffer;
+		int currentIndex = _currentIndex;
+		boolean lastCharWasCR = this.lastCharWasCR;
+		for(; currentIndex < bufferLength; currentIndex++) {
+			char character = chars[currentIndex];
+			if (character == '\n') {
+				if (lastCharWasCR) {
+					lastCharWasCR = false;
+					csvBuffer.mark = currentIndex + 1;
+					continue;
+				}
+			} else if (character == '\r') {
+				lastCharWasCR = true;
+			} else {
+				lastCharWasCR = false;
+				continue;
+			}
+			newCells(csvBuffer.mark, currentIndex, cellConsumer);
+			csvBuffer.mark = currentIndex + 1;
+			cellConsumer.endOfRow();
+			if (stopAtEndOfRow) {
+				this.lastCharWasCR = lastCharWasCR;
+				_currentIndex = currentIndex + 1;
+				return true;
+			}
+		}
+		this.lastCharWasCR = lastCharWasCR;
+		_currentIndex = currentIndex;
+		return false;
+	}
+
+	private void newCells(int start, int end, CellConsumer cellConsumer) {
+		final char[] chars = csvBuffer.buffer;
+		for(int i = 0; i < offsets.length; i++) {
+			int strStart = Math.min(start + offsets[i], end);
+			int strEnd = Math.min(strStart + lengths[i], end);
+			int padChar = padChars[i];
+			if (padChar != -1) {
+				// a cell made only of pad chars keeps one, 00000 is 0, unless it is blank
+				int minLength = padChar == ' ' ? 0 : 1;
+				if (rightAligned[i]) {
+					for(;strEnd - strStart > minLength && chars[strStart] == padChar; strStart++)
+						;
+				} else {
+					for(;strEnd - strStart > minLength && chars[strEnd - 1] == padChar; strEnd--)
+						;
+				}
+			}
+			cellConsumer.newCell(chars, strStart, strEnd - strStart);
+		}
+	}
+
+	@Override
+	public void finish(CellConsumer cellConsumer) {
+		int end = recordLength != -1 ? csvBuffer.bufferSize : _currentIndex;
+		if (end > csvBuffer.mark) {
+			newCells(csvBuffer.mark, end, cellConsumer);
+			csvBuffer.mark = end;
+		}
+		cellConsumer.end();
+	}
+
+	@Override
+	public boolean refillBuffer() throws IOException {
+		_currentIndex -= csvBuffer.shiftBufferToMark();
+		return csvBuffer.fillBuffer();
+	}
+
+	@Override
+	public long rowPosition() {
+		return csvBuffer.getMarkPosition();
+	}
+
+	@Override
+	public void resumeAt(long position) throws IOException {
+		int previousChar = csvBuffer.skipTo(position);
+		_currentIndex = csvBuffer.mark;
+		lastCharWasCR = previousChar == '\r';
+	}
+}
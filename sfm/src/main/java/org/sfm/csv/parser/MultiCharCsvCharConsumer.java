@@ -0,0 +1,317 @@
+package org.sfm.csv.parser;
+
+
+import java.io.IOException;
+
+/**
+ * Consume the charBuffer with a separator and a record delimiter of one or more chars and optional comment lines.
+ * <p>
+ * The scan only compares against the first char of the separator and of the delimiter, the remaining chars are checked
+ * on a first char match. When a token could straddle the end of the buffer the scan stops before it until more data is read.
+ * If no record delimiter is specified, rows end on \r, \n or \r\n.
+ * A comment line starts with the comment char outside of quotes and is skipped up to the end of the record.
+ */
+public final class MultiCharCsvCharConsumer extends CsvCharConsumer {
+
+	private static final int ROW_START = 16;
+	private static final int COMMENTED = 8;
+	private static final int LAST_CHAR_WAS_SEPARATOR = 4;
+	private static final int LAST_CHAR_WAS_CR = 2;
+	private static final int ESCAPED = 1;
+	private static final int TURN_OFF_LAST_CHAR_MASK = ~(LAST_CHAR_WAS_CR|LAST_CHAR_WAS_SEPARATOR|ROW_START);
+
+	private static final int NEED_MORE_DATA = -1;
+
+	private final char[] separator;
+	private final char separatorFirstChar;
+	private final char[] recordDelimiter;
+	private final char recordDelimiterFirstChar;
+	private final char escapeChar;
+	private final int commentChar;
+	private final boolean trimSpaces;
+
+	private final CharBuffer csvBuffer;
+	private int _currentIndex;
+	private int _currentState = ROW_START;
+	private boolean endOfInput;
+
+	/**
+	 *
+	 * @param csvBuffer the buffer
+	 * @param separator the separator, the array is not copied
+	 * @param escapeChar the quote char
+	 * @param recordDelimiter the record delimiter, null for \r, \n or \r\n, the array is not copied
+	 * @param commentChar the char starting a comment line, -1 for no comment
+	 * @param trimSpaces trim the spaces around the cell values
+	 */
+	public MultiCharCsvCharConsumer(CharBuffer csvBuffer, char[] separator, char escapeChar, char[] recordDelimiter, int commentChar, boolean trimSpaces) {
+		if (separator == null || separator.length == 0) throw new IllegalArgumentException("Separator cannot be empty");
+		if (recordDelimiter != null && recordDelimiter.length == 0) throw new IllegalArgumentException("Record delimiter cannot be empty");
+		this.csvBuffer = csvBuffer;
+		this.separator = separator;
+		this.separatorFirstChar = separator[0];
+		this.recordDelimiter = recordDelimiter;
+		this.recordDelimiterFirstChar = recordDelimiter != null ? recordDelimiter[0] : '\n';
+		this.escapeChar = escapeChar;
+		this.commentChar = commentChar;
+		this.trimSpaces = trimSpaces;
+	}
+
+	@Override
+	public final void consumeAllBuffer(CellConsumer cellConsumer) {
+		consume(cellConsumer, false);
+	}
+
+	@Override
+	public boolean consumeToNextRow(CellConsumer cellConsumer) {
+		return consume(cellConsumer, true);
+	}
+
+	private boolean consume(CellConsumer cellConsumer, boolean stopAtEndOfRow) {
+		final int bufferLength = csvBuffer.bufferSize;
+		final char[] chars = csvBuffer.buffer;
+		int currentIndex = _currentIndex;
+		int currentState = _currentState;
+		if ((currentState & COMMENTED) != 0) {
+			int next = skipComment(chars, currentIndex, bufferLength);
+			if (next < 0) {
+				_currentIndex = ~next;
+				return false;
+			}
+			currentIndex = next;
+			currentState = afterComment(chars, next);
+		}
+		// copy the fields used on every char to locals
+		final char escapeChar = this.escapeChar;
+		final char separatorFirstChar = this.separatorFirstChar;
+		final char recordDelimiterFirstChar = this.recordDelimiterFirstChar;
+		final boolean crOrLf = recordDelimiter == null;
+		final int commentChar = this.commentChar;
+		final int separatorLength = separator.length;
+		for(;currentIndex  < bufferLength; currentIndex++) {
+			char character = chars[currentIndex];
+
+			if (character != escapeChar && character != separatorFirstChar && character != recordDelimiterFirstChar
+					&& character != '\r' && character != commentChar) {
+				// skip the plain chars in a tight loop
+				currentState &= TURN_OFF_LAST_CHAR_MASK;
+				int i = currentIndex + 1;
+				for(; i < bufferLength; i++) {
+					character = chars[i];
+					if (character == escapeChar || character == separatorFirstChar || character == recordDelimiterFirstChar
+							|| character == '\r' || character == commentChar) {
+						break;
+					}
+				}
+				currentIndex = i - 1;
+				continue;
+			}
+			if (character == escapeChar) {
+				currentState = (currentState ^ ESCAPED);
+			} else if ((currentState & ESCAPED) == 0) {
+				if (character == separatorFirstChar) {
+					int l = separatorLength == 1 ? 1 : match(chars, currentIndex, bufferLength, separator);
+					if (l == NEED_MORE_DATA) {
+						break;
+					} else if (l > 0) {
+						newCell(currentIndex, l, cellConsumer);
+						currentIndex += l - 1;
+						currentState = LAST_CHAR_WAS_SEPARATOR;
+						continue;
+					}
+				}
+				if (crOrLf) {
+					if (character == '\n') {
+						if ((currentState & LAST_CHAR_WAS_CR) == 0) {
+							endOfRow(currentIndex, 1, cellConsumer);
+							currentState = ROW_START;
+							if (stopAtEndOfRow) {
+								return endOfRow(currentIndex + 1, currentState);
+							}
+						} else {
+							csvBuffer.mark = currentIndex + 1;
+							currentState = ROW_START;
+						}
+						continue;
+					} else if (character == '\r') {
+						endOfRow(currentIndex, 1, cellConsumer);
+						currentState = LAST_CHAR_WAS_CR | ROW_START;
+						if (stopAtEndOfRow) {
+							return endOfRow(currentIndex + 1, currentState);
+						}
+						continue;
+					}
+				} else if (character == recordDelimiterFirstChar) {
+					int l = match(chars, currentIndex, bufferLength, recordDelimiter);
+					if (l == NEED_MORE_DATA) {
+						break;
+					} else if (l > 0) {
+						endOfRow(currentIndex, l, cellConsumer);
+						currentIndex += l - 1;
+						currentState = ROW_START;
+						if (stopAtEndOfRow) {
+							return endOfRow(currentIndex + 1, currentState);
+						}
+						continue;
+					}
+				}
+				if (character == commentChar && (currentState & ROW_START) != 0) {
+					int next = skipComment(chars, currentIndex + 1, bufferLength);
+					if (next < 0) {
+						_currentState = COMMENTED;
+						_currentIndex = ~next;
+						return false;
+					}
+					currentIndex = next - 1;
+					currentState = afterComment(chars, next);
+					continue;
+				}
+			}
+
+			currentState &= TURN_OFF_LAST_CHAR_MASK;
+		}
+		_currentState = currentState;
+		_currentIndex = currentIndex;
+		return false;
+	}
+
+	private boolean endOfRow(int nextIndex, int currentState) {
+		_currentIndex = nextIndex;
+		_currentState = currentState;
+		return true;
+	}
+
+	/**
+	 * @return the index after the end of the comment line, or the complement of the index to resume from if the buffer ended first
+	 */
+	private int skipComment(char[] chars, int currentIndex, int bufferLength) {
+		for(; currentIndex < bufferLength; currentIndex++) {
+			int l = endOfRecordLength(chars, currentIndex, bufferLength, chars[currentIndex]);
+			if (l == NEED_MORE_DATA) {
+				return ~currentIndex;
+			} else if (l > 0) {
+				csvBuffer.mark = currentIndex + l;
+				return currentIndex + l;
+			}
+		}
+		return ~bufferLength;
+	}
+
+	private int afterComment(char[] chars, int next) {
+		return recordDelimiter == null && chars[next - 1] == '\r' ? ROW_START | LAST_CHAR_WAS_CR : ROW_START;
+	}
+
+	private int endOfRecordLength(char[] chars, int currentIndex, int bufferLength, char character) {
+		if (recordDelimiter == null) {
+			return character == '\n' || character == '\r' ? 1 : 0;
+		} else if (character == recordDelimiterFirstChar) {
+			return match(chars, currentIndex, bufferLength, recordDelimiter);
+		}
+		return 0;
+	}
+
+	/**
+	 * @return the length of the token if it matches at index, 0 if not, NEED_MORE_DATA if the buffer ends before it can be decided
+	 */
+	private int match(char[] chars, int index, int bufferLength, char[] token) {
+		int length = token.length;
+		if (index + length > bufferLength) {
+			return endOfInput ? 0 : NEED_MORE_DATA;
+		}
+		for(int i = 1; i < length; i++) {
+			if (chars[index + i] != token[i]) {
+				return 0;
+			}
+		}
+		return length;
+	}
+
+	private void endOfRow(int currentIndex, int delimiterLength, CellConsumer cellConsumer) {
+		newCell(currentIndex, delimiterLength, cellConsumer);
+		cellConsumer.endOfRow();
+	}
+
+	private void newCell(int end, int tokenLength, final CellConsumer cellConsumer) {
+		char[] charBuffer = csvBuffer.buffer;
+		int strStart = csvBuffer.mark;
+		int strEnd = end;
+
+		if (trimSpaces) {
+			for(;strStart < strEnd && charBuffer[strEnd - 1] == ' '; strEnd--)
+				;
+			for(;strStart < strEnd && charBuffer[strStart] == ' '; strStart++)
+				;
+		}
+
+		if (strStart < strEnd && charBuffer[strStart] == escapeChar) {
+			strStart ++;
+			strEnd = unescape(charBuffer, strStart, strEnd);
+		}
+		cellConsumer.newCell(charBuffer, strStart, strEnd - strStart);
+		csvBuffer.mark = (end + tokenLength);
+	}
+
+	private int unescape(final char[] chars, final int offset, final int end) {
+		for(int i = offset; i < end - 1; i ++) {
+			if (chars[i] == escapeChar) {
+				return removeEscapeChars(chars, end, i);
+			}
+		}
+
+		if (offset < end && escapeChar == chars[end - 1]) {
+			return end - 1;
+		}
+
+		return end;
+	}
+
+	private int removeEscapeChars(final char[] chars, final int end, final int firstEscapeChar) {
+		int j = firstEscapeChar;
+		boolean escaped = true;
+		for(int i = firstEscapeChar + 1;i < end; i++) {
+			escaped = chars[i] == escapeChar  && ! escaped;
+			if (!escaped) {
+				chars[j++] = chars[i];
+			}
+		}
+		return j;
+	}
+
+	@Override
+	public final void finish(CellConsumer cellConsumer) {
+		if ((_currentState & COMMENTED) == 0
+				&& (_currentIndex > csvBuffer.mark || (_currentState & LAST_CHAR_WAS_SEPARATOR) != 0)) {
+			newCell(_currentIndex, 0, cellConsumer);
+			_currentState &= ~LAST_CHAR_WAS_SEPARATOR;
+		}
+		cellConsumer.end();
+	}
+
+	/**
+	 * once the reader is exhausted one more pass is allowed so that a partial token at the end of the buffer is read as data.
+	 */
+	@Override
+	public final boolean refillBuffer() throws IOException {
+		_currentIndex -= csvBuffer.shiftBufferToMark();
+		if (csvBuffer.fillBuffer()) {
+			return true;
+		}
+		if (!endOfInput) {
+			endOfInput = true;
+			return _currentIndex < csvBuffer.bufferSize;
+		}
+		return false;
+	}
+
+	@Override
+	public long rowPosition() {
+		return csvBuffer.getMarkPosition();
+	}
+
+	@Override
+	public void resumeAt(long position) throws IOException {
+		int previousChar = csvBuffer.skipTo(position);
+		_currentIndex = csvBuffer.mark;
+		_currentState = recordDelimiter == null && previousChar == '\r' ? ROW_START | LAST_CHAR_WAS_CR : ROW_START;
+	}
+}
@@ -0,0 +1,82 @@
+package org.sfm.csv.parser;
+
+import java.util.Arrays;
+
+/**
+ * CharBuffer filled by the caller with the chunks pushed to it rather than by reading a source.
+ * <p>
+ * A chunk is copied in the free space of the buffer on {@link #fillBuffer()}, what does not fit stays pending for the next call.
+ * The buffer only grows when the content not yet consumed fills it, up to the max buffer size.
+ */
+public final class PushCharBuffer extends CharBuffer {
+
+	private final int maxBufferSize;
+
+	private char[] pending;
+	private int pendingOffset;
+	private int pendingLength;
+
+	public PushCharBuffer(final int bufferSize, int maxBufferSize) {
+		super(new char[bufferSize], 0);
+		this.maxBufferSize = maxBufferSize;
+	}
+
+	/**
+	 * set the chunk to copy on the next calls to {@link #fillBuffer()}, the array is not copied and must not change until consumed.
+	 * @param chars the chars
+	 * @param offset the offset of the chunk in the array
+	 * @param length the length of the chunk
+	 */
+	public void push(char[] chars, int offset, int length) {
+		if (pendingLength > 0) {
+			throw new IllegalStateException("The previous chunk has not been consumed");
+		}
+		this.pending = chars;
+		this.pendingOffset = offset;
+		this.pendingLength = length;
+	}
+
+	public boolean hasPending() {
+		return pendingLength > 0;
+	}
+
+	public boolean fillBuffer() throws BufferOverflowException {
+		if (pendingLength == 0) {
+			return false;
+		}
+		if (bufferSize == buffer.length) {
+			resize();
+		}
+		int length = Math.min(pendingLength, buffer.length - bufferSize);
+		System.arraycopy(pending, pendingOffset, buffer, bufferSize, length);
+		bufferSize += length;
+		pendingOffset += length;
+		pendingLength -= length;
+		if (pendingLength == 0) {
+			pending = null;
+		}
+		return true;
+	}
+
+	public int shiftBufferToMark() {
+		int lMark = this.mark;
+		int usedLength = Math.max(bufferSize - lMark, 0);
+
+		System.arraycopy(buffer, lMark, buffer, 0, usedLength);
+
+		bufferSize = usedLength;
+
+		this.mark = 0;
+		position += lMark;
+		return lMark;
+	}
+
+	private void resize() throws BufferOverflowException {
+		int newBufferSize = Math.min(maxBufferSize, buffer.length << 1);
+
+		if (newBufferSize <= buffer.length) {
+			throw new BufferOverflowException("The content in the csv cell exceed the maxSizeBuffer " + maxBufferSize + ", see CsvParser.DSL.maxSizeBuffer(int) to change the default value");
+		}
+		buffer = Arrays.copyOf(buffer, newBufferSize);
+	}
+}
@@ -42,6 +42,7 @@ public final class ReaderCharBuffer extends CharBuffer {
 		bufferSize = usedLength;
 
 		this.mark = 0;
+		position += lMark;
 		return lMark;
 	}
 
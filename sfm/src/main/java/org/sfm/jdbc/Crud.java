@@ -5,6 +5,7 @@ import org.sfm.utils.RowHandler;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -155,4 +156,47 @@ public interface Crud<T, K> {
      * @throws SQLException
      */
     <RH extends RowHandler<? super K>> RH createOrUpdate(Connection connection, Collection<T> values, RH keyConsumer) throws SQLException;
+
+    /**
+     * insert the values chunkSize at a time, the values are consumed as the chunks are flushed.
+     *
+     * @param connection the connection
+     * @param values the values
+     * @param chunkSize the number of values per batch
+     * @param commitEachChunk commit the connection after each chunk, the connection must not be in auto commit
+     * @param progressHandler called back with the number of values processed after each chunk, can be null
+     * @return the number of values processed
+     * @throws SQLException if an error occurs
+     */
+    long create(Connection connection, Iterator<? extends T> values, int chunkSize, boolean commitEachChunk, RowHandler<? super Long> progressHandler) throws SQLException;
+
+    /**
+     * update the values chunkSize at a time.
+     *
+     * @param connection the connection
+     * @param values the values
+     * @param chunkSize the number of values per batch
+     * @param commitEachChunk commit the connection after each chunk, the connection must not be in auto commit
+     * @param progressHandler called back with the number of values processed after each chunk, can be null
+     * @return the number of values processed
+     * @throws SQLException if an error occurs
+     * @see #create(Connection, Iterator, int, boolean, RowHandler)
+     */
+    long update(Connection connection, Iterator<? extends T> values, int chunkSize, boolean commitEachChunk, RowHandler<? super Long> progressHandler) throws SQLException;
+
+    /**
+     * UPSERT only supported on Mysql.
+     * upsert the values chunkSize at a time.
+     *
+     * @param connection the connection
+     * @param values the values
+     * @param chunkSize the number of values per batch
+     * @param commitEachChunk commit the connection after each chunk, the connection must not be in auto commit
+     * @param progressHandler called back with the number of values processed after each chunk, can be null
+     * @return the number of values processed
+     * @throws SQLException if an error occurs
+     * @throws UnsupportedOperationException
+     * @see #create(Connection, Iterator, int, boolean, RowHandler)
+     */
+    long createOrUpdate(Connection connection, Iterator<? extends T> values, int chunkSize, boolean commitEachChunk, RowHandler<? super Long> progressHandler) throws SQLException;
 }
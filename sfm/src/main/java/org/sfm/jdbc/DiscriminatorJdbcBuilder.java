@@ -2,6 +2,7 @@ package org.sfm.jdbc;
 
 
 import org.sfm.jdbc.impl.DiscriminatorJdbcMapper;
+import org.sfm.jdbc.impl.DiscriminatorValuePredicate;
 import org.sfm.map.column.FieldMapperColumnDefinition;
 import org.sfm.reflect.TypeReference;
 import org.sfm.tuples.Tuple2;
@@ -35,7 +36,7 @@ public class DiscriminatorJdbcBuilder<T> {
      * @return the current builder
      */
     public DiscriminatorJdbcSubBuilder when(String value, Type type) {
-        return when(new DiscriminatorPredicate(value), type);
+        return when(new DiscriminatorValuePredicate(value), type);
     }
 
     /**
@@ -95,26 +96,6 @@ public class DiscriminatorJdbcBuilder<T> {
         return new DiscriminatorJdbcMapper<T>(column, mappers, jdbcMapperFactory.rowHandlerErrorHandler());
     }
 
-    private static class DiscriminatorPredicate implements Predicate<String> {
-        private final String value;
-
-        private DiscriminatorPredicate(String value) {
-            this.value = value;
-        }
-
-        @Override
-        public boolean test(String discriminatorValue) {
-            return value == null ? discriminatorValue == null : value.equals(discriminatorValue);
-        }
-
-        @Override
-        public String toString() {
-            return "DiscriminatorPredicate{" +
-                    "value='" + value + '\'' +
-                    '}';
-        }
-    }
-
     public class DiscriminatorJdbcSubBuilder {
 
         private final Type type;
@@ -0,0 +1,84 @@
+package org.sfm.jdbc;
+
+import org.sfm.jdbc.impl.ResultSetEnumarable;
+import org.sfm.map.MappingException;
+import org.sfm.map.columnar.ColumnarBatch;
+import org.sfm.map.columnar.ColumnarMapper;
+import org.sfm.utils.RowHandler;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * JdbcColumnarMapper will map the rows of a {@link java.sql.ResultSet} into the primitive arrays of a {@link ColumnarBatch}.
+ * <p>
+ * JdbcColumnarMapper are instantiable via {@link org.sfm.jdbc.JdbcMapperFactory#newColumnarBuilder()}.
+ * <p>
+ * <code>
+ *     ColumnarBatch batch = mapper.newBatch(1024);<br>
+ *     while(mapper.fill(rs, batch) &gt; 0) {<br>
+ *     &nbsp;&nbsp;&nbsp;&nbsp;long[] ids = batch.getLongs(0);<br>
+ *     &nbsp;&nbsp;&nbsp;&nbsp;...<br>
+ *     }
+ * </code>
+ */
+public final class JdbcColumnarMapper {
+
+    private final ColumnarMapper<ResultSet> mapper;
+
+    public JdbcColumnarMapper(ColumnarMapper<ResultSet> mapper) {
+        this.mapper = mapper;
+    }
+
+    /**
+     * @param capacity the max number of rows per batch
+     * @return a new batch
+     */
+    public ColumnarBatch newBatch(int capacity) {
+        return mapper.newBatch(capacity);
+    }
+
+    /**
+     * clear the batch and fill it with the next rows of the resultSet.
+     * @param rs the resultSet
+     * @param batch the batch
+     * @return the number of rows in the batch, 0 if the resultSet is exhausted
+     * @throws SQLException if sql error occurs
+     * @throws MappingException if an error occurs during the mapping
+     */
+    public int fill(ResultSet rs, ColumnarBatch batch) throws SQLException, MappingException {
+        return mapper.fill(new ResultSetEnumarable(rs), batch);
+    }
+
+    /**
+     * Loop over the resultSet, fill the batch and call back the handler each time the batch is full and for the last rows.
+     * The same batch is passed on each call.
+     * @param rs the resultSet
+     * @param batch the batch
+     * @param handler the handler
+     * @param <H> the handler type
+     * @return the handler
+     * @throws SQLException if sql error occurs
+     * @throws MappingException if an error occurs during the mapping
+     */
+    public <H extends RowHandler<? super ColumnarBatch>> H forEachBatch(ResultSet rs, ColumnarBatch batch, H handler) throws SQLException, MappingException {
+        return mapper.forEachBatch(new ResultSetEnumarable(rs), batch, handler);
+    }
+
+    /**
+     * append the current row of the resultSet to the batch.
+     * @param rs the resultSet
+     * @param batch the batch
+     * @throws MappingException if an error occurs during the mapping
+     */
+    public void mapRow(ResultSet rs, ColumnarBatch batch) throws MappingException {
+        mapper.mapRow(rs, batch, null);
+    }
+
+    @Override
+    public String toString() {
+        return "JdbcColumnarMapper{" +
+                "mapper=" + mapper +
+                '}';
+    }
+}
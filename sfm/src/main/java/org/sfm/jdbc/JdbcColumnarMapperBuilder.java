@@ -0,0 +1,72 @@
+package org.sfm.jdbc;
+
+import org.sfm.map.GetterFactory;
+import org.sfm.map.RowHandlerErrorHandler;
+import org.sfm.map.column.FieldMapperColumnDefinition;
+import org.sfm.map.columnar.ColumnarMapperBuilder;
+import org.sfm.map.error.RethrowRowHandlerErrorHandler;
+import org.sfm.map.mapper.ColumnDefinitionProvider;
+import org.sfm.map.mapper.FieldMapperColumnDefinitionProviderImpl;
+
+import java.sql.ResultSet;
+
+/**
+ * Builder for {@link JdbcColumnarMapper}.
+ * <p>
+ * The columns are added in the order of the batch columns, the ResultSet column index defaults to the order of the call.
+ * <p>
+ * <code>
+ *     JdbcColumnarMapper mapper = JdbcMapperFactory.newInstance().newColumnarBuilder()<br>
+ *     &nbsp;&nbsp;&nbsp;&nbsp;.addColumn("id", long.class)<br>
+ *     &nbsp;&nbsp;&nbsp;&nbsp;.addColumn("price", double.class)<br>
+ *     &nbsp;&nbsp;&nbsp;&nbsp;.addColumn("qty", int.class)<br>
+ *     &nbsp;&nbsp;&nbsp;&nbsp;.mapper();
+ * </code>
+ */
+public final class JdbcColumnarMapperBuilder {
+
+    private final ColumnarMapperBuilder<ResultSet, JdbcColumnKey> builder;
+    private final ColumnDefinitionProvider<FieldMapperColumnDefinition<JdbcColumnKey>, JdbcColumnKey> columnDefinitions;
+    private int calculatedIndex = 1;
+
+    public JdbcColumnarMapperBuilder() {
+        this(new ResultSetGetterFactory(),
+                new FieldMapperColumnDefinitionProviderImpl<JdbcColumnKey>(),
+                new RethrowRowHandlerErrorHandler());
+    }
+
+    public JdbcColumnarMapperBuilder(GetterFactory<ResultSet, JdbcColumnKey> getterFactory,
+                                     ColumnDefinitionProvider<FieldMapperColumnDefinition<JdbcColumnKey>, JdbcColumnKey> columnDefinitions,
+                                     RowHandlerErrorHandler errorHandler) {
+        this.builder = new ColumnarMapperBuilder<ResultSet, JdbcColumnKey>(getterFactory, errorHandler);
+        this.columnDefinitions = columnDefinitions;
+    }
+
+    /**
+     * add a column read from the next column index of the ResultSet.
+     * @param column the column name
+     * @param type the batch column type
+     * @return the current builder
+     */
+    public JdbcColumnarMapperBuilder addColumn(String column, Class<?> type) {
+        return addColumn(column, calculatedIndex, type);
+    }
+
+    public JdbcColumnarMapperBuilder addColumn(String column, int index, Class<?> type) {
+        return addColumn(new JdbcColumnKey(column, index), type);
+    }
+
+    public JdbcColumnarMapperBuilder addColumn(String column, int index, int sqlType, Class<?> type) {
+        return addColumn(new JdbcColumnKey(column, index, sqlType), type);
+    }
+
+    public JdbcColumnarMapperBuilder addColumn(JdbcColumnKey key, Class<?> type) {
+        builder.addColumn(key, type, columnDefinitions.getColumnDefinition(key));
+        calculatedIndex = key.getIndex() + 1;
+        return this;
+    }
+
+    public JdbcColumnarMapper mapper() {
+        return new JdbcColumnarMapper(builder.mapper());
+    }
+}
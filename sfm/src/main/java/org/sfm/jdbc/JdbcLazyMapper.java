@@ -0,0 +1,93 @@
+package org.sfm.jdbc;
+
+import org.sfm.jdbc.impl.ResultSetSnapshot;
+import org.sfm.map.MappingException;
+import org.sfm.map.RowHandlerErrorHandler;
+import org.sfm.map.lazy.LazyObjectFactory;
+import org.sfm.utils.RowHandler;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+/**
+ * JdbcLazyMapper will map the rows of a {@link java.sql.ResultSet} to proxies of an interface.
+ * <p>
+ * Only the raw values of the mapped columns are read from the ResultSet with getObject, each property runs the getter
+ * of the configured GetterFactory on the snapshot of the row on first access and memoizes the result.
+ * It is useful when most of the rows are filtered out after looking at one or two properties.
+ * A custom getter can only read the mapped columns.
+ * <p>
+ * JdbcLazyMapper are instantiable via {@link org.sfm.jdbc.JdbcMapperFactory#newLazyBuilder(Class)}.
+ * <p>
+ * <code>
+ *     JdbcLazyMapper&lt;MyInterface&gt; mapper = JdbcMapperFactory.newInstance().newLazyMapper(MyInterface.class, rs.getMetaData());<br>
+ *     mapper.forEach(rs, handler);
+ * </code>
+ *
+ * @param <T> the interface type
+ */
+public final class JdbcLazyMapper<T> {
+
+    private final LazyObjectFactory<ResultSet, T> factory;
+    private final int[] columns;
+    private final boolean[] captured;
+    private final RowHandlerErrorHandler errorHandler;
+
+    public JdbcLazyMapper(LazyObjectFactory<ResultSet, T> factory, int[] columns, RowHandlerErrorHandler errorHandler) {
+        this.factory = factory;
+        this.columns = columns;
+        this.errorHandler = errorHandler;
+        int maxColumn = 0;
+        for(int column : columns) {
+            maxColumn = Math.max(maxColumn, column);
+        }
+        this.captured = new boolean[maxColumn + 1];
+        for(int column : columns) {
+            captured[column] = true;
+        }
+    }
+
+    /**
+     * snapshot the current row of the resultSet.
+     * @param rs the resultSet
+     * @return a proxy backed by the raw values of the row
+     * @throws SQLException if sql error occurs
+     */
+    public T map(ResultSet rs) throws SQLException {
+        Object[] values = new Object[captured.length];
+        for(int column : columns) {
+            values[column] = rs.getObject(column);
+        }
+        return factory.newInstance(ResultSetSnapshot.newInstance(values, captured));
+    }
+
+    /**
+     * Loop over the resultSet and call back the handler with a proxy for each row.
+     * @param rs the resultSet
+     * @param handler the handler
+     * @param <H> the handler type
+     * @return the handler
+     * @throws SQLException if sql error occurs
+     * @throws MappingException if an error occurs during the mapping
+     */
+    public <H extends RowHandler<? super T>> H forEach(ResultSet rs, H handler) throws SQLException, MappingException {
+        while(rs.next()) {
+            T t = map(rs);
+            try {
+                handler.handle(t);
+            } catch(Throwable e) {
+                errorHandler.handlerError(e, t);
+            }
+        }
+        return handler;
+    }
+
+    @Override
+    public String toString() {
+        return "JdbcLazyMapper{" +
+                "factory=" + factory +
+                ", columns=" + Arrays.toString(columns) +
+                '}';
+    }
+}
@@ -0,0 +1,110 @@
+package org.sfm.jdbc;
+
+import org.sfm.map.GetterFactory;
+import org.sfm.map.MapperBuildingException;
+import org.sfm.map.MapperConfig;
+import org.sfm.map.column.FieldMapperColumnDefinition;
+import org.sfm.map.lazy.LazyObjectFactoryBuilder;
+import org.sfm.reflect.Getter;
+import org.sfm.reflect.meta.ClassMeta;
+import org.sfm.reflect.meta.PropertyMeta;
+import org.sfm.utils.ErrorDoc;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builder for {@link JdbcLazyMapper}.
+ * <p>
+ * The target must be an interface, the columns are matched against its getter methods.
+ * The properties are read with the custom getter of the column definition or with the getter factory on first access.
+ *
+ * @param <T> the interface type
+ */
+public final class JdbcLazyMapperBuilder<T> {
+
+    private final LazyObjectFactoryBuilder<ResultSet, T> builder;
+    private final MapperConfig<JdbcColumnKey, FieldMapperColumnDefinition<JdbcColumnKey>> mapperConfig;
+    private final GetterFactory<ResultSet, JdbcColumnKey> getterFactory;
+    private final List<Integer> columns = new ArrayList<Integer>();
+    private int calculatedIndex = 1;
+
+    public JdbcLazyMapperBuilder(ClassMeta<T> classMeta) {
+        this(classMeta, MapperConfig.<JdbcColumnKey>fieldMapperConfig(), new ResultSetGetterFactory());
+    }
+
+    public JdbcLazyMapperBuilder(ClassMeta<T> classMeta,
+                                 MapperConfig<JdbcColumnKey, FieldMapperColumnDefinition<JdbcColumnKey>> mapperConfig,
+                                 GetterFactory<ResultSet, JdbcColumnKey> getterFactory) {
+        this.builder = new LazyObjectFactoryBuilder<ResultSet, T>(classMeta,
+                mapperConfig.propertyNameMatcherFactory(),
+                mapperConfig.mapperBuilderErrorHandler());
+        this.mapperConfig = mapperConfig;
+        this.getterFactory = getterFactory;
+    }
+
+    /**
+     * add a mapping for the next column index of the ResultSet.
+     * @param column the column name
+     * @return the current builder
+     */
+    public JdbcLazyMapperBuilder<T> addMapping(String column) {
+        return addMapping(column, calculatedIndex);
+    }
+
+    public JdbcLazyMapperBuilder<T> addMapping(String column, int index) {
+        return addMapping(new JdbcColumnKey(column, index), FieldMapperColumnDefinition.<JdbcColumnKey>identity());
+    }
+
+    @SuppressWarnings("unchecked")
+    public JdbcLazyMapperBuilder<T> addMapping(JdbcColumnKey key, FieldMapperColumnDefinition<JdbcColumnKey> columnDefinition) {
+        calculatedIndex = key.getIndex() + 1;
+        FieldMapperColumnDefinition<JdbcColumnKey> composedDefinition =
+                mapperConfig.columnDefinitions().getColumnDefinition(key).compose(columnDefinition);
+        if (composedDefinition.ignore()) {
+            return this;
+        }
+        PropertyMeta<T, Object> property = builder.findProperty(composedDefinition.rename(key));
+        if (property != null) {
+            Getter<? super ResultSet, ?> getter = (Getter<? super ResultSet, ?>) composedDefinition.getCustomGetter();
+            if (getter == null && composedDefinition.hasCustomFactory()) {
+                GetterFactory<ResultSet, JdbcColumnKey> customGetterFactory = (GetterFactory<ResultSet, JdbcColumnKey>) composedDefinition.getCustomGetterFactory();
+                getter = customGetterFactory.newGetter(property.getPropertyType(), key, composedDefinition);
+            }
+            if (getter == null) {
+                getter = getterFactory.newGetter(property.getPropertyType(), key, composedDefinition);
+            }
+            if (getter == null) {
+                throw new MapperBuildingException("Could not find getter for " + key + " type " + property.getPropertyType()
+                        + " See " + ErrorDoc.toUrl("CSFM_GETTER_NOT_FOUND"));
+            }
+            builder.addProperty(property, getter);
+            columns.add(key.getIndex());
+        }
+        return this;
+    }
+
+    /**
+     * add a mapping for each column of the metadata.
+     * @param metaData the metaData
+     * @return the current builder
+     * @throws SQLException if an error occurs getting the metaData
+     */
+    public JdbcLazyMapperBuilder<T> addMapping(ResultSetMetaData metaData) throws SQLException {
+        for(int i = 1; i <= metaData.getColumnCount(); i++) {
+            addMapping(JdbcColumnKey.of(metaData, i), FieldMapperColumnDefinition.<JdbcColumnKey>identity());
+        }
+        return this;
+    }
+
+    public JdbcLazyMapper<T> mapper() {
+        int[] columnIndexes = new int[columns.size()];
+        for(int i = 0; i < columnIndexes.length; i++) {
+            columnIndexes[i] = columns.get(i);
+        }
+        return new JdbcLazyMapper<T>(builder.newFactory(), columnIndexes, mapperConfig.rowHandlerErrorHandler());
+    }
+}
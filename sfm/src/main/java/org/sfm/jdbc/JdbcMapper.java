@@ -59,6 +59,23 @@ public interface JdbcMapper<T> extends SetRowMapper<ResultSet, ResultSet, T, SQL
 	<H extends RowHandler<? super T>> H forEach(final ResultSet rs, final H handler)
 			throws SQLException, MappingException;
 
+	/**
+	 * Loop over the resultSet, map each row to the same target instance and call back the handler.
+	 *<p>
+	 * No instance of T is allocated per row, use a {@link org.sfm.utils.CopyRowHandler} to retain the rows.
+	 * The mapper must not be a join or discriminator mapper.
+	 *
+	 * @param rs the resultSet
+	 * @param target the instance of T reused for each row
+	 * @param handler the handler that will get the callback
+	 * @param <H> the row handler type
+	 * @return the handler passed in
+	 * @throws SQLException if sql error occurs
+	 * @throws MappingException if an error occurs during the mapping
+	 */
+	<H extends RowHandler<? super T>> H forEach(final ResultSet rs, final T target, final H handler)
+			throws SQLException, MappingException;
+
 	/**
 	 *
 	 * @param rs the result set
@@ -4,6 +4,7 @@ import org.sfm.jdbc.impl.PreparedStatementSetterFactory;
 import org.sfm.map.*;
 import org.sfm.map.column.FieldMapperColumnDefinition;
 import org.sfm.map.mapper.*;
+import org.sfm.map.metrics.MetricsRegistry;
 import org.sfm.reflect.Getter;
 import org.sfm.reflect.TypeHelper;
 import org.sfm.reflect.TypeReference;
@@ -107,6 +108,37 @@ public final class JdbcMapperFactory
 		return addColumnDefinition(key, FieldMapperColumnDefinition.<JdbcColumnKey>customGetter(getter));
 	}
 
+	/**
+	 * Will create a instance of JdbcColumnarMapperBuilder that maps the rows into the primitive arrays of a columnar batch.
+	 * @return the builder
+	 */
+	public JdbcColumnarMapperBuilder newColumnarBuilder() {
+		return new JdbcColumnarMapperBuilder(getterFactory, columnDefinitions(), rowHandlerErrorHandler());
+	}
+
+	/**
+	 * Will create a instance of JdbcLazyMapperBuilder that maps the rows to proxies of the target interface,
+	 * the properties are read with the configured getter factory on first access.
+	 * @param target the target interface
+	 * @param <T> the target type
+	 * @return the builder
+	 */
+	public <T> JdbcLazyMapperBuilder<T> newLazyBuilder(Class<T> target) {
+		return new JdbcLazyMapperBuilder<T>(getClassMeta(target), mapperConfig(), getterFactory);
+	}
+
+	/**
+	 * Will create a instance of JdbcLazyMapper based on the specified metadata and the target interface.
+	 * @param target the target interface
+	 * @param metaData the metadata to create the mapper from
+	 * @param <T> the target type
+	 * @return the lazy mapper
+	 * @throws java.sql.SQLException if an error occurs getting the metaData
+	 */
+	public <T> JdbcLazyMapper<T> newLazyMapper(Class<T> target, ResultSetMetaData metaData) throws SQLException {
+		return newLazyBuilder(target).addMapping(metaData).mapper();
+	}
+
 	/**
 	 * Will create a instance of JdbcMapper based on the specified metadata and the target class.
 	 * @param target the target class of the jdbcMapper
@@ -240,7 +272,7 @@ public final class JdbcMapperFactory
      */
 	public <T> JdbcMapper<T> newMapper(final Type target) {
 		final ClassMeta<T> classMeta = getClassMeta(target);
-		return new DynamicJdbcSetRowMapper<T>(new SetRowMapperFactory<T>(classMeta),  new MapperKeyFactory(),  new MapperKeyFactory());
+		return new DynamicJdbcSetRowMapper<T>(new SetRowMapperFactory<T>(classMeta),  new MapperKeyFactory(),  new MapperKeyFactory(), mapperConfig().metricsRegistry());
 	}
 
 	public static class DynamicJdbcSetRowMapper<T>
@@ -251,7 +283,15 @@ public final class JdbcMapperFactory
 				UnaryFactory<MapperKey<JdbcColumnKey>, SetRowMapper<ResultSet, ResultSet, T, SQLException>> mapperFactory,
 				UnaryFactoryWithException<ResultSet, MapperKey<JdbcColumnKey>, SQLException> mapperKeyFromRow,
 				UnaryFactoryWithException<ResultSet, MapperKey<JdbcColumnKey>, SQLException> mapperKeyFromSet) {
-			super(mapperFactory, mapperKeyFromRow, mapperKeyFromSet, MapperKeyComparator.jdbcColumnKeyComparator());
+			this(mapperFactory, mapperKeyFromRow, mapperKeyFromSet, null);
+		}
+
+		public DynamicJdbcSetRowMapper(
+				UnaryFactory<MapperKey<JdbcColumnKey>, SetRowMapper<ResultSet, ResultSet, T, SQLException>> mapperFactory,
+				UnaryFactoryWithException<ResultSet, MapperKey<JdbcColumnKey>, SQLException> mapperKeyFromRow,
+				UnaryFactoryWithException<ResultSet, MapperKey<JdbcColumnKey>, SQLException> mapperKeyFromSet,
+				MetricsRegistry metricsRegistry) {
+			super(mapperFactory, mapperKeyFromRow, mapperKeyFromSet, MapperKeyComparator.jdbcColumnKeyComparator(), metricsRegistry);
 		}
 
 
@@ -3,6 +3,7 @@ package org.sfm.jdbc;
 import org.sfm.jdbc.impl.getter.*;
 import org.sfm.map.getter.BytesUUIDGetter;
 import org.sfm.map.getter.EnumUnspecifiedTypeGetter;
+import org.sfm.map.getter.InternStringGetter;
 import org.sfm.map.getter.OrdinalEnumGetter;
 import org.sfm.map.getter.StringEnumGetter;
 import org.sfm.map.getter.StringUUIDGetter;
@@ -10,6 +11,7 @@ import org.sfm.map.getter.UUIDUnspecifiedTypeGetter;
 import org.sfm.map.getter.joda.JodaTimeGetterFactory;
 import org.sfm.map.MapperBuildingException;
 import org.sfm.map.GetterFactory;
+import org.sfm.map.column.InternStringProperty;
 import org.sfm.map.mapper.ColumnDefinition;
 import org.sfm.reflect.Getter;
 import org.sfm.reflect.TypeHelper;
@@ -59,14 +61,23 @@ public final class ResultSetGetterFactory implements GetterFactory<ResultSet, Jd
 		@SuppressWarnings("unchecked")
 		@Override
 		public <P> Getter<ResultSet, P> newGetter(Type genericType, JdbcColumnKey key, ColumnDefinition<?, ?> columnDefinition) {
+			Getter<ResultSet, String> getter = newStringGetter(key);
+			InternStringProperty internStringProperty = columnDefinition != null ? columnDefinition.lookFor(InternStringProperty.class) : null;
+			if (internStringProperty != null) {
+				getter = new InternStringGetter<ResultSet>(getter, internStringProperty.getCapacity());
+			}
+			return (Getter<ResultSet, P>) getter;
+		}
+
+		private Getter<ResultSet, String> newStringGetter(JdbcColumnKey key) {
 			switch(key.getSqlType() ) {
 			case Types.NCHAR:
 			case Types.NVARCHAR:
 			case Types.LONGNVARCHAR:
 			case Types.NCLOB:
-				return (Getter<ResultSet, P>) new NStringResultSetGetter(key.getIndex());
+				return new NStringResultSetGetter(key.getIndex());
 			default:
-				return (Getter<ResultSet, P>) new StringResultSetGetter(key.getIndex());
+				return new StringResultSetGetter(key.getIndex());
 			}
 		}
 	}
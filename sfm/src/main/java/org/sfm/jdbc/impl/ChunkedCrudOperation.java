@@ -0,0 +1,117 @@
+package org.sfm.jdbc.impl;
+
+import org.sfm.jdbc.Crud;
+import org.sfm.utils.ErrorHelper;
+import org.sfm.utils.RowHandler;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Apply a collection crud operation on an iterator of values, chunkSize values at a time.
+ * Only one chunk is held in memory.
+ */
+public enum ChunkedCrudOperation {
+    CREATE {
+        @Override
+        public <T> void apply(Crud<T, ?> crud, Connection connection, List<T> chunk) throws SQLException {
+            crud.create(connection, chunk);
+        }
+    },
+    UPDATE {
+        @Override
+        public <T> void apply(Crud<T, ?> crud, Connection connection, List<T> chunk) throws SQLException {
+            crud.update(connection, chunk);
+        }
+    },
+    CREATE_OR_UPDATE {
+        @Override
+        public <T> void apply(Crud<T, ?> crud, Connection connection, List<T> chunk) throws SQLException {
+            crud.createOrUpdate(connection, chunk);
+        }
+    };
+
+    /**
+     * apply the operation to one chunk.
+     * @param crud the crud
+     * @param connection the connection
+     * @param chunk the values
+     * @param <T> the type of the values
+     * @throws SQLException if an error occurs
+     */
+    public abstract <T> void apply(Crud<T, ?> crud, Connection connection, List<T> chunk) throws SQLException;
+
+    /**
+     * apply the operation chunk by chunk.
+     * @param crud the crud
+     * @param connection the connection
+     * @param values the values
+     * @param chunkSize the number of values per chunk
+     * @param commitEachChunk commit the connection after each chunk
+     * @param progressHandler called back with the number of values processed after each chunk, can be null
+     * @param <T> the type of the values
+     * @return the number of values processed
+     * @throws SQLException if an error occurs
+     */
+    public <T> long execute(final Crud<T, ?> crud, final Connection connection,
+                            Iterator<? extends T> values, int chunkSize,
+                            final boolean commitEachChunk, RowHandler<? super Long> progressHandler) throws SQLException {
+        return forEachChunk(values, chunkSize, new RowHandler<List<T>>() {
+            @Override
+            public void handle(List<T> chunk) throws Exception {
+                apply(crud, connection, chunk);
+                if (commitEachChunk) {
+                    connection.commit();
+                }
+            }
+        }, progressHandler);
+    }
+
+    /**
+     * split the values in chunks and call back the chunkHandler, the chunk list is reused.
+     * @param values the values
+     * @param chunkSize the number of values per chunk
+     * @param chunkHandler the handler called for each chunk
+     * @param progressHandler called back with the number of values processed after each chunk, can be null
+     * @param <T> the type of the values
+     * @return the number of values processed
+     */
+    public static <T> long forEachChunk(Iterator<? extends T> values, int chunkSize,
+                                        RowHandler<? super List<T>> chunkHandler,
+                                        RowHandler<? super Long> progressHandler) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive " + chunkSize);
+        }
+        List<T> chunk = new ArrayList<T>(chunkSize);
+        long count = 0;
+        try {
+            while (values.hasNext()) {
+                chunk.add(values.next());
+                if (chunk.size() == chunkSize) {
+                    count = flush(chunk, count, chunkHandler, progressHandler);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                count = flush(chunk, count, chunkHandler, progressHandler);
+            }
+        } catch (Exception e) {
+            ErrorHelper.rethrow(e);
+        }
+        return count;
+    }
+
+    private static <T> long flush(List<T> chunk, long count,
+                                  RowHandler<? super List<T>> chunkHandler,
+                                  RowHandler<? super Long> progressHandler) throws Exception {
+        chunkHandler.handle(chunk);
+        count += chunk.size();
+        chunk.clear();
+        if (progressHandler != null) {
+            progressHandler.handle(count);
+        }
+        return count;
+    }
+}
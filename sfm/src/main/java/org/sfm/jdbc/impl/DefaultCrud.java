@@ -12,6 +12,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 
 public final class DefaultCrud<T, K> implements Crud<T,K> {
@@ -217,5 +218,19 @@ public final class DefaultCrud<T, K> implements Crud<T,K> {
             keys.close();
         }
     }
-}
 
+    @Override
+    public long create(Connection connection, Iterator<? extends T> values, int chunkSize, boolean commitEachChunk, RowHandler<? super Long> progressHandler) throws SQLException {
+        return ChunkedCrudOperation.CREATE.execute(this, connection, values, chunkSize, commitEachChunk, progressHandler);
+    }
+
+    @Override
+    public long update(Connection connection, Iterator<? extends T> values, int chunkSize, boolean commitEachChunk, RowHandler<? super Long> progressHandler) throws SQLException {
+        return ChunkedCrudOperation.UPDATE.execute(this, connection, values, chunkSize, commitEachChunk, progressHandler);
+    }
+
+    @Override
+    public long createOrUpdate(Connection connection, Iterator<? extends T> values, int chunkSize, boolean commitEachChunk, RowHandler<? super Long> progressHandler) throws SQLException {
+        return ChunkedCrudOperation.CREATE_OR_UPDATE.execute(this, connection, values, chunkSize, commitEachChunk, progressHandler);
+    }
+}
@@ -0,0 +1,148 @@
+package org.sfm.jdbc.impl;
+
+import org.sfm.utils.Predicate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resolve the index of the first matching discriminator predicate.
+ * <p>
+ * {@link DiscriminatorValuePredicate} are looked up in a hash table, other predicates are only tested
+ * when declared before the hash hit to keep the first match semantic.
+ * When all the predicates are values that are longs the dispatch can also be done on a primitive long.
+ */
+final class DiscriminatorDispatch {
+
+    private static final int NOT_FOUND = Integer.MAX_VALUE;
+
+    private final List<Predicate<String>> predicates;
+    private final Map<String, Integer> valueIndexes;
+    private final int nullIndex;
+    private final int[] predicateIndexes;
+
+    private final long[] longKeys;
+    private final int[] longIndexes;
+
+    DiscriminatorDispatch(List<Predicate<String>> predicates) {
+        this.predicates = predicates;
+        this.valueIndexes = new HashMap<String, Integer>();
+
+        int nullIndex = NOT_FOUND;
+        List<Integer> predicateIndexes = new ArrayList<Integer>();
+        Map<Long, Integer> longValues = new HashMap<Long, Integer>();
+        boolean allLongs = true;
+
+        for(int i = 0; i < predicates.size(); i++) {
+            Predicate<String> predicate = predicates.get(i);
+            if (predicate instanceof DiscriminatorValuePredicate) {
+                String value = ((DiscriminatorValuePredicate) predicate).getValue();
+                if (value == null) {
+                    if (nullIndex == NOT_FOUND) {
+                        nullIndex = i;
+                    }
+                } else {
+                    if (!valueIndexes.containsKey(value)) {
+                        valueIndexes.put(value, i);
+                    }
+                    Long l = toLong(value);
+                    if (l == null) {
+                        allLongs = false;
+                    } else if (!longValues.containsKey(l)) {
+                        longValues.put(l, i);
+                    }
+                }
+            } else {
+                predicateIndexes.add(i);
+                allLongs = false;
+            }
+        }
+
+        this.nullIndex = nullIndex;
+        this.predicateIndexes = toIntArray(predicateIndexes);
+
+        if (allLongs) {
+            longKeys = new long[longValues.size()];
+            int i = 0;
+            for(Long l : longValues.keySet()) {
+                longKeys[i++] = l;
+            }
+            Arrays.sort(longKeys);
+            longIndexes = new int[longKeys.length];
+            for(int j = 0; j < longKeys.length; j++) {
+                longIndexes[j] = longValues.get(longKeys[j]);
+            }
+        } else {
+            longKeys = null;
+            longIndexes = null;
+        }
+    }
+
+    /**
+     * @return true if {@link #indexOf(long, boolean)} can be used.
+     */
+    public boolean supportsLong() {
+        return longKeys != null;
+    }
+
+    /**
+     * @param value the discriminator value
+     * @return the index of the first matching predicate or -1
+     */
+    public int indexOf(String value) {
+        int hit;
+        if (value == null) {
+            hit = nullIndex;
+        } else {
+            Integer index = valueIndexes.get(value);
+            hit = index != null ? index : NOT_FOUND;
+        }
+
+        for(int predicateIndex : predicateIndexes) {
+            if (predicateIndex > hit) {
+                break;
+            }
+            if (predicates.get(predicateIndex).test(value)) {
+                return predicateIndex;
+            }
+        }
+
+        return hit == NOT_FOUND ? -1 : hit;
+    }
+
+    /**
+     * @param value the discriminator value
+     * @param isNull true if the value is sql null
+     * @return the index of the first matching predicate or -1
+     */
+    public int indexOf(long value, boolean isNull) {
+        if (isNull) {
+            return nullIndex == NOT_FOUND ? -1 : nullIndex;
+        }
+        int i = Arrays.binarySearch(longKeys, value);
+        return i >= 0 ? longIndexes[i] : -1;
+    }
+
+    private static Long toLong(String value) {
+        try {
+            long l = Long.parseLong(value);
+            if (Long.toString(l).equals(value)) {
+                return l;
+            }
+        } catch (NumberFormatException e) {
+            // not a long
+        }
+        return null;
+    }
+
+    private static int[] toIntArray(List<Integer> list) {
+        int[] array = new int[list.size()];
+        for(int i = 0; i < array.length; i++) {
+            array[i] = list.get(i);
+        }
+        return array;
+    }
+}
@@ -9,8 +9,12 @@ import org.sfm.tuples.Tuple3;
 import org.sfm.utils.*;
 import org.sfm.utils.conv.Converter;
 
+import java.lang.ref.WeakReference;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
 import java.util.List;
 
 
@@ -20,34 +24,89 @@ public final class DiscriminatorJdbcMapper<T> extends AbstractEnumarableDelegate
 
     private final String discriminatorColumn;
     private final List<Tuple2<Predicate<String>, JdbcMapper<T>>> mappers;
+    private final DiscriminatorDispatch dispatch;
+
+    private volatile DiscriminatorColumn lastColumn;
 
     public DiscriminatorJdbcMapper(String discriminatorColumn, List<Tuple2<Predicate<String>, JdbcMapper<T>>> mappers, RowHandlerErrorHandler rowHandlerErrorHandler) {
         super(rowHandlerErrorHandler);
         this.discriminatorColumn = discriminatorColumn;
         this.mappers = mappers;
+        this.dispatch = new DiscriminatorDispatch(predicates(mappers));
+    }
+
+    private static <T> List<Predicate<String>> predicates(List<Tuple2<Predicate<String>, JdbcMapper<T>>> mappers) {
+        List<Predicate<String>> predicates = new ArrayList<Predicate<String>>(mappers.size());
+        for(Tuple2<Predicate<String>, JdbcMapper<T>> tm : mappers) {
+            predicates.add(tm.first());
+        }
+        return predicates;
     }
 
     @Override
     protected JdbcMapper<T> getMapper(final ResultSet rs) throws MappingException {
-        String value = getDiscriminatorValue(rs);
+        try {
+            DiscriminatorColumn column = getDiscriminatorColumn(rs);
+            int index = column.mapperIndex(rs);
+            if (index < 0) {
+                throw new MappingException("No jdbcMapper found for " + discriminatorColumn + " = " + column.getString(rs));
+            }
+            return mappers.get(index).second();
+        } catch(SQLException e) {
+            return ErrorHelper.rethrow(e);
+        }
+    }
+
+    /**
+     * the column is resolved once per ResultSetMetaData, the memo is immutable and replaced when the metadata changes
+     * so the callers on other ResultSets only pay a new resolution.
+     */
+    private DiscriminatorColumn getDiscriminatorColumn(ResultSet rs) throws SQLException {
+        ResultSetMetaData metaData = rs.getMetaData();
+        DiscriminatorColumn column = lastColumn;
+        if (column == null || metaData == null || column.metaData.get() != metaData) {
+            column = newDiscriminatorColumn(rs, metaData);
+            lastColumn = column;
+        }
+        return column;
+    }
 
-        for (Tuple2<Predicate<String>, JdbcMapper<T>> tm : mappers) {
-            if (tm.first().test(value)) {
-                return tm.second();
+    private DiscriminatorColumn newDiscriminatorColumn(ResultSet rs, ResultSetMetaData metaData) throws SQLException {
+        int columnIndex = -1;
+        if (metaData != null) {
+            for(int i = 1; i <= metaData.getColumnCount(); i++) {
+                if (discriminatorColumn.equalsIgnoreCase(metaData.getColumnLabel(i))) {
+                    columnIndex = i;
+                    break;
+                }
             }
         }
-        throw new MappingException("No jdbcMapper found for " + discriminatorColumn + " = " + value);
+        if (columnIndex == -1) {
+            columnIndex = rs.findColumn(discriminatorColumn);
+        }
+
+        boolean readAsLong = dispatch.supportsLong()
+                && metaData != null
+                && isIntegerType(metaData.getColumnType(columnIndex));
+
+        return new DiscriminatorColumn(metaData, columnIndex, readAsLong, dispatch);
     }
 
-    private String getDiscriminatorValue(ResultSet rs) {
-        try {
-            return rs.getString(discriminatorColumn);
-        } catch(SQLException e) {
-            return ErrorHelper.rethrow(e);
+    private static boolean isIntegerType(int sqlType) {
+        switch (sqlType) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+                return true;
+            default:
+                return false;
         }
     }
 
     protected DiscriminatorEnumerable<ResultSet, T> newEnumarableOfT(ResultSet rs) throws SQLException {
+        final DiscriminatorColumn column = newDiscriminatorColumn(rs, rs.getMetaData());
+
         @SuppressWarnings("unchecked") Tuple3<Predicate<ResultSet>, Mapper<ResultSet, T>, MappingContext<? super ResultSet>>[] mapperDiscriminators =
                 new Tuple3[this.mappers.size()];
 
@@ -55,7 +114,7 @@ public final class DiscriminatorJdbcMapper<T> extends AbstractEnumarableDelegate
 
             Tuple2<Predicate<String>, JdbcMapper<T>> mapper = mappers.get(i);
 
-            Predicate<ResultSet> discriminatorPredicate = new DiscriminatorPredicate(discriminatorColumn, mapper.first());
+            Predicate<ResultSet> discriminatorPredicate = new DiscriminatorPredicate(column, mapper.first());
 
             mapperDiscriminators[i] =
                     new Tuple3<Predicate<ResultSet>, Mapper<ResultSet, T>, MappingContext<? super ResultSet>>(
@@ -67,7 +126,12 @@ public final class DiscriminatorJdbcMapper<T> extends AbstractEnumarableDelegate
         return new DiscriminatorEnumerable<ResultSet, T>(
                 mapperDiscriminators,
                 new ResultSetEnumarable(rs),
-                new ErrorMessageConverter(discriminatorColumn));
+                new ErrorMessageConverter(discriminatorColumn, column)) {
+            @Override
+            protected int mapperIndex(ResultSet source) throws Exception {
+                return column.mapperIndex(source);
+            }
+        };
     }
 
     @Override
@@ -83,19 +147,48 @@ public final class DiscriminatorJdbcMapper<T> extends AbstractEnumarableDelegate
         return getMapper(rs).newMappingContext(rs);
     }
 
+    /**
+     * discriminator column resolved against a ResultSetMetaData, read by index and as a long for integer columns.
+     */
+    private static final class DiscriminatorColumn {
+        private final WeakReference<ResultSetMetaData> metaData;
+        private final int columnIndex;
+        private final boolean readAsLong;
+        private final DiscriminatorDispatch dispatch;
+
+        private DiscriminatorColumn(ResultSetMetaData metaData, int columnIndex, boolean readAsLong, DiscriminatorDispatch dispatch) {
+            this.metaData = new WeakReference<ResultSetMetaData>(metaData);
+            this.columnIndex = columnIndex;
+            this.readAsLong = readAsLong;
+            this.dispatch = dispatch;
+        }
+
+        public int mapperIndex(ResultSet rs) throws SQLException {
+            if (readAsLong) {
+                long value = rs.getLong(columnIndex);
+                return dispatch.indexOf(value, rs.wasNull());
+            }
+            return dispatch.indexOf(rs.getString(columnIndex));
+        }
+
+        public String getString(ResultSet rs) throws SQLException {
+            return rs.getString(columnIndex);
+        }
+    }
+
     private static class DiscriminatorPredicate implements Predicate<ResultSet> {
-        private final String discriminatorColumn;
+        private final DiscriminatorColumn column;
         private final Predicate<String> predicate;
 
-        public DiscriminatorPredicate(String discriminatorColumn, Predicate<String> predicate) {
-            this.discriminatorColumn = discriminatorColumn;
+        public DiscriminatorPredicate(DiscriminatorColumn column, Predicate<String> predicate) {
+            this.column = column;
             this.predicate = predicate;
         }
 
         @Override
         public boolean test(ResultSet resultSet) {
             try {
-                return predicate.test(resultSet.getString(discriminatorColumn));
+                return predicate.test(column.getString(resultSet));
             } catch (SQLException e) {
                 ErrorHelper.rethrow(e);
                 return false;
@@ -105,14 +198,16 @@ public final class DiscriminatorJdbcMapper<T> extends AbstractEnumarableDelegate
 
     private static class ErrorMessageConverter implements Converter<ResultSet, String> {
         private final String discriminatorColumn;
+        private final DiscriminatorColumn column;
 
-        private ErrorMessageConverter(String discriminatorColumn) {
+        private ErrorMessageConverter(String discriminatorColumn, DiscriminatorColumn column) {
             this.discriminatorColumn = discriminatorColumn;
+            this.column = column;
         }
 
         @Override
         public String convert(ResultSet in) throws Exception {
-            return " column " + discriminatorColumn + " = " + in.getObject(discriminatorColumn);
+            return " column " + discriminatorColumn + " = " + column.getString(in);
         }
     }
 
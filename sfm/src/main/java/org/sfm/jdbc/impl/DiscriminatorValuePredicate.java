@@ -0,0 +1,30 @@
+package org.sfm.jdbc.impl;
+
+import org.sfm.utils.Predicate;
+
+/**
+ * Discriminator predicate matching a single value, compiled to a hash lookup by the {@link DiscriminatorJdbcMapper}.
+ */
+public final class DiscriminatorValuePredicate implements Predicate<String> {
+    private final String value;
+
+    public DiscriminatorValuePredicate(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    @Override
+    public boolean test(String discriminatorValue) {
+        return value == null ? discriminatorValue == null : value.equals(discriminatorValue);
+    }
+
+    @Override
+    public String toString() {
+        return "DiscriminatorPredicate{" +
+                "value='" + value + '\'' +
+                '}';
+    }
+}
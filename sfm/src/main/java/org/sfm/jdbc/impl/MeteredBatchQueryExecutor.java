@@ -0,0 +1,43 @@
+package org.sfm.jdbc.impl;
+
+import org.sfm.map.metrics.MetricNames;
+import org.sfm.map.metrics.MetricsRegistry;
+import org.sfm.map.metrics.Recorder;
+import org.sfm.utils.RowHandler;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collection;
+
+/**
+ * Record the size of the batches sent to the delegate.
+ */
+public class MeteredBatchQueryExecutor<T> implements BatchQueryExecutor<T> {
+    private final BatchQueryExecutor<T> delegate;
+    private final Recorder batchSize;
+
+    public MeteredBatchQueryExecutor(BatchQueryExecutor<T> delegate, Recorder batchSize) {
+        this.delegate = delegate;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * @param delegate the executor to meter
+     * @param metricsRegistry the registry, can be null
+     * @param <T> the type of the values
+     * @return the delegate if the registry is null, a metered executor otherwise
+     */
+    public static <T> BatchQueryExecutor<T> meter(BatchQueryExecutor<T> delegate, MetricsRegistry metricsRegistry) {
+        if (metricsRegistry == null) {
+            return delegate;
+        }
+        return new MeteredBatchQueryExecutor<T>(delegate, metricsRegistry.recorder(MetricNames.BATCH_SIZE));
+    }
+
+    @Override
+    public void insert(Connection connection, Collection<T> values, RowHandler<PreparedStatement> postExecute) throws SQLException {
+        batchSize.record(values.size());
+        delegate.insert(connection, values, postExecute);
+    }
+}
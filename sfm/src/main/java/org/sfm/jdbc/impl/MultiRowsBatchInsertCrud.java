@@ -7,6 +7,7 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 
 public final class MultiRowsBatchInsertCrud<T, K> implements Crud<T, K> {
@@ -108,4 +109,19 @@ public final class MultiRowsBatchInsertCrud<T, K> implements Crud<T, K> {
         });
         return keyConsumer;
     }
+
+    @Override
+    public long create(Connection connection, Iterator<? extends T> values, int chunkSize, boolean commitEachChunk, RowHandler<? super Long> progressHandler) throws SQLException {
+        return ChunkedCrudOperation.CREATE.execute(this, connection, values, chunkSize, commitEachChunk, progressHandler);
+    }
+
+    @Override
+    public long update(Connection connection, Iterator<? extends T> values, int chunkSize, boolean commitEachChunk, RowHandler<? super Long> progressHandler) throws SQLException {
+        return ChunkedCrudOperation.UPDATE.execute(this, connection, values, chunkSize, commitEachChunk, progressHandler);
+    }
+
+    @Override
+    public long createOrUpdate(Connection connection, Iterator<? extends T> values, int chunkSize, boolean commitEachChunk, RowHandler<? super Long> progressHandler) throws SQLException {
+        return ChunkedCrudOperation.CREATE_OR_UPDATE.execute(this, connection, values, chunkSize, commitEachChunk, progressHandler);
+    }
 }
@@ -54,7 +54,8 @@ public class MysqlCrudFactory {
                 statementMapperBuilder.buildIndexFieldMappers());
 
         return
-                new SizeAdjusterBatchQueryExecutor<T>(queryExecutor);
+                new SizeAdjusterBatchQueryExecutor<T>(
+                        MeteredBatchQueryExecutor.meter(queryExecutor, jdbcMapperFactory.mapperConfig().metricsRegistry()));
     }
 
     public static <T, K> QueryPreparer<T> buildUpsert(ClassMeta<T> target, CrudMeta crudMeta, JdbcMapperFactory jdbcMapperFactory) {
@@ -57,7 +57,7 @@ public class PostgresqlCrudFactory {
                 keys.toArray(new String[0]),
                 statementMapperBuilder.buildIndexFieldMappers());
 
-        return queryExecutor;
+        return MeteredBatchQueryExecutor.meter(queryExecutor, jdbcMapperFactory.mapperConfig().metricsRegistry());
     }
 
     public static <T, K> QueryPreparer<T> buildUpsert(ClassMeta<T> target, CrudMeta crudMeta, JdbcMapperFactory jdbcMapperFactory) {
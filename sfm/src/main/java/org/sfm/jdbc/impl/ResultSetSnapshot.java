@@ -0,0 +1,107 @@
+package org.sfm.jdbc.impl;
+
+import org.sfm.reflect.TypeHelper;
+import org.sfm.utils.conv.Converter;
+import org.sfm.utils.conv.ConverterFactory;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * One row ResultSet on the raw values of the captured columns, as returned by getObject.
+ * <p>
+ * The typed getters by column index convert the raw value to their return type when called, so that the getters
+ * of the GetterFactory can be run after the ResultSet moved to the next row. The other methods are not supported.
+ */
+public final class ResultSetSnapshot implements InvocationHandler {
+
+    private static final Map<Class<?>, Object> PRIMITIVE_DEFAULTS = new HashMap<Class<?>, Object>();
+    static {
+        PRIMITIVE_DEFAULTS.put(boolean.class, Boolean.FALSE);
+        PRIMITIVE_DEFAULTS.put(byte.class, (byte) 0);
+        PRIMITIVE_DEFAULTS.put(char.class, (char) 0);
+        PRIMITIVE_DEFAULTS.put(short.class, (short) 0);
+        PRIMITIVE_DEFAULTS.put(int.class, 0);
+        PRIMITIVE_DEFAULTS.put(long.class, 0l);
+        PRIMITIVE_DEFAULTS.put(float.class, 0f);
+        PRIMITIVE_DEFAULTS.put(double.class, 0d);
+    }
+
+    private final Object[] values;
+    private final boolean[] captured;
+    private boolean wasNull;
+
+    private ResultSetSnapshot(Object[] values, boolean[] captured) {
+        this.values = values;
+        this.captured = captured;
+    }
+
+    /**
+     * @param values the raw values indexed by column index
+     * @param captured true for the column indexes present in the values
+     * @return the ResultSet on the values
+     */
+    public static ResultSet newInstance(Object[] values, boolean[] captured) {
+        return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(),
+                new Class<?>[] { ResultSet.class }, new ResultSetSnapshot(values, captured));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            try {
+                return method.invoke(this, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+        String name = method.getName();
+        if (name.startsWith("get") && args != null && args[0] instanceof Integer) {
+            Object value = getValue((Integer) args[0]);
+            wasNull = value == null;
+            Class<?> type = args.length == 2 && args[1] instanceof Class ? (Class<?>) args[1] : method.getReturnType();
+            return convert(value, type);
+        }
+        if ("wasNull".equals(name) && args == null) {
+            return wasNull;
+        }
+        throw new SQLFeatureNotSupportedException(name + " is not supported on a row snapshot");
+    }
+
+    private Object getValue(int column) throws SQLException {
+        if (column < 0 || column >= captured.length || !captured[column]) {
+            throw new SQLException("Column " + column + " is not mapped and was not captured in the row snapshot");
+        }
+        return values[column];
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object convert(Object value, Class<?> type) throws Exception {
+        if (value == null) {
+            return PRIMITIVE_DEFAULTS.get(type);
+        }
+        Class<?> wrappedType = TypeHelper.wrap(type);
+        if (wrappedType.isInstance(value)) {
+            return value;
+        }
+        Converter<Object, Object> converter = ConverterFactory.getConverter((Class<Object>) value.getClass(), (Class<Object>) wrappedType);
+        if (converter == null) {
+            throw new SQLException("Cannot convert " + value.getClass() + " to " + type);
+        }
+        return converter.convert(value);
+    }
+
+    @Override
+    public String toString() {
+        return "ResultSetSnapshot{" +
+                "wasNull=" + wasNull +
+                '}';
+    }
+}
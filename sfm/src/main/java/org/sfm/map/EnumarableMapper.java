@@ -35,6 +35,25 @@ public interface EnumarableMapper<S, T, E extends Exception> {
     <H extends RowHandler<? super T>> H forEach(final S source, final H handler)
             throws E, MappingException;
 
+    /**
+     * Loop over the source, map each row to the same target instance and call back the handler.
+     *<p>
+     * No instance of T is allocated per row, the handler needs to copy the target if it retains it
+     * - see {@link org.sfm.utils.CopyRowHandler}.
+     * The properties not present in the row keep the value of the previous row.
+     *
+     * @param source the source
+     * @param target the instance of T reused for each row
+     * @param handler the handler that will get the callback
+     * @param <H> the row handler type
+     * @return the handler passed in
+     * @throws E if source error occurs
+     * @throws MappingException if an error occurs during the mapping
+     * @throws UnsupportedOperationException if the mapper aggregates or discriminates rows
+     */
+    <H extends RowHandler<? super T>> H forEach(final S source, final T target, final H handler)
+            throws E, MappingException;
+
     /**
      *
      * @param source the source
@@ -8,6 +8,9 @@ import org.sfm.map.impl.*;
 import org.sfm.map.mapper.ColumnDefinition;
 import org.sfm.map.mapper.ColumnDefinitionProvider;
 import org.sfm.map.mapper.DefaultPropertyNameMatcherFactory;
+import org.sfm.map.metrics.FieldCostProfiler;
+import org.sfm.map.metrics.MeteredFieldMapperErrorHandler;
+import org.sfm.map.metrics.MetricsRegistry;
 import org.sfm.reflect.meta.PropertyNameMatcherFactory;
 
 import static org.sfm.utils.Asserts.requireNonNull;
@@ -25,7 +28,7 @@ public final class MapperConfig<K extends FieldKey<K>, CD extends ColumnDefiniti
                 false,
                 NO_ASM_MAPPER_THRESHOLD,
                 new RethrowFieldMapperErrorHandler<K>(),
-                new RethrowRowHandlerErrorHandler(), MAX_METHOD_SIZE);
+                new RethrowRowHandlerErrorHandler(), MAX_METHOD_SIZE, null, null);
     }
 
     public static <K extends FieldKey<K>, CD extends ColumnDefinition<K, CD>> MapperConfig<K, CD> config(ColumnDefinitionProvider<CD, K> columnDefinitionProvider) {
@@ -36,7 +39,7 @@ public final class MapperConfig<K extends FieldKey<K>, CD extends ColumnDefiniti
                 false,
                 NO_ASM_MAPPER_THRESHOLD,
                 new RethrowFieldMapperErrorHandler<K>(),
-                new RethrowRowHandlerErrorHandler(), MAX_METHOD_SIZE);
+                new RethrowRowHandlerErrorHandler(), MAX_METHOD_SIZE, null, null);
     }
 
     private final ColumnDefinitionProvider<CD, K> columnDefinitions;
@@ -47,6 +50,9 @@ public final class MapperConfig<K extends FieldKey<K>, CD extends ColumnDefiniti
     private final FieldMapperErrorHandler<K> fieldMapperErrorHandler;
     private final RowHandlerErrorHandler rowHandlerErrorHandler;
     private final int maxMethodSize;
+    private final MetricsRegistry metricsRegistry;
+    private final FieldMapperErrorHandler<K> meteredFieldMapperErrorHandler;
+    private final FieldCostProfiler fieldCostProfiler;
 
 
     private MapperConfig(
@@ -56,7 +62,7 @@ public final class MapperConfig<K extends FieldKey<K>, CD extends ColumnDefiniti
             boolean failOnAsm,
             int asmMapperNbFieldsLimit,
             FieldMapperErrorHandler<K> fieldMapperErrorHandler,
-            RowHandlerErrorHandler rowHandlerErrorHandler, int maxMethodSize) {
+            RowHandlerErrorHandler rowHandlerErrorHandler, int maxMethodSize, MetricsRegistry metricsRegistry, FieldCostProfiler fieldCostProfiler) {
         this.columnDefinitions = columnDefinitions;
         this.propertyNameMatcherFactory = propertyNameMatcherFactory;
         this.mapperBuilderErrorHandler = mapperBuilderErrorHandler;
@@ -65,6 +71,12 @@ public final class MapperConfig<K extends FieldKey<K>, CD extends ColumnDefiniti
         this.fieldMapperErrorHandler = fieldMapperErrorHandler;
         this.rowHandlerErrorHandler = rowHandlerErrorHandler;
         this.maxMethodSize = maxMethodSize;
+        this.metricsRegistry = metricsRegistry;
+        this.fieldCostProfiler = fieldCostProfiler;
+        this.meteredFieldMapperErrorHandler =
+                metricsRegistry != null
+                        ? new MeteredFieldMapperErrorHandler<K>(fieldMapperErrorHandler, metricsRegistry)
+                        : null;
     }
 
     public ColumnDefinitionProvider<CD, K> columnDefinitions() {
@@ -97,7 +109,7 @@ public final class MapperConfig<K extends FieldKey<K>, CD extends ColumnDefiniti
                 failOnAsm,
                 asmMapperNbFieldsLimit,
                 fieldMapperErrorHandler,
-                rowHandlerErrorHandler, maxMethodSize);
+                rowHandlerErrorHandler, maxMethodSize, metricsRegistry, fieldCostProfiler);
     }
 
     public MapperConfig<K, CD> propertyNameMatcherFactory(PropertyNameMatcherFactory propertyNameMatcherFactory) {
@@ -108,7 +120,7 @@ public final class MapperConfig<K extends FieldKey<K>, CD extends ColumnDefiniti
                 failOnAsm,
                 asmMapperNbFieldsLimit,
                 fieldMapperErrorHandler,
-                rowHandlerErrorHandler, maxMethodSize);
+                rowHandlerErrorHandler, maxMethodSize, metricsRegistry, fieldCostProfiler);
     }
 
     public MapperConfig<K, CD> mapperBuilderErrorHandler(MapperBuilderErrorHandler mapperBuilderErrorHandler) {
@@ -119,7 +131,7 @@ public final class MapperConfig<K extends FieldKey<K>, CD extends ColumnDefiniti
                 failOnAsm,
                 asmMapperNbFieldsLimit,
                 fieldMapperErrorHandler,
-                rowHandlerErrorHandler, maxMethodSize);
+                rowHandlerErrorHandler, maxMethodSize, metricsRegistry, fieldCostProfiler);
     }
 
     public MapperConfig<K, CD> failOnAsm(boolean failOnAsm) {
@@ -130,7 +142,7 @@ public final class MapperConfig<K extends FieldKey<K>, CD extends ColumnDefiniti
                 failOnAsm,
                 asmMapperNbFieldsLimit,
                 fieldMapperErrorHandler,
-                rowHandlerErrorHandler, maxMethodSize);
+                rowHandlerErrorHandler, maxMethodSize, metricsRegistry, fieldCostProfiler);
     }
 
     public MapperConfig<K, CD> asmMapperNbFieldsLimit(int asmMapperNbFieldsLimit) {
@@ -141,7 +153,7 @@ public final class MapperConfig<K extends FieldKey<K>, CD extends ColumnDefiniti
                 failOnAsm,
                 asmMapperNbFieldsLimit,
                 fieldMapperErrorHandler,
-                rowHandlerErrorHandler, maxMethodSize);
+                rowHandlerErrorHandler, maxMethodSize, metricsRegistry, fieldCostProfiler);
     }
 
     public MapperConfig<K, CD> fieldMapperErrorHandler(FieldMapperErrorHandler<K> fieldMapperErrorHandler) {
@@ -152,7 +164,7 @@ public final class MapperConfig<K extends FieldKey<K>, CD extends ColumnDefiniti
                 failOnAsm,
                 asmMapperNbFieldsLimit,
                 fieldMapperErrorHandler,
-                rowHandlerErrorHandler, maxMethodSize);
+                rowHandlerErrorHandler, maxMethodSize, metricsRegistry, fieldCostProfiler);
     }
 
     public MapperConfig<K,CD> rowHandlerErrorHandler(RowHandlerErrorHandler rowHandlerErrorHandler) {
@@ -164,7 +176,7 @@ public final class MapperConfig<K extends FieldKey<K>, CD extends ColumnDefiniti
                 asmMapperNbFieldsLimit,
                 fieldMapperErrorHandler,
                 rowHandlerErrorHandler,
-                maxMethodSize);
+                maxMethodSize, metricsRegistry, fieldCostProfiler);
     }
 
     public RowHandlerErrorHandler rowHandlerErrorHandler() {
@@ -172,11 +184,15 @@ public final class MapperConfig<K extends FieldKey<K>, CD extends ColumnDefiniti
     }
 
     public boolean hasFieldMapperErrorHandler() {
-        return fieldMapperErrorHandler != null
-                && !(fieldMapperErrorHandler instanceof RethrowFieldMapperErrorHandler);
+        return meteredFieldMapperErrorHandler != null
+                || (fieldMapperErrorHandler != null
+                    && !(fieldMapperErrorHandler instanceof RethrowFieldMapperErrorHandler));
     }
 
     public FieldMapperErrorHandler<K> fieldMapperErrorHandler() {
+        if (meteredFieldMapperErrorHandler != null) {
+            return meteredFieldMapperErrorHandler;
+        }
         return fieldMapperErrorHandler;
     }
 
@@ -193,8 +209,55 @@ public final class MapperConfig<K extends FieldKey<K>, CD extends ColumnDefiniti
                 asmMapperNbFieldsLimit,
                 fieldMapperErrorHandler,
                 rowHandlerErrorHandler,
-                maxMethodSize);
+                maxMethodSize, metricsRegistry, fieldCostProfiler);
     }
 
 
-}
\ No newline at end of file
+    /**
+     * @param metricsRegistry the registry to report the metrics to, null to disable the metrics.
+     * @return the new config
+     */
+    public MapperConfig<K,CD> metricsRegistry(MetricsRegistry metricsRegistry) {
+        return new MapperConfig<K, CD>(
+                columnDefinitions,
+                propertyNameMatcherFactory,
+                mapperBuilderErrorHandler,
+                failOnAsm,
+                asmMapperNbFieldsLimit,
+                fieldMapperErrorHandler,
+                rowHandlerErrorHandler,
+                maxMethodSize,
+                metricsRegistry,
+                fieldCostProfiler);
+    }
+
+    public MetricsRegistry metricsRegistry() {
+        return metricsRegistry;
+    }
+
+    public boolean hasMetricsRegistry() {
+        return metricsRegistry != null;
+    }
+
+    /**
+     * @param fieldCostProfiler the profiler to sample the field conversion cost to, null to disable the profiling.
+     * @return the new config
+     */
+    public MapperConfig<K,CD> fieldCostProfiler(FieldCostProfiler fieldCostProfiler) {
+        return new MapperConfig<K, CD>(
+                columnDefinitions,
+                propertyNameMatcherFactory,
+                mapperBuilderErrorHandler,
+                failOnAsm,
+                asmMapperNbFieldsLimit,
+                fieldMapperErrorHandler,
+                rowHandlerErrorHandler,
+                maxMethodSize,
+                metricsRegistry,
+                fieldCostProfiler);
+    }
+
+    public FieldCostProfiler fieldCostProfiler() {
+        return fieldCostProfiler;
+    }
+}
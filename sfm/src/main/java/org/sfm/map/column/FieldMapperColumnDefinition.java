@@ -94,6 +94,10 @@ public class FieldMapperColumnDefinition<K extends FieldKey<K>> extends ColumnDe
         return FieldMapperColumnDefinition.<K>identity().addRename(name);
     }
 
+    public static <K extends FieldKey<K>> FieldMapperColumnDefinition<K> internStringDefinition() {
+        return FieldMapperColumnDefinition.<K>identity().addInternString();
+    }
+
     public static <K extends FieldKey<K>> FieldMapperColumnDefinition<K> ignoreDefinition() {
         return FieldMapperColumnDefinition.<K>identity().addIgnore();
     }
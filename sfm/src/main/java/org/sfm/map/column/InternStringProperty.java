@@ -0,0 +1,32 @@
+package org.sfm.map.column;
+
+/**
+ * Deduplicate the String values of the column through a bounded cache, for low-cardinality columns.
+ * @see org.sfm.utils.StringCache
+ */
+public class InternStringProperty implements ColumnProperty {
+
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private final int capacity;
+
+    public InternStringProperty() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public InternStringProperty(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Invalid capacity " + capacity);
+        }
+        this.capacity = capacity;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public String toString() {
+        return "InternString{" + capacity + "}";
+    }
+}
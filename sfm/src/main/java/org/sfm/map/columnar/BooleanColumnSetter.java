@@ -0,0 +1,34 @@
+package org.sfm.map.columnar;
+
+import org.sfm.reflect.Setter;
+import org.sfm.reflect.primitive.BooleanSetter;
+
+public final class BooleanColumnSetter implements BooleanSetter<ColumnarBatch>, Setter<ColumnarBatch, Boolean> {
+
+    private final int column;
+
+    public BooleanColumnSetter(int column) {
+        this.column = column;
+    }
+
+    @Override
+    public void setBoolean(ColumnarBatch target, boolean value) throws Exception {
+        ((boolean[]) target.columns[column])[target.size] = value;
+    }
+
+    @Override
+    public void set(ColumnarBatch target, Boolean value) throws Exception {
+        if (value != null) {
+            setBoolean(target, value.booleanValue());
+        } else {
+            setBoolean(target, false);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "BooleanColumnSetter{" +
+                "column=" + column +
+                '}';
+    }
+}
@@ -0,0 +1,34 @@
+package org.sfm.map.columnar;
+
+import org.sfm.reflect.Setter;
+import org.sfm.reflect.primitive.ByteSetter;
+
+public final class ByteColumnSetter implements ByteSetter<ColumnarBatch>, Setter<ColumnarBatch, Byte> {
+
+    private final int column;
+
+    public ByteColumnSetter(int column) {
+        this.column = column;
+    }
+
+    @Override
+    public void setByte(ColumnarBatch target, byte value) throws Exception {
+        ((byte[]) target.columns[column])[target.size] = value;
+    }
+
+    @Override
+    public void set(ColumnarBatch target, Byte value) throws Exception {
+        if (value != null) {
+            setByte(target, value.byteValue());
+        } else {
+            setByte(target, (byte) 0);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ByteColumnSetter{" +
+                "column=" + column +
+                '}';
+    }
+}
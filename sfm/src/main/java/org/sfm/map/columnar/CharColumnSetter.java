@@ -0,0 +1,34 @@
+package org.sfm.map.columnar;
+
+import org.sfm.reflect.Setter;
+import org.sfm.reflect.primitive.CharacterSetter;
+
+public final class CharColumnSetter implements CharacterSetter<ColumnarBatch>, Setter<ColumnarBatch, Character> {
+
+    private final int column;
+
+    public CharColumnSetter(int column) {
+        this.column = column;
+    }
+
+    @Override
+    public void setCharacter(ColumnarBatch target, char value) throws Exception {
+        ((char[]) target.columns[column])[target.size] = value;
+    }
+
+    @Override
+    public void set(ColumnarBatch target, Character value) throws Exception {
+        if (value != null) {
+            setCharacter(target, value.charValue());
+        } else {
+            setCharacter(target, (char) 0);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "CharColumnSetter{" +
+                "column=" + column +
+                '}';
+    }
+}
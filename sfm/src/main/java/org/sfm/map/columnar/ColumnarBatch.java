@@ -0,0 +1,132 @@
+package org.sfm.map.columnar;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+
+/**
+ * Struct of arrays holding up to capacity rows, one array per column.
+ * <p>
+ * Primitive columns are backed by primitive arrays - long[], int[], double[]... -
+ * other columns by an array of the column type.
+ * The batch is meant to be reused, {@link #clear()} resets the size without reallocating the arrays.
+ * <p>
+ * <code>
+ *     ColumnarBatch batch = columnarMapper.newBatch(1024);<br>
+ *     columnarMapper.forEachBatch(rs, batch, new RowHandler&lt;ColumnarBatch&gt;() {<br>
+ *     &nbsp;&nbsp;&nbsp;&nbsp;public void handle(ColumnarBatch batch) {<br>
+ *     &nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;long[] ids = batch.getLongs(0);<br>
+ *     &nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;for(int i = 0; i &lt; batch.size(); i++) { ... }<br>
+ *     &nbsp;&nbsp;&nbsp;&nbsp;}<br>
+ *     });
+ * </code>
+ */
+public final class ColumnarBatch {
+
+    private final Class<?>[] columnTypes;
+    final Object[] columns;
+    private final int capacity;
+    int size;
+
+    public ColumnarBatch(int capacity, Class<?>... columnTypes) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity should be strictly positive " + capacity);
+        }
+        this.capacity = capacity;
+        this.columnTypes = columnTypes;
+        this.columns = new Object[columnTypes.length];
+        for(int i = 0; i < columnTypes.length; i++) {
+            columns[i] = Array.newInstance(columnTypes[i], capacity);
+        }
+    }
+
+    /**
+     * @return the number of rows in the batch.
+     */
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public boolean isFull() {
+        return size >= capacity;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * reset the size of the batch to 0, the content of the arrays is left untouched.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    public int getColumnCount() {
+        return columns.length;
+    }
+
+    public Class<?> getColumnType(int column) {
+        return columnTypes[column];
+    }
+
+    public boolean[] getBooleans(int column) {
+        return (boolean[]) columns[column];
+    }
+
+    public byte[] getBytes(int column) {
+        return (byte[]) columns[column];
+    }
+
+    public char[] getChars(int column) {
+        return (char[]) columns[column];
+    }
+
+    public short[] getShorts(int column) {
+        return (short[]) columns[column];
+    }
+
+    public int[] getInts(int column) {
+        return (int[]) columns[column];
+    }
+
+    public long[] getLongs(int column) {
+        return (long[]) columns[column];
+    }
+
+    public float[] getFloats(int column) {
+        return (float[]) columns[column];
+    }
+
+    public double[] getDoubles(int column) {
+        return (double[]) columns[column];
+    }
+
+    @SuppressWarnings("unchecked")
+    public <E> E[] getObjects(int column) {
+        return (E[]) columns[column];
+    }
+
+    /**
+     * commit the row being written, the next values will be written at the next index.
+     * @throws IllegalStateException if the batch is full
+     */
+    public void endOfRow() {
+        if (size >= capacity) {
+            throw new IllegalStateException("Batch is full " + this);
+        }
+        size++;
+    }
+
+    @Override
+    public String toString() {
+        return "ColumnarBatch{" +
+                "columnTypes=" + Arrays.toString(columnTypes) +
+                ", capacity=" + capacity +
+                ", size=" + size +
+                '}';
+    }
+}
@@ -0,0 +1,107 @@
+package org.sfm.map.columnar;
+
+import org.sfm.map.FieldMapper;
+import org.sfm.map.MappingContext;
+import org.sfm.map.RowHandlerErrorHandler;
+import org.sfm.utils.Enumarable;
+import org.sfm.utils.ErrorHelper;
+import org.sfm.utils.RowHandler;
+
+import java.util.Arrays;
+
+/**
+ * Map the rows of a source into the columns of a {@link ColumnarBatch}.
+ * <p>
+ * Each column is populated by a {@link FieldMapper} that reads the value through the primitive getter
+ * and write it in the primitive array of the batch, no object is allocated per row for primitive columns.
+ * <p>
+ * Instantiate it via {@link ColumnarMapperBuilder}, it is thread-safe, the batch is not.
+ *
+ * @param <S> the row source type
+ */
+public final class ColumnarMapper<S> {
+
+    private final FieldMapper<S, ColumnarBatch>[] fieldMappers;
+    private final Class<?>[] columnTypes;
+    private final RowHandlerErrorHandler errorHandler;
+
+    public ColumnarMapper(FieldMapper<S, ColumnarBatch>[] fieldMappers, Class<?>[] columnTypes, RowHandlerErrorHandler errorHandler) {
+        this.fieldMappers = fieldMappers;
+        this.columnTypes = columnTypes;
+        this.errorHandler = errorHandler;
+    }
+
+    /**
+     * @param capacity the max number of row in the batch
+     * @return a new batch with the columns of the mapper
+     */
+    public ColumnarBatch newBatch(int capacity) {
+        return new ColumnarBatch(capacity, columnTypes);
+    }
+
+    /**
+     * append the current row of source at the end of the batch.
+     * @param source the source
+     * @param batch the batch
+     * @param mappingContext the mapping context
+     * @throws IllegalStateException if the batch is full
+     */
+    public void mapRow(S source, ColumnarBatch batch, MappingContext<? super S> mappingContext) {
+        if (batch.isFull()) {
+            throw new IllegalStateException("Batch is full " + batch);
+        }
+        try {
+            for (FieldMapper<S, ColumnarBatch> fieldMapper : fieldMappers) {
+                fieldMapper.mapTo(source, batch, mappingContext);
+            }
+        } catch (Exception e) {
+            ErrorHelper.rethrow(e);
+        }
+        batch.endOfRow();
+    }
+
+    /**
+     * clear the batch and fill it with the next rows of the enumarable until the batch is full or there are no more rows.
+     * @param enumarable the rows
+     * @param batch the batch
+     * @return the number of rows in the batch
+     */
+    public int fill(Enumarable<? extends S> enumarable, ColumnarBatch batch) {
+        batch.clear();
+        while(!batch.isFull() && enumarable.next()) {
+            mapRow(enumarable.currentValue(), batch, null);
+        }
+        return batch.size();
+    }
+
+    /**
+     * fill the batch with the rows of the enumarable and call back the handler each time the batch is full, and on the last
+     * partial batch.
+     * The same batch instance is passed to the handler on each call, the handler must copy the data it retains.
+     * @param enumarable the rows
+     * @param batch the batch
+     * @param handler the handler
+     * @param <H> the handler type
+     * @return the handler
+     */
+    public <H extends RowHandler<? super ColumnarBatch>> H forEachBatch(Enumarable<? extends S> enumarable, ColumnarBatch batch, H handler) {
+        while(fill(enumarable, batch) > 0) {
+            try {
+                handler.handle(batch);
+            } catch (Throwable e) {
+                errorHandler.handlerError(e, batch);
+            }
+            if (!batch.isFull()) {
+                break;
+            }
+        }
+        return handler;
+    }
+
+    @Override
+    public String toString() {
+        return "ColumnarMapper{" +
+                "fieldMappers=" + Arrays.toString(fieldMappers) +
+                '}';
+    }
+}
@@ -0,0 +1,127 @@
+package org.sfm.map.columnar;
+
+import org.sfm.map.FieldKey;
+import org.sfm.map.FieldMapper;
+import org.sfm.map.GetterFactory;
+import org.sfm.map.MapperBuildingException;
+import org.sfm.map.RowHandlerErrorHandler;
+import org.sfm.map.column.FieldMapperColumnDefinition;
+import org.sfm.map.error.RethrowRowHandlerErrorHandler;
+import org.sfm.map.impl.fieldmapper.*;
+import org.sfm.reflect.Getter;
+import org.sfm.reflect.ObjectGetterFactory;
+import org.sfm.reflect.ObjectSetterFactory;
+import org.sfm.reflect.Setter;
+import org.sfm.utils.ErrorDoc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builder for {@link ColumnarMapper}, each column is added in batch column order.
+ *
+ * @param <S> the row source type
+ * @param <K> the column key type
+ */
+public class ColumnarMapperBuilder<S, K extends FieldKey<K>> {
+
+    private final GetterFactory<? super S, K> getterFactory;
+    private final RowHandlerErrorHandler errorHandler;
+
+    private final List<FieldMapper<S, ColumnarBatch>> fieldMappers = new ArrayList<FieldMapper<S, ColumnarBatch>>();
+    private final List<Class<?>> columnTypes = new ArrayList<Class<?>>();
+
+    public ColumnarMapperBuilder(GetterFactory<? super S, K> getterFactory) {
+        this(getterFactory, new RethrowRowHandlerErrorHandler());
+    }
+
+    public ColumnarMapperBuilder(GetterFactory<? super S, K> getterFactory, RowHandlerErrorHandler errorHandler) {
+        this.getterFactory = getterFactory;
+        this.errorHandler = errorHandler;
+    }
+
+    /**
+     * add a column to the batch.
+     * @param key the key of the column in the source
+     * @param type the type of the column in the batch, a primitive type will be backed by a primitive array
+     * @return the current builder
+     */
+    public ColumnarMapperBuilder<S, K> addColumn(K key, Class<?> type) {
+        return addColumn(key, type, FieldMapperColumnDefinition.<K>identity());
+    }
+
+    @SuppressWarnings("unchecked")
+    public ColumnarMapperBuilder<S, K> addColumn(K key, Class<?> type, FieldMapperColumnDefinition<K> columnDefinition) {
+        Getter<? super S, ?> getter = (Getter<? super S, ?>) columnDefinition.getCustomGetter();
+
+        if (getter == null) {
+            getter = getterFactory.newGetter(type, key, columnDefinition);
+        }
+
+        if (getter == null) {
+            throw new MapperBuildingException("Could not find getter for " + key + " type " + type
+                    + " See " + ErrorDoc.toUrl("CSFM_GETTER_NOT_FOUND"));
+        }
+
+        fieldMappers.add(newFieldMapper(getter, type, columnTypes.size()));
+        columnTypes.add(type);
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    public ColumnarMapper<S> mapper() {
+        return new ColumnarMapper<S>(
+                fieldMappers.toArray(new FieldMapper[0]),
+                columnTypes.toArray(new Class<?>[0]),
+                errorHandler);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <P> FieldMapper<S, ColumnarBatch> newFieldMapper(Getter<? super S, P> getter, Class<?> type, int column) {
+        final Setter<ColumnarBatch, P> setter = (Setter<ColumnarBatch, P>) newColumnSetter(type, column);
+        if (boolean.class.equals(type)) {
+            return new BooleanFieldMapper<S, ColumnarBatch>(ObjectGetterFactory.<S, P>toBooleanGetter(getter), ObjectSetterFactory.toBooleanSetter(setter));
+        } else if (byte.class.equals(type)) {
+            return new ByteFieldMapper<S, ColumnarBatch>(ObjectGetterFactory.<S, P>toByteGetter(getter), ObjectSetterFactory.toByteSetter(setter));
+        } else if (char.class.equals(type)) {
+            return new CharacterFieldMapper<S, ColumnarBatch>(ObjectGetterFactory.<S, P>toCharGetter(getter), ObjectSetterFactory.toCharacterSetter(setter));
+        } else if (short.class.equals(type)) {
+            return new ShortFieldMapper<S, ColumnarBatch>(ObjectGetterFactory.<S, P>toShortGetter(getter), ObjectSetterFactory.toShortSetter(setter));
+        } else if (int.class.equals(type)) {
+            return new IntFieldMapper<S, ColumnarBatch>(ObjectGetterFactory.<S, P>toIntGetter(getter), ObjectSetterFactory.toIntSetter(setter));
+        } else if (long.class.equals(type)) {
+            return new LongFieldMapper<S, ColumnarBatch>(ObjectGetterFactory.<S, P>toLongGetter(getter), ObjectSetterFactory.toLongSetter(setter));
+        } else if (float.class.equals(type)) {
+            return new FloatFieldMapper<S, ColumnarBatch>(ObjectGetterFactory.<S, P>toFloatGetter(getter), ObjectSetterFactory.toFloatSetter(setter));
+        } else if (double.class.equals(type)) {
+            return new DoubleFieldMapper<S, ColumnarBatch>(ObjectGetterFactory.<S, P>toDoubleGetter(getter), ObjectSetterFactory.toDoubleSetter(setter));
+        }
+        return new FieldMapperImpl<S, ColumnarBatch, P>(getter, setter);
+    }
+
+    /**
+     * @param type the column type
+     * @param column the column index in the batch
+     * @return a setter on the batch column
+     */
+    public static Setter<ColumnarBatch, ?> newColumnSetter(Class<?> type, int column) {
+        if (boolean.class.equals(type)) {
+            return new BooleanColumnSetter(column);
+        } else if (byte.class.equals(type)) {
+            return new ByteColumnSetter(column);
+        } else if (char.class.equals(type)) {
+            return new CharColumnSetter(column);
+        } else if (short.class.equals(type)) {
+            return new ShortColumnSetter(column);
+        } else if (int.class.equals(type)) {
+            return new IntColumnSetter(column);
+        } else if (long.class.equals(type)) {
+            return new LongColumnSetter(column);
+        } else if (float.class.equals(type)) {
+            return new FloatColumnSetter(column);
+        } else if (double.class.equals(type)) {
+            return new DoubleColumnSetter(column);
+        }
+        return new ObjectColumnSetter<Object>(column);
+    }
+}
@@ -0,0 +1,34 @@
+package org.sfm.map.columnar;
+
+import org.sfm.reflect.Setter;
+import org.sfm.reflect.primitive.DoubleSetter;
+
+public final class DoubleColumnSetter implements DoubleSetter<ColumnarBatch>, Setter<ColumnarBatch, Double> {
+
+    private final int column;
+
+    public DoubleColumnSetter(int column) {
+        this.column = column;
+    }
+
+    @Override
+    public void setDouble(ColumnarBatch target, double value) throws Exception {
+        ((double[]) target.columns[column])[target.size] = value;
+    }
+
+    @Override
+    public void set(ColumnarBatch target, Double value) throws Exception {
+        if (value != null) {
+            setDouble(target, value.doubleValue());
+        } else {
+            setDouble(target, 0d);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "DoubleColumnSetter{" +
+                "column=" + column +
+                '}';
+    }
+}
@@ -0,0 +1,34 @@
+package org.sfm.map.columnar;
+
+import org.sfm.reflect.Setter;
+import org.sfm.reflect.primitive.FloatSetter;
+
+public final class FloatColumnSetter implements FloatSetter<ColumnarBatch>, Setter<ColumnarBatch, Float> {
+
+    private final int column;
+
+    public FloatColumnSetter(int column) {
+        this.column = column;
+    }
+
+    @Override
+    public void setFloat(ColumnarBatch target, float value) throws Exception {
+        ((float[]) target.columns[column])[target.size] = value;
+    }
+
+    @Override
+    public void set(ColumnarBatch target, Float value) throws Exception {
+        if (value != null) {
+            setFloat(target, value.floatValue());
+        } else {
+            setFloat(target, 0f);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "FloatColumnSetter{" +
+                "column=" + column +
+                '}';
+    }
+}
@@ -0,0 +1,34 @@
+package org.sfm.map.columnar;
+
+import org.sfm.reflect.Setter;
+import org.sfm.reflect.primitive.IntSetter;
+
+public final class IntColumnSetter implements IntSetter<ColumnarBatch>, Setter<ColumnarBatch, Integer> {
+
+    private final int column;
+
+    public IntColumnSetter(int column) {
+        this.column = column;
+    }
+
+    @Override
+    public void setInt(ColumnarBatch target, int value) throws Exception {
+        ((int[]) target.columns[column])[target.size] = value;
+    }
+
+    @Override
+    public void set(ColumnarBatch target, Integer value) throws Exception {
+        if (value != null) {
+            setInt(target, value.intValue());
+        } else {
+            setInt(target, 0);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "IntColumnSetter{" +
+                "column=" + column +
+                '}';
+    }
+}
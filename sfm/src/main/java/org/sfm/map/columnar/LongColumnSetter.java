@@ -0,0 +1,34 @@
+package org.sfm.map.columnar;
+
+import org.sfm.reflect.Setter;
+import org.sfm.reflect.primitive.LongSetter;
+
+public final class LongColumnSetter implements LongSetter<ColumnarBatch>, Setter<ColumnarBatch, Long> {
+
+    private final int column;
+
+    public LongColumnSetter(int column) {
+        this.column = column;
+    }
+
+    @Override
+    public void setLong(ColumnarBatch target, long value) throws Exception {
+        ((long[]) target.columns[column])[target.size] = value;
+    }
+
+    @Override
+    public void set(ColumnarBatch target, Long value) throws Exception {
+        if (value != null) {
+            setLong(target, value.longValue());
+        } else {
+            setLong(target, 0l);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "LongColumnSetter{" +
+                "column=" + column +
+                '}';
+    }
+}
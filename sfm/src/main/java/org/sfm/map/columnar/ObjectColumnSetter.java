@@ -0,0 +1,24 @@
+package org.sfm.map.columnar;
+
+import org.sfm.reflect.Setter;
+
+public final class ObjectColumnSetter<P> implements Setter<ColumnarBatch, P> {
+
+    private final int column;
+
+    public ObjectColumnSetter(int column) {
+        this.column = column;
+    }
+
+    @Override
+    public void set(ColumnarBatch target, P value) throws Exception {
+        ((Object[]) target.columns[column])[target.size] = value;
+    }
+
+    @Override
+    public String toString() {
+        return "ObjectColumnSetter{" +
+                "column=" + column +
+                '}';
+    }
+}
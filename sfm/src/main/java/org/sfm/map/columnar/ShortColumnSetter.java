@@ -0,0 +1,34 @@
+package org.sfm.map.columnar;
+
+import org.sfm.reflect.Setter;
+import org.sfm.reflect.primitive.ShortSetter;
+
+public final class ShortColumnSetter implements ShortSetter<ColumnarBatch>, Setter<ColumnarBatch, Short> {
+
+    private final int column;
+
+    public ShortColumnSetter(int column) {
+        this.column = column;
+    }
+
+    @Override
+    public void setShort(ColumnarBatch target, short value) throws Exception {
+        ((short[]) target.columns[column])[target.size] = value;
+    }
+
+    @Override
+    public void set(ColumnarBatch target, Short value) throws Exception {
+        if (value != null) {
+            setShort(target, value.shortValue());
+        } else {
+            setShort(target, (short) 0);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ShortColumnSetter{" +
+                "column=" + column +
+                '}';
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Columnar mapping, fills primitive arrays from the rows of a source.
+ */
+package org.sfm.map.columnar;
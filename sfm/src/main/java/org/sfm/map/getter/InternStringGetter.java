@@ -0,0 +1,28 @@
+package org.sfm.map.getter;
+
+import org.sfm.reflect.Getter;
+import org.sfm.utils.StringCache;
+
+public final class InternStringGetter<R> implements Getter<R, String> {
+
+	private final Getter<R, String> stringGetter;
+	private final StringCache stringCache;
+
+	public InternStringGetter(final Getter<R, String> stringGetter, int capacity)  {
+		this.stringGetter = stringGetter;
+		this.stringCache = new StringCache(capacity);
+	}
+
+	@Override
+	public String get(final R target) throws Exception {
+		return stringCache.intern(stringGetter.get(target));
+	}
+
+    @Override
+    public String toString() {
+        return "InternStringGetter{" +
+                "stringGetter=" + stringGetter +
+                ", capacity=" + stringCache.capacity() +
+                '}';
+    }
+}
@@ -65,18 +65,31 @@ public class DiscriminatorEnumerable<S, T> implements Enumarable<T> {
         return currentValue;
     }
 
-    private void checkMapper() throws java.sql.SQLException {
-        for(Tuple3<Predicate<S>, Mapper<S, T>, MappingContext<? super S>> pmm : discriminatorMappers ) {
-            if (pmm.first().test(sourceEnumarable.currentValue())) {
-                if (pmm.second() != currentMapper) {
-                    markAsBroken();
-                    currentMapper = pmm.second();
-                    currentMappingContext = pmm.third();
-                }
-                return;
+    private void checkMapper() throws Exception {
+        int index = mapperIndex(sourceEnumarable.currentValue());
+        if (index < 0) {
+            mapperNotFound();
+        }
+        Tuple3<Predicate<S>, Mapper<S, T>, MappingContext<? super S>> pmm = discriminatorMappers[index];
+        if (pmm.second() != currentMapper) {
+            markAsBroken();
+            currentMapper = pmm.second();
+            currentMappingContext = pmm.third();
+        }
+    }
+
+    /**
+     * @param source the current source
+     * @return the index of the first discriminator mapper which predicate matches the source, -1 if none
+     * @throws Exception if the discriminator cannot be read
+     */
+    protected int mapperIndex(S source) throws Exception {
+        for(int i = 0; i < discriminatorMappers.length; i++) {
+            if (discriminatorMappers[i].first().test(source)) {
+                return i;
             }
         }
-        mapperNotFound();
+        return -1;
     }
 
     private void mapperNotFound() {
@@ -0,0 +1,50 @@
+package org.sfm.map.impl;
+
+import org.sfm.map.Mapper;
+import org.sfm.map.MappingContext;
+import org.sfm.utils.Enumarable;
+import org.sfm.utils.ErrorHelper;
+
+public class FlyweightMapperEnumarable<S, T> implements Enumarable<T> {
+
+    private final Mapper<S, T> mapper;
+    private final MappingContext<? super S> mappingContext;
+    private final T target;
+
+    private final Enumarable<S> sourceEnumarable;
+
+    public FlyweightMapperEnumarable(Mapper<S, T> mapper,
+                                     MappingContext<? super S> mappingContext,
+                                     T target,
+                                     Enumarable<S> sourceEnumarable) {
+        this.mapper = mapper;
+        this.mappingContext = mappingContext;
+        this.target = target;
+        this.sourceEnumarable = sourceEnumarable;
+    }
+
+    @Override
+    public boolean next() {
+        if (!sourceEnumarable.next()) {
+            return false;
+        }
+        try {
+            mapper.mapTo(sourceEnumarable.currentValue(), target, mappingContext);
+        } catch (Exception e) {
+            ErrorHelper.rethrow(e);
+        }
+        return true;
+    }
+
+    @Override
+    public T currentValue() {
+        return target;
+    }
+
+    @Override
+    public String toString() {
+        return "FlyweightMapperEnumarable{" +
+                "mapper=" + mapper +
+                '}';
+    }
+}
@@ -0,0 +1,35 @@
+package org.sfm.map.impl;
+
+import org.sfm.map.FieldMapper;
+import org.sfm.map.MappingContext;
+import org.sfm.map.metrics.FieldCost;
+
+
+public final class ProfiledFieldMapper<S, T> implements FieldMapper<S, T> {
+
+	private final FieldMapper<S, T> delegate;
+	private final FieldCost cost;
+
+	public ProfiledFieldMapper(FieldMapper<S, T> delegate, FieldCost cost) {
+		this.delegate = delegate;
+		this.cost = cost;
+	}
+
+	@Override
+	public void mapTo(S source, T target, MappingContext<? super S> mappingContext) throws Exception {
+		if (cost.sample()) {
+			long start = System.nanoTime();
+			delegate.mapTo(source, target, mappingContext);
+			cost.record(System.nanoTime() - start);
+		} else {
+			delegate.mapTo(source, target, mappingContext);
+		}
+	}
+
+    @Override
+    public String toString() {
+        return "ProfiledFieldMapper{" +
+                "delegate=" + delegate +
+                '}';
+    }
+}
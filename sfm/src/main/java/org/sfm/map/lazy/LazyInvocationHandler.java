@@ -0,0 +1,94 @@
+package org.sfm.map.lazy;
+
+import org.sfm.utils.ErrorHelper;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+
+final class LazyInvocationHandler<S> implements InvocationHandler {
+
+    private static final Object NOT_LOADED = new Object();
+
+    private final LazyObjectFactory<S, ?> factory;
+    private final S snapshot;
+    private final Object[] values;
+
+    LazyInvocationHandler(LazyObjectFactory<S, ?> factory, S snapshot) {
+        this.factory = factory;
+        this.snapshot = snapshot;
+        this.values = new Object[factory.size()];
+        for(int i = 0; i < values.length; i++) {
+            values[i] = NOT_LOADED;
+        }
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        int index = factory.indexOf(method);
+        if (index != -1) {
+            return nullSafe(get(index), method.getReturnType());
+        }
+
+        String name = method.getName();
+        if (args == null || args.length == 0) {
+            if ("toString".equals(name)) {
+                return toString();
+            } else if ("hashCode".equals(name)) {
+                return System.identityHashCode(proxy);
+            }
+        } else if (args.length == 1 && "equals".equals(name)) {
+            return proxy == args[0];
+        }
+
+        return nullSafe(null, method.getReturnType());
+    }
+
+    private Object get(int index) {
+        Object value = values[index];
+        if (value == NOT_LOADED) {
+            try {
+                value = factory.getGetter(index).get(snapshot);
+            } catch (Exception e) {
+                return ErrorHelper.rethrow(e);
+            }
+            values[index] = value;
+        }
+        return value;
+    }
+
+    private static Object nullSafe(Object value, Class<?> type) {
+        if (value != null || !type.isPrimitive()) {
+            return value;
+        }
+        if (boolean.class.equals(type)) {
+            return Boolean.FALSE;
+        } else if (char.class.equals(type)) {
+            return Character.valueOf((char) 0);
+        } else if (byte.class.equals(type)) {
+            return Byte.valueOf((byte) 0);
+        } else if (short.class.equals(type)) {
+            return Short.valueOf((short) 0);
+        } else if (int.class.equals(type)) {
+            return Integer.valueOf(0);
+        } else if (long.class.equals(type)) {
+            return Long.valueOf(0);
+        } else if (float.class.equals(type)) {
+            return Float.valueOf(0);
+        } else if (double.class.equals(type)) {
+            return Double.valueOf(0);
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(factory.getTarget().getSimpleName()).append('{');
+        for(int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(factory.getMethod(i).getName()).append('=').append(get(i));
+        }
+        return sb.append('}').toString();
+    }
+}
@@ -0,0 +1,83 @@
+package org.sfm.map.lazy;
+
+import org.sfm.reflect.Getter;
+import org.sfm.utils.ErrorHelper;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Create proxies of the interface T backed by a snapshot S of the row.
+ * <p>
+ * The getters are called on the first invocation of the matching interface method and the result is memoized.
+ * A method that is not mapped returns null or the default primitive value.
+ *
+ * @param <S> the snapshot type
+ * @param <T> the interface type
+ */
+public final class LazyObjectFactory<S, T> {
+
+    private final Class<T> target;
+    private final Constructor<?> proxyConstructor;
+    private final Map<Method, Integer> methodIndexes;
+    private final Method[] methods;
+    private final Getter<? super S, ?>[] getters;
+
+    LazyObjectFactory(Class<T> target, Map<Method, Integer> methodIndexes, Method[] methods, Getter<? super S, ?>[] getters) {
+        this.target = target;
+        this.methodIndexes = methodIndexes;
+        this.methods = methods;
+        this.getters = getters;
+        try {
+            this.proxyConstructor = Proxy.getProxyClass(target.getClassLoader(), target).getConstructor(InvocationHandler.class);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @param snapshot the row snapshot
+     * @return a new proxy reading its properties from the snapshot
+     */
+    public T newInstance(S snapshot) {
+        try {
+            return target.cast(proxyConstructor.newInstance(new LazyInvocationHandler<S>(this, snapshot)));
+        } catch (Exception e) {
+            return ErrorHelper.rethrow(e);
+        }
+    }
+
+    public Class<T> getTarget() {
+        return target;
+    }
+
+    int indexOf(Method method) {
+        Integer index = methodIndexes.get(method);
+        return index != null ? index : -1;
+    }
+
+    Method getMethod(int index) {
+        return methods[index];
+    }
+
+    Getter<? super S, ?> getGetter(int index) {
+        return getters[index];
+    }
+
+    int size() {
+        return getters.length;
+    }
+
+    @Override
+    public String toString() {
+        return "LazyObjectFactory{" +
+                "target=" + target +
+                ", methods=" + Arrays.toString(methods) +
+                ", getters=" + Arrays.toString(getters) +
+                '}';
+    }
+}
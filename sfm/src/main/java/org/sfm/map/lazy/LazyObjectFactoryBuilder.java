@@ -0,0 +1,109 @@
+package org.sfm.map.lazy;
+
+import org.sfm.map.FieldKey;
+import org.sfm.map.MapperBuilderErrorHandler;
+import org.sfm.map.MapperBuildingException;
+import org.sfm.map.error.RethrowMapperBuilderErrorHandler;
+import org.sfm.map.mapper.DefaultPropertyNameMatcherFactory;
+import org.sfm.reflect.Getter;
+import org.sfm.reflect.GetterHelper;
+import org.sfm.reflect.TypeHelper;
+import org.sfm.reflect.meta.ClassMeta;
+import org.sfm.reflect.meta.PropertyFinder;
+import org.sfm.reflect.meta.PropertyMeta;
+import org.sfm.reflect.meta.PropertyNameMatcherFactory;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builder for {@link LazyObjectFactory}, resolves the columns to the getter methods of an interface.
+ *
+ * @param <S> the snapshot type
+ * @param <T> the interface type
+ */
+public final class LazyObjectFactoryBuilder<S, T> {
+
+    private final ClassMeta<T> classMeta;
+    private final Class<T> target;
+    private final PropertyFinder<T> propertyFinder;
+    private final PropertyNameMatcherFactory propertyNameMatcherFactory;
+    private final MapperBuilderErrorHandler mapperBuilderErrorHandler;
+    private final Map<String, Method> gettersByProperty = new HashMap<String, Method>();
+
+    private final List<Method> methods = new ArrayList<Method>();
+    private final List<Getter<? super S, ?>> getters = new ArrayList<Getter<? super S, ?>>();
+
+    public LazyObjectFactoryBuilder(ClassMeta<T> classMeta) {
+        this(classMeta, DefaultPropertyNameMatcherFactory.DEFAULT, new RethrowMapperBuilderErrorHandler());
+    }
+
+    public LazyObjectFactoryBuilder(ClassMeta<T> classMeta,
+                                    PropertyNameMatcherFactory propertyNameMatcherFactory,
+                                    MapperBuilderErrorHandler mapperBuilderErrorHandler) {
+        this.classMeta = classMeta;
+        this.target = TypeHelper.toClass(classMeta.getType());
+        if (!target.isInterface()) {
+            throw new MapperBuildingException("Lazy mapping target " + target + " is not an interface");
+        }
+        this.propertyFinder = classMeta.newPropertyFinder();
+        this.propertyNameMatcherFactory = propertyNameMatcherFactory;
+        this.mapperBuilderErrorHandler = mapperBuilderErrorHandler;
+        for(Method method : target.getMethods()) {
+            if (GetterHelper.isGetter(method)) {
+                gettersByProperty.put(GetterHelper.getPropertyNameFromMethodName(method.getName()), method);
+            }
+        }
+    }
+
+    /**
+     * @param key the column key
+     * @param <P> the property type
+     * @return the property matching the key or null if none found
+     */
+    public <P> PropertyMeta<T, P> findProperty(FieldKey<?> key) {
+        PropertyMeta<T, P> property = propertyFinder.findProperty(propertyNameMatcherFactory.newInstance(key));
+        if (property == null || property.isSubProperty() || !gettersByProperty.containsKey(property.getName())) {
+            mapperBuilderErrorHandler.propertyNotFound(classMeta.getType(), key.getName());
+            return null;
+        }
+        return property;
+    }
+
+    /**
+     * bind the getter method of the property to the getter on the snapshot.
+     * @param property the property
+     * @param getter the getter on the snapshot
+     * @return the current builder
+     */
+    public LazyObjectFactoryBuilder<S, T> addProperty(PropertyMeta<T, ?> property, Getter<? super S, ?> getter) {
+        Method method = gettersByProperty.get(property.getName());
+        int index = methods.indexOf(method);
+        if (index != -1) {
+            getters.set(index, getter);
+        } else {
+            methods.add(method);
+            getters.add(getter);
+        }
+        return this;
+    }
+
+    public Class<T> getTarget() {
+        return target;
+    }
+
+    @SuppressWarnings("unchecked")
+    public LazyObjectFactory<S, T> newFactory() {
+        Map<Method, Integer> methodIndexes = new HashMap<Method, Integer>();
+        for(int i = 0; i < methods.size(); i++) {
+            methodIndexes.put(methods.get(i), i);
+        }
+        return new LazyObjectFactory<S, T>(target,
+                methodIndexes,
+                methods.toArray(new Method[0]),
+                getters.toArray(new Getter[0]));
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Lazy mapping, the properties of an interface are converted from a snapshot of the row on first access.
+ */
+package org.sfm.map.lazy;
@@ -30,6 +30,16 @@ public abstract class AbstractEnumarableMapper<S, T, E extends Exception> implem
         return handler;
 	}
 
+    @Override
+    public final <H extends RowHandler<? super T>> H forEach(final S source, final T target, final H handler)
+            throws E, MappingException {
+        final Enumarable<T> enumarable = newFlyweightEnumarableOfT(source, target);
+        while(enumarable.next()) {
+            handleT(handler, enumarable.currentValue());
+        }
+        return handler;
+    }
+
     public <H extends RowHandler<? super T>> void handleT(H handler, T t) {
         try {
             handler.handle(t);
@@ -52,5 +62,9 @@ public abstract class AbstractEnumarableMapper<S, T, E extends Exception> implem
 
     protected abstract Enumarable<T> newEnumarableOfT(S source) throws E;
 
+    protected Enumarable<T> newFlyweightEnumarableOfT(S source, T target) throws E {
+        throw new UnsupportedOperationException("Flyweight iteration is not supported by " + this);
+    }
+
 
 }
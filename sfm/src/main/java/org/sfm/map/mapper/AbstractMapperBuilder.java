@@ -7,6 +7,9 @@ import org.sfm.map.MapperConfig;
 import org.sfm.map.column.ColumnProperty;
 import org.sfm.map.column.FieldMapperColumnDefinition;
 import org.sfm.map.context.MappingContextFactoryBuilder;
+import org.sfm.map.metrics.MeteredMapper;
+import org.sfm.map.metrics.MetricNames;
+import org.sfm.map.metrics.MetricsRegistry;
 import org.sfm.reflect.meta.ClassMeta;
 
 /**
@@ -51,7 +54,19 @@ public abstract class AbstractMapperBuilder<S, T, K extends FieldKey<K>, M, B ex
      * @return a new instance of the jdbcMapper based on the current state of the builder.
      */
     public final M mapper() {
-        Mapper<S, T> mapper = fieldMapperMapperBuilder.mapper();
+        final MetricsRegistry metricsRegistry = mapperConfig.metricsRegistry();
+        if (metricsRegistry == null) {
+            return buildMapper(fieldMapperMapperBuilder.mapper());
+        }
+
+        long start = System.nanoTime();
+        Mapper<S, T> mapper = new MeteredMapper<S, T>(fieldMapperMapperBuilder.mapper(), metricsRegistry.counter(MetricNames.ROWS));
+        M m = buildMapper(mapper);
+        metricsRegistry.recorder(MetricNames.MAPPER_BUILD_NANOS).record(System.nanoTime() - start);
+        return m;
+    }
+
+    private M buildMapper(Mapper<S, T> mapper) {
 
         if (fieldMapperMapperBuilder.hasJoin()) {
             return newJoinJdbcMapper(mapper);
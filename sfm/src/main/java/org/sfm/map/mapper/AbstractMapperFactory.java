@@ -5,6 +5,8 @@ import org.sfm.map.column.ColumnProperty;
 import org.sfm.map.error.RethrowMapperBuilderErrorHandler;
 import org.sfm.map.error.RethrowRowHandlerErrorHandler;
 import org.sfm.map.impl.*;
+import org.sfm.map.metrics.FieldCostProfiler;
+import org.sfm.map.metrics.MetricsRegistry;
 import org.sfm.reflect.ReflectionService;
 import org.sfm.reflect.TypeHelper;
 import org.sfm.reflect.TypeReference;
@@ -44,6 +46,8 @@ public abstract class AbstractMapperFactory<
 
     private ReflectionService reflectionService = null;
 	private int maxMethodSize = MapperConfig.MAX_METHOD_SIZE;
+	private MetricsRegistry metricsRegistry = null;
+	private FieldCostProfiler fieldCostProfiler = null;
 
 
 	public AbstractMapperFactory(AbstractMapperFactory<K, CD, ?> config) {
@@ -55,6 +59,8 @@ public abstract class AbstractMapperFactory<
 		this.propertyNameMatcherFactory = config.propertyNameMatcherFactory;
 		this.reflectionService = config.reflectionService;
 		this.maxMethodSize = config.maxMethodSize;
+		this.metricsRegistry = config.metricsRegistry;
+		this.fieldCostProfiler = config.fieldCostProfiler;
 	}
 
 
@@ -134,6 +140,28 @@ public abstract class AbstractMapperFactory<
         return (MF) this;
     }
 
+    /**
+     * the MetricsRegistry the mappers will report the rows mapped, conversion errors, build time and cache hits to.
+     * By default no metrics are reported.
+     * @param metricsRegistry the MetricsRegistry, null to disable the metrics
+     * @return the current factory
+     */
+    public final MF metricsRegistry(final MetricsRegistry metricsRegistry) {
+        this.metricsRegistry = metricsRegistry;
+        return (MF) this;
+    }
+
+    /**
+     * the FieldCostProfiler the mappers built after that call will sample the field conversion cost to.
+     * By default the fields are not profiled.
+     * @param fieldCostProfiler the FieldCostProfiler, null to disable the profiling
+     * @return the current factory
+     */
+    public final MF fieldCostProfiler(final FieldCostProfiler fieldCostProfiler) {
+        this.fieldCostProfiler = fieldCostProfiler;
+        return (MF) this;
+    }
+
 	public final MapperConfig<K, CD> mapperConfig() {
 		return MapperConfig
 				.<K, CD>config(columnDefinitions)
@@ -143,7 +171,9 @@ public abstract class AbstractMapperFactory<
 				.asmMapperNbFieldsLimit(asmMapperNbFieldsLimit)
 				.fieldMapperErrorHandler(fieldMapperErrorHandler)
 				.rowHandlerErrorHandler(rowHandlerErrorHandler)
-				.maxMethodSize(maxMethodSize);
+				.maxMethodSize(maxMethodSize)
+				.metricsRegistry(metricsRegistry)
+				.fieldCostProfiler(fieldCostProfiler);
 	}
 
 	/**
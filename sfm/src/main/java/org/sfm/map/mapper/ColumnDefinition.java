@@ -4,6 +4,7 @@ package org.sfm.map.mapper;
 import org.sfm.map.FieldKey;
 import org.sfm.map.column.ColumnProperty;
 import org.sfm.map.column.IgnoreProperty;
+import org.sfm.map.column.InternStringProperty;
 import org.sfm.map.column.KeyProperty;
 import org.sfm.map.column.RenameProperty;
 import org.sfm.reflect.meta.PropertyMeta;
@@ -115,6 +116,14 @@ public abstract class ColumnDefinition<K extends FieldKey<K>, CD extends ColumnD
         return add(new KeyProperty(appliesTo));
     }
 
+    public CD addInternString() {
+        return add(new InternStringProperty());
+    }
+
+    public CD addInternString(int capacity) {
+        return add(new InternStringProperty(capacity));
+    }
+
     protected void appendToStringBuilder(StringBuilder sb) {
         for (int i = 0; i < properties.length; i++) {
             if (i > 0) {
@@ -4,6 +4,9 @@ import org.sfm.map.FieldKey;
 import org.sfm.map.MappingContext;
 import org.sfm.map.MappingException;
 import org.sfm.map.SetRowMapper;
+import org.sfm.map.metrics.Counter;
+import org.sfm.map.metrics.MetricNames;
+import org.sfm.map.metrics.MetricsRegistry;
 import org.sfm.utils.ErrorHelper;
 import org.sfm.utils.UnaryFactory;
 import org.sfm.utils.RowHandler;
@@ -28,15 +31,30 @@ public class DynamicSetRowMapper<R, S, T, E extends Exception, K extends FieldKe
 
 	private final UnaryFactoryWithException<S, MapperKey<K>, E> mapperKeyFromSet;
 
+	private final Counter cacheHits;
+
+	private final Counter cacheMisses;
+
 	public DynamicSetRowMapper(
 			UnaryFactory<MapperKey<K>, SetRowMapper<R, S, T, E>> mapperFactory,
 			UnaryFactoryWithException<R, MapperKey<K>, E> mapperKeyFromRow,
 			UnaryFactoryWithException<S, MapperKey<K>, E> mapperKeyFromSet,
 			MapperKeyComparator<K> keyComparator) {
+		this(mapperFactory, mapperKeyFromRow, mapperKeyFromSet, keyComparator, null);
+	}
+
+	public DynamicSetRowMapper(
+			UnaryFactory<MapperKey<K>, SetRowMapper<R, S, T, E>> mapperFactory,
+			UnaryFactoryWithException<R, MapperKey<K>, E> mapperKeyFromRow,
+			UnaryFactoryWithException<S, MapperKey<K>, E> mapperKeyFromSet,
+			MapperKeyComparator<K> keyComparator,
+			MetricsRegistry metricsRegistry) {
 		this.mapperFactory = mapperFactory;
 		this.mapperKeyFromRow = mapperKeyFromRow;
 		this.mapperKeyFromSet = mapperKeyFromSet;
 		this.mapperCache = new MapperCache<K, SetRowMapper<R, S, T, E>>(keyComparator);
+		this.cacheHits = metricsRegistry != null ? metricsRegistry.counter(MetricNames.MAPPER_CACHE_HITS) : null;
+		this.cacheMisses = metricsRegistry != null ? metricsRegistry.counter(MetricNames.MAPPER_CACHE_MISSES) : null;
 	}
 
 	@Override
@@ -81,6 +99,11 @@ public class DynamicSetRowMapper<R, S, T, E extends Exception, K extends FieldKe
 		return getMapperFromSet(set).forEach(set, handler);
 	}
 
+	@Override
+	public final <H extends RowHandler<? super T>> H forEach(S set, T target, H handler) throws E, MappingException {
+		return getMapperFromSet(set).forEach(set, target, handler);
+	}
+
 	@Override
 	public final MappingContext<? super R> newMappingContext(R set) throws E {
 		return getMapperFromRow(set).newMappingContext(set);
@@ -106,7 +129,16 @@ public class DynamicSetRowMapper<R, S, T, E extends Exception, K extends FieldKe
 		if (mapper == null) {
 			mapper = mapperFactory.newInstance(key);
 			mapperCache.add(key, mapper);
+			count(cacheMisses);
+		} else {
+			count(cacheHits);
 		}
 		return mapper;
 	}
+
+	private static void count(Counter counter) {
+		if (counter != null) {
+			counter.add(1);
+		}
+	}
 }
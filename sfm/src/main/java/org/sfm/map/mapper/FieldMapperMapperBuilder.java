@@ -7,9 +7,11 @@ import org.sfm.map.column.FieldMapperColumnDefinition;
 import org.sfm.map.column.GetterProperty;
 import org.sfm.map.context.MappingContextFactoryBuilder;
 import org.sfm.map.impl.FieldErrorHandlerMapper;
+import org.sfm.map.impl.ProfiledFieldMapper;
 import org.sfm.map.impl.fieldmapper.ConstantSourceFieldMapperFactory;
 import org.sfm.map.impl.fieldmapper.ConstantSourceFieldMapperFactoryImpl;
 import org.sfm.map.impl.fieldmapper.MapperFieldMapper;
+import org.sfm.map.metrics.FieldCostProfiler;
 import org.sfm.reflect.*;
 import org.sfm.reflect.impl.ConstantGetter;
 import org.sfm.reflect.impl.NullGetter;
@@ -214,7 +216,7 @@ public final class FieldMapperMapperBuilder<S, T, K extends FieldKey<K>>  {
                         mappingContextFactoryBuilder.nullChecker(),
                         mappingContextFactoryBuilder.breakDetectorGetter());
 
-        return wrapFieldMapperWithErrorHandler(properties.get(0), fieldMapper);
+        return profile(meta.getPath(), wrapFieldMapperWithErrorHandler(properties.get(0), fieldMapper));
     }
 
     @SuppressWarnings("unchecked")
@@ -320,9 +322,17 @@ public final class FieldMapperMapperBuilder<S, T, K extends FieldKey<K>>  {
 			fieldMapper = fieldMapperFactory.newFieldMapper(t, mappingContextFactoryBuilder, mapperConfig.mapperBuilderErrorHandler());
 		}
 
-        return wrapFieldMapperWithErrorHandler(t, fieldMapper);
+        return profile(t.getColumnKey().getName(), wrapFieldMapperWithErrorHandler(t, fieldMapper));
 	}
 
+    private FieldMapper<S, T> profile(String column, FieldMapper<S, T> fieldMapper) {
+        final FieldCostProfiler profiler = mapperConfig.fieldCostProfiler();
+        if (fieldMapper != null && profiler != null) {
+            return new ProfiledFieldMapper<S, T>(fieldMapper, profiler.cost(column));
+        }
+        return fieldMapper;
+    }
+
     private <P> FieldMapper<S, T> wrapFieldMapperWithErrorHandler(final PropertyMapping<T, P, K, FieldMapperColumnDefinition<K>> t, final FieldMapper<S, T> fieldMapper) {
         if (fieldMapper != null && mapperConfig.hasFieldMapperErrorHandler()) {
             return new FieldErrorHandlerMapper<S, T, K>(t.getColumnKey(), fieldMapper, mapperConfig.fieldMapperErrorHandler());
@@ -2,6 +2,7 @@ package org.sfm.map.mapper;
 
 import org.sfm.map.*;
 import org.sfm.map.context.MappingContextFactory;
+import org.sfm.map.impl.FlyweightMapperEnumarable;
 import org.sfm.map.impl.StaticMapperEnumarable;
 import org.sfm.map.mapper.AbstractEnumarableMapper;
 import org.sfm.utils.Enumarable;
@@ -52,4 +53,9 @@ public class StaticSetRowMapper<R, S, T, E extends Exception> extends AbstractEn
 	protected final Enumarable<T> newEnumarableOfT(S source) throws E {
 		return new StaticMapperEnumarable<R, T>(mapper, mappingContextFactory.newContext(), enumarableFactory.newInstance(source));
 	}
+
+	@Override
+	protected final Enumarable<T> newFlyweightEnumarableOfT(S source, T target) throws E {
+		return new FlyweightMapperEnumarable<R, T>(mapper, mappingContextFactory.newContext(), target, enumarableFactory.newInstance(source));
+	}
 }
@@ -0,0 +1,8 @@
+package org.sfm.map.metrics;
+
+/**
+ * Monotonic counter, rows mapped, chars read, errors.
+ */
+public interface Counter {
+    void add(long delta);
+}
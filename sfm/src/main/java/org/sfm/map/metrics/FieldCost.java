@@ -0,0 +1,68 @@
+package org.sfm.map.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sampled conversion cost of a column.
+ * <p>
+ * The invocation count is not synchronized, it is an approximation when the mapper is used by multiple threads.
+ */
+public final class FieldCost {
+    private final String column;
+    private final int sampleRate;
+
+    private final AtomicLong samples = new AtomicLong();
+    private final AtomicLong sampledNanos = new AtomicLong();
+    private long invocations;
+
+    public FieldCost(String column, int sampleRate) {
+        this.column = column;
+        this.sampleRate = sampleRate;
+    }
+
+    /**
+     * count the invocation.
+     * @return true if the invocation needs to be timed
+     */
+    public boolean sample() {
+        return (invocations++ % sampleRate) == 0;
+    }
+
+    public void record(long nanos) {
+        samples.incrementAndGet();
+        sampledNanos.addAndGet(nanos);
+    }
+
+    public String getColumn() {
+        return column;
+    }
+
+    public long getInvocations() {
+        return invocations;
+    }
+
+    public long getSamples() {
+        return samples.get();
+    }
+
+    public double getMeanNanos() {
+        long s = samples.get();
+        return s == 0 ? 0 : sampledNanos.get() / (double) s;
+    }
+
+    /**
+     * @return the mean sampled cost multiplied by the number of invocations
+     */
+    public double getEstimatedTotalNanos() {
+        return getMeanNanos() * invocations;
+    }
+
+    @Override
+    public String toString() {
+        return column +
+                " invocations=" + invocations +
+                ", samples=" + samples.get() +
+                ", meanNanos=" + Math.round(getMeanNanos()) +
+                ", estimatedTotalNanos=" + Math.round(getEstimatedTotalNanos());
+    }
+}
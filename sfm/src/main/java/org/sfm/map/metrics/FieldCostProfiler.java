@@ -0,0 +1,84 @@
+package org.sfm.map.metrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Sampling profiler of the field conversions, times one invocation out of sampleRate for each column.
+ * <p>
+ * Set it on the mapper factory, the mappers built after that will report to it.
+ * <pre>
+ *     FieldCostProfiler profiler = new FieldCostProfiler(100);
+ *     JdbcMapperFactory.newInstance().fieldCostProfiler(profiler).newMapper(MyClass.class);
+ *     ...
+ *     System.out.println(profiler);
+ * </pre>
+ */
+public final class FieldCostProfiler {
+
+    private static final Comparator<FieldCost> BY_ESTIMATED_TOTAL_DESC = new Comparator<FieldCost>() {
+        @Override
+        public int compare(FieldCost o1, FieldCost o2) {
+            return Double.compare(o2.getEstimatedTotalNanos(), o1.getEstimatedTotalNanos());
+        }
+    };
+
+    private final int sampleRate;
+    private final ConcurrentMap<String, FieldCost> costs = new ConcurrentHashMap<String, FieldCost>();
+
+    public FieldCostProfiler() {
+        this(100);
+    }
+
+    /**
+     * @param sampleRate time one invocation out of sampleRate, 1 to time all of them.
+     */
+    public FieldCostProfiler(int sampleRate) {
+        if (sampleRate < 1) {
+            throw new IllegalArgumentException("sampleRate needs to be greater than 0 was " + sampleRate);
+        }
+        this.sampleRate = sampleRate;
+    }
+
+    public int sampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * @param column the column name
+     * @return the cost for that column
+     */
+    public FieldCost cost(String column) {
+        FieldCost cost = costs.get(column);
+        if (cost == null) {
+            cost = new FieldCost(column, sampleRate);
+            FieldCost previous = costs.putIfAbsent(column, cost);
+            if (previous != null) {
+                cost = previous;
+            }
+        }
+        return cost;
+    }
+
+    /**
+     * @return the columns ranked by estimated total cost, most expensive first
+     */
+    public List<FieldCost> report() {
+        List<FieldCost> list = new ArrayList<FieldCost>(costs.values());
+        Collections.sort(list, BY_ESTIMATED_TOTAL_DESC);
+        return list;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("FieldCostProfiler{sampleRate=").append(sampleRate).append('}');
+        for(FieldCost cost : report()) {
+            sb.append('\n').append(cost);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,39 @@
+package org.sfm.map.metrics;
+
+import org.sfm.map.FieldKey;
+import org.sfm.map.FieldMapperErrorHandler;
+import org.sfm.map.MappingException;
+import org.sfm.utils.ErrorHelper;
+
+/**
+ * Count the conversion errors in total and per field before calling the delegate, rethrow the error if no delegate is specified.
+ * @param <K> the key type
+ */
+public final class MeteredFieldMapperErrorHandler<K extends FieldKey<K>> implements FieldMapperErrorHandler<K> {
+    private final FieldMapperErrorHandler<K> delegate;
+    private final MetricsRegistry metricsRegistry;
+    private final Counter errors;
+
+    public MeteredFieldMapperErrorHandler(FieldMapperErrorHandler<K> delegate, MetricsRegistry metricsRegistry) {
+        this.delegate = delegate;
+        this.metricsRegistry = metricsRegistry;
+        this.errors = metricsRegistry.counter(MetricNames.CONVERSION_ERRORS);
+    }
+
+    @Override
+    public void errorMappingField(K key, Object source, Object target, Exception error) throws MappingException {
+        errors.add(1);
+        if (key != null) {
+            metricsRegistry.counter(MetricNames.conversionErrors(key.getName())).add(1);
+        }
+        if (delegate != null) {
+            delegate.errorMappingField(key, source, target, error);
+        } else {
+            ErrorHelper.rethrow(error);
+        }
+    }
+
+    public FieldMapperErrorHandler<K> getDelegate() {
+        return delegate;
+    }
+}
@@ -0,0 +1,43 @@
+package org.sfm.map.metrics;
+
+import org.sfm.map.Mapper;
+import org.sfm.map.MappingContext;
+import org.sfm.map.MappingException;
+
+/**
+ * Count the rows mapped by the delegate mapper.
+ * @param <S> the source type
+ * @param <T> the target type
+ */
+public final class MeteredMapper<S, T> implements Mapper<S, T> {
+    private final Mapper<S, T> delegate;
+    private final Counter rows;
+
+    public MeteredMapper(Mapper<S, T> delegate, Counter rows) {
+        this.delegate = delegate;
+        this.rows = rows;
+    }
+
+    @Override
+    public T map(S source) throws MappingException {
+        rows.add(1);
+        return delegate.map(source);
+    }
+
+    @Override
+    public T map(S source, MappingContext<? super S> context) throws MappingException {
+        rows.add(1);
+        return delegate.map(source, context);
+    }
+
+    @Override
+    public void mapTo(S source, T target, MappingContext<? super S> context) throws Exception {
+        rows.add(1);
+        delegate.mapTo(source, target, context);
+    }
+
+    @Override
+    public String toString() {
+        return "MeteredMapper{" + delegate + "}";
+    }
+}
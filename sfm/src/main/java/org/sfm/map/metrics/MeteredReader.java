@@ -0,0 +1,31 @@
+package org.sfm.map.metrics;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Count the chars read from the delegate reader.
+ */
+public final class MeteredReader extends Reader {
+    private final Reader delegate;
+    private final Counter chars;
+
+    public MeteredReader(Reader delegate, Counter chars) {
+        this.delegate = delegate;
+        this.chars = chars;
+    }
+
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException {
+        int n = delegate.read(cbuf, off, len);
+        if (n > 0) {
+            chars.add(n);
+        }
+        return n;
+    }
+
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+    }
+}
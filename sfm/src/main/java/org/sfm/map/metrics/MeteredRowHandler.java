@@ -0,0 +1,28 @@
+package org.sfm.map.metrics;
+
+import org.sfm.utils.RowHandler;
+
+/**
+ * Count the rows passed to the delegate handler.
+ * @param <T> the row type
+ */
+public final class MeteredRowHandler<T> implements RowHandler<T> {
+    private final RowHandler<? super T> delegate;
+    private final Counter rows;
+
+    public MeteredRowHandler(RowHandler<? super T> delegate, Counter rows) {
+        this.delegate = delegate;
+        this.rows = rows;
+    }
+
+    @Override
+    public void handle(T t) throws Exception {
+        rows.add(1);
+        delegate.handle(t);
+    }
+
+    @Override
+    public String toString() {
+        return "MeteredRowHandler{" + delegate + "}";
+    }
+}
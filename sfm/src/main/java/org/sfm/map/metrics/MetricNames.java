@@ -0,0 +1,54 @@
+package org.sfm.map.metrics;
+
+/**
+ * Names of the metrics reported by the mappers.
+ */
+public final class MetricNames {
+
+    /**
+     * counter of the rows mapped.
+     */
+    public static final String ROWS = "sfm.rows";
+
+    /**
+     * counter of the chars read by the csv parser.
+     */
+    public static final String CSV_CHARS = "sfm.csv.chars";
+
+    /**
+     * counter of the rows parsed by the csv parser.
+     */
+    public static final String CSV_ROWS = "sfm.csv.rows";
+
+    /**
+     * counter of the field conversion errors, the per field counter is suffixed by the column name.
+     */
+    public static final String CONVERSION_ERRORS = "sfm.conversion.errors";
+
+    /**
+     * recorder of the time spent building a mapper in nanoseconds.
+     */
+    public static final String MAPPER_BUILD_NANOS = "sfm.mapper.build.nanos";
+
+    /**
+     * counter of the dynamic mapper cache hits.
+     */
+    public static final String MAPPER_CACHE_HITS = "sfm.mapper.cache.hits";
+
+    /**
+     * counter of the dynamic mapper cache misses.
+     */
+    public static final String MAPPER_CACHE_MISSES = "sfm.mapper.cache.misses";
+
+    /**
+     * recorder of the batch sizes sent by the crud.
+     */
+    public static final String BATCH_SIZE = "sfm.jdbc.batch.size";
+
+    private MetricNames() {
+    }
+
+    public static String conversionErrors(String column) {
+        return CONVERSION_ERRORS + "." + column;
+    }
+}
@@ -0,0 +1,23 @@
+package org.sfm.map.metrics;
+
+/**
+ * Pluggable registry the mappers report their metrics to.
+ * <p>
+ * The counter and recorder returned are kept by the caller, the implementation needs to return the same instance for the same name
+ * if the values need to be aggregated.
+ * @see MetricNames
+ * @see SimpleMetricsRegistry
+ */
+public interface MetricsRegistry {
+    /**
+     * @param name the metric name
+     * @return the counter for that name
+     */
+    Counter counter(String name);
+
+    /**
+     * @param name the metric name
+     * @return the recorder for that name
+     */
+    Recorder recorder(String name);
+}
@@ -0,0 +1,8 @@
+package org.sfm.map.metrics;
+
+/**
+ * Records the distribution of a value, build time, batch size.
+ */
+public interface Recorder {
+    void record(long value);
+}
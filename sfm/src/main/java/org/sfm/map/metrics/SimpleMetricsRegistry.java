@@ -0,0 +1,149 @@
+package org.sfm.map.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In memory registry, the rates are computed from the creation of the registry.
+ */
+public final class SimpleMetricsRegistry implements MetricsRegistry {
+
+    private final ConcurrentMap<String, SimpleCounter> counters = new ConcurrentHashMap<String, SimpleCounter>();
+    private final ConcurrentMap<String, SimpleRecorder> recorders = new ConcurrentHashMap<String, SimpleRecorder>();
+    private final long startNanos = System.nanoTime();
+
+    @Override
+    public SimpleCounter counter(String name) {
+        SimpleCounter counter = counters.get(name);
+        if (counter == null) {
+            counter = new SimpleCounter();
+            SimpleCounter previous = counters.putIfAbsent(name, counter);
+            if (previous != null) {
+                counter = previous;
+            }
+        }
+        return counter;
+    }
+
+    @Override
+    public SimpleRecorder recorder(String name) {
+        SimpleRecorder recorder = recorders.get(name);
+        if (recorder == null) {
+            recorder = new SimpleRecorder();
+            SimpleRecorder previous = recorders.putIfAbsent(name, recorder);
+            if (previous != null) {
+                recorder = previous;
+            }
+        }
+        return recorder;
+    }
+
+    /**
+     * @param name the counter name
+     * @return the value of the counter, 0 if not registered
+     */
+    public long count(String name) {
+        SimpleCounter counter = counters.get(name);
+        return counter == null ? 0 : counter.get();
+    }
+
+    /**
+     * @param name the counter name
+     * @return the value of the counter per second since the creation of the registry
+     */
+    public double rate(String name) {
+        long elapsed = System.nanoTime() - startNanos;
+        if (elapsed <= 0) {
+            return 0;
+        }
+        return count(name) * (double) TimeUnit.SECONDS.toNanos(1) / elapsed;
+    }
+
+    public Map<String, SimpleCounter> counters() {
+        return Collections.<String, SimpleCounter>unmodifiableMap(counters);
+    }
+
+    public Map<String, SimpleRecorder> recorders() {
+        return Collections.<String, SimpleRecorder>unmodifiableMap(recorders);
+    }
+
+    @Override
+    public String toString() {
+        return "SimpleMetricsRegistry{" +
+                "counters=" + counters +
+                ", recorders=" + recorders +
+                '}';
+    }
+
+    public static final class SimpleCounter implements Counter {
+        private final AtomicLong value = new AtomicLong();
+
+        @Override
+        public void add(long delta) {
+            value.addAndGet(delta);
+        }
+
+        public long get() {
+            return value.get();
+        }
+
+        @Override
+        public String toString() {
+            return String.valueOf(value.get());
+        }
+    }
+
+    public static final class SimpleRecorder implements Recorder {
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong sum = new AtomicLong();
+        private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+        private final AtomicLong max = new AtomicLong(Long.MIN_VALUE);
+
+        @Override
+        public void record(long value) {
+            count.incrementAndGet();
+            sum.addAndGet(value);
+            long current;
+            while (value < (current = min.get()) && !min.compareAndSet(current, value)) {
+                // retry
+            }
+            while (value > (current = max.get()) && !max.compareAndSet(current, value)) {
+                // retry
+            }
+        }
+
+        public long count() {
+            return count.get();
+        }
+
+        public long sum() {
+            return sum.get();
+        }
+
+        public long min() {
+            return count.get() == 0 ? 0 : min.get();
+        }
+
+        public long max() {
+            return count.get() == 0 ? 0 : max.get();
+        }
+
+        public double mean() {
+            long c = count.get();
+            return c == 0 ? 0 : sum.get() / (double) c;
+        }
+
+        @Override
+        public String toString() {
+            return "{count=" + count() +
+                    ", min=" + min() +
+                    ", max=" + max() +
+                    ", mean=" + mean() +
+                    '}';
+        }
+    }
+}
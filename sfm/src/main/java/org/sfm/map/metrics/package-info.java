@@ -0,0 +1,6 @@
+/**
+ * Opt-in metrics, the mappers report row counts, conversion errors, build times and batch sizes to a {@link org.sfm.map.metrics.MetricsRegistry}.
+ * <p>
+ * No decoration happens when no registry is configured.
+ */
+package org.sfm.map.metrics;
@@ -118,6 +118,8 @@ public final class ObjectGetterFactory {
 	public static <T, P> IntGetter<T> toIntGetter(Getter<? super T, ? extends P> getter) {
 		if (getter instanceof IntGetter) {
 			return (IntGetter<T>) getter;
+		} else if (AbstractConvertingGetter.isConvertible(getter)) {
+			return new ConvertingIntGetter<T>((Getter<? super T, ? extends Number>) getter);
 		} else {
 			return new BoxedIntGetter<T>((Getter<? super T, Integer>) getter);
 		}
@@ -127,6 +129,8 @@ public final class ObjectGetterFactory {
 	public static <T, P> LongGetter<T> toLongGetter(Getter<? super T, ? extends P> getter) {
 		if (getter instanceof LongGetter) {
 			return (LongGetter<T>) getter;
+		} else if (AbstractConvertingGetter.isConvertible(getter)) {
+			return new ConvertingLongGetter<T>((Getter<? super T, ? extends Number>) getter);
 		} else {
 			return new BoxedLongGetter<T>((Getter<? super T, Long>) getter);
 		}
@@ -136,6 +140,8 @@ public final class ObjectGetterFactory {
 	public static <T, P> FloatGetter<T> toFloatGetter(Getter<? super T, ? extends P> getter) {
 		if (getter instanceof FloatGetter) {
 			return (FloatGetter<T>) getter;
+		} else if (AbstractConvertingGetter.isConvertible(getter)) {
+			return new ConvertingFloatGetter<T>((Getter<? super T, ? extends Number>) getter);
 		} else {
 			return new BoxedFloatGetter<T>((Getter<? super T, Float>) getter);
 		}
@@ -145,6 +151,8 @@ public final class ObjectGetterFactory {
 	public static <T, P> DoubleGetter<T> toDoubleGetter(Getter<? super T, ? extends P> getter) {
 		if (getter instanceof DoubleGetter) {
 			return (DoubleGetter<T>) getter;
+		} else if (AbstractConvertingGetter.isConvertible(getter)) {
+			return new ConvertingDoubleGetter<T>((Getter<? super T, ? extends Number>) getter);
 		} else {
 			return new BoxedDoubleGetter<T>((Getter<? super T, Double>) getter);
 		}
@@ -154,6 +162,8 @@ public final class ObjectGetterFactory {
 	public static <T, P> ByteGetter<T> toByteGetter(Getter<? super T, ? extends P> getter) {
 		if (getter instanceof ByteGetter) {
 			return (ByteGetter<T>) getter;
+		} else if (AbstractConvertingGetter.isConvertible(getter)) {
+			return new ConvertingByteGetter<T>((Getter<? super T, ? extends Number>) getter);
 		} else {
 			return new BoxedByteGetter<T>((Getter<? super T, Byte>) getter);
 		}
@@ -163,6 +173,8 @@ public final class ObjectGetterFactory {
 	public static <T, P> ShortGetter<T> toShortGetter(Getter<? super T, ? extends P> getter) {
 		if (getter instanceof ShortGetter) {
 			return (ShortGetter<T>) getter;
+		} else if (AbstractConvertingGetter.isConvertible(getter)) {
+			return new ConvertingShortGetter<T>((Getter<? super T, ? extends Number>) getter);
 		} else {
 			return new BoxedShortGetter<T>((Getter<? super T, Short>) getter);
 		}
@@ -0,0 +1,112 @@
+package org.sfm.reflect.primitive;
+
+import org.sfm.reflect.Getter;
+
+/**
+ * Base class for the primitive getters that read from a getter of a different primitive type.
+ * <p>
+ * The source value is read through its own primitive accessor and converted with a primitive cast, no boxing is involved.
+ *
+ * @param <T> the source type
+ */
+@SuppressWarnings("unchecked")
+public abstract class AbstractConvertingGetter<T> {
+
+    private static final int BYTE = 0;
+    private static final int SHORT = 1;
+    private static final int INT = 2;
+    private static final int LONG = 3;
+    private static final int FLOAT = 4;
+    private static final int DOUBLE = 5;
+
+    protected final Getter<? super T, ? extends Number> getter;
+    private final int sourceType;
+
+    protected AbstractConvertingGetter(Getter<? super T, ? extends Number> getter) {
+        this.getter = getter;
+        this.sourceType = sourceType(getter);
+        if (sourceType == -1) {
+            throw new IllegalArgumentException("Getter " + getter + " is not a primitive number getter");
+        }
+    }
+
+    /**
+     * @param getter the getter
+     * @return true if the getter exposes a primitive number accessor that can be converted.
+     */
+    public static boolean isConvertible(Object getter) {
+        return sourceType(getter) != -1;
+    }
+
+    private static int sourceType(Object getter) {
+        if (getter instanceof LongGetter) {
+            return LONG;
+        } else if (getter instanceof IntGetter) {
+            return INT;
+        } else if (getter instanceof DoubleGetter) {
+            return DOUBLE;
+        } else if (getter instanceof FloatGetter) {
+            return FLOAT;
+        } else if (getter instanceof ShortGetter) {
+            return SHORT;
+        } else if (getter instanceof ByteGetter) {
+            return BYTE;
+        }
+        return -1;
+    }
+
+    protected final long readLong(T target) throws Exception {
+        switch (sourceType) {
+            case LONG: return ((LongGetter<T>) getter).getLong(target);
+            case INT: return ((IntGetter<T>) getter).getInt(target);
+            case DOUBLE: return (long) ((DoubleGetter<T>) getter).getDouble(target);
+            case FLOAT: return (long) ((FloatGetter<T>) getter).getFloat(target);
+            case SHORT: return ((ShortGetter<T>) getter).getShort(target);
+            default: return ((ByteGetter<T>) getter).getByte(target);
+        }
+    }
+
+    protected final int readInt(T target) throws Exception {
+        switch (sourceType) {
+            case LONG: return (int) ((LongGetter<T>) getter).getLong(target);
+            case INT: return ((IntGetter<T>) getter).getInt(target);
+            case DOUBLE: return (int) ((DoubleGetter<T>) getter).getDouble(target);
+            case FLOAT: return (int) ((FloatGetter<T>) getter).getFloat(target);
+            case SHORT: return ((ShortGetter<T>) getter).getShort(target);
+            default: return ((ByteGetter<T>) getter).getByte(target);
+        }
+    }
+
+    protected final double readDouble(T target) throws Exception {
+        switch (sourceType) {
+            case LONG: return ((LongGetter<T>) getter).getLong(target);
+            case INT: return ((IntGetter<T>) getter).getInt(target);
+            case DOUBLE: return ((DoubleGetter<T>) getter).getDouble(target);
+            case FLOAT: return ((FloatGetter<T>) getter).getFloat(target);
+            case SHORT: return ((ShortGetter<T>) getter).getShort(target);
+            default: return ((ByteGetter<T>) getter).getByte(target);
+        }
+    }
+
+    protected final float readFloat(T target) throws Exception {
+        switch (sourceType) {
+            case LONG: return ((LongGetter<T>) getter).getLong(target);
+            case INT: return ((IntGetter<T>) getter).getInt(target);
+            case DOUBLE: return (float) ((DoubleGetter<T>) getter).getDouble(target);
+            case FLOAT: return ((FloatGetter<T>) getter).getFloat(target);
+            case SHORT: return ((ShortGetter<T>) getter).getShort(target);
+            default: return ((ByteGetter<T>) getter).getByte(target);
+        }
+    }
+
+    protected final Number readNumber(T target) throws Exception {
+        return getter.get(target);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{" +
+                "getter=" + getter +
+                '}';
+    }
+}
@@ -0,0 +1,24 @@
+package org.sfm.reflect.primitive;
+
+import org.sfm.reflect.Getter;
+
+public final class ConvertingByteGetter<T> extends AbstractConvertingGetter<T> implements ByteGetter<T>, Getter<T, Byte> {
+
+    public ConvertingByteGetter(Getter<? super T, ? extends Number> getter) {
+        super(getter);
+    }
+
+    @Override
+    public byte getByte(T target) throws Exception {
+        return (byte) readInt(target);
+    }
+
+    @Override
+    public Byte get(T target) throws Exception {
+        final Number value = readNumber(target);
+        if (value == null) {
+            return null;
+        }
+        return value.byteValue();
+    }
+}
@@ -0,0 +1,24 @@
+package org.sfm.reflect.primitive;
+
+import org.sfm.reflect.Getter;
+
+public final class ConvertingDoubleGetter<T> extends AbstractConvertingGetter<T> implements DoubleGetter<T>, Getter<T, Double> {
+
+    public ConvertingDoubleGetter(Getter<? super T, ? extends Number> getter) {
+        super(getter);
+    }
+
+    @Override
+    public double getDouble(T target) throws Exception {
+        return readDouble(target);
+    }
+
+    @Override
+    public Double get(T target) throws Exception {
+        final Number value = readNumber(target);
+        if (value == null) {
+            return null;
+        }
+        return value.doubleValue();
+    }
+}
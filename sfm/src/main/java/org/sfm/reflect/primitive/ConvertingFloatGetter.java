@@ -0,0 +1,24 @@
+package org.sfm.reflect.primitive;
+
+import org.sfm.reflect.Getter;
+
+public final class ConvertingFloatGetter<T> extends AbstractConvertingGetter<T> implements FloatGetter<T>, Getter<T, Float> {
+
+    public ConvertingFloatGetter(Getter<? super T, ? extends Number> getter) {
+        super(getter);
+    }
+
+    @Override
+    public float getFloat(T target) throws Exception {
+        return readFloat(target);
+    }
+
+    @Override
+    public Float get(T target) throws Exception {
+        final Number value = readNumber(target);
+        if (value == null) {
+            return null;
+        }
+        return value.floatValue();
+    }
+}
@@ -0,0 +1,24 @@
+package org.sfm.reflect.primitive;
+
+import org.sfm.reflect.Getter;
+
+public final class ConvertingIntGetter<T> extends AbstractConvertingGetter<T> implements IntGetter<T>, Getter<T, Integer> {
+
+    public ConvertingIntGetter(Getter<? super T, ? extends Number> getter) {
+        super(getter);
+    }
+
+    @Override
+    public int getInt(T target) throws Exception {
+        return readInt(target);
+    }
+
+    @Override
+    public Integer get(T target) throws Exception {
+        final Number value = readNumber(target);
+        if (value == null) {
+            return null;
+        }
+        return value.intValue();
+    }
+}
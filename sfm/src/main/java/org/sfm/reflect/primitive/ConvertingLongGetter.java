@@ -0,0 +1,24 @@
+package org.sfm.reflect.primitive;
+
+import org.sfm.reflect.Getter;
+
+public final class ConvertingLongGetter<T> extends AbstractConvertingGetter<T> implements LongGetter<T>, Getter<T, Long> {
+
+    public ConvertingLongGetter(Getter<? super T, ? extends Number> getter) {
+        super(getter);
+    }
+
+    @Override
+    public long getLong(T target) throws Exception {
+        return readLong(target);
+    }
+
+    @Override
+    public Long get(T target) throws Exception {
+        final Number value = readNumber(target);
+        if (value == null) {
+            return null;
+        }
+        return value.longValue();
+    }
+}
@@ -0,0 +1,24 @@
+package org.sfm.reflect.primitive;
+
+import org.sfm.reflect.Getter;
+
+public final class ConvertingShortGetter<T> extends AbstractConvertingGetter<T> implements ShortGetter<T>, Getter<T, Short> {
+
+    public ConvertingShortGetter(Getter<? super T, ? extends Number> getter) {
+        super(getter);
+    }
+
+    @Override
+    public short getShort(T target) throws Exception {
+        return (short) readInt(target);
+    }
+
+    @Override
+    public Short get(T target) throws Exception {
+        final Number value = readNumber(target);
+        if (value == null) {
+            return null;
+        }
+        return value.shortValue();
+    }
+}
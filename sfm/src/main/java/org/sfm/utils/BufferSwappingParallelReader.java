@@ -0,0 +1,284 @@
+package org.sfm.utils;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Reader that reads the source on another thread into a fixed set of chunks.<p>
+ * The filled chunks can be taken whole with {@link #takeChunk()} and given back with {@link #returnChunk(char[])},
+ * the consumer then parses the array the source was read into instead of copying it out of a ring buffer.
+ * A CsvParser reading from this reader swaps its buffer with the chunks.
+ * The data of a chunk starts at {@link #getHeadroom()}, the chars before are free for the consumer to prepend
+ * what is left of the previous chunk.<p>
+ * With 2 chunks it is a double buffer, the source is read into one while the other is parsed.
+ * It can also be used as a plain Reader, the two apis must not be mixed.
+ */
+public final class BufferSwappingParallelReader extends Reader {
+    private static final int DEFAULT_CHUNK_SIZE = 1024 * 8;
+    private static final int DEFAULT_NB_CHUNKS = 4;
+
+    private final Reader reader;
+    private final WaitingStrategy waitingStrategy;
+    private final int chunkSize;
+    private final int headroom;
+    private final int mask;
+
+    private final char[][] filled;
+    private final int[] filledLengths;
+    private final AtomicLong filledTail = new AtomicLong();
+    private long filledTailCache;
+    private long filledHead;
+
+    private final char[][] free;
+    private final AtomicLong freeTail = new AtomicLong();
+    private long freeReturned;
+
+    private final DataProducer dataProducer;
+
+    private volatile long producerStalls;
+    private volatile long consumerStalls;
+
+    private int chunkLength;
+
+    private char[] current;
+    private int currentIndex;
+    private int currentEnd;
+
+    public BufferSwappingParallelReader(Reader reader, Executor executor) {
+        this(reader, executor, DEFAULT_CHUNK_SIZE, DEFAULT_NB_CHUNKS, WaitingStrategies.yielding());
+    }
+
+    /**
+     *
+     * @param reader the source
+     * @param executor the executor to run the reading on
+     * @param chunkSize the maximum number of chars read into a chunk
+     * @param nbChunks the number of chunks, at least 2, rounded to the next power of 2
+     * @param waitingStrategy the strategy used by both sides to wait
+     */
+    public BufferSwappingParallelReader(Reader reader, Executor executor, int chunkSize, int nbChunks, WaitingStrategy waitingStrategy) {
+        this(reader, executor, chunkSize, chunkSize / 4, nbChunks, waitingStrategy);
+    }
+
+    /**
+     *
+     * @param reader the source
+     * @param executor the executor to run the reading on
+     * @param chunkSize the maximum number of chars read into a chunk
+     * @param headroom the number of chars reserved before the data of each chunk
+     * @param nbChunks the number of chunks, at least 2, rounded to the next power of 2
+     * @param waitingStrategy the strategy used by both sides to wait
+     */
+    public BufferSwappingParallelReader(Reader reader, Executor executor, int chunkSize, int headroom, int nbChunks, WaitingStrategy waitingStrategy) {
+        if (chunkSize <= 0) throw new IllegalArgumentException("chunkSize must be positive");
+        if (headroom < 0) throw new IllegalArgumentException("headroom must be positive");
+        if (nbChunks < 2) throw new IllegalArgumentException("nbChunks must be at least 2");
+        if (waitingStrategy == null) throw new NullPointerException("waitingStrategy");
+        this.reader = reader;
+        this.waitingStrategy = waitingStrategy;
+        this.chunkSize = chunkSize;
+        this.headroom = headroom;
+
+        int powerOf2 = 1 << 32 - Integer.numberOfLeadingZeros(nbChunks - 1);
+        this.mask = powerOf2 - 1;
+        this.filled = new char[powerOf2][];
+        this.filledLengths = new int[powerOf2];
+        this.free = new char[powerOf2][];
+        for(int i = 0; i < powerOf2; i++) {
+            free[i] = new char[headroom + chunkSize];
+        }
+        freeReturned = powerOf2;
+        freeTail.set(powerOf2);
+
+        dataProducer = new DataProducer();
+        executor.execute(dataProducer);
+    }
+
+    /**
+     * @return the index of the first char of data in a chunk
+     */
+    public int getHeadroom() {
+        return headroom;
+    }
+
+    /**
+     * @return the length of the chunks arrays
+     */
+    public int getChunkArrayLength() {
+        return headroom + chunkSize;
+    }
+
+    /**
+     * wait for the next filled chunk.
+     * The data is between {@link #getHeadroom()} and {@link #getHeadroom()} + {@link #getChunkLength()}.
+     * The chunk must be given back with {@link #returnChunk(char[])} when not needed anymore.
+     * @return the chunk or null if the end of the source has been reached
+     * @throws IOException if the source failed
+     */
+    public char[] takeChunk() throws IOException {
+        final long currentHead = filledHead;
+        int attempt = 0;
+        while (currentHead >= filledTailCache) {
+            filledTailCache = filledTail.get();
+            if (currentHead < filledTailCache) {
+                break;
+            }
+            if (!dataProducer.run) {
+                if (dataProducer.exception != null) {
+                    throw dataProducer.exception;
+                }
+                filledTailCache = filledTail.get();
+                if (currentHead >= filledTailCache) {
+                    return null;
+                }
+                break;
+            }
+            if (attempt == 0) {
+                consumerStalls++;
+            }
+            waitingStrategy.idle(attempt++);
+        }
+        int index = (int) (currentHead & mask);
+        char[] chunk = filled[index];
+        chunkLength = filledLengths[index];
+        filledHead = currentHead + 1;
+        return chunk;
+    }
+
+    /**
+     * @return the number of chars of data in the last chunk returned by {@link #takeChunk()}
+     */
+    public int getChunkLength() {
+        return chunkLength;
+    }
+
+    /**
+     * give a chunk back to be filled again.
+     * @param chunk the chunk, as returned by {@link #takeChunk()}
+     */
+    public void returnChunk(char[] chunk) {
+        if (chunk == null || chunk.length != headroom + chunkSize) {
+            throw new IllegalArgumentException("Not a chunk of this reader");
+        }
+        long t = freeReturned;
+        free[(int) (t & mask)] = chunk;
+        freeReturned = t + 1;
+        freeTail.lazySet(t + 1);
+        waitingStrategy.signalAll();
+    }
+
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException {
+        if (current == null || currentIndex >= currentEnd) {
+            if (current != null) {
+                returnChunk(current);
+                current = null;
+            }
+            char[] chunk = takeChunk();
+            if (chunk == null) {
+                return -1;
+            }
+            current = chunk;
+            currentIndex = headroom;
+            currentEnd = headroom + chunkLength;
+        }
+        int l = Math.min(len, currentEnd - currentIndex);
+        System.arraycopy(current, currentIndex, cbuf, off, l);
+        currentIndex += l;
+        return l;
+    }
+
+    /**
+     * @return the number of times the producer had no free chunk to read into and had to wait
+     */
+    public long getProducerStalls() {
+        return producerStalls;
+    }
+
+    /**
+     * @return the number of times the consumer found no filled chunk and had to wait
+     */
+    public long getConsumerStalls() {
+        return consumerStalls;
+    }
+
+    @Override
+    public void close() throws IOException {
+        dataProducer.stop();
+        reader.close();
+    }
+
+    private class DataProducer implements Runnable {
+        private volatile boolean run = true;
+        private volatile IOException exception;
+
+        private long freeHead;
+        private long freeTailCache;
+        private long currentTail;
+
+        @Override
+        public void run() {
+            int attempt = 0;
+            while(run) {
+                if (freeHead >= freeTailCache) {
+                    freeTailCache = freeTail.get();
+                    if (freeHead >= freeTailCache) {
+                        if (attempt == 0) {
+                            producerStalls++;
+                        }
+                        waitingStrategy.idle(attempt++);
+                        continue;
+                    }
+                }
+                attempt = 0;
+
+                char[] chunk = free[(int) (freeHead & mask)];
+                try {
+                    int r = fill(chunk);
+                    if (r == -1) {
+                        run = false;
+                    } else {
+                        freeHead++;
+                        int index = (int) (currentTail & mask);
+                        filled[index] = chunk;
+                        filledLengths[index] = r;
+                        currentTail++;
+                        filledTail.lazySet(currentTail);
+                        waitingStrategy.signalAll();
+                    }
+                } catch (IOException e) {
+                    exception = e;
+                    run = false;
+                }
+            }
+            waitingStrategy.signalAll();
+        }
+
+        private int fill(char[] chunk) throws IOException {
+            int r;
+            do {
+                r = reader.read(chunk, headroom, chunkSize);
+            } while (r == 0);
+            if (r == -1) {
+                return -1;
+            }
+            // keep filling while the source does not block
+            int length = r;
+            while (length < chunkSize && reader.ready()) {
+                r = reader.read(chunk, headroom + length, chunkSize - length);
+                if (r == -1) {
+                    break;
+                }
+                length += r;
+            }
+            return length;
+        }
+
+        public void stop() {
+            run = false;
+            waitingStrategy.signalAll();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package org.sfm.utils;
+
+/**
+ * RowHandler that passes a copy of each row to the delegate.
+ * <p>
+ * Use it to retain the rows of a flyweight iteration, where the same instance is passed for each row.
+ * <p>
+ * <code>
+ *     mapper.forEach(rs, new MyClass(), new CopyRowHandler&lt;MyClass&gt;(copier, new ListHandler&lt;MyClass&gt;()));
+ * </code>
+ * @param <T> the row type
+ */
+public final class CopyRowHandler<T> implements RowHandler<T> {
+
+    private final UnaryFactory<? super T, ? extends T> copier;
+    private final RowHandler<? super T> delegate;
+
+    public CopyRowHandler(UnaryFactory<? super T, ? extends T> copier, RowHandler<? super T> delegate) {
+        this.copier = copier;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void handle(T t) throws Exception {
+        delegate.handle(copier.newInstance(t));
+    }
+
+    public RowHandler<? super T> getDelegate() {
+        return delegate;
+    }
+}
@@ -0,0 +1,278 @@
+package org.sfm.utils;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+
+/**
+ * Gzip InputStream that inflates the members of a blocked gzip (bgzip/BGZF) stream in parallel.
+ * <p>
+ * A BGZF member stores its compressed size in the BC extra field, so the members can be read without inflating
+ * and submitted to the executor. Up to parallelism members are inflated ahead of the reader, a member that
+ * was not started by the executor when it is needed is inflated on the reading thread.
+ * <p>
+ * If the first member is not a BGZF block the stream is inflated sequentially with a {@link GZIPInputStream}.
+ */
+public final class ParallelGzipInputStream extends InputStream {
+
+    private static final int FHCRC = 2;
+    private static final int FEXTRA = 4;
+    private static final int FNAME = 8;
+    private static final int FCOMMENT = 16;
+
+    private static final int GZIP_MAGIC_1 = 0x1f;
+    private static final int GZIP_MAGIC_2 = 0x8b;
+    private static final int HEADER_LENGTH = 10;
+    private static final int TRAILER_LENGTH = 8;
+
+    private final InputStream in;
+    private final Executor executor;
+    private final int parallelism;
+    private final Queue<FutureTask<byte[]>> pendingBlocks;
+
+    private InputStream sequentialStream;
+    private boolean sourceConsumed;
+
+    private byte[] block = new byte[0];
+    private int blockIndex;
+
+    public ParallelGzipInputStream(InputStream in, Executor executor) {
+        this(in, executor, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param in the gzip content
+     * @param executor the executor to inflate the blocks on
+     * @param parallelism the maximum number of blocks inflated ahead of the reader
+     */
+    public ParallelGzipInputStream(InputStream in, Executor executor, int parallelism) {
+        if (parallelism < 1) throw new IllegalArgumentException("parallelism must be at least 1");
+        this.in = in;
+        this.executor = executor;
+        this.parallelism = parallelism;
+        this.pendingBlocks = new ArrayDeque<FutureTask<byte[]>>(parallelism);
+    }
+
+    /**
+     * @param header the first bytes of the content
+     * @param length the number of bytes available in header
+     * @return true if the content starts with the gzip magic number
+     */
+    public static boolean isGzip(byte[] header, int length) {
+        return length >= 2 && (header[0] & 0xff) == GZIP_MAGIC_1 && (header[1] & 0xff) == GZIP_MAGIC_2;
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] b = new byte[1];
+        int r = read(b, 0, 1);
+        return r == -1 ? -1 : b[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) return 0;
+        if (sequentialStream != null) {
+            return sequentialStream.read(b, off, len);
+        }
+        while (blockIndex >= block.length) {
+            if (!nextBlock()) {
+                if (sequentialStream != null) {
+                    return sequentialStream.read(b, off, len);
+                }
+                return -1;
+            }
+        }
+        int l = Math.min(len, block.length - blockIndex);
+        System.arraycopy(block, blockIndex, b, off, l);
+        blockIndex += l;
+        return l;
+    }
+
+    private boolean nextBlock() throws IOException {
+        fillPendingBlocks();
+        FutureTask<byte[]> task = pendingBlocks.poll();
+        if (task == null) {
+            return false;
+        }
+        // inflate on the reading thread if the executor did not start it yet
+        task.run();
+        try {
+            block = task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while inflating block", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException(cause.getMessage(), cause);
+        }
+        blockIndex = 0;
+        fillPendingBlocks();
+        return true;
+    }
+
+    private void fillPendingBlocks() throws IOException {
+        while (!sourceConsumed && sequentialStream == null && pendingBlocks.size() < parallelism) {
+            final byte[] member = readMember();
+            if (member == null) {
+                sourceConsumed = true;
+                return;
+            }
+            FutureTask<byte[]> task = new FutureTask<byte[]>(new Callable<byte[]>() {
+                @Override
+                public byte[] call() throws Exception {
+                    return inflate(member);
+                }
+            });
+            pendingBlocks.add(task);
+            executor.execute(task);
+        }
+    }
+
+    /**
+     * @return the bytes of the next bgzf member, null at the end of the stream
+     */
+    private byte[] readMember() throws IOException {
+        byte[] header = new byte[HEADER_LENGTH + 2];
+        int r = readFully(header, 0, HEADER_LENGTH, true);
+        if (r == 0) {
+            return null;
+        }
+        if (!isGzip(header, r) || header[2] != 8) {
+            throw new IOException("Not in gzip format");
+        }
+        int flags = header[3] & 0xff;
+        if ((flags & FEXTRA) == 0) {
+            return switchToSequential(header, HEADER_LENGTH);
+        }
+        readFully(header, HEADER_LENGTH, 2, false);
+        int xlen = (header[HEADER_LENGTH] & 0xff) | ((header[HEADER_LENGTH + 1] & 0xff) << 8);
+        byte[] extra = new byte[xlen];
+        readFully(extra, 0, xlen, false);
+
+        int bsize = blockSize(extra);
+        if (bsize == -1 || (flags & (FNAME | FCOMMENT | FHCRC)) != 0) {
+            return switchToSequential(concat(header, HEADER_LENGTH + 2, extra), HEADER_LENGTH + 2 + xlen);
+        }
+
+        int headerLength = HEADER_LENGTH + 2 + xlen;
+        int remaining = bsize + 1 - headerLength;
+        if (remaining < TRAILER_LENGTH) {
+            throw new IOException("Invalid bgzf block size " + bsize);
+        }
+        byte[] member = new byte[remaining];
+        readFully(member, 0, remaining, false);
+        return member;
+    }
+
+    private byte[] switchToSequential(byte[] header, int length) throws IOException {
+        if (!pendingBlocks.isEmpty() || block.length > 0) {
+            throw new IOException("Gzip member without bgzf block size after bgzf blocks");
+        }
+        sequentialStream = new GZIPInputStream(new SequenceInputStream(new ByteArrayInputStream(header, 0, length), in));
+        return null;
+    }
+
+    private static int blockSize(byte[] extra) {
+        int i = 0;
+        while (i + 4 <= extra.length) {
+            int slen = (extra[i + 2] & 0xff) | ((extra[i + 3] & 0xff) << 8);
+            if (extra[i] == 'B' && extra[i + 1] == 'C' && slen == 2 && i + 6 <= extra.length) {
+                return (extra[i + 4] & 0xff) | ((extra[i + 5] & 0xff) << 8);
+            }
+            i += 4 + slen;
+        }
+        return -1;
+    }
+
+    private static byte[] inflate(byte[] member) throws IOException {
+        int dataLength = member.length - TRAILER_LENGTH;
+        long crc = readInt(member, dataLength) & 0xffffffffL;
+        int size = readInt(member, dataLength + 4);
+
+        byte[] out = new byte[size];
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(member, 0, dataLength);
+            int n = 0;
+            while (n < size) {
+                int r = inflater.inflate(out, n, size - n);
+                if (r == 0 && (inflater.finished() || inflater.needsInput())) {
+                    break;
+                }
+                n += r;
+            }
+            if (n != size) {
+                throw new IOException("Corrupt gzip block, expected " + size + " bytes got " + n);
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupt gzip block " + e.getMessage(), e);
+        } finally {
+            inflater.end();
+        }
+
+        CRC32 crc32 = new CRC32();
+        crc32.update(out, 0, size);
+        if (crc32.getValue() != crc) {
+            throw new IOException("Corrupt gzip block, crc mismatch");
+        }
+        return out;
+    }
+
+    private static int readInt(byte[] bytes, int offset) {
+        return (bytes[offset] & 0xff)
+                | ((bytes[offset + 1] & 0xff) << 8)
+                | ((bytes[offset + 2] & 0xff) << 16)
+                | ((bytes[offset + 3] & 0xff) << 24);
+    }
+
+    private static byte[] concat(byte[] b1, int l1, byte[] b2) {
+        byte[] bytes = new byte[l1 + b2.length];
+        System.arraycopy(b1, 0, bytes, 0, l1);
+        System.arraycopy(b2, 0, bytes, l1, b2.length);
+        return bytes;
+    }
+
+    private int readFully(byte[] bytes, int off, int len, boolean eofAllowed) throws IOException {
+        int n = 0;
+        while (n < len) {
+            int r = in.read(bytes, off + n, len - n);
+            if (r == -1) {
+                if (eofAllowed && n == 0) {
+                    return 0;
+                }
+                throw new EOFException("Unexpected end of gzip stream");
+            }
+            n += r;
+        }
+        return n;
+    }
+
+    @Override
+    public void close() throws IOException {
+        for(FutureTask<byte[]> task : pendingBlocks) {
+            task.cancel(false);
+        }
+        pendingBlocks.clear();
+        if (sequentialStream != null) {
+            sequentialStream.close();
+        } else {
+            in.close();
+        }
+    }
+}
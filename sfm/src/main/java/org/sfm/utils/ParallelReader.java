@@ -5,6 +5,15 @@ import java.io.Reader;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Reader that reads the source on another thread into a ring buffer.<p>
+ * The head and tail positions are published in batches of publishBatchSize chars, a side always publishes what
+ * it has before waiting so the other side cannot starve. The waiting is delegated to the {@link WaitingStrategy},
+ * the default yields.
+ * The number of times each side found the buffer full or empty is available
+ * from {@link #getProducerStalls()} and {@link #getConsumerStalls()}.
+ * @see BufferSwappingParallelReader
+ */
 public class ParallelReader extends Reader {
     private static final int DEFAULT_MAX_READ = 8192;
     private static final int DEFAULT_BUFFER_SIZE = 1024 * 32;
@@ -15,6 +24,8 @@ public class ParallelReader extends Reader {
 
     private final int bufferMask;
     private final int maxRead;
+    private final int publishBatchSize;
+    private final WaitingStrategy waitingStrategy;
 
     private AtomicLong tail = new AtomicLong();
     private AtomicLong head = new AtomicLong();
@@ -23,6 +34,12 @@ public class ParallelReader extends Reader {
     private long tailCache;
     private long headCache;
 
+    private long currentHead;
+    private long publishedHead;
+
+    private volatile long producerStalls;
+    private volatile long consumerStalls;
+
     private final long padding;
 
 
@@ -33,26 +50,48 @@ public class ParallelReader extends Reader {
     public ParallelReader(Reader reader, Executor executorService, int bufferSize) {
         this(reader, executorService, bufferSize, DEFAULT_MAX_READ);
     }
+
     public ParallelReader(Reader reader, Executor executorService, int bufferSize, int maxRead) {
+        this(reader, executorService, bufferSize, maxRead, WaitingStrategies.yielding());
+    }
+
+    public ParallelReader(Reader reader, Executor executorService, int bufferSize, int maxRead, WaitingStrategy waitingStrategy) {
+        this(reader, executorService, bufferSize, maxRead, waitingStrategy, -1);
+    }
+
+    /**
+     *
+     * @param reader the source
+     * @param executorService the executor to run the reading on
+     * @param bufferSize the size of the ring buffer, rounded to the next power of 2
+     * @param maxRead the maximum number of chars to read from the source at once
+     * @param waitingStrategy the strategy used by both sides to wait
+     * @param publishBatchSize the number of chars read or consumed before publishing the position, -1 for the default of min(maxRead, bufferSize / 8)
+     */
+    public ParallelReader(Reader reader, Executor executorService, int bufferSize, int maxRead, WaitingStrategy waitingStrategy, int publishBatchSize) {
+        if (waitingStrategy == null) throw new NullPointerException("waitingStrategy");
         int powerOf2 =  1 << 32 - Integer.numberOfLeadingZeros(bufferSize - 1);
         padding = powerOf2 <= 1024 ? 0 : 64;
         this.reader = reader;
         buffer = new char[powerOf2];
         bufferMask = buffer.length - 1;
-        dataProducer = new DataProducer();
-        executorService.execute(dataProducer);
         capacity = buffer.length;
         this.maxRead = maxRead;
+        this.waitingStrategy = waitingStrategy;
+        this.publishBatchSize = publishBatchSize > 0 ? publishBatchSize : Math.max(1, Math.min(maxRead, powerOf2 >> 3));
+        dataProducer = new DataProducer();
+        executorService.execute(dataProducer);
     }
 
     @Override
     public int read(char[] cbuf, int off, int len) throws IOException {
-        final long currentHead = head.get();
+        final long currentHead = this.currentHead;
+        int attempt = 0;
         do {
             if (currentHead < tailCache) {
                 int l = read(cbuf, off, len, currentHead, tailCache);
 
-                head.lazySet(currentHead + l);
+                consumed(currentHead + l);
                 return l;
             }
 
@@ -67,7 +106,7 @@ public class ParallelReader extends Reader {
                         return -1;
                     }
                 }
-                waitingStrategy();
+                consumerIdle(attempt++);
             }
         } while(true);
     }
@@ -75,7 +114,8 @@ public class ParallelReader extends Reader {
     @Override
     public int read() throws IOException {
 
-        final long currentHead = head.get();
+        final long currentHead = this.currentHead;
+        int attempt = 0;
         do {
             if (currentHead < tailCache) {
 
@@ -83,7 +123,7 @@ public class ParallelReader extends Reader {
 
                 char c = buffer[headIndex];
 
-                head.lazySet(currentHead + 1);
+                consumed(currentHead + 1);
 
                 return c;
             }
@@ -99,13 +139,33 @@ public class ParallelReader extends Reader {
                         return -1;
                     }
                 }
-                waitingStrategy();
+                consumerIdle(attempt++);
             }
         } while(true);
     }
 
-    private void waitingStrategy() {
-        Thread.yield();
+    private void consumed(long newHead) {
+        currentHead = newHead;
+        if (newHead - publishedHead >= publishBatchSize) {
+            publishHead(newHead);
+        }
+    }
+
+    private void consumerIdle(int attempt) {
+        if (attempt == 0) {
+            // the producer might be waiting for the space we hold
+            publishHead(currentHead);
+            consumerStalls++;
+        }
+        waitingStrategy.idle(attempt);
+    }
+
+    private void publishHead(long newHead) {
+        if (newHead != publishedHead) {
+            publishedHead = newHead;
+            head.lazySet(newHead);
+            waitingStrategy.signalAll();
+        }
     }
 
     private int read(char[] cbuf, int off, int len, long currentHead, long currentTail) {
@@ -122,6 +182,20 @@ public class ParallelReader extends Reader {
         return block1Length + block2Length;
     }
 
+    /**
+     * @return the number of times the producer found the buffer full and had to wait
+     */
+    public long getProducerStalls() {
+        return producerStalls;
+    }
+
+    /**
+     * @return the number of times the consumer found the buffer empty and had to wait
+     */
+    public long getConsumerStalls() {
+        return consumerStalls;
+    }
+
     @Override
     public void close() throws IOException {
         dataProducer.stop();
@@ -135,6 +209,8 @@ public class ParallelReader extends Reader {
         @Override
         public void run() {
             long currentTail = tail.get();
+            long publishedTail = currentTail;
+            int attempt = 0;
             while(run) {
 
                 final long wrapPoint = currentTail - buffer.length;
@@ -142,27 +218,47 @@ public class ParallelReader extends Reader {
                 if (headCache - padding <= wrapPoint) {
                     headCache = head.get();
                     if (headCache <= wrapPoint) {
-                        waitingStrategy();
+                        if (attempt == 0) {
+                            publishedTail = publishTail(currentTail, publishedTail);
+                            producerStalls++;
+                        }
+                        waitingStrategy.idle(attempt++);
                         continue;
                     }
                 }
+                attempt = 0;
 
                 try {
-                    int r =  read(currentTail, headCache);
+                    int length = length(currentTail, headCache);
+                    int r =  reader.read(buffer, (int) (currentTail & bufferMask), length);
                     if (r == -1) {
+                        publishedTail = publishTail(currentTail, publishedTail);
                         run = false;
                     } else {
                         currentTail += r;
-                        tail.lazySet(currentTail);
+                        // a short read means the source has nothing more for now, do not hold the data back
+                        if (r < length || currentTail - publishedTail >= publishBatchSize) {
+                            publishedTail = publishTail(currentTail, publishedTail);
+                        }
                     }
                 } catch (IOException e) {
+                    publishedTail = publishTail(currentTail, publishedTail);
                     exception = e;
                     run = false;
                 }
             }
+            waitingStrategy.signalAll();
+        }
+
+        private long publishTail(long currentTail, long publishedTail) {
+            if (currentTail != publishedTail) {
+                tail.lazySet(currentTail);
+                waitingStrategy.signalAll();
+            }
+            return currentTail;
         }
 
-        private int read(long currentTail, long currentHead) throws IOException {
+        private int length(long currentTail, long currentHead) {
             long used = currentTail - currentHead;
 
             long length = Math.min(capacity - used, maxRead);
@@ -171,13 +267,12 @@ public class ParallelReader extends Reader {
 
             int endBlock1 = (int) Math.min(tailIndex + length,  capacity);
 
-            int block1Length = endBlock1 - tailIndex;
-
-            return reader.read(buffer, tailIndex, block1Length);
+            return endBlock1 - tailIndex;
         }
 
         public void stop() {
             run = false;
+            waitingStrategy.signalAll();
         }
     }
 }
@@ -0,0 +1,74 @@
+package org.sfm.utils;
+
+/**
+ * Bounded direct-mapped cache of String, used to deduplicate the values of low-cardinality columns.
+ * <p>
+ * The hash is computed over the chars, a hit does not allocate. On a collision the slot is replaced by the new value.
+ * <p>
+ * The cache can be shared between threads, a race can only lose an entry as String are immutable.
+ */
+public final class StringCache {
+
+    private final String[] values;
+    private final int mask;
+
+    /**
+     * @param capacity the max number of values cached, rounded up to a power of 2
+     */
+    public StringCache(int capacity) {
+        int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        this.values = new String[size];
+        this.mask = size - 1;
+    }
+
+    public String intern(char[] chars, int offset, int length) {
+        int h = 0;
+        for(int i = offset; i < offset + length; i++) {
+            h = 31 * h + chars[i];
+        }
+        final int index = spread(h) & mask;
+
+        final String value = values[index];
+        if (value != null && equals(value, chars, offset, length)) {
+            return value;
+        }
+
+        final String newValue = String.valueOf(chars, offset, length);
+        values[index] = newValue;
+        return newValue;
+    }
+
+    public String intern(String str) {
+        if (str == null) return null;
+
+        // same hash as the char[] version as String.hashCode is 31 * h + c
+        final int index = spread(str.hashCode()) & mask;
+
+        final String value = values[index];
+        if (value != null && value.equals(str)) {
+            return value;
+        }
+        values[index] = str;
+        return str;
+    }
+
+    private static boolean equals(String value, char[] chars, int offset, int length) {
+        if (value.length() != length) {
+            return false;
+        }
+        for(int i = 0; i < length; i++) {
+            if (value.charAt(i) != chars[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int spread(int h) {
+        return h ^ (h >>> 16);
+    }
+
+    public int capacity() {
+        return values.length;
+    }
+}
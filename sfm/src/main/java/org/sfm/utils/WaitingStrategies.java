@@ -0,0 +1,162 @@
+package org.sfm.utils;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Factory for {@link WaitingStrategy}.
+ * <ul>
+ *     <li>busySpin: lowest latency, burns a core while waiting</li>
+ *     <li>yielding: give the core to other threads, the ParallelReader default</li>
+ *     <li>parkWithBackoff: spin, yield then park for an increasing time up to a maximum</li>
+ *     <li>blocking: block on a condition until signalled, for when there is fewer cores than busy threads</li>
+ * </ul>
+ */
+public final class WaitingStrategies {
+
+    private static final int SPIN_ATTEMPTS = 100;
+    private static final int YIELD_ATTEMPTS = 200;
+    private static final long DEFAULT_MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private static final WaitingStrategy BUSY_SPIN = new WaitingStrategy() {
+        @Override
+        public void idle(int attempt) {
+        }
+
+        @Override
+        public void signalAll() {
+        }
+
+        @Override
+        public String toString() {
+            return "BusySpin";
+        }
+    };
+
+    private static final WaitingStrategy YIELDING = new WaitingStrategy() {
+        @Override
+        public void idle(int attempt) {
+            Thread.yield();
+        }
+
+        @Override
+        public void signalAll() {
+        }
+
+        @Override
+        public String toString() {
+            return "Yielding";
+        }
+    };
+
+    private WaitingStrategies() {
+    }
+
+    public static WaitingStrategy busySpin() {
+        return BUSY_SPIN;
+    }
+
+    public static WaitingStrategy yielding() {
+        return YIELDING;
+    }
+
+    public static WaitingStrategy parkWithBackoff() {
+        return parkWithBackoff(DEFAULT_MAX_PARK_NANOS);
+    }
+
+    /**
+     * @param maxParkNanos the maximum time to park for
+     * @return a strategy that spins, yields, then parks for an exponentially increasing time capped at maxParkNanos
+     */
+    public static WaitingStrategy parkWithBackoff(long maxParkNanos) {
+        if (maxParkNanos <= 0) throw new IllegalArgumentException("maxParkNanos must be positive");
+        return new ParkWithBackoff(maxParkNanos);
+    }
+
+    /**
+     * the strategy instance must not be shared between unrelated buffers.
+     * @return a strategy that blocks until signalled
+     */
+    public static WaitingStrategy blocking() {
+        return new Blocking(DEFAULT_MAX_PARK_NANOS);
+    }
+
+    private static final class ParkWithBackoff implements WaitingStrategy {
+        private final long maxParkNanos;
+
+        private ParkWithBackoff(long maxParkNanos) {
+            this.maxParkNanos = maxParkNanos;
+        }
+
+        @Override
+        public void idle(int attempt) {
+            if (attempt < SPIN_ATTEMPTS) {
+                return;
+            }
+            if (attempt < YIELD_ATTEMPTS) {
+                Thread.yield();
+                return;
+            }
+            int shift = Math.min(attempt - YIELD_ATTEMPTS, 20);
+            LockSupport.parkNanos(Math.min(maxParkNanos, 1000L << shift));
+        }
+
+        @Override
+        public void signalAll() {
+        }
+
+        @Override
+        public String toString() {
+            return "ParkWithBackoff{maxParkNanos=" + maxParkNanos + "}";
+        }
+    }
+
+    private static final class Blocking implements WaitingStrategy {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition progress = lock.newCondition();
+        private final AtomicInteger waiters = new AtomicInteger();
+        // bound the wait as the condition is checked outside of the lock
+        private final long timeoutNanos;
+
+        private Blocking(long timeoutNanos) {
+            this.timeoutNanos = timeoutNanos;
+        }
+
+        @Override
+        public void idle(int attempt) {
+            lock.lock();
+            try {
+                waiters.incrementAndGet();
+                try {
+                    progress.awaitNanos(timeoutNanos);
+                } finally {
+                    waiters.decrementAndGet();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void signalAll() {
+            if (waiters.get() > 0) {
+                lock.lock();
+                try {
+                    progress.signalAll();
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "Blocking";
+        }
+    }
+}
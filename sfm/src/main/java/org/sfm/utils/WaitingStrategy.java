@@ -0,0 +1,20 @@
+package org.sfm.utils;
+
+/**
+ * How a thread waits for the other side of a single producer single consumer buffer to make progress.<p>
+ * {@link #idle(int)} is called in a loop until the condition is met, the caller always re-checks the condition
+ * after it returns. {@link #signalAll()} is called after progress was published.
+ * Implementations are available in {@link WaitingStrategies}.
+ */
+public interface WaitingStrategy {
+    /**
+     * wait for progress.
+     * @param attempt the number of consecutive calls for the current wait, starts at 0
+     */
+    void idle(int attempt);
+
+    /**
+     * notify the waiting threads that progress was published.
+     */
+    void signalAll();
+}
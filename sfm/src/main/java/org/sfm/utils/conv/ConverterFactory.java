@@ -77,6 +77,9 @@ public class ConverterFactory {
 				if (in instanceof BigInteger) {
 					return new BigDecimal((BigInteger)in);
 				}
+				if (isIntegral(in)) {
+					return BigDecimal.valueOf(in.longValue());
+				}
 				return new BigDecimal(in.doubleValue());
 			}
 			public String toString() { return "NumberToBigDecimal"; }
@@ -94,6 +97,10 @@ public class ConverterFactory {
 		});
 	}
 
+	private static boolean isIntegral(Number in) {
+		return in instanceof Integer || in instanceof Long || in instanceof Short || in instanceof Byte;
+	}
+
 	private static final Map<Class<?>, Converter<CharSequence, ?>> charSequenceConverters  = new HashMap<Class<?>, Converter<CharSequence, ?>>();
 	static {
 		charSequenceConverters.put(Byte.class, new Converter<CharSequence, Byte>() {
@@ -0,0 +1,81 @@
+package org.sfm.csv;
+
+import org.junit.Test;
+import org.sfm.map.columnar.ColumnarBatch;
+import org.sfm.utils.RowHandler;
+
+import java.io.StringReader;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class CsvColumnarMapperTest {
+
+    private static final String CONTENT = "1,1.5,n1,2014-11-18\n2,2.5,n2,2014-11-19\n3,3.5,n3,2014-11-20";
+
+    private final CsvColumnarMapper mapper = CsvMapperFactory.newInstance()
+            .defaultDateFormat("yyyy-MM-dd")
+            .newColumnarBuilder()
+            .addColumn("id", long.class)
+            .addColumn("price", double.class)
+            .addColumn("name", String.class)
+            .addColumn("date", Date.class)
+            .mapper();
+
+    @Test
+    public void testFill() throws Exception {
+        CsvReader reader = CsvParser.reader(CONTENT);
+        ColumnarBatch batch = mapper.newBatch(2);
+
+        assertEquals(2, mapper.fill(reader, batch));
+        assertEquals(1l, batch.getLongs(0)[0]);
+        assertEquals(2l, batch.getLongs(0)[1]);
+        assertEquals(1.5, batch.getDoubles(1)[0], 0.0001);
+        assertEquals(2.5, batch.getDoubles(1)[1], 0.0001);
+        assertEquals("n1", batch.<String>getObjects(2)[0]);
+        assertEquals(new SimpleDateFormat("yyyy-MM-dd").parse("2014-11-19"), batch.<Date>getObjects(3)[1]);
+
+        assertEquals(1, mapper.fill(reader, batch));
+        assertEquals(3l, batch.getLongs(0)[0]);
+        assertEquals("n3", batch.<String>getObjects(2)[0]);
+
+        assertEquals(0, mapper.fill(reader, batch));
+    }
+
+    @Test
+    public void testForEachBatch() throws Exception {
+        final List<double[]> prices = new ArrayList<double[]>();
+        mapper.forEachBatch(new StringReader(CONTENT), mapper.newBatch(2), new RowHandler<ColumnarBatch>() {
+            @Override
+            public void handle(ColumnarBatch batch) throws Exception {
+                prices.add(Arrays.copyOf(batch.getDoubles(1), batch.size()));
+            }
+        });
+
+        assertEquals(2, prices.size());
+        assertArrayEquals(new double[] {1.5, 2.5}, prices.get(0), 0.0001);
+        assertArrayEquals(new double[] {3.5}, prices.get(1), 0.0001);
+    }
+
+    @Test
+    public void testSkipColumnAndMissingCells() throws Exception {
+        CsvColumnarMapper mapper = CsvMapperFactory.newInstance()
+                .newColumnarBuilder()
+                .addColumn("id", long.class)
+                .addColumn("name", 2, String.class)
+                .mapper();
+
+        ColumnarBatch batch = mapper.newBatch(4);
+        mapper.fill(CsvParser.reader("1,x,n1\n2,y,n2\n3"), batch);
+
+        assertEquals(3, batch.size());
+        assertArrayEquals(new long[] {1, 2, 3, 0}, batch.getLongs(0));
+        assertEquals("n2", batch.<String>getObjects(1)[1]);
+        assertEquals("", batch.<String>getObjects(1)[2]);
+    }
+}
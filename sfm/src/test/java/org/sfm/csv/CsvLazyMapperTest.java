@@ -0,0 +1,93 @@
+package org.sfm.csv;
+
+import org.junit.Test;
+import org.sfm.map.MapperBuildingException;
+import org.sfm.utils.ListCollectorHandler;
+import org.sfm.utils.RowHandler;
+
+import java.io.StringReader;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+public class CsvLazyMapperTest {
+
+    private static final String CONTENT = "1,1.5,n1,2014-11-18\n2,xx,n2,2014-11-19\n3,3.5,n3";
+
+    public interface Item {
+        long getId();
+        double getPrice();
+        String getName();
+        Date getDate();
+    }
+
+    private final CsvLazyMapper<Item> mapper = CsvMapperFactory.newInstance()
+            .defaultDateFormat("yyyy-MM-dd")
+            .newLazyBuilder(Item.class)
+            .addMappings("id", "price", "name", "date")
+            .mapper();
+
+    @Test
+    public void testForEach() throws Exception {
+        List<Item> list = mapper.forEach(new StringReader(CONTENT), new ListCollectorHandler<Item>()).getList();
+
+        assertEquals(3, list.size());
+        assertEquals(1l, list.get(0).getId());
+        assertEquals(1.5, list.get(0).getPrice(), 0.0001);
+        assertEquals("n1", list.get(0).getName());
+        assertEquals(new SimpleDateFormat("yyyy-MM-dd").parse("2014-11-18"), list.get(0).getDate());
+
+        assertEquals(3l, list.get(2).getId());
+        assertEquals("n3", list.get(2).getName());
+        assertNull(list.get(2).getDate());
+    }
+
+    @Test
+    public void testPropertiesAreConvertedOnAccessOnly() throws Exception {
+        final List<String> names = new ArrayList<String>();
+        mapper.forEach(new StringReader(CONTENT), new RowHandler<Item>() {
+            @Override
+            public void handle(Item item) throws Exception {
+                if (item.getId() != 3) {
+                    names.add(item.getName());
+                }
+            }
+        });
+        assertEquals(2, names.size());
+
+        List<Item> list = mapper.forEach(new StringReader(CONTENT), new ListCollectorHandler<Item>()).getList();
+        try {
+            list.get(1).getPrice();
+            fail();
+        } catch (NumberFormatException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testSkipUnmappedColumns() throws Exception {
+        CsvLazyMapper<Item> mapper = CsvMapperFactory.newInstance()
+                .newLazyBuilder(Item.class)
+                .addMapping("name", 2)
+                .mapper();
+
+        List<Item> list = mapper.forEach(new StringReader(CONTENT), new ListCollectorHandler<Item>()).getList();
+        assertEquals("n2", list.get(1).getName());
+        assertEquals(0l, list.get(1).getId());
+    }
+
+    @Test
+    public void testFailOnClass() {
+        try {
+            CsvMapperFactory.newInstance().newLazyBuilder(Date.class);
+            fail();
+        } catch (MapperBuildingException e) {
+            // expected
+        }
+    }
+}
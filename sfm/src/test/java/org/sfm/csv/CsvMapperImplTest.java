@@ -1,10 +1,12 @@
 package org.sfm.csv;
 
 import org.junit.Test;
+import org.sfm.beans.DbFinalObject;
 import org.sfm.beans.DbObject;
 import org.sfm.csv.impl.CsvMapperImpl;
 import org.sfm.csv.impl.ParsingException;
 import org.sfm.test.jdbc.DbHelper;
+import org.sfm.utils.ListCollectorHandler;
 import org.sfm.utils.RowHandler;
 
 import java.io.IOException;
@@ -20,6 +22,7 @@ import java.util.stream.Stream;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 
 
 public class CsvMapperImplTest {
@@ -74,6 +77,54 @@ public class CsvMapperImplTest {
 
 	}
 
+	@Test
+	public void testCsvForEachFlyweight()
+			throws IOException, ParseException {
+		CsvMapperBuilder<DbObject> builder = CsvMapperFactory.newInstance().newBuilder(DbObject.class);
+		CsvMapperBuilderTest.addDbObjectFields(builder);
+		CsvMapper<DbObject> mapper = builder.mapper();
+
+		final DbObject target = new DbObject();
+		int i = mapper.forEach(CsvMapperImplTest.dbObjectCsvReader3Lines(), target, new RowHandler<DbObject>() {
+			int i = 0;
+			@Override
+			public void handle(DbObject dbObject) throws Exception {
+				assertSame(target, dbObject);
+				DbHelper.assertDbObjectMapping(i++, dbObject);
+			}
+		}).i;
+
+		assertEquals(3, i);
+	}
+
+	@Test
+	public void testDynamicCsvForEachFlyweight()
+			throws IOException, ParseException {
+		CsvMapper<DbObject> mapper = CsvMapperFactory.newInstance().newMapper(DbObject.class);
+
+		final DbObject target = new DbObject();
+		int i = mapper.forEach(new StringReader("id,name\n1,n1\n2,n2"), target, new RowHandler<DbObject>() {
+			int i = 0;
+			@Override
+			public void handle(DbObject dbObject) throws Exception {
+				assertSame(target, dbObject);
+				i++;
+				assertEquals(i, dbObject.getId());
+				assertEquals("n" + i, dbObject.getName());
+			}
+		}).i;
+
+		assertEquals(2, i);
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testCsvForEachFlyweightFailsOnConstructorOnlyProperty()
+			throws IOException, ParseException {
+		CsvMapper<DbFinalObject> mapper = CsvMapperFactory.newInstance().newMapper(DbFinalObject.class);
+
+		mapper.forEach(new StringReader("id,name\n1,n1"), new DbFinalObject(1, "n", null, null, null, null), new ListCollectorHandler<DbFinalObject>());
+	}
+
 	@Test
 	public void testCsvForEachSkip()
 			throws IOException, ParseException {
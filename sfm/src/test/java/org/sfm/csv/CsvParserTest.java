@@ -1,25 +1,37 @@
 package org.sfm.csv;
 
 import org.junit.Test;
+import org.sfm.beans.DbObject;
 import org.sfm.csv.parser.BufferOverflowException;
 import org.sfm.csv.parser.CellConsumer;
+import org.sfm.csv.parser.StringArrayConsumer;
 import org.sfm.reflect.TypeReference;
 import org.sfm.tuples.*;
+import org.sfm.utils.BufferSwappingParallelReader;
 import org.sfm.utils.CloseableIterator;
 import org.sfm.utils.ListCollectorHandler;
 import org.sfm.utils.Predicate;
 import org.sfm.utils.RowHandler;
+import org.sfm.utils.WaitingStrategies;
 
 import java.io.CharArrayReader;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
 import java.io.Reader;
 import java.io.StringReader;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPOutputStream;
 //IFJAVA8_START
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
@@ -286,6 +298,349 @@ public class CsvParserTest {
 
 		assertArrayEquals(new Object[] { new Tuple2<String, String>("value1", "value2"), new Tuple2<String, String>("value3", null)}, list.toArray());
 	}
+	@Test
+	public void testMultiCharSeparator() throws IOException {
+		String[][] expected = new String[][] {
+				{"a", "b|c", "d"},
+				{"e", "", "f|"},
+				{"g||h", "i", ""}
+		};
+		testMultiChar(CsvParser.separator("||"), "a||b|c||d\ne||||f|\r\n\"g||h\"||i||", expected);
+		testMultiChar(CsvParser.separator("~|~"), "a~|~b|c~|~d\ne~|~~|~f|\r\n\"g||h\"~|~i~|~", expected);
+		assertEquals("~|~", CsvParser.separator("~|~").separatorString());
+		assertEquals(";", CsvParser.separator(";").separatorString());
+		assertEquals(';', CsvParser.separator(";").separator());
+	}
+
+	@Test
+	public void testRecordDelimiter() throws IOException {
+		String[][] expected = new String[][] {
+				{"a", "b\nc"},
+				{"d", "e\r"},
+				{"f", ""}
+		};
+		testMultiChar(CsvParser.recordDelimiter("\u001E"), "a,b\nc\u001Ed,e\r\u001Ef,", expected);
+		testMultiChar(CsvParser.separator("||").recordDelimiter("<>"), "a||b\nc<>d||e\r<>f||<>", expected);
+		testMultiChar(CsvParser.separator('|').recordDelimiter("\r\n"), "a|b\nc\r\nd|e\r\r\nf|", expected);
+	}
+
+	@Test
+	public void testCommentLines() throws IOException {
+		String[][] expected = new String[][] {
+				{"a", "b"},
+				{"#c", "d"},
+				{"e", "f#"}
+		};
+		testMultiChar(CsvParser.comment('#'), "# header comment\na,b\r\n#comment, with separator\r\n\"#c\",d\n#\ne,f#\n#last", expected);
+		testMultiChar(CsvParser.comment('#').separator("::").recordDelimiter("\u001E"), "#x::y\u001Ea::b\u001E\"#c\"::d\u001E#\u001Ee::f#\u001E#last", expected);
+		assertEquals(Character.valueOf('#'), CsvParser.comment('#').comment());
+
+		List<String[]> rows = CsvParser.comment('#').skip(1).reader("#c\nheader\n#c\nvalue").read(new ListCollectorHandler<String[]>()).getList();
+		assertEquals(1, rows.size());
+		assertArrayEquals(new String[] {"value"}, rows.get(0));
+	}
+
+	@Test
+	public void testMultiCharTrimSpaces() throws IOException {
+		testMultiChar(CsvParser.separator("||").trimSpaces(), " a || \"b\" \n", new String[][] { {"a", "b"} });
+	}
+
+	@Test
+	public void testResumeFromPosition() throws IOException {
+		String content = "a,\"b\nc\"\r\nd,e\n\n\"f\"\"\",g\rh,i\r\n\r\nj,k";
+		testResume(CsvParser.dsl(), content);
+		testResume(CsvParser.separator(';'), content.replace(',', ';'));
+		testResume(CsvParser.dsl().trimSpaces(), content);
+		testResume(CsvParser.comment('#'), "#c\r\n" + content + "\n#c");
+		testResume(CsvParser.separator("||").recordDelimiter("<>"), "a||b<>c||\"d<>\"<><>e||f");
+
+		StringBuilder sb = new StringBuilder();
+		for(int i = 0; i < 200; i++) {
+			sb.append("v").append(i).append(",\"x\r\n").append(i).append("\"").append(i % 2 == 0 ? "\r\n" : "\n");
+		}
+		String largeContent = sb.toString();
+		CsvReader reader = CsvParser.trackPosition().reader(largeContent);
+		reader.skipRows(150);
+		CsvPosition position = reader.position();
+		ExecutorService executorService = Executors.newFixedThreadPool(1);
+		try {
+			BufferSwappingParallelReader parallelReader = new BufferSwappingParallelReader(new StringReader(largeContent), executorService, 64, 8, 2, WaitingStrategies.yielding());
+			List<String[]> rows = CsvParser.resumeFrom(position).reader(parallelReader).read(new ListCollectorHandler<String[]>()).getList();
+			assertEquals(50, rows.size());
+			assertArrayEquals(new String[] {"v150", "x\r\n150"}, rows.get(0));
+		} finally {
+			executorService.shutdown();
+		}
+	}
+
+	private void testResume(CsvParser.DSL dsl, String content) throws IOException {
+		List<String[]> rows = new ArrayList<String[]>();
+		List<CsvPosition> positions = new ArrayList<CsvPosition>();
+		CsvReader reader = dsl.trackPosition().bufferSize(4).reader(new OneCharReader(content));
+		positions.add(reader.position());
+		Iterator<String[]> iterator = reader.iterator();
+		while(iterator.hasNext()) {
+			rows.add(iterator.next());
+			positions.add(reader.position());
+		}
+		assertEquals(rows.size(), reader.position().getRow());
+
+		for(int i = 0; i < positions.size(); i++) {
+			CsvPosition position = positions.get(i);
+			assertEquals(i, position.getRow());
+			String[][] expected = rows.subList(i, rows.size()).toArray(new String[0][]);
+			assertRows(expected, dsl.resumeFrom(position).reader(content).read(new ListCollectorHandler<String[]>()).getList());
+			assertRows(expected, dsl.resumeFrom(position).bufferSize(4).reader(new OneCharReader(content)).read(new ListCollectorHandler<String[]>()).getList());
+		}
+	}
+
+	@Test
+	public void testPositionInParseAllCallback() throws IOException {
+		String content = "a,b\r\nc,d\ne,f";
+		final List<CsvPosition> positions = new ArrayList<CsvPosition>();
+		final CsvReader reader = CsvParser.trackPosition().bufferSize(4).reader(new OneCharReader(content));
+		reader.parseAll(new CellConsumer() {
+			@Override
+			public void newCell(char[] chars, int offset, int length) {
+			}
+
+			@Override
+			public void endOfRow() {
+				positions.add(reader.position());
+			}
+
+			@Override
+			public void end() {
+			}
+		});
+		assertEquals(2, positions.size());
+		assertEquals(new CsvPosition(1, 4), positions.get(0));
+		assertEquals(new CsvPosition(2, 9), positions.get(1));
+		assertEquals(new CsvPosition(3, 12), reader.position());
+
+		List<String[]> rows = CsvParser.resumeFrom(positions.get(0)).reader(content).read(new ListCollectorHandler<String[]>()).getList();
+		assertRows(new String[][] {{"c", "d"}, {"e", "f"}}, rows);
+	}
+
+	@Test
+	public void testResumeMapToRestoresHeaders() throws IOException {
+		String content = "id,name\n1,a\n2,b\n3,c";
+		CsvReader reader = CsvParser.trackPosition().reader(content);
+		reader.skipRows(2);
+		CsvPosition position = reader.position();
+
+		List<DbObject> list = CsvParser.resumeFrom(position).mapTo(DbObject.class).forEach(content, new ListCollectorHandler<DbObject>()).getList();
+		assertEquals(2, list.size());
+		assertEquals(2, list.get(0).getId());
+		assertEquals("c", list.get(1).getName());
+
+		Iterator<DbObject> iterator = CsvParser.resumeFrom(position).mapTo(DbObject.class).iterator(new OneCharReader(content));
+		assertEquals("b", iterator.next().getName());
+
+		list = CsvParser.resumeFrom(position).mapTo(DbObject.class).overrideHeaders("id", "email").forEach(content, new ListCollectorHandler<DbObject>()).getList();
+		assertEquals(2, list.size());
+		assertEquals("b", list.get(0).getEmail());
+	}
+
+	@Test
+	public void testPositionNotTracked() throws IOException {
+		try {
+			CsvParser.reader("a").position();
+			fail();
+		} catch (IllegalStateException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void testPushParserChunks() throws IOException {
+		String content = "cell1,cell2,\n\"cell\r\"\"value\"\"\",val2\r\nval3\r\nval4,";
+		CsvParser.DSL[] dsls = { CsvParser.bufferSize(4), CsvParser.bufferSize(4).separator('|').trimSpaces(), CsvParser.bufferSize(4).comment('#') };
+		for(CsvParser.DSL dsl : dsls) {
+			String dslContent = dsl.separator() == '|' ? content.replace(',', '|') : content;
+			for(int chunkSize = 1; chunkSize <= dslContent.length(); chunkSize++) {
+				CsvPushParser<StringArrayConsumer<ListCollectorHandler<String[]>>> parser =
+						dsl.pushParser(StringArrayConsumer.newInstance(new ListCollectorHandler<String[]>()));
+				char[] chars = dslContent.toCharArray();
+				for(int i = 0; i < chars.length; i += chunkSize) {
+					parser.feed(chars, i, Math.min(chunkSize, chars.length - i));
+				}
+				assertRows(SAMPLE_CSV_MIX_EXPECTATION, parser.endOfInput().handler().getList());
+			}
+		}
+	}
+
+	@Test
+	public void testPushParserBytesSplitInChar() throws IOException {
+		byte[] bytes = "id,name\n1,\"é€\n\"\n2,b".getBytes("UTF-8");
+		for(int chunkSize = 1; chunkSize <= bytes.length; chunkSize++) {
+			CsvPushParser<StringArrayConsumer<ListCollectorHandler<String[]>>> parser =
+					CsvParser.skip(1).pushParser(StringArrayConsumer.newInstance(new ListCollectorHandler<String[]>()), Charset.forName("UTF-8"));
+			for(int i = 0; i < bytes.length; i += chunkSize) {
+				parser.feed(ByteBuffer.wrap(bytes, i, Math.min(chunkSize, bytes.length - i)));
+			}
+			assertRows(new String[][] {{"1", "é€\n"}, {"2", "b"}}, parser.endOfInput().handler().getList());
+		}
+	}
+
+	@Test
+	public void testPushParserMapTo() throws IOException {
+		ListCollectorHandler<DbObject> handler = new ListCollectorHandler<DbObject>();
+		CsvPushParser<CellConsumer> parser = CsvParser.bufferSize(4).mapTo(DbObject.class).pushParser(handler);
+		parser.feed("id,na").feed("me\n1,a\n2").feed(",b");
+		assertEquals(1, handler.getList().size());
+		parser.endOfInput();
+		assertEquals(2, handler.getList().size());
+		assertEquals("a", handler.getList().get(0).getName());
+		assertEquals(2, handler.getList().get(1).getId());
+
+		handler = new ListCollectorHandler<DbObject>();
+		CsvParser.skip(1).mapTo(DbObject.class).headers("id", "name").pushParser(handler).feed("header\n3,c\n").endOfInput();
+		assertEquals(1, handler.getList().size());
+		assertEquals("c", handler.getList().get(0).getName());
+
+		try {
+			parser.feed("3,c");
+			fail();
+		} catch (IllegalStateException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void testPushParserMaxBufferSize() throws IOException {
+		CsvPushParser<CellConsumer> parser = CsvParser.bufferSize(4).maxBufferSize(8).pushParser(new CellConsumer() {
+			@Override
+			public void newCell(char[] chars, int offset, int length) {
+			}
+
+			@Override
+			public void endOfRow() {
+			}
+
+			@Override
+			public void end() {
+			}
+		});
+		parser.feed("1234567\n1234567\n");
+		try {
+			parser.feed("123456789");
+			fail();
+		} catch (BufferOverflowException e) {
+			// expected
+		}
+	}
+
+	private void testMultiChar(CsvParser.DSL dsl, String content, String[][] expected) throws IOException {
+		assertRows(expected, dsl.reader(content).read(new ListCollectorHandler<String[]>()).getList());
+
+		// one char at a time to have the tokens straddle the buffer
+		assertRows(expected, dsl.bufferSize(4).reader(new OneCharReader(content)).read(new ListCollectorHandler<String[]>()).getList());
+
+		List<String[]> rows = new ArrayList<String[]>();
+		for(String[] row : dsl.bufferSize(4).reader(new OneCharReader(content))) {
+			rows.add(row);
+		}
+		assertRows(expected, rows);
+	}
+
+	private void assertRows(String[][] expected, List<String[]> rows) {
+		assertEquals(expected.length, rows.size());
+		for(int i = 0; i < expected.length; i++) {
+			assertArrayEquals(expected[i], rows.get(i));
+		}
+	}
+
+	private static class OneCharReader extends Reader {
+		private final Reader reader;
+
+		private OneCharReader(String content) {
+			this.reader = new StringReader(content);
+		}
+
+		@Override
+		public int read(char[] cbuf, int off, int len) throws IOException {
+			return reader.read(cbuf, off, Math.min(len, 1));
+		}
+
+		@Override
+		public void close() throws IOException {
+			reader.close();
+		}
+	}
+
+	@Test
+	public void testDSLBufferSwappingParallelReader() throws IOException {
+		StringBuilder sb = new StringBuilder();
+		for(int i = 0; i < 500; i++) {
+			sb.append("v").append(i).append(",\"quoted \"\"").append(i).append("\"\",");
+			for(int j = 0; j < i % 50; j++) {
+				sb.append('x');
+			}
+			sb.append(i % 3 == 0 ? "\r\n" : "\n");
+		}
+		String content = sb.toString();
+
+		List<String[]> expected = new ArrayList<String[]>();
+		for(String[] row : CsvParser.reader(content)) {
+			expected.add(row);
+		}
+
+		ExecutorService executorService = Executors.newFixedThreadPool(2);
+		try {
+			int[][] chunkConfigs = new int[][] { {16, 4, 2}, {64, 16, 4}, {8192, 2048, 4} };
+			for(int[] config : chunkConfigs) {
+				BufferSwappingParallelReader reader = new BufferSwappingParallelReader(new StringReader(content), executorService,
+						config[0], config[1], config[2], WaitingStrategies.yielding());
+				try {
+					List<String[]> rows = new ArrayList<String[]>();
+					for(String[] row : CsvParser.reader(reader)) {
+						rows.add(row);
+					}
+					assertEquals(expected.size(), rows.size());
+					for(int i = 0; i < expected.size(); i++) {
+						assertArrayEquals(expected.get(i), rows.get(i));
+					}
+				} finally {
+					reader.close();
+				}
+			}
+		} finally {
+			executorService.shutdown();
+		}
+	}
+
+	@Test
+	public void testDSLGzipFile() throws IOException {
+		StringBuilder sb = new StringBuilder();
+		for(int i = 0; i < 1000; i++) {
+			sb.append("value").append(i).append(",").append(i).append("\n");
+		}
+		File file = createTempGzipCsv(sb.toString());
+
+		List<Tuple2<String, Integer>> list = CsvParser.mapTo(String.class, Integer.class)
+				.headers("0", "1").forEach(file, new ListCollectorHandler<Tuple2<String, Integer>>()).getList();
+		assertEquals(1000, list.size());
+		assertEquals(new Tuple2<String, Integer>("value999", 999), list.get(999));
+
+		ExecutorService executorService = Executors.newFixedThreadPool(2);
+		try {
+			CloseableCsvReader reader = CsvParser.parallelDecompression(executorService).reader(file);
+			try {
+				int i = 0;
+				for(String[] row : reader) {
+					assertArrayEquals(new String[] {"value" + i, String.valueOf(i)}, row);
+					i++;
+				}
+				assertEquals(1000, i);
+			} finally {
+				reader.close();
+			}
+		} finally {
+			executorService.shutdown();
+		}
+	}
+
 	@Test
 	public void testDSLMapToForEachFromString() throws IOException {
 		List<Tuple2<String, String>> list = CsvParser.mapTo(String.class, String.class)
@@ -862,4 +1217,16 @@ public class CsvParserTest {
 		assertArrayEquals(new Object[][] {{"", ""}}, toObjects(CsvParser.separator('|').reader("|")));
 		assertArrayEquals(new Object[][] {{"", ""}}, toObjects(CsvParser.dsl().trimSpaces().reader(",")));
 	}
+	private File createTempGzipCsv(String str) throws IOException {
+		File file = File.createTempFile("test", ".csv.gz");
+		file.deleteOnExit();
+
+		Writer writer = new OutputStreamWriter(new GZIPOutputStream(new FileOutputStream(file)));
+		try {
+			writer.write(str);
+		} finally {
+			writer.close();
+		}
+		return file;
+	}
 }
@@ -0,0 +1,92 @@
+package org.sfm.csv;
+
+import org.junit.Test;
+import org.sfm.utils.RowHandler;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class CsvRowConsumerTest {
+
+    @Test
+    public void testNewCell() throws Exception {
+        final List<String> values = new ArrayList<String>();
+        CsvRowConsumer<RowHandler<CsvRow>> consumer = CsvRowConsumer.newInstance(new RowHandler<CsvRow>() {
+            @Override
+            public void handle(CsvRow row) throws Exception {
+                assertEquals(20, row.getNbCells());
+                for(int i = 0; i < row.getNbCells(); i++) {
+                    assertEquals(i, row.getInt(i));
+                    values.add(row.getCharSequence(i).toString());
+                }
+            }
+        });
+        for(int i = 0; i < 20; i ++) {
+            char[] chars = ("x" + Integer.toString(i) + "x").toCharArray();
+            consumer.newCell(chars, 1 , chars.length - 2);
+        }
+
+        consumer.end();
+
+        assertEquals(20, values.size());
+        for(int i = 0; i < 20; i ++) {
+            assertEquals(Integer.toString(i), values.get(i));
+        }
+    }
+
+    @Test
+    public void testReadRowsAcrossBufferRefills() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        for(int i = 0; i < 100; i++) {
+            sb.append("name").append(i).append(",").append(i).append(",").append(i * 1000000000l).append(",").append(i).append(".5,\"q,").append(i).append("\"\n");
+        }
+
+        final List<CsvRow> rows = new ArrayList<CsvRow>();
+        final int[] count = new int[1];
+        CsvParser.bufferSize(8).reader(new StringReader(sb.toString())).readRows(new RowHandler<CsvRow>() {
+            @Override
+            public void handle(CsvRow row) throws Exception {
+                int i = count[0]++;
+                assertEquals(5, row.getNbCells());
+                assertTrue(row.getCharSequence(0).toString().contentEquals("name" + i));
+                assertEquals("name" + i, row.getString(0));
+                assertEquals(i, row.getInt(1));
+                assertEquals(i * 1000000000l, row.getLong(2));
+                assertEquals(i + 0.5, row.getDouble(3), 0.0001);
+                assertEquals("q," + i, row.getString(4));
+                rows.add(row);
+            }
+        });
+
+        assertEquals(100, count[0]);
+        assertSame(rows.get(0), rows.get(99));
+    }
+
+    @Test
+    public void testCharSequence() throws IOException {
+        CsvParser.reader("abc,,d").readRows(new RowHandler<CsvRow>() {
+            @Override
+            public void handle(CsvRow row) throws Exception {
+                assertEquals(3, row.getNbCells());
+                CharSequence cs = row.getCharSequence(0);
+                assertEquals(3, cs.length());
+                assertEquals('b', cs.charAt(1));
+                assertEquals("bc", cs.subSequence(1, 3));
+                assertSame(cs, row.getCharSequence(0));
+                assertTrue(row.isEmpty(1));
+                assertEquals("d", row.getString(2));
+                assertEquals("CsvRow{abc, , d}", row.toString());
+                try {
+                    row.getString(3);
+                    fail();
+                } catch (IndexOutOfBoundsException e) {
+                    // expected
+                }
+            }
+        }, 1);
+    }
+}
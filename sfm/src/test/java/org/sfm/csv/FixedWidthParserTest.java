@@ -0,0 +1,208 @@
+package org.sfm.csv;
+
+import org.junit.Test;
+import org.sfm.beans.DbObject;
+import org.sfm.csv.parser.CellConsumer;
+import org.sfm.utils.ListHandler;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class FixedWidthParserTest {
+
+    private static final FixedWidthParser.DSL LAYOUT =
+            FixedWidthParser
+                    .column("id", 0, 5)
+                    .column("name", 5, 10)
+                    .column(new FixedWidthColumn("email", 16, 8).padChar('_').rightAligned());
+
+    @Test
+    public void testParseLines() throws IOException {
+        String content = "00013name       ___email\r\n" +
+                "14   n2         ______e2\n" +
+                "15   n3";
+        List<String[]> rows = toList(LAYOUT.iterator(content));
+        assertEquals(3, rows.size());
+        assertArrayEquals(new String[] {"00013", "name", "email"}, rows.get(0));
+        assertArrayEquals(new String[] {"14", "n2", "e2"}, rows.get(1));
+        assertArrayEquals(new String[] {"15", "n3", ""}, rows.get(2));
+
+        List<String[]> oneCharRows = toList(LAYOUT.bufferSize(4).iterator(new OneCharReader(content)));
+        assertEquals(3, oneCharRows.size());
+        for(int i = 0; i < rows.size(); i++) {
+            assertArrayEquals(rows.get(i), oneCharRows.get(i));
+        }
+    }
+
+    @Test
+    public void testParseAll() throws IOException {
+        final List<String> cells = new ArrayList<String>();
+        final int[] rows = new int[1];
+        LAYOUT.skip(1).parse(new StringReader("header\n1    a\n2    b\n"), new CellConsumer() {
+            @Override
+            public void newCell(char[] chars, int offset, int length) {
+                cells.add(new String(chars, offset, length));
+            }
+
+            @Override
+            public void endOfRow() {
+                rows[0]++;
+            }
+
+            @Override
+            public void end() {
+            }
+        });
+        assertEquals(2, rows[0]);
+        assertEquals(6, cells.size());
+        assertEquals("1", cells.get(0));
+        assertEquals("b", cells.get(4));
+    }
+
+    @Test
+    public void testRecordLengthNoDelimiter() throws IOException {
+        FixedWidthParser.DSL dsl = FixedWidthParser.widths(2, 3).recordLength(6);
+        String content = "01abc|02def|03g";
+        List<String[]> rows = toList(dsl.iterator(content));
+        assertEquals(3, rows.size());
+        assertArrayEquals(new String[] {"01", "abc"}, rows.get(0));
+        assertArrayEquals(new String[] {"02", "def"}, rows.get(1));
+        assertArrayEquals(new String[] {"03", "g"}, rows.get(2));
+
+        List<String[]> oneCharRows = toList(dsl.bufferSize(4).iterator(new OneCharReader(content)));
+        assertEquals(3, oneCharRows.size());
+        assertArrayEquals(new String[] {"03", "g"}, oneCharRows.get(2));
+    }
+
+    @Test
+    public void testNoPadding() throws IOException {
+        List<String[]> rows = toList(FixedWidthParser.column(new FixedWidthColumn("a", 0, 4).noPadding()).column("b", 4, 4).iterator(" a   b  "));
+        assertArrayEquals(new String[] {" a  ", " b"}, rows.get(0));
+    }
+
+    @Test
+    public void testMapTo() throws IOException {
+        List<DbObject> list = LAYOUT.mapTo(DbObject.class).forEach("00013name       ___email\n14   n2         ______e2", new ListHandler<DbObject>()).getList();
+        assertEquals(2, list.size());
+        assertEquals(13, list.get(0).getId());
+        assertEquals("name", list.get(0).getName());
+        assertEquals("email", list.get(0).getEmail());
+        assertEquals(14, list.get(1).getId());
+        assertEquals("e2", list.get(1).getEmail());
+
+        Iterator<DbObject> iterator = LAYOUT.limit(1).mapTo(DbObject.class).iterator(new StringReader("00013name"));
+        assertEquals("name", iterator.next().getName());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void testWriteThenRead() throws Exception {
+        StringBuilder sb = new StringBuilder();
+        DbObject dbObject = CsvWriterTest.newDbObject();
+        FixedWidthWriter.from(DbObject.class).columns(LAYOUT.columns()).endOfLine("\n").to(sb).append(dbObject).append(dbObject);
+        List<DbObject> list = LAYOUT.mapTo(DbObject.class).forEach(sb.toString(), new ListHandler<DbObject>()).getList();
+        assertEquals(2, list.size());
+        assertEquals(dbObject.getId(), list.get(1).getId());
+        assertEquals(dbObject.getName(), list.get(1).getName());
+        assertEquals(dbObject.getEmail(), list.get(1).getEmail());
+    }
+
+    @Test
+    public void testZeroPaddedZero() throws IOException {
+        FixedWidthParser.DSL dsl = FixedWidthParser.column("code", 0, 3).column(new FixedWidthColumn("amount", 3, 5).padChar('0').rightAligned());
+        assertArrayEquals(new String[] {"abc", "0"}, dsl.iterator("abc00000").next());
+        assertArrayEquals(new String[] {"abc", "120"}, dsl.iterator("abc00120").next());
+
+        List<String[]> rows = toList(FixedWidthParser.column(new FixedWidthColumn("a", 0, 3).padChar('_')).column("b", 3, 3).iterator("___   "));
+        assertArrayEquals(new String[] {"_", ""}, rows.get(0));
+    }
+
+    @Test
+    public void testMapToZeroPaddedZero() throws IOException {
+        Amount amount = FixedWidthParser.column("code", 0, 3).column(new FixedWidthColumn("amount", 3, 5).padChar('0').rightAligned())
+                .mapTo(Amount.class).iterator(new StringReader("abc00000")).next();
+        assertEquals("abc", amount.getCode());
+        assertEquals(Long.valueOf(0), amount.getAmount());
+    }
+
+    @Test
+    public void testWriteThenReadZero() throws Exception {
+        FixedWidthColumn[] columns = { new FixedWidthColumn("code", 0, 3), new FixedWidthColumn("amount", 3, 5).padChar('0').rightAligned() };
+        Amount amount = new Amount();
+        amount.setCode("abc");
+        amount.setAmount(0l);
+        StringBuilder sb = new StringBuilder();
+        FixedWidthWriter.from(Amount.class).columns(columns).endOfLine("\n").to(sb).append(amount);
+        assertEquals("abc00000\n", sb.toString());
+
+        Amount read = FixedWidthParser.column(columns[0]).column(columns[1]).mapTo(Amount.class).iterator(sb.toString()).next();
+        assertEquals(Long.valueOf(0), read.getAmount());
+    }
+
+    @Test
+    public void testFailOnNoColumn() throws IOException {
+        try {
+            FixedWidthParser.dsl().reader("a");
+            fail();
+        } catch (IllegalStateException e) {
+            // expected
+        }
+    }
+
+    public static class Amount {
+        private String code;
+        private Long amount;
+
+        public String getCode() {
+            return code;
+        }
+
+        public void setCode(String code) {
+            this.code = code;
+        }
+
+        public Long getAmount() {
+            return amount;
+        }
+
+        public void setAmount(Long amount) {
+            this.amount = amount;
+        }
+    }
+
+    private static List<String[]> toList(Iterator<String[]> iterator) {
+        List<String[]> list = new ArrayList<String[]>();
+        while(iterator.hasNext()) {
+            list.add(iterator.next());
+        }
+        return list;
+    }
+
+    private static class OneCharReader extends Reader {
+        private final String content;
+        private int index;
+
+        private OneCharReader(String content) {
+            this.content = content;
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) throws IOException {
+            if (index >= content.length()) {
+                return -1;
+            }
+            cbuf[off] = content.charAt(index++);
+            return 1;
+        }
+
+        @Override
+        public void close() throws IOException {
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package org.sfm.csv;
+
+import org.junit.Test;
+import org.sfm.beans.DbObject;
+import org.sfm.map.column.DateFormatProperty;
+
+import java.io.StringWriter;
+
+import static org.junit.Assert.*;
+
+public class FixedWidthWriterTest {
+
+    @Test
+    public void testWriteColumns() throws Exception {
+        StringWriter sw = new StringWriter();
+        FixedWidthWriter
+                .from(DbObject.class)
+                .column(new FixedWidthColumn("id", 0, 5).padChar('0').rightAligned())
+                .column("name", 6)
+                .column(new FixedWidthColumn("email", 12, 7))
+                .column("creation_time", 10, new DateFormatProperty("dd/MM/yyyy"))
+                .to(sw)
+                .append(CsvWriterTest.newDbObject());
+        assertEquals("00013name   email  06/06/2015\r\n", sw.toString());
+    }
+
+    @Test
+    public void testWriteNullAndNoDelimiter() throws Exception {
+        StringWriter sw = new StringWriter();
+        DbObject dbObject = CsvWriterTest.newDbObject();
+        dbObject.setName(null);
+        FixedWidthWriter.from(DbObject.class).column("id", 3).column("name", 4).endOfLine("").to(sw).append(dbObject).append(dbObject);
+        assertEquals("13     13     ", sw.toString());
+    }
+
+    @Test
+    public void testFailOnValueTooLong() throws Exception {
+        try {
+            FixedWidthWriter.from(DbObject.class).column("name", 2).to(new StringWriter()).append(CsvWriterTest.newDbObject());
+            fail();
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testFailOnOverlappingColumns() throws Exception {
+        try {
+            FixedWidthWriter.from(DbObject.class).column("id", 3).column(new FixedWidthColumn("name", 2, 4));
+            fail();
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testFailOnNoColumn() throws Exception {
+        try {
+            FixedWidthWriter.from(DbObject.class).to(new StringWriter());
+            fail();
+        } catch (IllegalStateException e) {
+            // expected
+        }
+    }
+}
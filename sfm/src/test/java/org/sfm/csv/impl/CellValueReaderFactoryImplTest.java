@@ -10,6 +10,7 @@ import org.junit.Test;
 import org.sfm.csv.CellValueReader;
 import org.sfm.csv.CsvColumnDefinition;
 import org.sfm.csv.ParsingContextFactoryBuilder;
+import org.sfm.csv.impl.cellreader.InternStringCellValueReader;
 
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
@@ -26,12 +27,23 @@ import org.sfm.map.column.joda.JodaDateTimeFormatterProperty;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 public class CellValueReaderFactoryImplTest {
 
 
     private final CellValueReaderFactoryImpl cellValueReaderFactory = new CellValueReaderFactoryImpl();
 
+    @Test
+    public void testInternStringReader() {
+        CellValueReader<String> reader = cellValueReaderFactory.getReader(String.class, 1, CsvColumnDefinition.internStringDefinition(), null);
+        assertTrue(reader instanceof InternStringCellValueReader);
+
+        char[] chars = "EUR,EUR".toCharArray();
+        assertSame(reader.read(chars, 0, 3, null), reader.read(chars, 4, 3, null));
+    }
+
     @Test
     public void testDoesNotReaderAReaderForJavaSqlDate() {
         assertNull(cellValueReaderFactory.getReader(java.sql.Date.class, 1, null, null));
@@ -0,0 +1,52 @@
+package org.sfm.csv.impl.cellreader;
+
+import org.junit.Test;
+import org.sfm.beans.DbObject;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+public class EnumCellValueReaderTest {
+
+	EnumCellValueReader<DbObject.Type> reader = new EnumCellValueReader<DbObject.Type>(DbObject.Type.class);
+
+	@Test
+	public void testReadByOrdinalAndName() {
+		assertEquals(DbObject.Type.type2, read("1"));
+		assertEquals(DbObject.Type.type3, read("type3"));
+		assertEquals(DbObject.Type.type4, read(" type4 ", 1, 5));
+	}
+
+	@Test
+	public void testReadUnknownName() {
+		try {
+			read("type9");
+			fail();
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void testLookupWithCollisions() {
+		// "Aa" and "BB" have the same hashCode
+		EnumNameLookup<Colliding> lookup = new EnumNameLookup<Colliding>(Colliding.values());
+		assertEquals(Colliding.Aa, lookup.lookup("Aa".toCharArray(), 0, 2));
+		assertEquals(Colliding.BB, lookup.lookup("BB".toCharArray(), 0, 2));
+		assertEquals(Colliding.C, lookup.lookup("C".toCharArray(), 0, 1));
+		assertNull(lookup.lookup("D".toCharArray(), 0, 1));
+	}
+
+	private DbObject.Type read(String str) {
+		return read(str, 0, str.length());
+	}
+
+	private DbObject.Type read(String str, int offset, int length) {
+		return reader.read(str.toCharArray(), offset, length, null);
+	}
+
+	enum Colliding {
+		Aa, BB, C
+	}
+}
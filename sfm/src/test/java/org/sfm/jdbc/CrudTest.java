@@ -288,6 +288,48 @@ public class CrudTest {
         }
     }
 
+    @Test
+    public void testChunkedCreateAndUpdate() throws SQLException {
+        Connection connection = DbHelper.getDbConnection(targetDB);
+        if (connection == null) { System.err.println("Db " + targetDB + " not available"); return; }
+        try {
+            Crud<DbObject, Long> objectCrud =
+                    JdbcMapperFactory.newInstance().<DbObject, Long>crud(DbObject.class, Long.class).table(connection, "TEST_DB_OBJECT");
+
+            List<DbObject> values = new ArrayList<DbObject>();
+            List<Long> keys = new ArrayList<Long>();
+            for(int i = 0; i < 10; i++) {
+                DbObject value = DbObject.newInstance();
+                values.add(value);
+                keys.add(value.getId());
+            }
+
+            final List<Long> progress = new ArrayList<Long>();
+            RowHandler<Long> progressHandler = new RowHandler<Long>() {
+                @Override
+                public void handle(Long count) throws Exception {
+                    progress.add(count);
+                }
+            };
+
+            assertEquals(10, objectCrud.create(connection, values.iterator(), 3, false, progressHandler));
+            assertEquals(Arrays.asList(3l, 6l, 9l, 10l), progress);
+            assertCollectionEquals(values, objectCrud.read(connection, keys, new ListCollectorHandler<DbObject>()).getList());
+
+            for(DbObject value : values) {
+                value.setName("chunked");
+            }
+            progress.clear();
+            assertEquals(10, objectCrud.update(connection, values.iterator(), 5, false, progressHandler));
+            assertEquals(Arrays.asList(5l, 10l), progress);
+            assertCollectionEquals(values, objectCrud.read(connection, keys, new ListCollectorHandler<DbObject>()).getList());
+
+            objectCrud.delete(connection, keys);
+        } finally {
+            connection.close();
+        }
+    }
+
     private void assertCollectionEquals(List<DbObject> objects, List<DbObject> list) {
         assertEquals(objects.size(), list.size());
 
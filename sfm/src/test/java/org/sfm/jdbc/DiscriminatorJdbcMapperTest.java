@@ -10,6 +10,7 @@ import org.sfm.utils.ListCollectorHandler;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
@@ -30,6 +31,8 @@ import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyInt;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class DiscriminatorJdbcMapperTest {
@@ -73,6 +76,62 @@ public class DiscriminatorJdbcMapperTest {
 
     }
 
+    @Test
+    public void testIntegerDiscriminatorIsReadAsLong() throws Exception {
+        JdbcMapper<JoinTest.Person> mapper =
+                JdbcMapperFactoryHelper.noAsm()
+                        .<JoinTest.Person>newDiscriminator("person_type")
+                        .when("1", JoinTest.StudentGS.class)
+                        .when("2", JoinTest.ProfessorGS.class)
+                        .mapper();
+
+        List<JoinTest.Person> persons = mapper.forEach(setUpIntegerDiscriminatorResultSetMock(), new ListCollectorHandler<JoinTest.Person>()).getList();
+        assertEquals(2, persons.size());
+        assertTrue(persons.get(0) instanceof JoinTest.ProfessorGS);
+        assertPersonEquals(1, "professor1", persons.get(0));
+        assertTrue(persons.get(1) instanceof JoinTest.StudentGS);
+        assertPersonEquals(2, "student2", persons.get(1));
+
+        ResultSet rs = setUpIntegerDiscriminatorResultSetMock();
+        rs.next();
+        assertTrue(mapper.map(rs) instanceof JoinTest.ProfessorGS);
+
+        verify(rs, never()).getString("person_type");
+        verify(rs, never()).getString(1);
+    }
+
+    @Test
+    public void testDiscriminatorColumnResolvedPerMetaData() throws Exception {
+        JdbcMapper<JoinTest.Person> mapper =
+                JdbcMapperFactoryHelper.noAsm()
+                        .<JoinTest.Person>newDiscriminator("person_type")
+                        .when("1", JoinTest.StudentGS.class)
+                        .when("2", JoinTest.ProfessorGS.class)
+                        .mapper();
+
+        ResultSet first = singleRowResultSet(new String[] {"person_type", "id", "name"}, new int[] { Types.INTEGER, Types.INTEGER, Types.VARCHAR});
+        when(first.getLong(1)).thenReturn(1l);
+        ResultSet second = singleRowResultSet(new String[] {"id", "name", "person_type"}, new int[] { Types.INTEGER, Types.VARCHAR, Types.VARCHAR});
+        when(second.getString(3)).thenReturn("2");
+
+        for(int i = 0; i < 2; i++) {
+            assertTrue(mapper.map(first) instanceof JoinTest.StudentGS);
+            assertTrue(mapper.map(second) instanceof JoinTest.ProfessorGS);
+        }
+    }
+
+    private ResultSet singleRowResultSet(final String[] columns, final int[] types) throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(metaData.getColumnCount()).thenReturn(columns.length);
+        for(int i = 0; i < columns.length; i++) {
+            when(metaData.getColumnLabel(i + 1)).thenReturn(columns[i]);
+            when(metaData.getColumnType(i + 1)).thenReturn(types[i]);
+        }
+        when(rs.getMetaData()).thenReturn(metaData);
+        return rs;
+    }
+
     @Test
     public void testJoinTableCNoAsmMultiThread() throws Exception {
         ExecutorService executor = Executors.newFixedThreadPool(4);
@@ -188,6 +247,68 @@ public class DiscriminatorJdbcMapperTest {
         assertEquals(id, person.getId());
         assertEquals(name, person.getName());
     }
+    private ResultSet setUpIntegerDiscriminatorResultSetMock() throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+
+        ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+
+        final String[] columns = new String[] { "person_type", "id", "name"};
+        final int[] types = new int[] { Types.INTEGER, Types.INTEGER, Types.VARCHAR};
+
+        when(metaData.getColumnCount()).thenReturn(columns.length);
+        when(metaData.getColumnLabel(anyInt())).then(new Answer<String>() {
+            @Override
+            public String answer(InvocationOnMock invocationOnMock) throws Throwable {
+                return columns[-1 + (Integer)invocationOnMock.getArguments()[0]];
+            }
+        });
+        when(metaData.getColumnType(anyInt())).then(new Answer<Integer>() {
+            @Override
+            public Integer answer(InvocationOnMock invocationOnMock) throws Throwable {
+                return types[-1 + (Integer)invocationOnMock.getArguments()[0]];
+            }
+        });
+
+        when(rs.getMetaData()).thenReturn(metaData);
+
+        final AtomicInteger ai = new AtomicInteger();
+
+        final Object[][] rows = new Object[][]{
+                {2, 1, "professor1"},
+                {1, 2, "student2"},
+        };
+
+        when(rs.next()).then(new Answer<Boolean>() {
+            @Override
+            public Boolean answer(InvocationOnMock invocationOnMock) throws Throwable {
+                return ai.getAndIncrement() < rows.length;
+            }
+        });
+        final Answer<Object> getValue = new Answer<Object>() {
+            @Override
+            public Object answer(InvocationOnMock invocationOnMock) throws Throwable {
+                final Object[] row = rows[ai.get() - 1];
+                final Integer col = -1 + (Integer) invocationOnMock.getArguments()[0];
+                return (row[col]);
+            }
+        };
+        final Answer<Object> getLongValue = new Answer<Object>() {
+            @Override
+            public Object answer(InvocationOnMock invocationOnMock) throws Throwable {
+                final Object[] row = rows[ai.get() - 1];
+                final Integer col = -1 + (Integer) invocationOnMock.getArguments()[0];
+                return ((Integer)row[col]).longValue();
+            }
+        };
+
+        when(rs.getInt(anyInt())).then(getValue);
+        when(rs.getLong(anyInt())).then(getLongValue);
+        when(rs.getString(anyInt())).then(getValue);
+        when(rs.getObject(anyInt())).then(getValue);
+
+        return rs;
+    }
+
     private ResultSet setUpResultSetMock() throws SQLException {
         ResultSet rs = mock(ResultSet.class);
 
@@ -0,0 +1,76 @@
+package org.sfm.jdbc;
+
+import org.junit.Test;
+import org.sfm.map.columnar.ColumnarBatch;
+import org.sfm.utils.ListCollectorHandler;
+import org.sfm.utils.RowHandler;
+
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class JdbcColumnarMapperTest {
+
+    private final JdbcColumnarMapper mapper = JdbcMapperFactory.newInstance().newColumnarBuilder()
+            .addColumn("id", long.class)
+            .addColumn("price", double.class)
+            .addColumn("name", String.class)
+            .mapper();
+
+    @Test
+    public void testFill() throws Exception {
+        ResultSet rs = newResultSet();
+
+        ColumnarBatch batch = mapper.newBatch(2);
+
+        assertEquals(2, mapper.fill(rs, batch));
+        assertEquals(1l, batch.getLongs(0)[0]);
+        assertEquals(2l, batch.getLongs(0)[1]);
+        assertEquals(1.5, batch.getDoubles(1)[0], 0.0001);
+        assertEquals(2.5, batch.getDoubles(1)[1], 0.0001);
+        assertEquals("n1", batch.<String>getObjects(2)[0]);
+        assertEquals("n2", batch.<String>getObjects(2)[1]);
+
+        assertEquals(1, mapper.fill(rs, batch));
+        assertEquals(3l, batch.getLongs(0)[0]);
+        assertEquals("n3", batch.<String>getObjects(2)[0]);
+
+        assertEquals(0, mapper.fill(rs, batch));
+    }
+
+    @Test
+    public void testForEachBatch() throws Exception {
+        final List<long[]> ids = new ArrayList<long[]>();
+        mapper.forEachBatch(newResultSet(), mapper.newBatch(2), new RowHandler<ColumnarBatch>() {
+            @Override
+            public void handle(ColumnarBatch batch) throws Exception {
+                ids.add(Arrays.copyOf(batch.getLongs(0), batch.size()));
+            }
+        });
+
+        assertEquals(2, ids.size());
+        assertArrayEquals(new long[] {1, 2}, ids.get(0));
+        assertArrayEquals(new long[] {3}, ids.get(1));
+    }
+
+    @Test
+    public void testForEachBatchOnExactMultipleDoesNotCallEmptyBatch() throws Exception {
+        ListCollectorHandler<ColumnarBatch> handler = mapper.forEachBatch(newResultSet(), mapper.newBatch(3), new ListCollectorHandler<ColumnarBatch>());
+        assertEquals(1, handler.getList().size());
+    }
+
+    private ResultSet newResultSet() throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.next()).thenReturn(true, true, true, false);
+        when(rs.getLong(1)).thenReturn(1l, 2l, 3l);
+        when(rs.getDouble(2)).thenReturn(1.5, 2.5, 3.5);
+        when(rs.getString(3)).thenReturn("n1", "n2", "n3");
+        return rs;
+    }
+}
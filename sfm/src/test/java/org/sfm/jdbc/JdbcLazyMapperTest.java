@@ -0,0 +1,88 @@
+package org.sfm.jdbc;
+
+import org.junit.Test;
+import org.sfm.reflect.Getter;
+import org.sfm.utils.ListCollectorHandler;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class JdbcLazyMapperTest {
+
+    public interface Order {
+        long getId();
+        BigDecimal getPrice();
+        String getName();
+        int getQty();
+    }
+
+    private final JdbcLazyMapper<Order> mapper = JdbcMapperFactory.newInstance().newLazyBuilder(Order.class)
+            .addMapping("id")
+            .addMapping("price")
+            .addMapping("name")
+            .mapper();
+
+    @Test
+    public void testForEach() throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.next()).thenReturn(true, true, false);
+        when(rs.getObject(1)).thenReturn(1, 2l);
+        when(rs.getObject(2)).thenReturn(1.5, null);
+        when(rs.getObject(3)).thenReturn("n1", "n2");
+
+        List<Order> list = mapper.forEach(rs, new ListCollectorHandler<Order>()).getList();
+
+        assertEquals(2, list.size());
+        Order o1 = list.get(0);
+        assertEquals(1l, o1.getId());
+        assertEquals(new BigDecimal(1.5), o1.getPrice());
+        assertEquals("n1", o1.getName());
+        assertEquals(0, o1.getQty());
+
+        Order o2 = list.get(1);
+        assertEquals(2l, o2.getId());
+        assertNull(o2.getPrice());
+        assertEquals("n2", o2.getName());
+        assertEquals("Order{getId=2, getPrice=null, getName=n2}", o2.toString());
+    }
+
+    @Test
+    public void testCustomGetterIsCalledOnFirstAccess() throws Exception {
+        final int[] calls = new int[1];
+        JdbcLazyMapper<Order> mapper = JdbcMapperFactory.newInstance()
+                .addCustomGetter("name", new Getter<ResultSet, String>() {
+                    @Override
+                    public String get(ResultSet target) throws Exception {
+                        calls[0]++;
+                        return "custom" + target.getString(2);
+                    }
+                })
+                .newLazyBuilder(Order.class)
+                .addMapping("id")
+                .addMapping("name")
+                .mapper();
+
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getObject(1)).thenReturn(3);
+        when(rs.getObject(2)).thenReturn("n3");
+
+        Order o = mapper.map(rs);
+        assertEquals(3l, o.getId());
+        assertEquals(0, calls[0]);
+
+        assertEquals("customn3", o.getName());
+        assertEquals("customn3", o.getName());
+        assertEquals(1, calls[0]);
+
+        verify(rs, never()).getLong(1);
+        verify(rs, never()).getString(2);
+    }
+}
@@ -5,6 +5,7 @@ import org.sfm.beans.DbFinalObject;
 import org.sfm.beans.DbObject;
 import org.sfm.beans.DbObjectWithAlias;
 import org.sfm.map.*;
+import org.sfm.map.column.InternStringProperty;
 import org.sfm.map.mapper.ColumnDefinition;
 import org.sfm.reflect.Getter;
 import org.sfm.reflect.TypeReference;
@@ -23,6 +24,7 @@ import java.util.List;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.mockito.Mockito.*;
 
 public class JdbcMapperFactoryTest {
@@ -60,6 +62,27 @@ public class JdbcMapperFactoryTest {
         assertEquals("v2", tuple2.second());
     }
 
+    @Test
+    public void testInternStringProperty() throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.next()).thenReturn(true, true, false);
+        when(rs.getLong(1)).thenReturn(1l, 2l);
+        when(rs.getString(2)).thenReturn(new String("EUR"), new String("EUR"));
+
+        JdbcMapper<DbObject> mapper = JdbcMapperFactory.newInstance()
+                .addColumnProperty("name", new InternStringProperty())
+                .newBuilder(DbObject.class)
+                .addMapping("id")
+                .addMapping("name")
+                .mapper();
+
+        List<DbObject> list = mapper.forEach(rs, new ListCollectorHandler<DbObject>()).getList();
+
+        assertEquals(2, list.size());
+        assertEquals("EUR", list.get(0).getName());
+        assertSame(list.get(0).getName(), list.get(1).getName());
+    }
+
     @Test
     public void testFactoryOnReferenceTypeStatic() throws SQLException {
         ResultSet rs = mock(ResultSet.class);
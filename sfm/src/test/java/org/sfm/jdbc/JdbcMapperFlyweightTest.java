@@ -0,0 +1,77 @@
+package org.sfm.jdbc;
+
+import org.junit.Test;
+import org.sfm.beans.DbObject;
+import org.sfm.utils.CopyRowHandler;
+import org.sfm.utils.ListCollectorHandler;
+import org.sfm.utils.RowHandler;
+import org.sfm.utils.UnaryFactory;
+
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class JdbcMapperFlyweightTest {
+
+    private final JdbcMapper<DbObject> mapper = JdbcMapperFactory.newInstance()
+            .newBuilder(DbObject.class)
+            .addMapping("id")
+            .addMapping("name")
+            .mapper();
+
+    @Test
+    public void testForEachReuseTarget() throws Exception {
+        final DbObject target = new DbObject();
+        final List<String> names = new ArrayList<String>();
+
+        mapper.forEach(newResultSet(), target, new RowHandler<DbObject>() {
+            @Override
+            public void handle(DbObject dbObject) throws Exception {
+                assertSame(target, dbObject);
+                names.add(dbObject.getId() + ":" + dbObject.getName());
+            }
+        });
+
+        assertEquals("[1:n1, 2:n2]", names.toString());
+    }
+
+    @Test
+    public void testForEachCopyRetainedRows() throws Exception {
+        DbObject target = new DbObject();
+
+        ListCollectorHandler<DbObject> collector = new ListCollectorHandler<DbObject>();
+        mapper.forEach(newResultSet(), target, new CopyRowHandler<DbObject>(new DbObjectCopier(), collector));
+
+        List<DbObject> list = collector.getList();
+        assertEquals(2, list.size());
+        assertNotSame(list.get(0), list.get(1));
+        assertEquals(1l, list.get(0).getId());
+        assertEquals("n1", list.get(0).getName());
+        assertEquals(2l, list.get(1).getId());
+        assertEquals("n2", list.get(1).getName());
+    }
+
+    private ResultSet newResultSet() throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.next()).thenReturn(true, true, false);
+        when(rs.getLong(1)).thenReturn(1l, 2l);
+        when(rs.getString(2)).thenReturn("n1", "n2");
+        return rs;
+    }
+
+    private static class DbObjectCopier implements UnaryFactory<DbObject, DbObject> {
+        @Override
+        public DbObject newInstance(DbObject dbObject) {
+            DbObject copy = new DbObject();
+            copy.setId(dbObject.getId());
+            copy.setName(dbObject.getName());
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package org.sfm.jdbc.impl;
+
+import org.junit.Test;
+import org.sfm.utils.Predicate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class DiscriminatorDispatchTest {
+
+    @Test
+    public void testValuesAreHashed() {
+        List<Predicate<String>> predicates = new ArrayList<Predicate<String>>();
+        for(int i = 0; i < 30; i++) {
+            predicates.add(new DiscriminatorValuePredicate("type" + i));
+        }
+        predicates.add(new DiscriminatorValuePredicate("type3"));
+        predicates.add(new DiscriminatorValuePredicate(null));
+
+        DiscriminatorDispatch dispatch = new DiscriminatorDispatch(predicates);
+
+        assertFalse(dispatch.supportsLong());
+        for(int i = 0; i < 30; i++) {
+            assertEquals(i, dispatch.indexOf("type" + i));
+        }
+        assertEquals(30 + 1, dispatch.indexOf(null));
+        assertEquals(-1, dispatch.indexOf("type30"));
+    }
+
+    @Test
+    public void testFirstMatchIsKeptWithPredicates() {
+        @SuppressWarnings("unchecked")
+        List<Predicate<String>> predicates = Arrays.<Predicate<String>>asList(
+                new DiscriminatorValuePredicate("a"),
+                new StartsWith("b"),
+                new DiscriminatorValuePredicate("bb"),
+                new DiscriminatorValuePredicate("c"),
+                new StartsWith("c"));
+
+        DiscriminatorDispatch dispatch = new DiscriminatorDispatch(predicates);
+
+        assertFalse(dispatch.supportsLong());
+        assertEquals(0, dispatch.indexOf("a"));
+        assertEquals(1, dispatch.indexOf("bb"));
+        assertEquals(3, dispatch.indexOf("c"));
+        assertEquals(4, dispatch.indexOf("cc"));
+        assertEquals(-1, dispatch.indexOf("d"));
+        assertEquals(-1, dispatch.indexOf(null));
+    }
+
+    @Test
+    public void testLongDispatch() {
+        @SuppressWarnings("unchecked")
+        List<Predicate<String>> predicates = Arrays.<Predicate<String>>asList(
+                new DiscriminatorValuePredicate("12"),
+                new DiscriminatorValuePredicate("-3"),
+                new DiscriminatorValuePredicate("1"),
+                new DiscriminatorValuePredicate(null));
+
+        DiscriminatorDispatch dispatch = new DiscriminatorDispatch(predicates);
+
+        assertTrue(dispatch.supportsLong());
+        assertEquals(0, dispatch.indexOf(12, false));
+        assertEquals(1, dispatch.indexOf(-3, false));
+        assertEquals(2, dispatch.indexOf(1, false));
+        assertEquals(3, dispatch.indexOf(0, true));
+        assertEquals(-1, dispatch.indexOf(2, false));
+
+        assertEquals(0, dispatch.indexOf("12"));
+    }
+
+    @Test
+    public void testNonCanonicalLongDisablesLongDispatch() {
+        @SuppressWarnings("unchecked")
+        List<Predicate<String>> predicates = Arrays.<Predicate<String>>asList(
+                new DiscriminatorValuePredicate("01"),
+                new DiscriminatorValuePredicate("2"));
+
+        assertFalse(new DiscriminatorDispatch(predicates).supportsLong());
+    }
+
+    private static class StartsWith implements Predicate<String> {
+        private final String prefix;
+
+        private StartsWith(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public boolean test(String s) {
+            return s != null && s.startsWith(prefix);
+        }
+    }
+}
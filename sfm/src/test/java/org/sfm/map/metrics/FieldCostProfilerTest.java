@@ -0,0 +1,85 @@
+package org.sfm.map.metrics;
+
+import org.junit.Test;
+import org.sfm.beans.DbFinalObject;
+import org.sfm.beans.DbObject;
+import org.sfm.csv.CsvMapperFactory;
+import org.sfm.jdbc.JdbcMapper;
+import org.sfm.jdbc.JdbcMapperFactory;
+import org.sfm.utils.ListCollectorHandler;
+
+import java.io.StringReader;
+import java.sql.ResultSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class FieldCostProfilerTest {
+
+    private static final String CSV = "id,name,email\n1,n1,e1\n2,n2,e2\n3,n3,e3\n4,n4,e4";
+
+    @Test
+    public void testCsvSetters() throws Exception {
+        FieldCostProfiler profiler = new FieldCostProfiler(1);
+        CsvMapperFactory.newInstance().fieldCostProfiler(profiler).newMapper(DbObject.class)
+                .forEach(new StringReader(CSV), new ListCollectorHandler<DbObject>());
+
+        Map<String, FieldCost> costs = toMap(profiler.report());
+        assertEquals(3, costs.size());
+        for(FieldCost cost : costs.values()) {
+            assertEquals(4, cost.getInvocations());
+            assertEquals(4, cost.getSamples());
+        }
+    }
+
+    @Test
+    public void testCsvDelayedSettersSampling() throws Exception {
+        FieldCostProfiler profiler = new FieldCostProfiler(2);
+        List<DbFinalObject> list = CsvMapperFactory.newInstance().fieldCostProfiler(profiler).newMapper(DbFinalObject.class)
+                .forEach(new StringReader(CSV), new ListCollectorHandler<DbFinalObject>()).getList();
+
+        assertEquals(4, list.size());
+        assertEquals("n4", list.get(3).getName());
+        FieldCost name = toMap(profiler.report()).get("name");
+        assertEquals(4, name.getInvocations());
+        assertEquals(2, name.getSamples());
+    }
+
+    @Test
+    public void testJdbcFieldMappersRanked() throws Exception {
+        FieldCostProfiler profiler = new FieldCostProfiler(1);
+        JdbcMapper<DbObject> mapper = JdbcMapperFactory.newInstance().fieldCostProfiler(profiler)
+                .newBuilder(DbObject.class).addMapping("id").addMapping("name").mapper();
+
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.next()).thenReturn(true, true, false);
+        when(rs.getLong(1)).thenReturn(1l, 2l);
+        when(rs.getString(2)).thenReturn("n1", "n2");
+
+        List<DbObject> list = mapper.forEach(rs, new ListCollectorHandler<DbObject>()).getList();
+        assertEquals("n2", list.get(1).getName());
+
+        List<FieldCost> report = profiler.report();
+        assertEquals(2, report.size());
+        assertTrue(report.get(0).getEstimatedTotalNanos() >= report.get(1).getEstimatedTotalNanos());
+        assertEquals(2, toMap(report).get("name").getInvocations());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidSampleRate() {
+        new FieldCostProfiler(0);
+    }
+
+    private Map<String, FieldCost> toMap(List<FieldCost> report) {
+        Map<String, FieldCost> map = new HashMap<String, FieldCost>();
+        for(FieldCost cost : report) {
+            map.put(cost.getColumn(), cost);
+        }
+        return map;
+    }
+}
@@ -0,0 +1,154 @@
+package org.sfm.map.metrics;
+
+import org.junit.Test;
+import org.sfm.beans.DbObject;
+import org.sfm.csv.CsvMapper;
+import org.sfm.csv.CsvMapperFactory;
+import org.sfm.csv.CsvParser;
+import org.sfm.csv.parser.CellConsumer;
+import org.sfm.jdbc.JdbcMapper;
+import org.sfm.jdbc.JdbcColumnKey;
+import org.sfm.jdbc.JdbcMapperFactory;
+import org.sfm.map.SetRowMapper;
+import org.sfm.map.mapper.DynamicSetRowMapper;
+import org.sfm.map.mapper.MapperKey;
+import org.sfm.map.mapper.MapperKeyComparator;
+import org.sfm.utils.UnaryFactory;
+import org.sfm.utils.ListCollectorHandler;
+
+import java.io.StringReader;
+import java.sql.ResultSet;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class MetricsRegistryTest {
+
+    private static final String CSV = "id,name\n1,n1\n2,n2";
+
+    @Test
+    public void testCsvDsl() throws Exception {
+        SimpleMetricsRegistry registry = new SimpleMetricsRegistry();
+        CsvParser.MapToDSL<DbObject> dsl = CsvParser.dsl().metricsRegistry(registry).mapTo(DbObject.class);
+
+        List<DbObject> list = dsl.forEach(new StringReader(CSV), new ListCollectorHandler<DbObject>()).getList();
+        assertEquals(2, list.size());
+        dsl.forEach(new StringReader(CSV), new ListCollectorHandler<DbObject>());
+
+        assertEquals(4, registry.count(MetricNames.ROWS));
+        assertEquals(2 * CSV.length(), registry.count(MetricNames.CSV_CHARS));
+        assertEquals(1, registry.count(MetricNames.MAPPER_CACHE_MISSES));
+        assertEquals(1, registry.count(MetricNames.MAPPER_CACHE_HITS));
+        assertEquals(1, registry.recorders().get(MetricNames.MAPPER_BUILD_NANOS).count());
+    }
+
+    @Test
+    public void testCsvParseCountRows() throws Exception {
+        SimpleMetricsRegistry registry = new SimpleMetricsRegistry();
+        CsvParser.dsl().metricsRegistry(registry).parse(CSV, new CellConsumer() {
+            @Override
+            public void newCell(char[] chars, int offset, int length) {
+            }
+
+            @Override
+            public void endOfRow() {
+            }
+
+            @Override
+            public void end() {
+            }
+        });
+        assertEquals(3, registry.count(MetricNames.CSV_ROWS));
+        assertEquals(CSV.length(), registry.count(MetricNames.CSV_CHARS));
+    }
+
+    @Test
+    public void testConversionErrorsArePerField() throws Exception {
+        SimpleMetricsRegistry registry = new SimpleMetricsRegistry();
+        CsvMapper<DbObject> mapper = CsvMapperFactory.newInstance().metricsRegistry(registry).newMapper(DbObject.class);
+
+        try {
+            mapper.forEach(new StringReader("id,name\nabc,n1"), new ListCollectorHandler<DbObject>());
+            fail();
+        } catch (Exception e) {
+            // expected
+        }
+        assertEquals(1, registry.count(MetricNames.CONVERSION_ERRORS));
+        assertEquals(1, registry.count(MetricNames.conversionErrors("id")));
+        assertEquals(0, registry.count(MetricNames.conversionErrors("name")));
+    }
+
+    @Test
+    public void testJdbcMapper() throws Exception {
+        SimpleMetricsRegistry registry = new SimpleMetricsRegistry();
+        JdbcMapper<DbObject> mapper = JdbcMapperFactory.newInstance().metricsRegistry(registry)
+                .newBuilder(DbObject.class).addMapping("id").mapper();
+
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.next()).thenReturn(true, true, false);
+        when(rs.getLong(1)).thenReturn(1l, 2l);
+
+        List<DbObject> list = mapper.forEach(rs, new ListCollectorHandler<DbObject>()).getList();
+
+        assertEquals(2, list.size());
+        assertEquals(2, list.get(1).getId());
+        assertEquals(2, registry.count(MetricNames.ROWS));
+        SimpleMetricsRegistry.SimpleRecorder buildTime = registry.recorders().get(MetricNames.MAPPER_BUILD_NANOS);
+        assertEquals(1, buildTime.count());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testDynamicMapperResolvesCacheCountersOnce() throws Exception {
+        MetricsRegistry registry = mock(MetricsRegistry.class);
+        Counter hits = mock(Counter.class);
+        Counter misses = mock(Counter.class);
+        when(registry.counter(MetricNames.MAPPER_CACHE_HITS)).thenReturn(hits);
+        when(registry.counter(MetricNames.MAPPER_CACHE_MISSES)).thenReturn(misses);
+
+        DynamicSetRowMapper<ResultSet, ResultSet, DbObject, Exception, JdbcColumnKey> mapper =
+                new DynamicSetRowMapper<ResultSet, ResultSet, DbObject, Exception, JdbcColumnKey>(
+                        new UnaryFactory<MapperKey<JdbcColumnKey>, SetRowMapper<ResultSet, ResultSet, DbObject, Exception>>() {
+                            @Override
+                            public SetRowMapper<ResultSet, ResultSet, DbObject, Exception> newInstance(MapperKey<JdbcColumnKey> key) {
+                                return mock(SetRowMapper.class);
+                            }
+                        }, null, null, MapperKeyComparator.jdbcColumnKeyComparator(), registry);
+
+        MapperKey<JdbcColumnKey> key = new MapperKey<JdbcColumnKey>(new JdbcColumnKey("id", 1));
+        for(int i = 0; i < 3; i++) {
+            mapper.getMapper(key);
+        }
+
+        verify(misses, times(1)).add(1);
+        verify(hits, times(2)).add(1);
+        verify(registry, times(1)).counter(MetricNames.MAPPER_CACHE_HITS);
+        verify(registry, times(1)).counter(MetricNames.MAPPER_CACHE_MISSES);
+    }
+
+    @Test
+    public void testNoRegistryNoDecoration() throws Exception {
+        JdbcMapper<DbObject> mapper = JdbcMapperFactory.newInstance()
+                .newBuilder(DbObject.class).addMapping("id").mapper();
+        assertEquals(-1, mapper.toString().indexOf("Metered"));
+    }
+
+    @Test
+    public void testRecorder() {
+        SimpleMetricsRegistry registry = new SimpleMetricsRegistry();
+        Recorder recorder = registry.recorder("r");
+        recorder.record(3);
+        recorder.record(1);
+        recorder.record(8);
+        SimpleMetricsRegistry.SimpleRecorder r = registry.recorder("r");
+        assertEquals(3, r.count());
+        assertEquals(1, r.min());
+        assertEquals(8, r.max());
+        assertEquals(4.0, r.mean(), 0.0001);
+    }
+}
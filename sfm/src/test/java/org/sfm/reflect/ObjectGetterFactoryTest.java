@@ -333,6 +333,60 @@ public class ObjectGetterFactoryTest {
     }
 
 
+    @Test
+    public void testLongPrimitiveAsmToIntGetterConvertsWithoutBoxing() throws Exception {
+        final Getter<DbFinalPrimitiveObject, ?> getter = asm.getGetter(DbFinalPrimitiveObject.class, "pLong");
+        final IntGetter<DbFinalPrimitiveObject> intGetter = ObjectGetterFactory.toIntGetter(getter);
+        assertTrue(intGetter instanceof ConvertingIntGetter);
+        assertEquals(5, intGetter.getInt(dbFinalPrimitiveObject));
+        assertEquals(Integer.valueOf(5), ((Getter<DbFinalPrimitiveObject, Integer>) intGetter).get(dbFinalPrimitiveObject));
+    }
+
+    @Test
+    public void testPrimitiveAsmGettersToOtherPrimitives() throws Exception {
+        final Getter<DbFinalPrimitiveObject, ?> intGetter = asm.getGetter(DbFinalPrimitiveObject.class, "pInt");
+        assertEquals(4l, ObjectGetterFactory.toLongGetter(intGetter).getLong(dbFinalPrimitiveObject));
+        assertEquals(4.0, ObjectGetterFactory.toDoubleGetter(intGetter).getDouble(dbFinalPrimitiveObject), 0.00001);
+        assertEquals(4.0f, ObjectGetterFactory.toFloatGetter(intGetter).getFloat(dbFinalPrimitiveObject), 0.00001);
+        assertEquals(4, ObjectGetterFactory.toShortGetter(intGetter).getShort(dbFinalPrimitiveObject));
+        assertEquals(4, ObjectGetterFactory.toByteGetter(intGetter).getByte(dbFinalPrimitiveObject));
+
+        final Getter<DbFinalPrimitiveObject, ?> doubleGetter = asm.getGetter(DbFinalPrimitiveObject.class, "pDouble");
+        assertEquals(7.0f, ObjectGetterFactory.toFloatGetter(doubleGetter).getFloat(dbFinalPrimitiveObject), 0.00001);
+        assertEquals(7, ObjectGetterFactory.toIntGetter(doubleGetter).getInt(dbFinalPrimitiveObject));
+        assertEquals(7l, ObjectGetterFactory.toLongGetter(doubleGetter).getLong(dbFinalPrimitiveObject));
+
+        final Getter<DbFinalPrimitiveObject, ?> floatGetter = asm.getGetter(DbFinalPrimitiveObject.class, "pFloat");
+        assertEquals(6.0, ObjectGetterFactory.toDoubleGetter(floatGetter).getDouble(dbFinalPrimitiveObject), 0.00001);
+
+        final Getter<DbFinalPrimitiveObject, ?> shortGetter = asm.getGetter(DbFinalPrimitiveObject.class, "pShort");
+        assertEquals(3, ObjectGetterFactory.toIntGetter(shortGetter).getInt(dbFinalPrimitiveObject));
+
+        final Getter<DbFinalPrimitiveObject, ?> byteGetter = asm.getGetter(DbFinalPrimitiveObject.class, "pByte");
+        assertEquals(1l, ObjectGetterFactory.toLongGetter(byteGetter).getLong(dbFinalPrimitiveObject));
+    }
+
+    @Test
+    public void testConvertingGetterReturnsNullOnNullValue() throws Exception {
+        final Getter<DbBoxed, Long> getter = new NullLongGetter();
+        final IntGetter<DbBoxed> intGetter = ObjectGetterFactory.toIntGetter(getter);
+        assertTrue(intGetter instanceof ConvertingIntGetter);
+        assertNull(((Getter<DbBoxed, Integer>) intGetter).get(new DbBoxed()));
+        assertEquals(0, intGetter.getInt(new DbBoxed()));
+    }
+
+    private static class NullLongGetter implements Getter<DbBoxed, Long>, LongGetter<DbBoxed> {
+        @Override
+        public Long get(DbBoxed target) throws Exception {
+            return null;
+        }
+
+        @Override
+        public long getLong(DbBoxed target) throws Exception {
+            return 0;
+        }
+    }
+
     public static class DbBoxed {
         Boolean propBoolean;
         Byte propByte;
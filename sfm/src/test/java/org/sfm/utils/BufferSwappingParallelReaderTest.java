@@ -0,0 +1,94 @@
+package org.sfm.utils;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.*;
+
+public class BufferSwappingParallelReaderTest {
+
+    ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+    @After
+    public void tearDown() {
+        executorService.shutdown();
+    }
+
+    @Test
+    public void testTakeAndReturnChunks() throws IOException {
+        String str = randomString(10000);
+        BufferSwappingParallelReader reader =
+                new BufferSwappingParallelReader(new StringReader(str), executorService, 100, 10, 2, WaitingStrategies.parkWithBackoff());
+        StringBuilder sb = new StringBuilder();
+        try {
+            assertEquals(10, reader.getHeadroom());
+            assertEquals(110, reader.getChunkArrayLength());
+            char[] chunk;
+            while((chunk = reader.takeChunk()) != null) {
+                assertEquals(110, chunk.length);
+                assertTrue(reader.getChunkLength() > 0);
+                sb.append(chunk, reader.getHeadroom(), reader.getChunkLength());
+                reader.returnChunk(chunk);
+            }
+            assertNull(reader.takeChunk());
+        } finally {
+            reader.close();
+        }
+        assertEquals(str, sb.toString());
+    }
+
+    @Test
+    public void testReadAsReader() throws IOException {
+        String str = randomString(10000);
+        WaitingStrategy[] strategies = new WaitingStrategy[] {
+                WaitingStrategies.busySpin(),
+                WaitingStrategies.yielding(),
+                WaitingStrategies.parkWithBackoff(),
+                WaitingStrategies.blocking()
+        };
+        for(WaitingStrategy strategy : strategies) {
+            BufferSwappingParallelReader reader =
+                    new BufferSwappingParallelReader(new StringReader(str), executorService, 64, 3, strategy);
+            StringBuilder sb = new StringBuilder();
+            try {
+                char[] buffer = new char[50];
+                int l;
+                while((l = reader.read(buffer, 0, buffer.length)) != -1) {
+                    sb.append(buffer, 0, l);
+                }
+            } finally {
+                reader.close();
+            }
+            assertEquals(str, sb.toString());
+        }
+    }
+
+    @Test
+    public void testReturnForeignChunkFails() throws IOException {
+        BufferSwappingParallelReader reader =
+                new BufferSwappingParallelReader(new StringReader("abc"), executorService);
+        try {
+            reader.returnChunk(new char[3]);
+            fail();
+        } catch (IllegalArgumentException e) {
+            // expected
+        } finally {
+            reader.close();
+        }
+    }
+
+    private String randomString(int length) {
+        Random random = new Random();
+        StringBuilder sb = new StringBuilder(length);
+        for(int i = 0; i < length; i++) {
+            sb.append((char)('a' + random.nextInt(26)));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,157 @@
+package org.sfm.utils;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.Assert.*;
+
+public class ParallelGzipInputStreamTest {
+
+    ExecutorService executorService = Executors.newFixedThreadPool(4);
+
+    @After
+    public void tearDown() {
+        executorService.shutdown();
+    }
+
+    @Test
+    public void testBgzfBlocks() throws IOException {
+        byte[] content = content(200000);
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        for(int i = 0; i < content.length; i += 30000) {
+            bos.write(bgzfBlock(content, i, Math.min(30000, content.length - i)));
+        }
+        bos.write(bgzfBlock(content, 0, 0));
+
+        assertArrayEquals(content, readAll(new ParallelGzipInputStream(new ByteArrayInputStream(bos.toByteArray()), executorService, 3)));
+    }
+
+    @Test
+    public void testBgzfBlocksRunOnReadingThreadWhenExecutorIsBusy() throws IOException {
+        byte[] content = content(100000);
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        for(int i = 0; i < content.length; i += 10000) {
+            bos.write(bgzfBlock(content, i, Math.min(10000, content.length - i)));
+        }
+
+        // the executor never runs the tasks
+        Executor noop = new Executor() {
+            @Override
+            public void execute(Runnable command) {
+            }
+        };
+        assertArrayEquals(content, readAll(new ParallelGzipInputStream(new ByteArrayInputStream(bos.toByteArray()), noop, 2)));
+    }
+
+    @Test
+    public void testPlainMultiMemberGzip() throws IOException {
+        byte[] content = content(50000);
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        bos.write(gzip(content, 0, 20000));
+        bos.write(gzip(content, 20000, 30000));
+
+        assertArrayEquals(content, readAll(new ParallelGzipInputStream(new ByteArrayInputStream(bos.toByteArray()), executorService)));
+    }
+
+    @Test
+    public void testCorruptBlockFails() throws IOException {
+        byte[] content = content(1000);
+        byte[] block = bgzfBlock(content, 0, content.length);
+        block[block.length - 6] ^= 1;
+
+        try {
+            readAll(new ParallelGzipInputStream(new ByteArrayInputStream(block), executorService));
+            fail();
+        } catch (IOException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testIsGzip() {
+        assertTrue(ParallelGzipInputStream.isGzip(new byte[] {0x1f, (byte) 0x8b}, 2));
+        assertFalse(ParallelGzipInputStream.isGzip(new byte[] {0x1f, (byte) 0x8b}, 1));
+        assertFalse(ParallelGzipInputStream.isGzip(new byte[] {'a', 'b'}, 2));
+    }
+
+    private static byte[] content(int size) {
+        StringBuilder sb = new StringBuilder();
+        int i = 0;
+        while (sb.length() < size) {
+            sb.append(i).append(",name").append(i).append('\n');
+            i++;
+        }
+        sb.setLength(size);
+        return sb.toString().getBytes();
+    }
+
+    private static byte[] readAll(InputStream is) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try {
+            byte[] buffer = new byte[777];
+            int l;
+            while ((l = is.read(buffer)) != -1) {
+                bos.write(buffer, 0, l);
+            }
+        } finally {
+            is.close();
+        }
+        return bos.toByteArray();
+    }
+
+    private static byte[] gzip(byte[] content, int offset, int length) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        GZIPOutputStream gos = new GZIPOutputStream(bos);
+        gos.write(content, offset, length);
+        gos.close();
+        return bos.toByteArray();
+    }
+
+    static byte[] bgzfBlock(byte[] content, int offset, int length) {
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        deflater.setInput(content, offset, length);
+        deflater.finish();
+        byte[] compressed = new byte[length + 1024];
+        int cl = 0;
+        while (!deflater.finished()) {
+            cl += deflater.deflate(compressed, cl, compressed.length - cl);
+        }
+        deflater.end();
+
+        CRC32 crc = new CRC32();
+        crc.update(content, offset, length);
+
+        int blockSize = 18 + cl + 8;
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        bos.write(new byte[] {0x1f, (byte) 0x8b, 8, 4, 0, 0, 0, 0, 0, (byte) 0xff, 6, 0, 'B', 'C', 2, 0}, 0, 16);
+        writeShort(bos, blockSize - 1);
+        bos.write(compressed, 0, cl);
+        writeInt(bos, (int) crc.getValue());
+        writeInt(bos, length);
+        return bos.toByteArray();
+    }
+
+    private static void writeShort(ByteArrayOutputStream bos, int v) {
+        bos.write(v & 0xff);
+        bos.write((v >> 8) & 0xff);
+    }
+
+    private static void writeInt(ByteArrayOutputStream bos, int v) {
+        writeShort(bos, v);
+        writeShort(bos, v >>> 16);
+    }
+}
@@ -3,6 +3,7 @@ package org.sfm.utils;
 import org.junit.Test;
 
 import java.io.IOException;
+import java.io.Reader;
 import java.io.StringReader;
 import java.util.Random;
 import java.util.concurrent.ExecutorService;
@@ -10,7 +11,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.LockSupport;
 
-import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.*;
 
 public class ParallelReaderTest {
 
@@ -24,11 +25,15 @@ public class ParallelReaderTest {
     }
 
     public void testReadFromString(String str, char[] buffer, boolean slow, int bufferSize) throws IOException {
+        testReadFromString(str, buffer, slow, bufferSize, WaitingStrategies.yielding(), -1);
+    }
+
+    public void testReadFromString(String str, char[] buffer, boolean slow, int bufferSize, WaitingStrategy waitingStrategy, int publishBatchSize) throws IOException {
         StringReader stringReader = new StringReader(str);
 
 
         StringBuilder sb = new StringBuilder();
-        ParallelReader parallelReader = new ParallelReader(stringReader, executorService, bufferSize);
+        ParallelReader parallelReader = new ParallelReader(stringReader, executorService, bufferSize, 8192, waitingStrategy, publishBatchSize);
         try {
             int l;
             while((l = parallelReader.read(buffer, 0, buffer.length)) != -1) {
@@ -48,7 +53,7 @@ public class ParallelReaderTest {
 
 
         sb = new StringBuilder();
-        parallelReader = new ParallelReader(stringReader, executorService, bufferSize);
+        parallelReader = new ParallelReader(stringReader, executorService, bufferSize, 8192, waitingStrategy, publishBatchSize);
         try {
             int l;
             while((l = parallelReader.read()) != -1) {
@@ -83,4 +88,72 @@ public class ParallelReaderTest {
         }
     }
 
+
+    @Test
+    public void testWaitingStrategies() throws IOException {
+        String str = randomString(1024 * 64);
+        WaitingStrategy[] strategies = new WaitingStrategy[] {
+                WaitingStrategies.busySpin(),
+                WaitingStrategies.yielding(),
+                WaitingStrategies.parkWithBackoff(),
+                WaitingStrategies.blocking()
+        };
+        for(WaitingStrategy strategy : strategies) {
+            testReadFromString(str, new char[777], false, 1 << 10, strategy, -1);
+            testReadFromString(str, new char[777], true, 1 << 10, strategy, 1);
+            testReadFromString(str, new char[13], false, 1 << 10, strategy, 1 << 9);
+        }
+    }
+
+    @Test
+    public void testStallsAreCounted() throws IOException {
+        String str = randomString(1024 * 16);
+        ParallelReader parallelReader = new ParallelReader(new StringReader(str), executorService, 64, 8192, WaitingStrategies.blocking(), 16);
+        StringBuilder sb = new StringBuilder();
+        try {
+            // the consumer is slower than the producer that will fill the buffer
+            char[] buffer = new char[32];
+            int l;
+            while((l = parallelReader.read(buffer, 0, buffer.length)) != -1) {
+                sb.append(buffer, 0, l);
+                LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(10));
+            }
+        } finally {
+            parallelReader.close();
+        }
+        assertEquals(str, sb.toString());
+        assertTrue(parallelReader.getProducerStalls() > 0);
+    }
+
+    @Test
+    public void testExceptionIsRethrown() throws IOException {
+        Reader failing = new Reader() {
+            @Override
+            public int read(char[] cbuf, int off, int len) throws IOException {
+                throw new IOException("failed");
+            }
+
+            @Override
+            public void close() throws IOException {
+            }
+        };
+        ParallelReader parallelReader = new ParallelReader(failing, executorService, 64, 8192, WaitingStrategies.parkWithBackoff(), -1);
+        try {
+            parallelReader.read();
+            fail();
+        } catch (IOException e) {
+            assertEquals("failed", e.getMessage());
+        } finally {
+            parallelReader.close();
+        }
+    }
+
+    private String randomString(int length) {
+        Random random = new Random();
+        StringBuilder sb = new StringBuilder(length);
+        for(int j = 0; j < length; j++) {
+            sb.append(data.charAt(random.nextInt(data.length())));
+        }
+        return sb.toString();
+    }
 }
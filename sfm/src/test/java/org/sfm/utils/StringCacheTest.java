@@ -0,0 +1,40 @@
+package org.sfm.utils;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class StringCacheTest {
+
+    @Test
+    public void testInternCharsReturnsSameInstance() {
+        StringCache cache = new StringCache(16);
+        char[] chars = "xxEURxxUSDxxEUR".toCharArray();
+
+        String eur = cache.intern(chars, 2, 3);
+        assertEquals("EUR", eur);
+        assertEquals("USD", cache.intern(chars, 7, 3));
+        assertSame(eur, cache.intern(chars, 12, 3));
+    }
+
+    @Test
+    public void testInternString() {
+        StringCache cache = new StringCache(16);
+        String gbp = cache.intern(new String("GBP"));
+        assertSame(gbp, cache.intern(new String("GBP")));
+        assertSame(gbp, cache.intern("GBP".toCharArray(), 0, 3));
+        assertNull(cache.intern(null));
+    }
+
+    @Test
+    public void testCapacityIsBounded() {
+        StringCache cache = new StringCache(3);
+        assertEquals(4, cache.capacity());
+        for(int i = 0; i < 100; i++) {
+            char[] chars = String.valueOf(i).toCharArray();
+            assertEquals(String.valueOf(i), cache.intern(chars, 0, chars.length));
+        }
+    }
+}
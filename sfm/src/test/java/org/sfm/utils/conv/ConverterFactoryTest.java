@@ -61,6 +61,8 @@ public class ConverterFactoryTest {
 
 
         testConverter(13, new BigDecimal(13));
+        testConverter(Long.MAX_VALUE, BigDecimal.valueOf(Long.MAX_VALUE));
+        testConverter(13.5, new BigDecimal(13.5));
         testConverter(new BigDecimal(13), 13);
 
         testConverter(13, new BigInteger("13"));